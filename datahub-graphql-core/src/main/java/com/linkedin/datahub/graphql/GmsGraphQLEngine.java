@@ -77,6 +77,7 @@ import com.linkedin.datahub.graphql.generated.SiblingProperties;
 import com.linkedin.datahub.graphql.generated.Test;
 import com.linkedin.datahub.graphql.generated.TestResult;
 import com.linkedin.datahub.graphql.generated.UserUsageCounts;
+import com.linkedin.datahub.graphql.resolvers.BatchLoadUtils;
 import com.linkedin.datahub.graphql.resolvers.MeResolver;
 import com.linkedin.datahub.graphql.resolvers.assertion.AssertionRunEventResolver;
 import com.linkedin.datahub.graphql.resolvers.assertion.DeleteAssertionResolver;
@@ -260,7 +261,6 @@ import com.linkedin.metadata.timeline.TimelineService;
 import com.linkedin.metadata.timeseries.TimeseriesAspectService;
 import com.linkedin.metadata.version.GitVersion;
 import com.linkedin.usage.UsageClient;
-import graphql.execution.DataFetcherResult;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.StaticDataFetcher;
@@ -273,15 +273,12 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
-import org.dataloader.BatchLoaderContextProvider;
 import org.dataloader.DataLoader;
-import org.dataloader.DataLoaderOptions;
 
 import static com.linkedin.datahub.graphql.Constants.*;
 import static com.linkedin.metadata.Constants.*;
@@ -499,7 +496,7 @@ public class GmsGraphQLEngine {
             .stream()
             .collect(Collectors.toMap(
                     LoadableType::name,
-                    (graphType) -> (context) -> createDataLoader(graphType, context)
+                    (graphType) -> (context) -> BatchLoadUtils.createDataLoader(graphType, context)
             ));
     }
 
@@ -549,7 +546,7 @@ public class GmsGraphQLEngine {
             .addSchema(fileBasedSchema(TIMELINE_SCHEMA_FILE))
             .addSchema(fileBasedSchema(TESTS_SCHEMA_FILE))
             .addDataLoaders(loaderSuppliers(loadableTypes))
-            .addDataLoader("Aspect", context -> createDataLoader(aspectType, context))
+            .addDataLoader("Aspect", context -> BatchLoadUtils.createDataLoader(aspectType, context))
             .configureRuntimeWiring(this::configureRuntimeWiring);
     }
 
@@ -1469,20 +1466,6 @@ public class GmsGraphQLEngine {
         );
     }
 
-    private <T, K> DataLoader<K, DataFetcherResult<T>> createDataLoader(final LoadableType<T, K> graphType, final QueryContext queryContext) {
-        BatchLoaderContextProvider contextProvider = () -> queryContext;
-        DataLoaderOptions loaderOptions = DataLoaderOptions.newOptions().setBatchLoaderContextProvider(contextProvider);
-        return DataLoader.newDataLoader((keys, context) -> CompletableFuture.supplyAsync(() -> {
-            try {
-                log.debug(String.format("Batch loading entities of type: %s, keys: %s", graphType.name(), keys));
-                return graphType.batchLoad(keys, context.getContext());
-            } catch (Exception e) {
-                log.error(String.format("Failed to load Entities of type: %s, keys: %s", graphType.name(), keys) + " " + e.getMessage());
-                throw new RuntimeException(String.format("Failed to retrieve entities of type %s", graphType.name()), e);
-            }
-        }), loaderOptions);
-    }
-
     private void configureIngestionSourceResolvers(final RuntimeWiring.Builder builder) {
         builder.type("IngestionSource", typeWiring -> typeWiring
             .dataFetcher("executions", new IngestionSourceExecutionRequestsResolver(entityClient))
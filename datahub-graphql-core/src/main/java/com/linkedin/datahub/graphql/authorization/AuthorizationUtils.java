@@ -11,6 +11,8 @@ import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.metadata.authorization.PoliciesConfig;
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 
@@ -156,6 +158,50 @@ public class AuthorizationUtils {
     return false;
   }
 
+  /**
+   * Returns true if the actor is authorized against every one of the resources, evaluating each privilege for all of
+   * them at once with {@link Authorizer#authorizeBatch(String, String, List)}.
+   */
+  public static boolean isAuthorized(
+      @Nonnull Authorizer authorizer,
+      @Nonnull String actor,
+      @Nonnull List<ResourceSpec> resourceSpecs,
+      @Nonnull DisjunctivePrivilegeGroup privilegeGroup
+  ) {
+    List<ResourceSpec> unauthorizedResourceSpecs = resourceSpecs;
+    for (ConjunctivePrivilegeGroup andPrivilegeGroup : privilegeGroup.getAuthorizedPrivilegeGroups()) {
+      if (unauthorizedResourceSpecs.isEmpty()) {
+        break;
+      }
+      // Resources not authorized by a conjunctive privilege group may still be authorized by the next ones.
+      unauthorizedResourceSpecs = getUnauthorized(authorizer, actor, andPrivilegeGroup, unauthorizedResourceSpecs);
+    }
+    return unauthorizedResourceSpecs.isEmpty();
+  }
+
+  private static List<ResourceSpec> getUnauthorized(
+      @Nonnull Authorizer authorizer,
+      @Nonnull String actor,
+      @Nonnull ConjunctivePrivilegeGroup requiredPrivileges,
+      @Nonnull List<ResourceSpec> resourceSpecs) {
+    final List<ResourceSpec> unauthorized = new ArrayList<>();
+    List<ResourceSpec> authorized = resourceSpecs;
+    // Each privilege in a group _must_ all be true to permit the operation.
+    for (final String privilege : requiredPrivileges.getRequiredPrivileges()) {
+      final List<AuthorizationResult> results = authorizer.authorizeBatch(privilege, actor, authorized);
+      final List<ResourceSpec> stillAuthorized = new ArrayList<>();
+      for (int i = 0; i < authorized.size(); i++) {
+        if (AuthorizationResult.Type.DENY.equals(results.get(i).getType())) {
+          unauthorized.add(authorized.get(i));
+        } else {
+          stillAuthorized.add(authorized.get(i));
+        }
+      }
+      authorized = stillAuthorized;
+    }
+    return unauthorized;
+  }
+
   private static boolean isAuthorized(
       @Nonnull Authorizer authorizer,
       @Nonnull String actor,
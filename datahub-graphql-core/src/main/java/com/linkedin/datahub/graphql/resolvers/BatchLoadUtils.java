@@ -1,16 +1,28 @@
 package com.linkedin.datahub.graphql.resolvers;
 
 import com.google.common.collect.Iterables;
+import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.generated.Entity;
+import com.linkedin.datahub.graphql.types.LoadableType;
+import com.linkedin.metadata.utils.NamedExecutors;
+import graphql.execution.DataFetcherResult;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.SelectedField;
+import lombok.extern.slf4j.Slf4j;
+import org.dataloader.BatchLoaderContextProvider;
 import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderOptions;
 import org.dataloader.DataLoaderRegistry;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
+@Slf4j
 public class BatchLoadUtils {
 
   private BatchLoadUtils() { }
@@ -35,4 +47,56 @@ public class BatchLoadUtils {
     }
     return loader.loadMany(keyList);
   }
+
+  /**
+   * Creates the {@link DataLoader} of a {@link LoadableType}, loading all of its data.
+   */
+  public static <T, K> DataLoader<K, DataFetcherResult<T>> createDataLoader(final LoadableType<T, K> graphType,
+      final QueryContext queryContext) {
+    return createDataLoader(graphType, queryContext, null);
+  }
+
+  /**
+   * Returns the {@link DataLoader} to resolve a {@link LoadableType} with. When the type can tell which aspects are
+   * needed to resolve the fields selected on it, the loader only loads those. Such loaders are registered on first
+   * use, one per set of aspects, so that an entity loaded with fewer aspects is never served to a field needing more.
+   */
+  public static <T, K> DataLoader<K, T> getDataLoader(final LoadableType<T, K> graphType,
+      final DataFetchingEnvironment environment) {
+    final Set<String> aspectNames = graphType.getAspectsToResolve(getSelectedFieldNames(environment, graphType.name()));
+    if (aspectNames == null) {
+      return environment.getDataLoaderRegistry().getDataLoader(graphType.name());
+    }
+    final QueryContext queryContext = environment.getContext();
+    return environment.getDataLoaderRegistry().computeIfAbsent(
+        graphType.name() + ":" + String.join(",", new TreeSet<>(aspectNames)),
+        loaderName -> createDataLoader(graphType, queryContext, aspectNames));
+  }
+
+  private static Set<String> getSelectedFieldNames(final DataFetchingEnvironment environment, final String typeName) {
+    return environment.getSelectionSet()
+        .getImmediateFields()
+        .stream()
+        .filter(field -> field.getObjectTypeNames().contains(typeName))
+        .map(SelectedField::getName)
+        .collect(Collectors.toSet());
+  }
+
+  private static <T, K> DataLoader<K, DataFetcherResult<T>> createDataLoader(final LoadableType<T, K> graphType,
+      final QueryContext queryContext, final Set<String> aspectNames) {
+    BatchLoaderContextProvider contextProvider = () -> queryContext;
+    DataLoaderOptions loaderOptions = DataLoaderOptions.newOptions().setBatchLoaderContextProvider(contextProvider);
+    return DataLoader.newDataLoader((keys, context) -> CompletableFuture.supplyAsync(() -> {
+      try {
+        log.debug(String.format("Batch loading entities of type: %s, keys: %s, aspects: %s", graphType.name(), keys,
+            aspectNames == null ? "all" : aspectNames));
+        return aspectNames == null
+            ? graphType.batchLoad(keys, context.getContext())
+            : graphType.batchLoad(keys, context.getContext(), aspectNames);
+      } catch (Exception e) {
+        log.error(String.format("Failed to load Entities of type: %s, keys: %s", graphType.name(), keys) + " " + e.getMessage());
+        throw new RuntimeException(String.format("Failed to retrieve entities of type %s", graphType.name()), e);
+      }
+    }, NamedExecutors.get(NamedExecutors.GRAPHQL_LOADER)), loaderOptions);
+  }
 }
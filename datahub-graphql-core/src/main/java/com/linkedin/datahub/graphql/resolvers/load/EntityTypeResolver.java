@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.load;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import com.linkedin.datahub.graphql.generated.Entity;
+import com.linkedin.datahub.graphql.resolvers.BatchLoadUtils;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
@@ -60,7 +61,7 @@ public class EntityTypeResolver implements DataFetcher<CompletableFuture<Entity>
         final com.linkedin.datahub.graphql.types.EntityType filteredEntity = Iterables.getOnlyElement(_entityTypes.stream()
                 .filter(entity -> javaObject.getClass().isAssignableFrom(entity.objectClass()))
                 .collect(Collectors.toList()));
-        final DataLoader loader = environment.getDataLoaderRegistry().getDataLoader(filteredEntity.name());
+        final DataLoader loader = BatchLoadUtils.getDataLoader(filteredEntity, environment);
         final Object key = filteredEntity.getKeyProvider().apply(resolvedEntity);
 
         return loader.load(key);
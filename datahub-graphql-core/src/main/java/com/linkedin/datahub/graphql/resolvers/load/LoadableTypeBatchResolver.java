@@ -1,5 +1,6 @@
 package com.linkedin.datahub.graphql.resolvers.load;
 
+import com.linkedin.datahub.graphql.resolvers.BatchLoadUtils;
 import com.linkedin.datahub.graphql.types.LoadableType;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
@@ -37,7 +38,7 @@ public class LoadableTypeBatchResolver<T, K> implements DataFetcher<CompletableF
         if (keys == null) {
             return null;
         }
-        final DataLoader<K, T> loader = environment.getDataLoaderRegistry().getDataLoader(_loadableType.name());
+        final DataLoader<K, T> loader = BatchLoadUtils.getDataLoader(_loadableType, environment);
         return loader.loadMany(keys);
     }
 }
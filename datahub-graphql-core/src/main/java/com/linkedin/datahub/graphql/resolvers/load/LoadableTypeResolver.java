@@ -1,5 +1,6 @@
 package com.linkedin.datahub.graphql.resolvers.load;
 
+import com.linkedin.datahub.graphql.resolvers.BatchLoadUtils;
 import com.linkedin.datahub.graphql.types.LoadableType;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
@@ -15,7 +16,9 @@ import java.util.function.Function;
  *    2. Resolving a single {@link LoadableType}.
  *
  *  Note that this resolver expects that {@link DataLoader}s were registered
- *  for the provided {@link LoadableType} under the name provided by {@link LoadableType#name()}
+ *  for the provided {@link LoadableType} under the name provided by {@link LoadableType#name()}.
+ *  Types which only need part of their aspects for the selected fields are loaded through
+ *  a separate DataLoader per aspect set, see {@link BatchLoadUtils#getDataLoader}.
  *
  * @param <T> the generated GraphQL POJO corresponding to the resolved type.
  * @param <K> the key type for the DataLoader
@@ -36,7 +39,7 @@ public class LoadableTypeResolver<T, K> implements DataFetcher<CompletableFuture
         if (key == null) {
             return null;
         }
-        final DataLoader<K, T> loader = environment.getDataLoaderRegistry().getDataLoader(_loadableType.name());
+        final DataLoader<K, T> loader = BatchLoadUtils.getDataLoader(_loadableType, environment);
         return loader.load(key);
     }
 }
@@ -59,6 +59,10 @@ public class BatchAddTermsResolver implements DataFetcher<CompletableFuture<Bool
   }
 
   private void validateInputResources(List<ResourceRefInput> resources, QueryContext context) {
+    // Authorize all resources at once, rather than one by one.
+    if (!LabelUtils.isAuthorizedToUpdateTerms(context, resources)) {
+      throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
+    }
     for (ResourceRefInput resource : resources) {
       validateInputResource(resource, context);
     }
@@ -66,9 +70,6 @@ public class BatchAddTermsResolver implements DataFetcher<CompletableFuture<Bool
 
   private void validateInputResource(ResourceRefInput resource, QueryContext context) {
     final Urn resourceUrn = UrnUtils.getUrn(resource.getResourceUrn());
-    if (!LabelUtils.isAuthorizedToUpdateTerms(context, resourceUrn, resource.getSubResource())) {
-      throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
-    }
     LabelUtils.validateResource(resourceUrn, resource.getSubResource(), resource.getSubResourceType(), _entityService);
   }
 
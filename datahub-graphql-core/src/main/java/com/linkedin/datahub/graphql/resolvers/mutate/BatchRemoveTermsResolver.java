@@ -51,6 +51,10 @@ public class BatchRemoveTermsResolver implements DataFetcher<CompletableFuture<B
   }
 
   private void validateInputResources(List<ResourceRefInput> resources, QueryContext context) {
+    // Authorize all resources at once, rather than one by one.
+    if (!LabelUtils.isAuthorizedToUpdateTerms(context, resources)) {
+      throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
+    }
     for (ResourceRefInput resource : resources) {
       validateInputResource(resource, context);
     }
@@ -58,9 +62,6 @@ public class BatchRemoveTermsResolver implements DataFetcher<CompletableFuture<B
 
   private void validateInputResource(ResourceRefInput resource, QueryContext context) {
     final Urn resourceUrn = UrnUtils.getUrn(resource.getResourceUrn());
-    if (!LabelUtils.isAuthorizedToUpdateTerms(context, resourceUrn, resource.getSubResource())) {
-      throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
-    }
     LabelUtils.validateResource(resourceUrn, resource.getSubResource(), resource.getSubResourceType(), _entityService);
   }
 
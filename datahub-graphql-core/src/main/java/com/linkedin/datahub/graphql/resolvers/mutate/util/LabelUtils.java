@@ -1,5 +1,6 @@
 package com.linkedin.datahub.graphql.resolvers.mutate.util;
 
+import com.datahub.authorization.ResourceSpec;
 import com.google.common.collect.ImmutableList;
 import com.linkedin.common.GlobalTags;
 import com.linkedin.common.GlossaryTermAssociation;
@@ -203,6 +204,14 @@ public class LabelUtils {
         orPrivilegeGroups);
   }
 
+  /**
+   * Returns true if the current principal is allowed to update the tags of all the given resources.
+   */
+  public static boolean isAuthorizedToUpdateTags(@Nonnull QueryContext context, List<ResourceRefInput> resources) {
+    return isAuthorizedToUpdate(context, resources,
+        PoliciesConfig.EDIT_ENTITY_TAGS_PRIVILEGE, PoliciesConfig.EDIT_DATASET_COL_TAGS_PRIVILEGE);
+  }
+
   public static boolean isAuthorizedToUpdateTerms(@Nonnull QueryContext context, Urn targetUrn, String subResource) {
 
     Boolean isTargetingSchema = subResource != null && subResource.length() > 0;
@@ -225,6 +234,56 @@ public class LabelUtils {
         orPrivilegeGroups);
   }
 
+  /**
+   * Returns true if the current principal is allowed to update the glossary terms of all the given resources.
+   */
+  public static boolean isAuthorizedToUpdateTerms(@Nonnull QueryContext context, List<ResourceRefInput> resources) {
+    return isAuthorizedToUpdate(context, resources,
+        PoliciesConfig.EDIT_ENTITY_GLOSSARY_TERMS_PRIVILEGE, PoliciesConfig.EDIT_DATASET_COL_GLOSSARY_TERMS_PRIVILEGE);
+  }
+
+  private static boolean isAuthorizedToUpdate(
+      @Nonnull QueryContext context,
+      List<ResourceRefInput> resources,
+      PoliciesConfig.Privilege entityPrivilege,
+      PoliciesConfig.Privilege schemaPrivilege) {
+    // Resources are authorized in two batches: those targeted as a whole, and those targeted through their schema.
+    final List<ResourceSpec> entityResources = new ArrayList<>();
+    final List<ResourceSpec> schemaResources = new ArrayList<>();
+    for (ResourceRefInput resource : resources) {
+      final Urn targetUrn = UrnUtils.getUrn(resource.getResourceUrn());
+      final ResourceSpec resourceSpec = new ResourceSpec(targetUrn.getEntityType(), targetUrn.toString());
+      final boolean isTargetingSchema = resource.getSubResource() != null && resource.getSubResource().length() > 0;
+      if (isTargetingSchema) {
+        schemaResources.add(resourceSpec);
+      } else {
+        entityResources.add(resourceSpec);
+      }
+    }
+
+    // If you either have all entity privileges, or have the specific privileges required, you are authorized.
+    return isAuthorized(context, entityResources, entityPrivilege)
+        && isAuthorized(context, schemaResources, schemaPrivilege);
+  }
+
+  private static boolean isAuthorized(
+      @Nonnull QueryContext context,
+      List<ResourceSpec> resourceSpecs,
+      PoliciesConfig.Privilege privilege) {
+    if (resourceSpecs.isEmpty()) {
+      return true;
+    }
+    final DisjunctivePrivilegeGroup orPrivilegeGroups = new DisjunctivePrivilegeGroup(ImmutableList.of(
+        ALL_PRIVILEGES_GROUP,
+        new ConjunctivePrivilegeGroup(ImmutableList.of(privilege.getType()))
+    ));
+    return AuthorizationUtils.isAuthorized(
+        context.getAuthorizer(),
+        context.getActorUrn(),
+        resourceSpecs,
+        orPrivilegeGroups);
+  }
+
   public static void validateResourceAndLabel(
       List<Urn> labelUrns,
       Urn resourceUrn,
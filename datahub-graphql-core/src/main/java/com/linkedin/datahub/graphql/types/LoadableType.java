@@ -5,7 +5,9 @@ import com.linkedin.datahub.graphql.QueryContext;
 
 import graphql.execution.DataFetcherResult;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.List;
+import java.util.Set;
 
 /**
  * GQL graph type that can be loaded from a downstream service by primary key.
@@ -46,4 +48,28 @@ public interface LoadableType<T, K> {
      */
     List<DataFetcherResult<T>> batchLoad(@Nonnull final List<K> keys, @Nonnull final QueryContext context) throws Exception;
 
+    /**
+     * Returns the names of the aspects needed to resolve the given fields of the type, or null if all aspects are
+     * needed. Types returning a subset of their aspects must implement {@link #batchLoad(List, QueryContext, Set)}.
+     *
+     * @param fieldNames names of the fields selected on the type in the query.
+     */
+    @Nullable
+    default Set<String> getAspectsToResolve(@Nonnull final Set<String> fieldNames) {
+        return null;
+    }
+
+    /**
+     * Same as {@link #batchLoad(List, QueryContext)}, except that only the given aspects are retrieved. Fields which
+     * are mapped from other aspects are left unset on the returned entities.
+     *
+     * @param keys to retrieve
+     * @param context the {@link QueryContext} corresponding to the request.
+     * @param aspectNames the aspects to retrieve, as returned by {@link #getAspectsToResolve(Set)}.
+     */
+    default List<DataFetcherResult<T>> batchLoad(@Nonnull final List<K> keys, @Nonnull final QueryContext context,
+        @Nonnull final Set<String> aspectNames) throws Exception {
+        return batchLoad(keys, context);
+    }
+
 }
@@ -1,6 +1,7 @@
 package com.linkedin.datahub.graphql.types.dataset;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.linkedin.common.urn.CorpuserUrn;
 import com.linkedin.common.urn.Urn;
@@ -83,6 +84,51 @@ public class DatasetType implements SearchableEntityType<Dataset, String>, Brows
         SIBLINGS_ASPECT_NAME
     );
 
+    // Aspects needed to resolve each field of Dataset. Fields missing here need all of ASPECTS_TO_RESOLVE.
+    private static final Map<String, Set<String>> ASPECTS_BY_FIELD = ImmutableMap.<String, Set<String>>builder()
+        .put("__typename", ImmutableSet.of())
+        .put("urn", ImmutableSet.of())
+        .put("type", ImmutableSet.of())
+        .put("name", ImmutableSet.of(DATASET_KEY_ASPECT_NAME))
+        .put("origin", ImmutableSet.of(DATASET_KEY_ASPECT_NAME))
+        .put("platform", ImmutableSet.of(DATASET_KEY_ASPECT_NAME))
+        .put("properties", ImmutableSet.of(DATASET_KEY_ASPECT_NAME, DATASET_PROPERTIES_ASPECT_NAME))
+        .put("description", ImmutableSet.of(DATASET_PROPERTIES_ASPECT_NAME))
+        .put("uri", ImmutableSet.of(DATASET_PROPERTIES_ASPECT_NAME))
+        .put("editableProperties", ImmutableSet.of(EDITABLE_DATASET_PROPERTIES_ASPECT_NAME))
+        .put("deprecation", ImmutableSet.of(DATASET_DEPRECATION_ASPECT_NAME, DEPRECATION_ASPECT_NAME))
+        .put("schema", ImmutableSet.of(SCHEMA_METADATA_ASPECT_NAME))
+        .put("editableSchemaMetadata", ImmutableSet.of(EDITABLE_SCHEMA_METADATA_ASPECT_NAME))
+        .put("viewProperties", ImmutableSet.of(VIEW_PROPERTIES_ASPECT_NAME))
+        .put("institutionalMemory", ImmutableSet.of(INSTITUTIONAL_MEMORY_ASPECT_NAME))
+        .put("ownership", ImmutableSet.of(OWNERSHIP_ASPECT_NAME))
+        .put("status", ImmutableSet.of(STATUS_ASPECT_NAME))
+        .put("globalTags", ImmutableSet.of(GLOBAL_TAGS_ASPECT_NAME))
+        .put("tags", ImmutableSet.of(GLOBAL_TAGS_ASPECT_NAME))
+        .put("glossaryTerms", ImmutableSet.of(GLOSSARY_TERMS_ASPECT_NAME))
+        .put("container", ImmutableSet.of(CONTAINER_ASPECT_NAME))
+        .put("domain", ImmutableSet.of(DOMAINS_ASPECT_NAME))
+        .put("dataPlatformInstance", ImmutableSet.of(DATA_PLATFORM_INSTANCE_ASPECT_NAME))
+        .put("siblings", ImmutableSet.of(SIBLINGS_ASPECT_NAME))
+        .put("fineGrainedLineages", ImmutableSet.of(UPSTREAM_LINEAGE_ASPECT_NAME))
+        // Resolved by their own data fetchers, from the urn
+        .put("relationships", ImmutableSet.of())
+        .put("lineage", ImmutableSet.of())
+        .put("browsePaths", ImmutableSet.of())
+        .put("datasetProfiles", ImmutableSet.of())
+        .put("operations", ImmutableSet.of())
+        .put("usageStats", ImmutableSet.of())
+        .put("statsSummary", ImmutableSet.of())
+        .put("health", ImmutableSet.of())
+        .put("schemaMetadata", ImmutableSet.of())
+        .put("assertions", ImmutableSet.of())
+        .put("testResults", ImmutableSet.of())
+        .put("aspects", ImmutableSet.of())
+        .put("subTypes", ImmutableSet.of())
+        .put("runs", ImmutableSet.of())
+        .put("parentContainers", ImmutableSet.of())
+        .build();
+
     private static final Set<String> FACET_FIELDS = ImmutableSet.of("origin", "platform");
     private static final String ENTITY_NAME = "dataset";
 
@@ -120,6 +166,25 @@ public class DatasetType implements SearchableEntityType<Dataset, String>, Brows
     @Override
     public List<DataFetcherResult<Dataset>> batchLoad(@Nonnull final List<String> urnStrs,
         @Nonnull final QueryContext context) {
+        return batchLoad(urnStrs, context, ASPECTS_TO_RESOLVE);
+    }
+
+    @Nullable
+    @Override
+    public Set<String> getAspectsToResolve(@Nonnull final Set<String> fieldNames) {
+        if (!ASPECTS_BY_FIELD.keySet().containsAll(fieldNames)) {
+            return null;
+        }
+        // The key aspect is always fetched, so that missing datasets still resolve to null
+        final Set<String> aspectNames = new HashSet<>();
+        aspectNames.add(DATASET_KEY_ASPECT_NAME);
+        fieldNames.forEach(fieldName -> aspectNames.addAll(ASPECTS_BY_FIELD.get(fieldName)));
+        return aspectNames.equals(ASPECTS_TO_RESOLVE) ? null : aspectNames;
+    }
+
+    @Override
+    public List<DataFetcherResult<Dataset>> batchLoad(@Nonnull final List<String> urnStrs,
+        @Nonnull final QueryContext context, @Nonnull final Set<String> aspectNames) {
         try {
             final List<Urn> urns = urnStrs.stream()
                 .map(UrnUtils::getUrn)
@@ -129,7 +194,7 @@ public class DatasetType implements SearchableEntityType<Dataset, String>, Brows
                 _entityClient.batchGetV2(
                     Constants.DATASET_ENTITY_NAME,
                     new HashSet<>(urns),
-                    ASPECTS_TO_RESOLVE,
+                    aspectNames,
                     context.getAuthentication());
 
             final List<EntityResponse> gmsResults = new ArrayList<>();
@@ -19,6 +19,7 @@ public class TestUtils {
     AuthorizationResult result = Mockito.mock(AuthorizationResult.class);
     Mockito.when(result.getType()).thenReturn(AuthorizationResult.Type.ALLOW);
     Mockito.when(mockAuthorizer.authorize(Mockito.any())).thenReturn(result);
+    Mockito.when(mockAuthorizer.authorizeBatch(Mockito.any(), Mockito.any(), Mockito.any())).thenCallRealMethod();
 
     Mockito.when(mockContext.getAuthorizer()).thenReturn(mockAuthorizer);
     Mockito.when(mockContext.getAuthentication()).thenReturn(Mockito.mock(Authentication.class));
@@ -33,6 +34,7 @@ public class TestUtils {
     AuthorizationResult result = Mockito.mock(AuthorizationResult.class);
     Mockito.when(result.getType()).thenReturn(AuthorizationResult.Type.DENY);
     Mockito.when(mockAuthorizer.authorize(Mockito.any())).thenReturn(result);
+    Mockito.when(mockAuthorizer.authorizeBatch(Mockito.any(), Mockito.any(), Mockito.any())).thenCallRealMethod();
 
     Mockito.when(mockContext.getAuthorizer()).thenReturn(mockAuthorizer);
     Mockito.when(mockContext.getAuthentication()).thenReturn(Mockito.mock(Authentication.class));
@@ -0,0 +1,55 @@
+package com.linkedin.datahub.graphql.types.dataset;
+
+import com.datahub.authentication.Authentication;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.metadata.Constants;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class DatasetTypeTest {
+
+  private static final String TEST_DATASET_URN = "urn:li:dataset:(urn:li:dataPlatform:hive,test,PROD)";
+
+  @Test
+  public void testGetAspectsToResolve() {
+    DatasetType type = new DatasetType(Mockito.mock(EntityClient.class));
+
+    assertEquals(type.getAspectsToResolve(ImmutableSet.of("urn", "type", "name", "platform")),
+        ImmutableSet.of(Constants.DATASET_KEY_ASPECT_NAME));
+    assertEquals(type.getAspectsToResolve(ImmutableSet.of("urn", "ownership", "lineage")),
+        ImmutableSet.of(Constants.DATASET_KEY_ASPECT_NAME, Constants.OWNERSHIP_ASPECT_NAME));
+
+    // Unknown fields fall back to loading all aspects
+    assertNull(type.getAspectsToResolve(ImmutableSet.of("urn", "lastIngested")));
+  }
+
+  @Test
+  public void testBatchLoadAspectSubset() throws Exception {
+    EntityClient client = Mockito.mock(EntityClient.class);
+    Mockito.when(client.batchGetV2(Mockito.anyString(), Mockito.anySet(), Mockito.anySet(),
+        Mockito.any(Authentication.class))).thenReturn(Collections.emptyMap());
+    DatasetType type = new DatasetType(client);
+
+    QueryContext mockContext = Mockito.mock(QueryContext.class);
+    Mockito.when(mockContext.getAuthentication()).thenReturn(Mockito.mock(Authentication.class));
+    Set<String> aspectNames = ImmutableSet.of(Constants.DATASET_KEY_ASPECT_NAME, Constants.STATUS_ASPECT_NAME);
+    type.batchLoad(ImmutableList.of(TEST_DATASET_URN), mockContext, aspectNames);
+
+    Mockito.verify(client, Mockito.times(1)).batchGetV2(
+        Mockito.eq(Constants.DATASET_ENTITY_NAME),
+        Mockito.eq(new HashSet<>(ImmutableSet.of(Urn.createFromString(TEST_DATASET_URN)))),
+        Mockito.eq(aspectNames),
+        Mockito.any(Authentication.class)
+    );
+  }
+}
@@ -1,5 +1,6 @@
 package com.linkedin.datahub.upgrade.restoreindices;
 
+import com.google.common.collect.Iterators;
 import com.linkedin.datahub.upgrade.UpgradeContext;
 import com.linkedin.datahub.upgrade.UpgradeStep;
 import com.linkedin.datahub.upgrade.UpgradeStepResult;
@@ -11,21 +12,25 @@ import com.linkedin.metadata.entity.restoreindices.RestoreIndicesResult;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import io.ebean.EbeanServer;
 import io.ebean.ExpressionList;
+import lombok.extern.slf4j.Slf4j;
 
-import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static com.linkedin.metadata.Constants.ASPECT_LATEST_VERSION;
 
 
+@Slf4j
 public class SendMAEStep implements UpgradeStep {
 
   private static final int DEFAULT_BATCH_SIZE = 1000;
@@ -37,14 +42,14 @@ public class SendMAEStep implements UpgradeStep {
 
   public class KafkaJob implements Callable<RestoreIndicesResult> {
       UpgradeContext context;
-      RestoreIndicesArgs args;
-      public KafkaJob(UpgradeContext context, RestoreIndicesArgs args) {
+      List<EbeanAspectV2> rows;
+      public KafkaJob(UpgradeContext context, List<EbeanAspectV2> rows) {
         this.context = context;
-        this.args = args;
+        this.rows = rows;
       }
       @Override
       public RestoreIndicesResult call() {
-        return _entityService.restoreIndices(args, context.report()::addLine);
+        return _entityService.restoreIndices(rows, context.report()::addLine);
       }
   }
 
@@ -63,19 +68,19 @@ public class SendMAEStep implements UpgradeStep {
     return 0;
   }
 
-  private List<RestoreIndicesResult> iterateFutures(List<Future<RestoreIndicesResult>> futures) {
-    List<RestoreIndicesResult> result = new ArrayList<>();
-    for (Future<RestoreIndicesResult> future: new ArrayList<>(futures)) {
-      if (future.isDone()) {
-        try {
-          result.add(future.get());
-          futures.remove(future);
-        } catch (InterruptedException | ExecutionException e) {
-          e.printStackTrace();
-        }
-      }
+  /**
+   * Waits for the next batch to complete and adds up its results. Returns false if the batch failed.
+   */
+  private boolean collectNextResult(UpgradeContext context, CompletionService<RestoreIndicesResult> completionService,
+      RestoreIndicesResult finalJobResult, int rowCount, long startTime) throws InterruptedException {
+    try {
+      reportStats(context, finalJobResult, completionService.take().get(), rowCount, startTime);
+      return true;
+    } catch (ExecutionException e) {
+      log.error("Failed to send MAEs for a batch of rows", e.getCause());
+      context.report().addLine(String.format("Failed to send MAEs for a batch of rows: %s", e.getCause()));
+      return false;
     }
-    return result;
   }
 
   private RestoreIndicesArgs getArgs(UpgradeContext context) {
@@ -124,23 +129,51 @@ public class SendMAEStep implements UpgradeStep {
       final int rowCount = getRowCount(args);
       context.report().addLine(String.format("Found %s latest aspects in aspects table in %.2f minutes.",
               rowCount, (float) (System.currentTimeMillis() - startTime) / 1000 / 60));
-      int start = 0;
+      // Bound the number of batches held in memory while the single reader stays ahead of the workers
+      final int maxPendingBatches = args.numThreads * 2;
 
-      List<Future<RestoreIndicesResult>> futures = new ArrayList<>();
+      CompletionService<RestoreIndicesResult> completionService = new ExecutorCompletionService<>(executor);
+      int pendingBatches = 0;
+      int failedBatches = 0;
       startTime = System.currentTimeMillis();
-      while (start < rowCount) {
-        args = args.clone();
-        args.start = start;
-        futures.add(executor.submit(new KafkaJob(context, args)));
-        start = start + args.batchSize;
-      }
-      while (futures.size() > 0) {
-        List<RestoreIndicesResult> tmpResults = iterateFutures(futures);
-        for (RestoreIndicesResult tmpResult: tmpResults) {
-          reportStats(context, finalJobResult, tmpResult, rowCount, startTime);
+      // Rows are read once, in key order, with each page seeking past the previous one rather than skipping an offset
+      try (Stream<EbeanAspectV2> rows = _entityService.streamAspects(args)) {
+        Iterator<List<EbeanAspectV2>> batches = Iterators.partition(rows.iterator(), args.batchSize);
+        long readStartTime = System.currentTimeMillis();
+        while (batches.hasNext()) {
+          List<EbeanAspectV2> batch = batches.next();
+          finalJobResult.timeSqlQueryMs += System.currentTimeMillis() - readStartTime;
+          completionService.submit(new KafkaJob(context, batch));
+          pendingBatches++;
+          if (pendingBatches >= maxPendingBatches) {
+            if (!collectNextResult(context, completionService, finalJobResult, rowCount, startTime)) {
+              failedBatches++;
+            }
+            pendingBatches--;
+          }
+          readStartTime = System.currentTimeMillis();
+        }
+        for (; pendingBatches > 0; pendingBatches--) {
+          if (!collectNextResult(context, completionService, finalJobResult, rowCount, startTime)) {
+            failedBatches++;
+          }
         }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        executor.shutdownNow();
+        context.report().addLine("Interrupted while sending MAEs");
+        return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.FAILED);
       }
       executor.shutdown();
+      // Batches only hand their MAEs to the producer, so wait for delivery once for the whole job
+      final long flushStartTime = System.currentTimeMillis();
+      _entityService.flushChangeLogs();
+      finalJobResult.timeSendMessageMs += System.currentTimeMillis() - flushStartTime;
+      context.report().addLine(String.format("Flushed MAEs in %.2f minutes.",
+              (float) (System.currentTimeMillis() - flushStartTime) / 1000 / 60));
+      if (failedBatches > 0) {
+        context.report().addLine(String.format("%d batches of rows failed to be sent.", failedBatches));
+      }
       if (finalJobResult.rowsMigrated != rowCount) {
         float percentFailed = 0.0f;
         if (rowCount > 0) {
@@ -156,15 +189,9 @@ public class SendMAEStep implements UpgradeStep {
 
   private static void reportStats(UpgradeContext context, RestoreIndicesResult finalResult, RestoreIndicesResult tmpResult,
                                   int rowCount, long startTime) {
-    finalResult.ignored += tmpResult.ignored;
-    finalResult.rowsMigrated += tmpResult.rowsMigrated;
-    finalResult.timeSqlQueryMs += tmpResult.timeSqlQueryMs;
-    finalResult.timeUrnMs += tmpResult.timeUrnMs;
-    finalResult.timeEntityRegistryCheckMs += tmpResult.timeEntityRegistryCheckMs;
-    finalResult.aspectCheckMs += tmpResult.aspectCheckMs;
-    finalResult.createRecordMs += tmpResult.createRecordMs;
-    finalResult.sendMessageMs += tmpResult.sendMessageMs;
+    finalResult.add(tmpResult);
     context.report().addLine(String.format("metrics so far %s", finalResult));
+    context.report().addLine(String.format("stage throughput so far %s", finalResult.throughputSummary()));
 
     long currentTime = System.currentTimeMillis();
     float timeSoFarMinutes = (float) (currentTime - startTime) / 1000 / 60;
@@ -5,8 +5,11 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.linkedin.data.template.RecordTemplate;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.fasterxml.jackson.databind.node.JsonNodeFactory.*;
 
@@ -87,4 +90,64 @@ public interface ArrayMergingTemplate<T extends RecordTemplate> extends Template
       return mergingArray;
     }
   }
+
+  /**
+   * Same as {@link #arrayFieldToMap(JsonNode, String, List)}, on the mutable representation of the template
+   * @param baseMap the base map, which is modified in place
+   * @param arrayFieldName name of the array field to be transformed
+   * @param keyFields subfields of the array object to be used as keys, empty implies the list is just strings to be merged
+   * @return the map with array fields transformed to maps
+   */
+  @SuppressWarnings("unchecked")
+  default Map<String, Object> arrayFieldToMap(Map<String, Object> baseMap, String arrayFieldName, List<String> keyFields) {
+    Object array = baseMap.get(arrayFieldName);
+    Map<String, Object> map = new LinkedHashMap<>();
+    if (array instanceof List) {
+      for (Object element : (List<Object>) array) {
+        if (keyFields.isEmpty()) {
+          // No key fields, assume String array
+          map.put((String) element, element);
+          continue;
+        }
+        // Creates nested maps of keys with final value being the full value of the element
+        Map<String, Object> keyValue = map;
+        for (String keyField : keyFields) {
+          String key = ((Map<String, Object>) element).get(keyField).toString();
+          keyValue = (Map<String, Object>) keyValue.computeIfAbsent(key, k -> new LinkedHashMap<>());
+        }
+        keyValue.putAll((Map<String, Object>) element);
+      }
+    }
+    baseMap.put(arrayFieldName, map);
+    return baseMap;
+  }
+
+  /**
+   * Same as {@link #transformedMapToArray(JsonNode, String, List)}, on the mutable representation of the template
+   * @param transformedMap the transformed map, which is modified in place
+   * @param arrayFieldName name of the array field to be transformed
+   * @param keyFields subfields of the array object to be used as keys, empty implies the list is just strings to be merged
+   * @return the map formatted consistent with the original schema
+   */
+  @SuppressWarnings("unchecked")
+  default Map<String, Object> transformedMapToArray(Map<String, Object> transformedMap, String arrayFieldName,
+      List<String> keyFields) {
+    Map<String, Object> map = (Map<String, Object>) transformedMap.get(arrayFieldName);
+    List<Object> array = new ArrayList<>(map.size());
+    // No keys, assume pure Strings
+    mergeToList(map, keyFields.isEmpty() ? 1 : keyFields.size(), array);
+    transformedMap.put(arrayFieldName, array);
+    return transformedMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  default void mergeToList(Object node, int depth, List<Object> mergingList) {
+    if (depth == 0) {
+      mergingList.add(node);
+    } else if (node instanceof Map) {
+      ((Map<String, Object>) node).values().forEach(value -> mergeToList(value, depth - 1, mergingList));
+    } else if (node instanceof List) {
+      ((List<Object>) node).forEach(value -> mergeToList(value, depth - 1, mergingList));
+    }
+  }
 }
@@ -7,9 +7,12 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.github.fge.jsonpatch.JsonPatchException;
 import com.github.fge.jsonpatch.Patch;
 import com.linkedin.data.template.RecordTemplate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.fasterxml.jackson.databind.node.JsonNodeFactory.*;
+import static com.linkedin.metadata.models.registry.template.util.DataMapPatchUtil.*;
 import static com.linkedin.metadata.models.registry.template.util.TemplateUtil.*;
 
 
@@ -38,8 +41,31 @@ public abstract class CompoundKeyTemplate<T extends RecordTemplate> implements A
     return transformedNodeClone;
   }
 
+  /**
+   * Same as {@link #populateTopLevelKeys(JsonNode, Patch)}, on the mutable representation of the template
+   * @param transformedMap transformed map to have keys populated, which is modified in place
+   * @return transformed map that has top level keys populated
+   */
+  @SuppressWarnings("unchecked")
+  public Map<String, Object> populateTopLevelKeys(Map<String, Object> transformedMap, List<PatchOperation> operations) {
+    for (PatchOperation operation : operations) {
+      List<String> keys = operation.getPath();
+      // Skip last key as we only need to populate top level
+      Object parent = transformedMap;
+      for (int i = 0; i < keys.size() - 1 && parent instanceof Map; i++) {
+        parent = ((Map<String, Object>) parent).computeIfAbsent(keys.get(i), key -> new LinkedHashMap<>());
+      }
+    }
+    return transformedMap;
+  }
+
+  @Override
+  public Map<String, Object> preprocessTemplate(RecordTemplate recordTemplate, List<PatchOperation> operations) {
+    return populateTopLevelKeys(ArrayMergingTemplate.super.preprocessTemplate(recordTemplate, operations), operations);
+  }
+
   @Override
-  public T applyPatch(RecordTemplate recordTemplate, Patch jsonPatch)
+  public T applyJsonPatch(RecordTemplate recordTemplate, Patch jsonPatch)
       throws JsonProcessingException, JsonPatchException {
     JsonNode transformed = populateTopLevelKeys(preprocessTemplate(recordTemplate), jsonPatch);
     JsonNode patched = jsonPatch.apply(transformed);
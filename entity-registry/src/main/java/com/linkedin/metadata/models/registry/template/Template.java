@@ -3,11 +3,16 @@ package com.linkedin.metadata.models.registry.template;
 import com.datahub.util.RecordUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonpatch.JsonPatch;
 import com.github.fge.jsonpatch.JsonPatchException;
 import com.github.fge.jsonpatch.Patch;
+import com.linkedin.data.DataMap;
 import com.linkedin.data.template.RecordTemplate;
+import java.util.List;
+import java.util.Map;
 import javax.annotation.Nonnull;
 
+import static com.linkedin.metadata.models.registry.template.util.DataMapPatchUtil.*;
 import static com.linkedin.metadata.models.registry.template.util.TemplateUtil.*;
 
 
@@ -34,15 +39,39 @@ public interface Template<T extends RecordTemplate> {
   T getDefault();
 
   /**
-   * Applies a specified {@link Patch} to an aspect
+   * Applies a specified {@link Patch} to an aspect. A {@link JsonPatch} is applied directly to the data of the aspect,
+   * with the same outcome as {@link #applyJsonPatch(RecordTemplate, Patch)}; other patches to its JSON representation.
    * @param recordTemplate original {@link RecordTemplate} to be patched
    * @param jsonPatch patch to apply
    * @return patched value
    * @throws JsonProcessingException if there is an issue converting the input to JSON
    * @throws JsonPatchException if there is an issue applying the patch
    */
+  @SuppressWarnings("unchecked")
   default T applyPatch(RecordTemplate recordTemplate, Patch jsonPatch)
       throws JsonProcessingException, JsonPatchException {
+    if (!(jsonPatch instanceof JsonPatch)) {
+      return applyJsonPatch(recordTemplate, jsonPatch);
+    }
+    List<PatchOperation> operations = getOperations((JsonPatch) jsonPatch);
+    Object patched = applyOperations(preprocessTemplate(recordTemplate, operations), operations);
+    if (!(patched instanceof Map)) {
+      throw new JsonPatchException("Patched aspect is not an object");
+    }
+    Map<String, Object> postProcessed = rebaseFields((Map<String, Object>) patched);
+    return RecordUtils.toRecordTemplate(getTemplateType(), (DataMap) toData(postProcessed));
+  }
+
+  /**
+   * Applies a specified {@link Patch} to the JSON representation of an aspect
+   * @param recordTemplate original {@link RecordTemplate} to be patched
+   * @param jsonPatch patch to apply
+   * @return patched value
+   * @throws JsonProcessingException if there is an issue converting the input to JSON
+   * @throws JsonPatchException if there is an issue applying the patch
+   */
+  default T applyJsonPatch(RecordTemplate recordTemplate, Patch jsonPatch)
+      throws JsonProcessingException, JsonPatchException {
     JsonNode transformed = preprocessTemplate(recordTemplate);
     JsonNode patched = jsonPatch.apply(transformed);
     JsonNode postProcessed = rebaseFields(patched);
@@ -62,6 +91,19 @@ public interface Template<T extends RecordTemplate> {
     return transformFields(baseNode);
   }
 
+  /**
+   * Returns a mutable copy of the data of the template, modified for template based operations to be compatible with
+   * patch semantics.
+   * @param recordTemplate template to be copied
+   * @param operations the operations which are going to be applied
+   * @return a mutable representation of the template, with maps in place of merged arrays
+   */
+  @SuppressWarnings("unchecked")
+  default Map<String, Object> preprocessTemplate(RecordTemplate recordTemplate, List<PatchOperation> operations) {
+    T subtype = getSubtype(recordTemplate);
+    return transformFields((Map<String, Object>) toMutable(subtype.data()));
+  }
+
   /**
    * Transforms fields from base json representation of RecordTemplate to definition specific to aspect per patch semantics
    * @param baseNode the base node to be transformed
@@ -78,6 +120,22 @@ public interface Template<T extends RecordTemplate> {
   @Nonnull
   JsonNode rebaseFields(JsonNode patched);
 
+  /**
+   * Same as {@link #transformFields(JsonNode)}, on the mutable representation of the template
+   * @param baseMap the base map to be transformed, which is modified in place
+   * @return transformed map
+   */
+  @Nonnull
+  Map<String, Object> transformFields(Map<String, Object> baseMap);
+
+  /**
+   * Same as {@link #rebaseFields(JsonNode)}, on the mutable representation of the template
+   * @param patched the patched map in custom format per aspect spec, which is modified in place
+   * @return A map that has been retranslated from patch semantics
+   */
+  @Nonnull
+  Map<String, Object> rebaseFields(Map<String, Object> patched);
+
 
 
 }
@@ -9,6 +9,8 @@ import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.models.registry.template.ArrayMergingTemplate;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Nonnull;
 
 import static com.fasterxml.jackson.databind.node.JsonNodeFactory.*;
@@ -71,4 +73,27 @@ public class GlossaryTermsTemplate implements ArrayMergingTemplate<GlossaryTerms
     }
     return transformedMapToArray(patched, TERMS_FIELD_NAME, Collections.singletonList(URN_FIELD_NAME));
   }
+
+  @Nonnull
+  @Override
+  public Map<String, Object> transformFields(Map<String, Object> baseMap) {
+    // Set required deprecated field
+    baseMap.computeIfAbsent(AUDIT_STAMP_FIELD, field -> createAuditStamp());
+    return arrayFieldToMap(baseMap, TERMS_FIELD_NAME, Collections.singletonList(URN_FIELD_NAME));
+  }
+
+  @Nonnull
+  @Override
+  public Map<String, Object> rebaseFields(Map<String, Object> patched) {
+    // Set required deprecated field
+    patched.computeIfAbsent(AUDIT_STAMP_FIELD, field -> createAuditStamp());
+    return transformedMapToArray(patched, TERMS_FIELD_NAME, Collections.singletonList(URN_FIELD_NAME));
+  }
+
+  private static Map<String, Object> createAuditStamp() {
+    Map<String, Object> auditStamp = new LinkedHashMap<>();
+    auditStamp.put(ACTOR_FIELD, SYSTEM_ACTOR);
+    auditStamp.put(TIME_FIELD, System.currentTimeMillis());
+    return auditStamp;
+  }
 }
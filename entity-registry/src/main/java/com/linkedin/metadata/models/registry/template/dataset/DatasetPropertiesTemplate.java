@@ -7,6 +7,7 @@ import com.linkedin.data.template.StringMap;
 import com.linkedin.dataset.DatasetProperties;
 import com.linkedin.metadata.models.registry.template.ArrayMergingTemplate;
 import java.util.Collections;
+import java.util.Map;
 import javax.annotation.Nonnull;
 
 
@@ -48,4 +49,16 @@ public class DatasetPropertiesTemplate implements ArrayMergingTemplate<DatasetPr
   public JsonNode rebaseFields(JsonNode patched) {
     return transformedMapToArray(patched, TAGS_FIELD_NAME, Collections.emptyList());
   }
+
+  @Nonnull
+  @Override
+  public Map<String, Object> transformFields(Map<String, Object> baseMap) {
+    return arrayFieldToMap(baseMap, TAGS_FIELD_NAME, Collections.emptyList());
+  }
+
+  @Nonnull
+  @Override
+  public Map<String, Object> rebaseFields(Map<String, Object> patched) {
+    return transformedMapToArray(patched, TAGS_FIELD_NAME, Collections.emptyList());
+  }
 }
@@ -11,6 +11,8 @@ import com.linkedin.metadata.models.registry.template.common.GlossaryTermsTempla
 import com.linkedin.schema.EditableSchemaFieldInfoArray;
 import com.linkedin.schema.EditableSchemaMetadata;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import javax.annotation.Nonnull;
 
 import static com.linkedin.metadata.Constants.*;
@@ -93,4 +95,50 @@ public class EditableSchemaMetadataTemplate extends CompoundKeyTemplate<Editable
 
     return rebasedNode;
   }
+
+  @Nonnull
+  @Override
+  @SuppressWarnings("unchecked")
+  public Map<String, Object> transformFields(Map<String, Object> baseMap) {
+    Map<String, Object> transformedMap = arrayFieldToMap(baseMap, EDITABLE_SCHEMA_FIELD_INFO_FIELD_NAME,
+        Collections.singletonList(FIELDPATH_FIELD_NAME));
+    // Create temporary templates for array subfields
+    GlobalTagsTemplate globalTagsTemplate = new GlobalTagsTemplate();
+    GlossaryTermsTemplate glossaryTermsTemplate = new GlossaryTermsTemplate();
+
+    // Apply template transforms to array subfields
+    ((Map<String, Object>) transformedMap.get(EDITABLE_SCHEMA_FIELD_INFO_FIELD_NAME)).values().forEach(value -> {
+      if (value instanceof Map) {
+        Map<String, Object> node = (Map<String, Object>) value;
+        node.computeIfPresent(GLOBAL_TAGS_FIELD_NAME,
+            (field, globalTags) -> globalTagsTemplate.transformFields((Map<String, Object>) globalTags));
+        node.computeIfPresent(GLOSSARY_TERMS_FIELD_NAME,
+            (field, glossaryTerms) -> glossaryTermsTemplate.transformFields((Map<String, Object>) glossaryTerms));
+      }
+    });
+    return transformedMap;
+  }
+
+  @Nonnull
+  @Override
+  @SuppressWarnings("unchecked")
+  public Map<String, Object> rebaseFields(Map<String, Object> patched) {
+    Map<String, Object> rebasedMap = transformedMapToArray(patched, EDITABLE_SCHEMA_FIELD_INFO_FIELD_NAME,
+        Collections.singletonList(FIELDPATH_FIELD_NAME));
+    // Create temporary templates for array subfields
+    GlobalTagsTemplate globalTagsTemplate = new GlobalTagsTemplate();
+    GlossaryTermsTemplate glossaryTermsTemplate = new GlossaryTermsTemplate();
+
+    // Apply template rebases to array subfields
+    ((List<Object>) rebasedMap.get(EDITABLE_SCHEMA_FIELD_INFO_FIELD_NAME)).forEach(value -> {
+      if (value instanceof Map) {
+        Map<String, Object> node = (Map<String, Object>) value;
+        node.computeIfPresent(GLOBAL_TAGS_FIELD_NAME,
+            (field, globalTags) -> globalTagsTemplate.rebaseFields((Map<String, Object>) globalTags));
+        node.computeIfPresent(GLOSSARY_TERMS_FIELD_NAME,
+            (field, glossaryTerms) -> glossaryTermsTemplate.rebaseFields((Map<String, Object>) glossaryTerms));
+      }
+    });
+    return rebasedMap;
+  }
 }
@@ -0,0 +1,389 @@
+package com.linkedin.metadata.models.registry.template.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonpatch.JsonPatch;
+import com.github.fge.jsonpatch.JsonPatchException;
+import com.linkedin.data.Data;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+
+import static com.linkedin.metadata.models.registry.template.util.TemplateUtil.*;
+
+
+/**
+ * Applies JSON Patch operations directly to the data of an aspect, sparing a serialization to JSON and a parse back
+ * for every patch.
+ *
+ * Operations are applied to a mutable copy of the {@link DataMap} of the aspect, in which maps are {@link LinkedHashMap}s,
+ * arrays are {@link ArrayList}s and other values are kept as they are. Maps keep the insertion order of their keys, so
+ * array fields which templates turn into maps are rebuilt in the same order as when patching the JSON representation.
+ */
+public class DataMapPatchUtil {
+
+  private static final String ADD = "add";
+  private static final String REMOVE = "remove";
+  private static final String REPLACE = "replace";
+  private static final String MOVE = "move";
+  private static final String COPY = "copy";
+  private static final String TEST = "test";
+  private static final String END_OF_ARRAY = "-";
+
+  private DataMapPatchUtil() {
+
+  }
+
+  /**
+   * A JSON Patch operation, with its JSON Pointers split into unescaped reference tokens.
+   */
+  @Value
+  public static class PatchOperation {
+    String op;
+    List<String> path;
+    @Nullable
+    List<String> from;
+    @Nullable
+    JsonNode value;
+  }
+
+  @Nonnull
+  public static List<PatchOperation> getOperations(@Nonnull JsonPatch jsonPatch) throws JsonPatchException {
+    JsonNode patchNode = OBJECT_MAPPER.valueToTree(jsonPatch);
+    List<PatchOperation> operations = new ArrayList<>(patchNode.size());
+    for (JsonNode node : patchNode) {
+      operations.add(new PatchOperation(node.get("op").asText(), parsePointer(node.get("path").asText()),
+          node.has("from") ? parsePointer(node.get("from").asText()) : null, node.get("value")));
+    }
+    return operations;
+  }
+
+  /**
+   * Applies operations in order to a mutable representation of a document, which may be modified in place.
+   * @return the patched document, which is a different object when the whole document was replaced
+   * @throws JsonPatchException if an operation cannot be applied, in which case the document must be discarded
+   */
+  @Nonnull
+  public static Object applyOperations(@Nonnull Object document, @Nonnull List<PatchOperation> operations)
+      throws JsonPatchException {
+    Object patched = document;
+    for (PatchOperation operation : operations) {
+      patched = applyOperation(patched, operation);
+    }
+    return patched;
+  }
+
+  /**
+   * Copies the data of an aspect into its mutable representation.
+   */
+  @Nonnull
+  public static Object toMutable(@Nonnull Object data) {
+    if (data instanceof DataMap) {
+      Map<String, Object> map = new LinkedHashMap<>();
+      ((DataMap) data).forEach((key, value) -> map.put(key, toMutable(value)));
+      return map;
+    }
+    if (data instanceof DataList) {
+      List<Object> list = new ArrayList<>(((DataList) data).size());
+      ((DataList) data).forEach(value -> list.add(toMutable(value)));
+      return list;
+    }
+    return data;
+  }
+
+  /**
+   * Converts a mutable representation back into data, as held by a {@link DataMap}.
+   */
+  @Nonnull
+  @SuppressWarnings("unchecked")
+  public static Object toData(@Nonnull Object mutable) {
+    if (mutable instanceof Map) {
+      Map<String, Object> map = (Map<String, Object>) mutable;
+      DataMap dataMap = new DataMap(map.size());
+      map.forEach((key, value) -> dataMap.put(key, toData(value)));
+      return dataMap;
+    }
+    if (mutable instanceof List) {
+      List<Object> list = (List<Object>) mutable;
+      DataList dataList = new DataList(list.size());
+      list.forEach(value -> dataList.add(toData(value)));
+      return dataList;
+    }
+    return mutable;
+  }
+
+  /**
+   * Converts a JSON value into its mutable representation, with the same types as parsing it into a {@link DataMap}.
+   */
+  @Nonnull
+  public static Object fromJson(@Nonnull JsonNode node) {
+    if (node.isObject()) {
+      Map<String, Object> map = new LinkedHashMap<>();
+      node.fields().forEachRemaining(entry -> map.put(entry.getKey(), fromJson(entry.getValue())));
+      return map;
+    }
+    if (node.isArray()) {
+      List<Object> list = new ArrayList<>(node.size());
+      node.elements().forEachRemaining(element -> list.add(fromJson(element)));
+      return list;
+    }
+    if (node.isTextual()) {
+      return node.textValue();
+    }
+    if (node.isBoolean()) {
+      return node.booleanValue();
+    }
+    if (node.isInt()) {
+      return node.intValue();
+    }
+    if (node.isIntegralNumber()) {
+      return node.longValue();
+    }
+    if (node.isNumber()) {
+      return node.doubleValue();
+    }
+    if (node.isNull()) {
+      return Data.NULL;
+    }
+    throw new IllegalArgumentException("Unsupported JSON value: " + node);
+  }
+
+  @Nonnull
+  private static Object applyOperation(@Nonnull Object document, @Nonnull PatchOperation operation)
+      throws JsonPatchException {
+    switch (operation.getOp()) {
+      case ADD:
+        return add(document, operation.getPath(), fromJson(getValue(operation)));
+      case REMOVE:
+        remove(document, operation.getPath());
+        return document;
+      case REPLACE:
+        return replace(document, operation.getPath(), fromJson(getValue(operation)));
+      case MOVE:
+        if (getFrom(operation).equals(operation.getPath())) {
+          return document;
+        }
+        Object moved = get(document, getFrom(operation));
+        return add(remove(document, getFrom(operation)), operation.getPath(), moved);
+      case COPY:
+        return add(document, operation.getPath(), deepCopy(get(document, getFrom(operation))));
+      case TEST:
+        if (!valuesEqual(get(document, operation.getPath()), fromJson(getValue(operation)))) {
+          throw new JsonPatchException("value differs from expectations at " + toPointer(operation.getPath()));
+        }
+        return document;
+      default:
+        throw new JsonPatchException("unsupported operation: " + operation.getOp());
+    }
+  }
+
+  @Nonnull
+  @SuppressWarnings("unchecked")
+  private static Object add(@Nonnull Object document, @Nonnull List<String> path, @Nonnull Object value)
+      throws JsonPatchException {
+    if (path.isEmpty()) {
+      return value;
+    }
+    Object parent = getParent(document, path);
+    String token = path.get(path.size() - 1);
+    if (parent instanceof Map) {
+      ((Map<String, Object>) parent).put(token, value);
+    } else if (parent instanceof List) {
+      List<Object> list = (List<Object>) parent;
+      if (END_OF_ARRAY.equals(token)) {
+        list.add(value);
+      } else {
+        list.add(parseIndex(token, list.size(), path), value);
+      }
+    } else {
+      throw new JsonPatchException("parent of node to add is not a container: " + toPointer(path));
+    }
+    return document;
+  }
+
+  @Nonnull
+  @SuppressWarnings("unchecked")
+  private static Object remove(@Nonnull Object document, @Nonnull List<String> path) throws JsonPatchException {
+    if (path.isEmpty()) {
+      throw new JsonPatchException("cannot remove the whole document");
+    }
+    Object parent = getParent(document, path);
+    String token = path.get(path.size() - 1);
+    if (parent instanceof Map && ((Map<String, Object>) parent).containsKey(token)) {
+      ((Map<String, Object>) parent).remove(token);
+    } else if (parent instanceof List) {
+      List<Object> list = (List<Object>) parent;
+      list.remove(parseIndex(token, list.size() - 1, path));
+    } else {
+      throw new JsonPatchException("no such path in target JSON document: " + toPointer(path));
+    }
+    return document;
+  }
+
+  @Nonnull
+  @SuppressWarnings("unchecked")
+  private static Object replace(@Nonnull Object document, @Nonnull List<String> path, @Nonnull Object value)
+      throws JsonPatchException {
+    if (path.isEmpty()) {
+      return value;
+    }
+    // Fails if there is nothing to replace
+    get(document, path);
+    Object parent = getParent(document, path);
+    String token = path.get(path.size() - 1);
+    if (parent instanceof Map) {
+      ((Map<String, Object>) parent).put(token, value);
+    } else {
+      List<Object> list = (List<Object>) parent;
+      list.set(parseIndex(token, list.size() - 1, path), value);
+    }
+    return document;
+  }
+
+  @Nonnull
+  private static Object getParent(@Nonnull Object document, @Nonnull List<String> path) throws JsonPatchException {
+    try {
+      return get(document, path.subList(0, path.size() - 1));
+    } catch (JsonPatchException e) {
+      throw new JsonPatchException("no such parent in target JSON document: " + toPointer(path));
+    }
+  }
+
+  @Nonnull
+  @SuppressWarnings("unchecked")
+  private static Object get(@Nonnull Object document, @Nonnull List<String> path) throws JsonPatchException {
+    Object node = document;
+    for (String token : path) {
+      if (node instanceof Map && ((Map<String, Object>) node).containsKey(token)) {
+        node = ((Map<String, Object>) node).get(token);
+      } else if (node instanceof List) {
+        List<Object> list = (List<Object>) node;
+        node = list.get(parseIndex(token, list.size() - 1, path));
+      } else {
+        throw new JsonPatchException("no such path in target JSON document: " + toPointer(path));
+      }
+    }
+    return node;
+  }
+
+  private static int parseIndex(@Nonnull String token, int maxIndex, @Nonnull List<String> path)
+      throws JsonPatchException {
+    // Array indices are decimal numbers without leading zeros
+    if (token.isEmpty() || token.length() > 9 || !token.chars().allMatch(Character::isDigit)
+        || (token.length() > 1 && token.charAt(0) == '0')) {
+      throw new JsonPatchException("no such path in target JSON document: " + toPointer(path));
+    }
+    int index = Integer.parseInt(token);
+    if (index > maxIndex) {
+      throw new JsonPatchException("no such path in target JSON document: " + toPointer(path));
+    }
+    return index;
+  }
+
+  @Nonnull
+  private static JsonNode getValue(@Nonnull PatchOperation operation) throws JsonPatchException {
+    if (operation.getValue() == null) {
+      throw new JsonPatchException("missing value for operation " + operation.getOp());
+    }
+    return operation.getValue();
+  }
+
+  @Nonnull
+  private static List<String> getFrom(@Nonnull PatchOperation operation) throws JsonPatchException {
+    if (operation.getFrom() == null) {
+      throw new JsonPatchException("missing from for operation " + operation.getOp());
+    }
+    return operation.getFrom();
+  }
+
+  @Nonnull
+  @SuppressWarnings("unchecked")
+  private static Object deepCopy(@Nonnull Object mutable) {
+    if (mutable instanceof Map) {
+      Map<String, Object> map = new LinkedHashMap<>();
+      ((Map<String, Object>) mutable).forEach((key, value) -> map.put(key, deepCopy(value)));
+      return map;
+    }
+    if (mutable instanceof List) {
+      List<Object> list = new ArrayList<>(((List<Object>) mutable).size());
+      ((List<Object>) mutable).forEach(value -> list.add(deepCopy(value)));
+      return list;
+    }
+    return mutable;
+  }
+
+  /**
+   * Compares values the way JSON Patch tests do, numbers being equal when their values are.
+   */
+  @SuppressWarnings("unchecked")
+  private static boolean valuesEqual(@Nonnull Object first, @Nonnull Object second) {
+    if (first instanceof Number && second instanceof Number) {
+      if (isIntegral(first) && isIntegral(second)) {
+        return ((Number) first).longValue() == ((Number) second).longValue();
+      }
+      return Double.compare(((Number) first).doubleValue(), ((Number) second).doubleValue()) == 0;
+    }
+    if (first instanceof Map && second instanceof Map) {
+      Map<String, Object> firstMap = (Map<String, Object>) first;
+      Map<String, Object> secondMap = (Map<String, Object>) second;
+      if (!firstMap.keySet().equals(secondMap.keySet())) {
+        return false;
+      }
+      for (Map.Entry<String, Object> entry : firstMap.entrySet()) {
+        if (!valuesEqual(entry.getValue(), secondMap.get(entry.getKey()))) {
+          return false;
+        }
+      }
+      return true;
+    }
+    if (first instanceof List && second instanceof List) {
+      List<Object> firstList = (List<Object>) first;
+      List<Object> secondList = (List<Object>) second;
+      if (firstList.size() != secondList.size()) {
+        return false;
+      }
+      Iterator<Object> secondIterator = secondList.iterator();
+      for (Object element : firstList) {
+        if (!valuesEqual(element, secondIterator.next())) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return Objects.equals(first, second);
+  }
+
+  private static boolean isIntegral(@Nonnull Object number) {
+    return number instanceof Integer || number instanceof Long;
+  }
+
+  @Nonnull
+  private static List<String> parsePointer(@Nonnull String pointer) throws JsonPatchException {
+    if (pointer.isEmpty()) {
+      return Collections.emptyList();
+    }
+    if (pointer.charAt(0) != '/') {
+      throw new JsonPatchException("invalid JSON Pointer: " + pointer);
+    }
+    List<String> tokens = new ArrayList<>();
+    for (String token : pointer.substring(1).split("/", -1)) {
+      tokens.add(token.replace("~1", "/").replace("~0", "~"));
+    }
+    return tokens;
+  }
+
+  @Nonnull
+  private static String toPointer(@Nonnull List<String> path) {
+    StringBuilder pointer = new StringBuilder();
+    path.forEach(token -> pointer.append('/').append(token.replace("~", "~0").replace("/", "~1")));
+    return pointer.toString();
+  }
+}
@@ -0,0 +1,203 @@
+package com.linkedin.metadata.models.registry.template;
+
+import com.datahub.util.RecordUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonpatch.JsonPatch;
+import com.github.fge.jsonpatch.JsonPatchException;
+import com.linkedin.common.GlobalTags;
+import com.linkedin.common.GlossaryTerms;
+import com.linkedin.common.Ownership;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.dataset.DatasetProperties;
+import com.linkedin.dataset.UpstreamLineage;
+import com.linkedin.metadata.models.registry.template.common.GlobalTagsTemplate;
+import com.linkedin.metadata.models.registry.template.common.GlossaryTermsTemplate;
+import com.linkedin.metadata.models.registry.template.common.OwnershipTemplate;
+import com.linkedin.metadata.models.registry.template.dataset.DatasetPropertiesTemplate;
+import com.linkedin.metadata.models.registry.template.dataset.EditableSchemaMetadataTemplate;
+import com.linkedin.metadata.models.registry.template.dataset.UpstreamLineageTemplate;
+import com.linkedin.schema.EditableSchemaMetadata;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.annotations.Test;
+
+import static com.linkedin.metadata.models.registry.template.util.TemplateUtil.*;
+import static org.testng.Assert.*;
+
+
+/**
+ * Checks that patching the data of aspects gives the same results as patching their JSON representation, including on
+ * lineage with many upstreams, as ingested from Spark.
+ */
+@Slf4j
+public class TemplatePatchTest {
+
+  private static final int UPSTREAM_COUNT = 200;
+  private static final int PATCHED_UPSTREAM_COUNT = 5;
+  private static final int BENCHMARK_WARMUP_ITERATIONS = 200;
+  private static final int BENCHMARK_ITERATIONS = 1000;
+
+  @Test
+  public void testUpstreamLineage() throws Exception {
+    UpstreamLineage upstreamLineage = RecordUtils.toRecordTemplate(UpstreamLineage.class,
+        "{\"upstreams\":[" + upstream("a") + "," + upstream("b") + "," + upstream("c") + "]}");
+    assertSamePatchResult(new UpstreamLineageTemplate(), upstreamLineage, "["
+        + "{\"op\":\"add\",\"path\":\"/upstreams/" + datasetUrn("d") + "\",\"value\":" + upstream("d") + "},"
+        + "{\"op\":\"add\",\"path\":\"/upstreams/" + datasetUrn("a") + "\",\"value\":" + upstream("a") + "},"
+        + "{\"op\":\"remove\",\"path\":\"/upstreams/" + datasetUrn("b") + "\"}]");
+  }
+
+  @Test
+  public void testGlobalTags() throws Exception {
+    GlobalTags globalTags = RecordUtils.toRecordTemplate(GlobalTags.class,
+        "{\"tags\":[{\"tag\":\"urn:li:tag:a\"},{\"tag\":\"urn:li:tag:b\"}]}");
+    assertSamePatchResult(new GlobalTagsTemplate(), globalTags, "["
+        + "{\"op\":\"add\",\"path\":\"/tags/urn:li:tag:c\",\"value\":{\"tag\":\"urn:li:tag:c\"}},"
+        + "{\"op\":\"remove\",\"path\":\"/tags/urn:li:tag:a\"}]");
+  }
+
+  @Test
+  public void testGlossaryTerms() throws Exception {
+    GlossaryTerms glossaryTerms = RecordUtils.toRecordTemplate(GlossaryTerms.class,
+        "{\"terms\":[{\"urn\":\"urn:li:glossaryTerm:a\"}],\"auditStamp\":{\"time\":0,\"actor\":\"urn:li:corpuser:a\"}}");
+    assertSamePatchResult(new GlossaryTermsTemplate(), glossaryTerms, "["
+        + "{\"op\":\"add\",\"path\":\"/terms/urn:li:glossaryTerm:b\",\"value\":{\"urn\":\"urn:li:glossaryTerm:b\"}}]");
+  }
+
+  @Test
+  public void testOwnership() throws Exception {
+    // Owners are grouped by owner when patched
+    Ownership ownership = RecordUtils.toRecordTemplate(Ownership.class, "{\"owners\":["
+        + "{\"owner\":\"urn:li:corpuser:a\",\"type\":\"DATAOWNER\"},"
+        + "{\"owner\":\"urn:li:corpuser:b\",\"type\":\"DATAOWNER\"},"
+        + "{\"owner\":\"urn:li:corpuser:a\",\"type\":\"TECHNICAL_OWNER\"}],"
+        + "\"lastModified\":{\"time\":0,\"actor\":\"urn:li:corpuser:a\"}}");
+    assertSamePatchResult(new OwnershipTemplate(), ownership, "["
+        + "{\"op\":\"add\",\"path\":\"/owners/urn:li:corpuser:c/DATAOWNER\","
+        + "\"value\":{\"owner\":\"urn:li:corpuser:c\",\"type\":\"DATAOWNER\"}},"
+        + "{\"op\":\"remove\",\"path\":\"/owners/urn:li:corpuser:b/DATAOWNER\"}]");
+  }
+
+  @Test
+  public void testDatasetProperties() throws Exception {
+    DatasetProperties datasetProperties = RecordUtils.toRecordTemplate(DatasetProperties.class,
+        "{\"tags\":[\"a\",\"b\"],\"customProperties\":{\"a\":\"b\"},\"description\":\"old\"}");
+    assertSamePatchResult(new DatasetPropertiesTemplate(), datasetProperties, "["
+        + "{\"op\":\"add\",\"path\":\"/tags/c\",\"value\":\"c\"},"
+        + "{\"op\":\"add\",\"path\":\"/customProperties/c~1d\",\"value\":\"e\"},"
+        + "{\"op\":\"replace\",\"path\":\"/description\",\"value\":\"new\"},"
+        + "{\"op\":\"test\",\"path\":\"/customProperties/a\",\"value\":\"b\"},"
+        + "{\"op\":\"copy\",\"from\":\"/customProperties/a\",\"path\":\"/name\"},"
+        + "{\"op\":\"move\",\"from\":\"/tags/a\",\"path\":\"/tags/f\"}]");
+  }
+
+  @Test
+  public void testEditableSchemaMetadata() throws Exception {
+    EditableSchemaMetadata editableSchemaMetadata = RecordUtils.toRecordTemplate(EditableSchemaMetadata.class, "{"
+        + "\"editableSchemaFieldInfo\":[{\"fieldPath\":\"a\",\"globalTags\":{\"tags\":[{\"tag\":\"urn:li:tag:a\"}]},"
+        + "\"glossaryTerms\":{\"terms\":[],\"auditStamp\":{\"time\":0,\"actor\":\"urn:li:corpuser:a\"}}}],"
+        + "\"created\":{\"time\":0,\"actor\":\"urn:li:corpuser:a\"},"
+        + "\"lastModified\":{\"time\":0,\"actor\":\"urn:li:corpuser:a\"}}");
+    assertSamePatchResult(new EditableSchemaMetadataTemplate(), editableSchemaMetadata, "["
+        + "{\"op\":\"add\",\"path\":\"/editableSchemaFieldInfo/a/globalTags/tags/urn:li:tag:b\","
+        + "\"value\":{\"tag\":\"urn:li:tag:b\"}},"
+        + "{\"op\":\"add\",\"path\":\"/editableSchemaFieldInfo/a/glossaryTerms/terms/urn:li:glossaryTerm:a\","
+        + "\"value\":{\"urn\":\"urn:li:glossaryTerm:a\"}},"
+        + "{\"op\":\"remove\",\"path\":\"/editableSchemaFieldInfo/a/globalTags/tags/urn:li:tag:a\"}]");
+  }
+
+  @Test
+  public void testInvalidPatches() throws Exception {
+    GlobalTags globalTags = RecordUtils.toRecordTemplate(GlobalTags.class, "{\"tags\":[{\"tag\":\"urn:li:tag:a\"}]}");
+    GlobalTagsTemplate template = new GlobalTagsTemplate();
+    for (String patch : new String[]{
+        "[{\"op\":\"remove\",\"path\":\"/tags/urn:li:tag:b\"}]",
+        "[{\"op\":\"add\",\"path\":\"/missing/tag\",\"value\":{}}]",
+        "[{\"op\":\"replace\",\"path\":\"/tags/urn:li:tag:b\",\"value\":{}}]",
+        "[{\"op\":\"test\",\"path\":\"/tags/urn:li:tag:a/tag\",\"value\":\"urn:li:tag:b\"}]"}) {
+      JsonPatch jsonPatch = JsonPatch.fromJson(OBJECT_MAPPER.readTree(patch));
+      assertThrows(JsonPatchException.class, () -> template.applyJsonPatch(globalTags, jsonPatch));
+      assertThrows(JsonPatchException.class, () -> template.applyPatch(globalTags, jsonPatch));
+    }
+  }
+
+  @Test
+  public void testLargeUpstreamLineage() throws Exception {
+    assertSamePatchResult(new UpstreamLineageTemplate(), largeUpstreamLineage(), largeUpstreamLineagePatch());
+  }
+
+  /**
+   * Times patching the data of a lineage with many upstreams against patching its JSON representation. Only runs when
+   * the benchmark group is requested, with -PrunBenchmarks.
+   */
+  @Test(groups = "benchmark")
+  public void benchmarkLargeUpstreamLineage() throws Exception {
+    UpstreamLineageTemplate template = new UpstreamLineageTemplate();
+    UpstreamLineage upstreamLineage = largeUpstreamLineage();
+    JsonPatch jsonPatch = JsonPatch.fromJson(OBJECT_MAPPER.readTree(largeUpstreamLineagePatch()));
+
+    for (int i = 0; i < BENCHMARK_WARMUP_ITERATIONS; i++) {
+      template.applyJsonPatch(upstreamLineage, jsonPatch);
+      template.applyPatch(upstreamLineage, jsonPatch);
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+      template.applyJsonPatch(upstreamLineage, jsonPatch);
+    }
+    long jsonPatchNanos = (System.nanoTime() - start) / BENCHMARK_ITERATIONS;
+    start = System.nanoTime();
+    for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+      template.applyPatch(upstreamLineage, jsonPatch);
+    }
+    long dataPatchNanos = (System.nanoTime() - start) / BENCHMARK_ITERATIONS;
+
+    log.info("Patching {} operations on {} upstreams took {} us on JSON and {} us on data", PATCHED_UPSTREAM_COUNT,
+        UPSTREAM_COUNT, jsonPatchNanos / 1000, dataPatchNanos / 1000);
+    assertTrue(dataPatchNanos < jsonPatchNanos);
+  }
+
+  private static UpstreamLineage largeUpstreamLineage() {
+    List<String> upstreams = new ArrayList<>();
+    for (int i = 0; i < UPSTREAM_COUNT; i++) {
+      upstreams.add(upstream("upstream" + i));
+    }
+    return RecordUtils.toRecordTemplate(UpstreamLineage.class,
+        "{\"upstreams\":[" + String.join(",", upstreams) + "]}");
+  }
+
+  private static String largeUpstreamLineagePatch() {
+    List<String> operations = new ArrayList<>();
+    for (int i = 0; i < PATCHED_UPSTREAM_COUNT; i++) {
+      operations.add("{\"op\":\"add\",\"path\":\"/upstreams/" + datasetUrn("patched" + i) + "\",\"value\":"
+          + upstream("patched" + i) + "}");
+    }
+    return "[" + String.join(",", operations) + "]";
+  }
+
+  private static <T extends RecordTemplate> void assertSamePatchResult(Template<T> template, T recordTemplate,
+      String patch) throws Exception {
+    JsonPatch jsonPatch = JsonPatch.fromJson(OBJECT_MAPPER.readTree(patch));
+    String original = RecordUtils.toJsonString(recordTemplate);
+    T expected = template.applyJsonPatch(recordTemplate, jsonPatch);
+    T actual = template.applyPatch(recordTemplate, jsonPatch);
+
+    // Arrays are compared in order
+    assertEquals(toJsonNode(actual), toJsonNode(expected));
+    // The original is left untouched
+    assertEquals(RecordUtils.toJsonString(recordTemplate), original);
+  }
+
+  private static JsonNode toJsonNode(RecordTemplate recordTemplate) throws Exception {
+    return OBJECT_MAPPER.readTree(RecordUtils.toJsonString(recordTemplate));
+  }
+
+  private static String datasetUrn(String name) {
+    return "urn:li:dataset:(urn:li:dataPlatform:hive," + name + ",PROD)";
+  }
+
+  private static String upstream(String name) {
+    return "{\"dataset\":\"" + datasetUrn(name) + "\",\"type\":\"TRANSFORMED\","
+        + "\"auditStamp\":{\"time\":0,\"actor\":\"urn:li:corpuser:unknown\"}}";
+  }
+}
@@ -156,6 +156,11 @@ public class KafkaEventProducer implements EventProducer {
     }
   }
 
+  @Override
+  public void flush() {
+    _producer.flush();
+  }
+
   @Override
   @WithSpan
   public void produceMetadataChangeProposal(@Nonnull final MetadataChangeProposal metadataChangeProposal) {
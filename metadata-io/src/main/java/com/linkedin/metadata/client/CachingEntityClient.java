@@ -0,0 +1,452 @@
+package com.linkedin.metadata.client;
+
+import com.datahub.authentication.Authentication;
+import com.datahub.util.ModelUtils;
+import com.linkedin.common.VersionedUrn;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.entity.Entity;
+import com.linkedin.entity.EntityResponse;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.metadata.aspect.EnvelopedAspect;
+import com.linkedin.metadata.aspect.VersionedAspect;
+import com.linkedin.metadata.browse.BrowseResult;
+import com.linkedin.metadata.graph.LineageDirection;
+import com.linkedin.metadata.query.AutoCompleteResult;
+import com.linkedin.metadata.query.ListResult;
+import com.linkedin.metadata.query.ListUrnsResult;
+import com.linkedin.metadata.query.filter.Filter;
+import com.linkedin.metadata.query.filter.SortCriterion;
+import com.linkedin.metadata.search.LineageSearchResult;
+import com.linkedin.metadata.search.SearchResult;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.MetadataChangeProposal;
+import com.linkedin.mxe.PlatformEvent;
+import com.linkedin.mxe.SystemMetadata;
+import com.linkedin.r2.RemoteInvocationException;
+import java.net.URISyntaxException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+
+/**
+ * An {@link EntityClient} decorator which keeps a cache of the {@link EntityResponse}s returned by
+ * {@link #getV2(String, Urn, Set, Authentication)} and {@link #batchGetV2(String, Set, Set, Authentication)}, shared
+ * by all callers. Responses are cached per entity type, urn and set of requested aspects, including for entities which
+ * do not exist. All other calls go straight to the underlying client.
+ *
+ * Only raw aspects are cached: the underlying client serves the same aspects whoever the caller is, and any
+ * authorization of the caller is applied on top of them as before. Callers must report every changed entity through
+ * {@link #invalidate(Collection)}, typically from the metadata change log. Entities written through this client are
+ * invalidated right away, so that a caller reads back its own writes. A cached response is discarded on read if its
+ * entity changed after the response started being fetched.
+ *
+ * The cache can be restricted to some aspects: only requests for a subset of them are then served from the cache, and
+ * only changes to them invalidate it.
+ *
+ * The last change time of at most maxTrackedChanges entities is remembered. Beyond that, all responses cached until
+ * then are discarded at once and tracking starts over.
+ */
+@Slf4j
+public class CachingEntityClient implements EntityClient {
+
+  private final EntityClient _entityClient;
+  private final Cache _cache;
+  private final int _maxTrackedChanges;
+  // Null when all aspects are cached
+  private final Set<String> _cachedAspects;
+
+  private final Map<Urn, Long> _changedAt = new ConcurrentHashMap<>();
+  private volatile long _allChangedAt = 0;
+
+  public CachingEntityClient(@Nonnull final EntityClient entityClient, @Nonnull final Cache cache,
+      final int maxTrackedChanges) {
+    this(entityClient, cache, maxTrackedChanges, null);
+  }
+
+  public CachingEntityClient(@Nonnull final EntityClient entityClient, @Nonnull final Cache cache,
+      final int maxTrackedChanges, @Nullable final Set<String> cachedAspects) {
+    _entityClient = entityClient;
+    _cache = cache;
+    _maxTrackedChanges = maxTrackedChanges;
+    _cachedAspects = cachedAspects;
+  }
+
+  /**
+   * Marks the entity as changed now if the given aspect is cached, discarding its cached responses.
+   *
+   * @param aspectName the changed aspect, or null if unknown
+   */
+  public void invalidate(@Nonnull final Urn urn, @Nullable final String aspectName) {
+    if (aspectName == null || _cachedAspects == null || _cachedAspects.contains(aspectName)) {
+      invalidate(Collections.singleton(urn));
+    }
+  }
+
+  /**
+   * Marks the given entities as changed now, discarding their cached responses.
+   */
+  public synchronized void invalidate(@Nonnull final Collection<Urn> urns) {
+    final long changedAt = System.currentTimeMillis();
+    if (_changedAt.size() + urns.size() > _maxTrackedChanges) {
+      log.info("Tracking changes of more than {} entities, discarding all cached entities", _maxTrackedChanges);
+      MetricUtils.counter(this.getClass(), "invalidate_all_count").inc();
+      // Must happen before the per entity changes are forgotten, see isUpToDate
+      _allChangedAt = changedAt;
+      _changedAt.clear();
+    }
+    urns.forEach(urn -> _changedAt.put(urn, changedAt));
+    MetricUtils.counter(this.getClass(), "invalidation_count").inc(urns.size());
+  }
+
+  @Nullable
+  @Override
+  public EntityResponse getV2(@Nonnull String entityName, @Nonnull Urn urn, @Nullable Set<String> aspectNames,
+      @Nonnull Authentication authentication) throws RemoteInvocationException, URISyntaxException {
+    return batchGetV2(entityName, Collections.singleton(urn), aspectNames, authentication).get(urn);
+  }
+
+  @Nonnull
+  @Override
+  public Map<Urn, EntityResponse> batchGetV2(@Nonnull String entityName, @Nonnull Set<Urn> urns,
+      @Nullable Set<String> aspectNames, @Nonnull Authentication authentication)
+      throws RemoteInvocationException, URISyntaxException {
+    if (_cachedAspects != null && (aspectNames == null || !_cachedAspects.containsAll(aspectNames))) {
+      return _entityClient.batchGetV2(entityName, urns, aspectNames, authentication);
+    }
+    final Set<String> aspectsKey = aspectNames == null ? null : Collections.unmodifiableSet(new TreeSet<>(aspectNames));
+    final Map<Urn, EntityResponse> result = new HashMap<>();
+    final Set<Urn> urnsToFetch = new HashSet<>();
+    for (Urn urn : urns) {
+      final CacheKey key = new CacheKey(entityName, urn, aspectsKey);
+      final CachedEntityResponse cached = _cache.get(key, CachedEntityResponse.class);
+      if (cached == null) {
+        urnsToFetch.add(urn);
+        continue;
+      }
+      if (!isUpToDate(urn, cached)) {
+        MetricUtils.counter(this.getClass(), "stale_count").inc();
+        _cache.evict(key);
+        urnsToFetch.add(urn);
+        continue;
+      }
+      if (cached.getResponse() != null) {
+        result.put(urn, copy(cached.getResponse()));
+      }
+    }
+    MetricUtils.counter(this.getClass(), "cache_hit_count").inc(urns.size() - urnsToFetch.size());
+
+    if (urnsToFetch.isEmpty()) {
+      return result;
+    }
+
+    MetricUtils.counter(this.getClass(), "cache_miss_count").inc(urnsToFetch.size());
+    final long fetchedAt = System.currentTimeMillis();
+    final Map<Urn, EntityResponse> fetched = _entityClient.batchGetV2(entityName, urnsToFetch, aspectNames,
+        authentication);
+    for (Urn urn : urnsToFetch) {
+      final EntityResponse response = fetched.get(urn);
+      if (response != null) {
+        result.put(urn, response);
+      }
+      _cache.put(new CacheKey(entityName, urn, aspectsKey),
+          new CachedEntityResponse(response == null ? null : copy(response), fetchedAt));
+    }
+    return result;
+  }
+
+  @Nonnull
+  @Override
+  @Deprecated
+  public Entity get(@Nonnull Urn urn, @Nonnull Authentication authentication) throws RemoteInvocationException {
+    return _entityClient.get(urn, authentication);
+  }
+
+  @Nonnull
+  @Override
+  public Map<Urn, EntityResponse> batchGetVersionedV2(@Nonnull String entityName,
+      @Nonnull Set<VersionedUrn> versionedUrns, @Nullable Set<String> aspectNames,
+      @Nonnull Authentication authentication) throws RemoteInvocationException, URISyntaxException {
+    return _entityClient.batchGetVersionedV2(entityName, versionedUrns, aspectNames, authentication);
+  }
+
+  @Nonnull
+  @Override
+  @Deprecated
+  public Map<Urn, Entity> batchGet(@Nonnull Set<Urn> urns, @Nonnull Authentication authentication)
+      throws RemoteInvocationException {
+    return _entityClient.batchGet(urns, authentication);
+  }
+
+  @Nonnull
+  @Override
+  public AutoCompleteResult autoComplete(@Nonnull String entityType, @Nonnull String query,
+      @Nonnull Map<String, String> requestFilters, @Nonnull int limit, @Nullable String field,
+      @Nonnull Authentication authentication) throws RemoteInvocationException {
+    return _entityClient.autoComplete(entityType, query, requestFilters, limit, field, authentication);
+  }
+
+  @Nonnull
+  @Override
+  public AutoCompleteResult autoComplete(@Nonnull String entityType, @Nonnull String query,
+      @Nonnull Map<String, String> requestFilters, @Nonnull int limit, @Nonnull Authentication authentication)
+      throws RemoteInvocationException {
+    return _entityClient.autoComplete(entityType, query, requestFilters, limit, authentication);
+  }
+
+  @Nonnull
+  @Override
+  public BrowseResult browse(@Nonnull String entityType, @Nonnull String path,
+      @Nullable Map<String, String> requestFilters, int start, int limit, @Nonnull Authentication authentication)
+      throws RemoteInvocationException {
+    return _entityClient.browse(entityType, path, requestFilters, start, limit, authentication);
+  }
+
+  @Override
+  @Deprecated
+  public void update(@Nonnull Entity entity, @Nonnull Authentication authentication)
+      throws RemoteInvocationException {
+    _entityClient.update(entity, authentication);
+    invalidate(Collections.singleton(ModelUtils.getUrnFromSnapshotUnion(entity.getValue())));
+  }
+
+  @Override
+  @Deprecated
+  public void updateWithSystemMetadata(@Nonnull Entity entity, @Nullable SystemMetadata systemMetadata,
+      @Nonnull Authentication authentication) throws RemoteInvocationException {
+    _entityClient.updateWithSystemMetadata(entity, systemMetadata, authentication);
+    invalidate(Collections.singleton(ModelUtils.getUrnFromSnapshotUnion(entity.getValue())));
+  }
+
+  @Override
+  @Deprecated
+  public void batchUpdate(@Nonnull Set<Entity> entities, @Nonnull Authentication authentication)
+      throws RemoteInvocationException {
+    _entityClient.batchUpdate(entities, authentication);
+    invalidate(entities.stream()
+        .map(entity -> ModelUtils.getUrnFromSnapshotUnion(entity.getValue()))
+        .collect(Collectors.toList()));
+  }
+
+  @Nonnull
+  @Override
+  public SearchResult search(@Nonnull String entity, @Nonnull String input,
+      @Nullable Map<String, String> requestFilters, int start, int count, @Nonnull Authentication authentication)
+      throws RemoteInvocationException {
+    return _entityClient.search(entity, input, requestFilters, start, count, authentication);
+  }
+
+  @Nonnull
+  @Override
+  public ListResult list(@Nonnull String entity, @Nullable Map<String, String> requestFilters, int start, int count,
+      @Nonnull Authentication authentication) throws RemoteInvocationException {
+    return _entityClient.list(entity, requestFilters, start, count, authentication);
+  }
+
+  @Nonnull
+  @Override
+  public SearchResult search(@Nonnull String entity, @Nonnull String input, @Nullable Filter filter,
+      SortCriterion sortCriterion, int start, int count, @Nonnull Authentication authentication)
+      throws RemoteInvocationException {
+    return _entityClient.search(entity, input, filter, sortCriterion, start, count, authentication);
+  }
+
+  @Nonnull
+  @Override
+  public SearchResult searchAcrossEntities(@Nonnull List<String> entities, @Nonnull String input,
+      @Nullable Filter filter, int start, int count, @Nonnull Authentication authentication)
+      throws RemoteInvocationException {
+    return _entityClient.searchAcrossEntities(entities, input, filter, start, count, authentication);
+  }
+
+  @Nonnull
+  @Override
+  public LineageSearchResult searchAcrossLineage(@Nonnull Urn sourceUrn, @Nonnull LineageDirection direction,
+      @Nonnull List<String> entities, @Nonnull String input, @Nullable Integer maxHops, @Nullable Filter filter,
+      @Nullable SortCriterion sortCriterion, int start, int count, @Nonnull Authentication authentication)
+      throws RemoteInvocationException {
+    return _entityClient.searchAcrossLineage(sourceUrn, direction, entities, input, maxHops, filter, sortCriterion,
+        start, count, authentication);
+  }
+
+  @Nonnull
+  @Override
+  public StringArray getBrowsePaths(@Nonnull Urn urn, @Nonnull Authentication authentication)
+      throws RemoteInvocationException {
+    return _entityClient.getBrowsePaths(urn, authentication);
+  }
+
+  @Override
+  public void setWritable(boolean canWrite, @Nonnull Authentication authentication)
+      throws RemoteInvocationException {
+    _entityClient.setWritable(canWrite, authentication);
+  }
+
+  @Nonnull
+  @Override
+  public Map<String, Long> batchGetTotalEntityCount(@Nonnull List<String> entityName,
+      @Nonnull Authentication authentication) throws RemoteInvocationException {
+    return _entityClient.batchGetTotalEntityCount(entityName, authentication);
+  }
+
+  @Override
+  public ListUrnsResult listUrns(@Nonnull String entityName, int start, int count,
+      @Nonnull Authentication authentication) throws RemoteInvocationException {
+    return _entityClient.listUrns(entityName, start, count, authentication);
+  }
+
+  @Override
+  public void deleteEntity(@Nonnull Urn urn, @Nonnull Authentication authentication)
+      throws RemoteInvocationException {
+    _entityClient.deleteEntity(urn, authentication);
+    invalidate(Collections.singleton(urn));
+  }
+
+  @Override
+  public void deleteEntityReferences(@Nonnull Urn urn, @Nonnull Authentication authentication)
+      throws RemoteInvocationException {
+    // Referencing entities are updated through the entity service, and so are reported by the metadata change log
+    _entityClient.deleteEntityReferences(urn, authentication);
+  }
+
+  @Nonnull
+  @Override
+  public SearchResult filter(@Nonnull String entity, @Nonnull Filter filter, @Nullable SortCriterion sortCriterion,
+      int start, int count, @Nonnull Authentication authentication) throws RemoteInvocationException {
+    return _entityClient.filter(entity, filter, sortCriterion, start, count, authentication);
+  }
+
+  @Nonnull
+  @Override
+  public boolean exists(@Nonnull Urn urn, @Nonnull Authentication authentication) throws RemoteInvocationException {
+    return _entityClient.exists(urn, authentication);
+  }
+
+  @Nullable
+  @Override
+  @Deprecated
+  public VersionedAspect getAspect(@Nonnull String urn, @Nonnull String aspect, @Nonnull Long version,
+      @Nonnull Authentication authentication) throws RemoteInvocationException {
+    return _entityClient.getAspect(urn, aspect, version, authentication);
+  }
+
+  @Nullable
+  @Override
+  @Deprecated
+  public VersionedAspect getAspectOrNull(@Nonnull String urn, @Nonnull String aspect, @Nonnull Long version,
+      @Nonnull Authentication authentication) throws RemoteInvocationException {
+    return _entityClient.getAspectOrNull(urn, aspect, version, authentication);
+  }
+
+  @Override
+  public List<EnvelopedAspect> getTimeseriesAspectValues(@Nonnull String urn, @Nonnull String entity,
+      @Nonnull String aspect, @Nullable Long startTimeMillis, @Nullable Long endTimeMillis, @Nullable Integer limit,
+      @Nonnull Boolean getLatestValue, @Nullable Filter filter, @Nonnull Authentication authentication)
+      throws RemoteInvocationException {
+    return _entityClient.getTimeseriesAspectValues(urn, entity, aspect, startTimeMillis, endTimeMillis, limit,
+        getLatestValue, filter, authentication);
+  }
+
+  @Override
+  public String ingestProposal(@Nonnull MetadataChangeProposal metadataChangeProposal,
+      @Nonnull Authentication authentication, boolean async) throws RemoteInvocationException {
+    final String result = _entityClient.ingestProposal(metadataChangeProposal, authentication, async);
+    // Proposals identifying their entity by key aspect are left to the metadata change log
+    if (metadataChangeProposal.hasEntityUrn()) {
+      invalidate(Collections.singleton(metadataChangeProposal.getEntityUrn()));
+    }
+    return result;
+  }
+
+  @Override
+  public List<String> batchIngestProposals(@Nonnull Collection<MetadataChangeProposal> metadataChangeProposals,
+      @Nonnull Authentication authentication, boolean async) throws RemoteInvocationException {
+    final List<String> result = _entityClient.batchIngestProposals(metadataChangeProposals, authentication, async);
+    // Proposals identifying their entity by key aspect are left to the metadata change log
+    invalidate(metadataChangeProposals.stream()
+        .filter(MetadataChangeProposal::hasEntityUrn)
+        .map(MetadataChangeProposal::getEntityUrn)
+        .collect(Collectors.toSet()));
+    return result;
+  }
+
+  @Nonnull
+  @Override
+  @Deprecated
+  public <T extends RecordTemplate> Optional<T> getVersionedAspect(@Nonnull String urn, @Nonnull String aspect,
+      @Nonnull Long version, @Nonnull Class<T> aspectClass, @Nonnull Authentication authentication)
+      throws RemoteInvocationException {
+    return _entityClient.getVersionedAspect(urn, aspect, version, aspectClass, authentication);
+  }
+
+  @Override
+  @Deprecated
+  public DataMap getRawAspect(@Nonnull String urn, @Nonnull String aspect, @Nonnull Long version,
+      @Nonnull Authentication authentication) throws RemoteInvocationException {
+    return _entityClient.getRawAspect(urn, aspect, version, authentication);
+  }
+
+  @Override
+  public void producePlatformEvent(@Nonnull String name, @Nullable String key, @Nonnull PlatformEvent event,
+      @Nonnull Authentication authentication) throws Exception {
+    _entityClient.producePlatformEvent(name, key, event, authentication);
+  }
+
+  @Override
+  public void rollbackIngestion(@Nonnull String runId, @Nonnull Authentication authentication) throws Exception {
+    _entityClient.rollbackIngestion(runId, authentication);
+  }
+
+  private boolean isUpToDate(@Nonnull final Urn urn, @Nonnull final CachedEntityResponse cached) {
+    final Long changedAt = _changedAt.get(urn);
+    if (changedAt != null && changedAt >= cached.getFetchedAt()) {
+      return false;
+    }
+    // Checked last, so that changes forgotten in the meantime are accounted for
+    return cached.getFetchedAt() > _allChangedAt;
+  }
+
+  /**
+   * {@link EntityResponse} is mutable, so never hand out the cached instance.
+   */
+  @Nonnull
+  private static EntityResponse copy(@Nonnull final EntityResponse response) {
+    try {
+      return response.copy();
+    } catch (CloneNotSupportedException e) {
+      throw new IllegalStateException("Failed to copy entity response", e);
+    }
+  }
+
+  @Value
+  private static class CacheKey {
+    String entityName;
+    Urn urn;
+    // Null when all aspects were requested
+    Set<String> aspectNames;
+  }
+
+  @Value
+  private static class CachedEntityResponse {
+    // Null when the entity does not exist
+    EntityResponse response;
+    // Time at which the response started being fetched
+    long fetchedAt;
+  }
+}
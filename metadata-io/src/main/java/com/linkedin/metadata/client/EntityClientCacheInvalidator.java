@@ -0,0 +1,42 @@
+package com.linkedin.metadata.client;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.event.MetadataChangeLogListener;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.utils.EntityKeyUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Keeps the entities cached by a {@link CachingEntityClient} up to date by reporting every changed versioned aspect.
+ * Timeseries aspects are not served by the cache.
+ */
+@Slf4j
+public class EntityClientCacheInvalidator implements MetadataChangeLogListener {
+
+  private final CachingEntityClient _cachingEntityClient;
+  private final EntityRegistry _entityRegistry;
+
+  public EntityClientCacheInvalidator(@Nonnull final CachingEntityClient cachingEntityClient,
+      @Nonnull final EntityRegistry entityRegistry) {
+    _cachingEntityClient = cachingEntityClient;
+    _entityRegistry = entityRegistry;
+  }
+
+  @Override
+  public void onChangeLog(@Nonnull final MetadataChangeLog changeLog) {
+    final EntitySpec entitySpec = _entityRegistry.getEntitySpec(changeLog.getEntityType());
+    final AspectSpec aspectSpec =
+        changeLog.hasAspectName() ? entitySpec.getAspectSpec(changeLog.getAspectName()) : null;
+    if (aspectSpec != null && aspectSpec.isTimeseries()) {
+      return;
+    }
+    final Urn urn = EntityKeyUtils.getUrnFromLog(changeLog, entitySpec.getKeyAspectSpec());
+    log.debug("Invalidating cached entity {}, aspect {}", urn, changeLog.getAspectName());
+    _cachingEntityClient.invalidate(urn, changeLog.getAspectName());
+  }
+}
@@ -46,6 +46,8 @@ import com.linkedin.r2.RemoteInvocationException;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.net.URISyntaxException;
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -453,6 +455,38 @@ public class JavaEntityClient implements EntityClient {
         return urn.toString();
     }
 
+    /**
+     * Ingests the proposals, along with the changes they imply, through a single
+     * {@link EntityService#ingestProposals(List, AuditStamp, boolean)} call rather than one call per proposal.
+     */
+    @Override
+    public List<String> batchIngestProposals(@Nonnull final Collection<MetadataChangeProposal> metadataChangeProposals,
+        @Nonnull final Authentication authentication, final boolean async) throws RemoteInvocationException {
+        String actorUrnStr = authentication.getActor() != null ? authentication.getActor().toUrnStr() : Constants.UNKNOWN_ACTOR;
+        final AuditStamp auditStamp =
+            new AuditStamp().setTime(_clock.millis()).setActor(UrnUtils.getUrn(actorUrnStr));
+
+        // Each proposal is followed by its additional changes, the position of the proposal itself is kept
+        final List<MetadataChangeProposal> proposals = new ArrayList<>();
+        final List<Integer> proposalIndexes = new ArrayList<>(metadataChangeProposals.size());
+        for (MetadataChangeProposal metadataChangeProposal : metadataChangeProposals) {
+            final List<MetadataChangeProposal> additionalChanges =
+                AspectUtils.getAdditionalChanges(metadataChangeProposal, _entityService);
+            proposalIndexes.add(proposals.size());
+            proposals.add(metadataChangeProposal);
+            proposals.addAll(additionalChanges);
+        }
+
+        final List<EntityService.IngestProposalResult> results = _entityService.ingestProposals(proposals, auditStamp, async);
+        final List<String> urns = new ArrayList<>(proposalIndexes.size());
+        for (int index : proposalIndexes) {
+            final Urn urn = results.get(index).getUrn();
+            tryIndexRunId(urn, proposals.get(index).getSystemMetadata());
+            urns.add(urn.toString());
+        }
+        return urns;
+    }
+
     @SneakyThrows
     @Override
     public <T extends RecordTemplate> Optional<T> getVersionedAspect(@Nonnull String urn, @Nonnull String aspect,
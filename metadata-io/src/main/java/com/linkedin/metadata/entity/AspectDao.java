@@ -8,10 +8,12 @@ import io.ebean.PagedList;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.sql.Timestamp;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * An interface specifying create, update, and read operations against metadata entity aspects.
@@ -72,6 +74,14 @@ public interface AspectDao {
         @Nullable final String newSystemMetadata,
         final Long nextVersion);
 
+    /**
+     * Replaces the system metadata of the given rows, leaving their other columns untouched. Rows which were deleted or
+     * rewritten since they were read, as told by a different creation time, are skipped.
+     *
+     * @return the number of rows which were updated
+     */
+    int updateSystemMetadata(@Nonnull final List<EntityAspect> aspects);
+
     void deleteAspect(@Nonnull final EntityAspect aspect);
 
     @Nonnull
@@ -89,6 +99,14 @@ public interface AspectDao {
     @Nonnull
     PagedList<EbeanAspectV2> getPagedAspects(final RestoreIndicesArgs args);
 
+    /**
+     * Lazily streams the latest aspects matching the given args, in an order fixed by the implementation, and resuming
+     * after {@link RestoreIndicesArgs#lastUrn} / {@link RestoreIndicesArgs#lastAspect} when set. Unlike
+     * {@link #getPagedAspects(RestoreIndicesArgs)} the cost of reading a page does not grow with its position.
+     */
+    @Nonnull
+    Stream<EbeanAspectV2> streamAspects(final RestoreIndicesArgs args);
+
     int deleteUrn(@Nonnull final String urn);
 
     @Nonnull
@@ -110,6 +128,16 @@ public interface AspectDao {
 
     Map<String, Long> getNextVersions(@Nonnull final String urn, @Nonnull final Set<String> aspectNames);
 
+    /**
+     * Same as {@link #getNextVersions(String, Set)} for the given aspects of several urns, keyed by urn then aspect.
+     */
+    @Nonnull
+    default Map<String, Map<String, Long>> getNextVersions(@Nonnull final Map<String, Set<String>> urnAspects) {
+        final Map<String, Map<String, Long>> result = new HashMap<>();
+        urnAspects.forEach((urn, aspectNames) -> result.put(urn, getNextVersions(urn, aspectNames)));
+        return result;
+    }
+
     long getMaxVersion(@Nonnull final String urn, @Nonnull final String aspectName);
 
     void setWritable(boolean canWrite);
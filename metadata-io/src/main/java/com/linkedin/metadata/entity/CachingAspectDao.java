@@ -0,0 +1,272 @@
+package com.linkedin.metadata.entity;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import io.ebean.PagedList;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import static com.linkedin.metadata.Constants.ASPECT_LATEST_VERSION;
+
+
+/**
+ * An {@link AspectDao} decorator which keeps a read-through cache of latest (version 0) aspect rows in front of
+ * {@link #batchGet(Set)}, the read path used by {@link EntityService} for entity hydration.
+ *
+ * Both found and missing rows are cached, so hot entities with sparse aspects stop hitting the underlying store. The
+ * cache is bypassed entirely inside {@link #runInTransactionWithRetry(Supplier, int)} so that ingestion always
+ * reads the committed state it is about to update. Any write touching a latest row invalidates it, both immediately
+ * and again once the surrounding transaction has finished, to avoid re-caching a row a concurrent reader fetched
+ * before the commit. Staleness across GMS replicas is bounded by the expiry configured on the provided {@link Cache}.
+ */
+@Slf4j
+public class CachingAspectDao implements AspectDao {
+
+  private final AspectDao _aspectDao;
+  private final Cache _cache;
+
+  private final ThreadLocal<Integer> _transactionDepth = ThreadLocal.withInitial(() -> 0);
+  private final ThreadLocal<Set<EntityAspectIdentifier>> _pendingInvalidations = ThreadLocal.withInitial(HashSet::new);
+
+  public CachingAspectDao(@Nonnull final AspectDao aspectDao, @Nonnull final Cache cache) {
+    _aspectDao = aspectDao;
+    _cache = cache;
+  }
+
+  @Nullable
+  @Override
+  public EntityAspect getAspect(@Nonnull String urn, @Nonnull String aspectName, long version) {
+    return _aspectDao.getAspect(urn, aspectName, version);
+  }
+
+  @Nullable
+  @Override
+  public EntityAspect getAspect(@Nonnull EntityAspectIdentifier key) {
+    return _aspectDao.getAspect(key);
+  }
+
+  @Nonnull
+  @Override
+  public Map<EntityAspectIdentifier, EntityAspect> batchGet(@Nonnull Set<EntityAspectIdentifier> keys) {
+    if (isInTransaction()) {
+      return _aspectDao.batchGet(keys);
+    }
+
+    final Map<EntityAspectIdentifier, EntityAspect> result = new HashMap<>();
+    final Set<EntityAspectIdentifier> keysToFetch = new HashSet<>();
+    for (EntityAspectIdentifier key : keys) {
+      if (key.getVersion() != ASPECT_LATEST_VERSION) {
+        keysToFetch.add(key);
+        continue;
+      }
+      final Cache.ValueWrapper cached = _cache.get(key);
+      if (cached == null) {
+        keysToFetch.add(key);
+        continue;
+      }
+      if (cached.get() != null) {
+        result.put(key, copy((EntityAspect) cached.get()));
+      }
+    }
+    MetricUtils.counter(this.getClass(), "cache_hit_count").inc(keys.size() - keysToFetch.size());
+
+    if (keysToFetch.isEmpty()) {
+      return result;
+    }
+
+    final Map<EntityAspectIdentifier, EntityAspect> fetched = _aspectDao.batchGet(keysToFetch);
+    for (EntityAspectIdentifier key : keysToFetch) {
+      final EntityAspect aspect = fetched.get(key);
+      if (aspect != null) {
+        result.put(key, aspect);
+      }
+      if (key.getVersion() == ASPECT_LATEST_VERSION) {
+        MetricUtils.counter(this.getClass(), "cache_miss_count").inc();
+        _cache.put(key, aspect == null ? null : copy(aspect));
+      }
+    }
+    return result;
+  }
+
+  @Nonnull
+  @Override
+  public List<EntityAspect> getAspectsInRange(@Nonnull Urn urn, Set<String> aspectNames, long startTimeMillis,
+      long endTimeMillis) {
+    return _aspectDao.getAspectsInRange(urn, aspectNames, startTimeMillis, endTimeMillis);
+  }
+
+  @Nullable
+  @Override
+  public EntityAspect getLatestAspect(@Nonnull String urn, @Nonnull String aspectName) {
+    return _aspectDao.getLatestAspect(urn, aspectName);
+  }
+
+  @Override
+  public void saveAspect(@Nonnull String urn, @Nonnull String aspectName, @Nonnull String aspectMetadata,
+      @Nonnull String actor, @Nullable String impersonator, @Nonnull Timestamp timestamp,
+      @Nonnull String systemMetadata, long version, boolean insert) {
+    _aspectDao.saveAspect(urn, aspectName, aspectMetadata, actor, impersonator, timestamp, systemMetadata, version,
+        insert);
+    invalidate(new EntityAspectIdentifier(urn, aspectName, version));
+  }
+
+  @Override
+  public void saveAspect(@Nonnull EntityAspect aspect, boolean insert) {
+    _aspectDao.saveAspect(aspect, insert);
+    invalidate(aspect.toAspectIdentifier());
+  }
+
+  @Override
+  public long saveLatestAspect(@Nonnull String urn, @Nonnull String aspectName, @Nullable String oldAspectMetadata,
+      @Nullable String oldActor, @Nullable String oldImpersonator, @Nullable Timestamp oldTime,
+      @Nullable String oldSystemMetadata, @Nonnull String newAspectMetadata, @Nonnull String newActor,
+      @Nullable String newImpersonator, @Nonnull Timestamp newTime, @Nullable String newSystemMetadata,
+      Long nextVersion) {
+    final long result = _aspectDao.saveLatestAspect(urn, aspectName, oldAspectMetadata, oldActor, oldImpersonator,
+        oldTime, oldSystemMetadata, newAspectMetadata, newActor, newImpersonator, newTime, newSystemMetadata,
+        nextVersion);
+    invalidate(new EntityAspectIdentifier(urn, aspectName, ASPECT_LATEST_VERSION));
+    return result;
+  }
+
+  @Override
+  public int updateSystemMetadata(@Nonnull List<EntityAspect> aspects) {
+    final int result = _aspectDao.updateSystemMetadata(aspects);
+    aspects.forEach(aspect -> invalidate(aspect.toAspectIdentifier()));
+    return result;
+  }
+
+  @Override
+  public void deleteAspect(@Nonnull EntityAspect aspect) {
+    _aspectDao.deleteAspect(aspect);
+    invalidate(aspect.toAspectIdentifier());
+  }
+
+  @Nonnull
+  @Override
+  public ListResult<String> listUrns(@Nonnull String entityName, @Nonnull String aspectName, int start,
+      int pageSize) {
+    return _aspectDao.listUrns(entityName, aspectName, start, pageSize);
+  }
+
+  @Nonnull
+  @Override
+  public Integer countAspect(@Nonnull String aspectName, @Nullable String urnLike) {
+    return _aspectDao.countAspect(aspectName, urnLike);
+  }
+
+  @Nonnull
+  @Override
+  public PagedList<EbeanAspectV2> getPagedAspects(RestoreIndicesArgs args) {
+    return _aspectDao.getPagedAspects(args);
+  }
+
+  @Nonnull
+  @Override
+  public Stream<EbeanAspectV2> streamAspects(RestoreIndicesArgs args) {
+    return _aspectDao.streamAspects(args);
+  }
+
+  @Override
+  public int deleteUrn(@Nonnull String urn) {
+    final int result = _aspectDao.deleteUrn(urn);
+    // Rows are keyed by aspect, so we cannot target a single urn. Hard deletes are rare enough to clear everything.
+    MetricUtils.counter(this.getClass(), "cache_clear_count").inc();
+    _cache.clear();
+    return result;
+  }
+
+  @Nonnull
+  @Override
+  public ListResult<String> listLatestAspectMetadata(@Nonnull String entityName, @Nonnull String aspectName,
+      int start, int pageSize) {
+    return _aspectDao.listLatestAspectMetadata(entityName, aspectName, start, pageSize);
+  }
+
+  @Nonnull
+  @Override
+  public ListResult<String> listAspectMetadata(@Nonnull String entityName, @Nonnull String aspectName, long version,
+      int start, int pageSize) {
+    return _aspectDao.listAspectMetadata(entityName, aspectName, version, start, pageSize);
+  }
+
+  @Override
+  public long getNextVersion(@Nonnull String urn, @Nonnull String aspectName) {
+    return _aspectDao.getNextVersion(urn, aspectName);
+  }
+
+  @Override
+  public Map<String, Long> getNextVersions(@Nonnull String urn, @Nonnull Set<String> aspectNames) {
+    return _aspectDao.getNextVersions(urn, aspectNames);
+  }
+
+  @Nonnull
+  @Override
+  public Map<String, Map<String, Long>> getNextVersions(@Nonnull Map<String, Set<String>> urnAspects) {
+    return _aspectDao.getNextVersions(urnAspects);
+  }
+
+  @Override
+  public long getMaxVersion(@Nonnull String urn, @Nonnull String aspectName) {
+    return _aspectDao.getMaxVersion(urn, aspectName);
+  }
+
+  @Override
+  public void setWritable(boolean canWrite) {
+    _aspectDao.setWritable(canWrite);
+  }
+
+  @Nonnull
+  @Override
+  public <T> T runInTransactionWithRetry(@Nonnull Supplier<T> block, int maxTransactionRetry) {
+    _transactionDepth.set(_transactionDepth.get() + 1);
+    try {
+      return _aspectDao.runInTransactionWithRetry(block, maxTransactionRetry);
+    } finally {
+      final int depth = _transactionDepth.get() - 1;
+      _transactionDepth.set(depth);
+      if (depth == 0) {
+        // Invalidate again now that the transaction has committed (or failed).
+        final Set<EntityAspectIdentifier> pending = _pendingInvalidations.get();
+        pending.forEach(_cache::evict);
+        pending.clear();
+      }
+    }
+  }
+
+  private boolean isInTransaction() {
+    return _transactionDepth.get() > 0;
+  }
+
+  private void invalidate(@Nonnull final EntityAspectIdentifier key) {
+    if (key.getVersion() != ASPECT_LATEST_VERSION) {
+      return;
+    }
+    MetricUtils.counter(this.getClass(), "cache_invalidation_count").inc();
+    _cache.evict(key);
+    if (isInTransaction()) {
+      _pendingInvalidations.get().add(key);
+    }
+  }
+
+  /**
+   * {@link EntityAspect} is mutable and callers update the rows they read, so never hand out the cached instance.
+   */
+  @Nonnull
+  private static EntityAspect copy(@Nonnull final EntityAspect aspect) {
+    return new EntityAspect(aspect.getUrn(), aspect.getAspect(), aspect.getVersion(), aspect.getMetadata(),
+        aspect.getSystemMetadata(), aspect.getCreatedOn(), aspect.getCreatedBy(), aspect.getCreatedFor());
+  }
+}
@@ -1,5 +1,6 @@
 package com.linkedin.metadata.entity;
 
+import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
 import com.datahub.util.RecordUtils;
 import com.datahub.util.exception.ModelConversionException;
@@ -12,7 +13,9 @@ import com.github.fge.jsonpatch.Patch;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Streams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.BrowsePaths;
 import com.linkedin.common.Status;
@@ -47,6 +50,7 @@ import com.linkedin.metadata.entity.validation.EntityRegistryUrnValidator;
 import com.linkedin.metadata.entity.validation.RecordTemplateValidator;
 import com.linkedin.metadata.entity.validation.ValidationUtils;
 import com.linkedin.metadata.event.EventProducer;
+import com.linkedin.metadata.event.MetadataChangeLogListener;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
 import com.linkedin.metadata.models.registry.EntityRegistry;
@@ -77,14 +81,19 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import io.ebean.PagedList;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
@@ -149,18 +158,58 @@ public class EntityService {
     boolean didUpdate;
   }
 
+  /**
+   * An upsert of a versioned aspect of an urn, written along with others by
+   * {@link #ingestAspectsToLocalDB(List, AuditStamp)}.
+   */
+  @Value
+  public static class AspectUpsert {
+    Urn urn;
+    String aspectName;
+    RecordTemplate aspect;
+    SystemMetadata systemMetadata;
+  }
+
+  /**
+   * An upsert waiting to be written along with others by {@link #ingestProposals(List, AuditStamp, boolean)}.
+   */
+  @Value
+  private static class PendingUpsert {
+    int index;
+    MetadataChangeProposal mcp;
+    AspectSpec aspectSpec;
+    AspectUpsert upsert;
+  }
+
+  /**
+   * The aspects of an entity waiting to be written along with others by
+   * {@link #ingestEntities(List, AuditStamp, List)}.
+   */
+  @Value
+  private static class PendingEntity {
+    Urn urn;
+    List<Pair<String, RecordTemplate>> aspects;
+    SystemMetadata systemMetadata;
+  }
+
   private static final int DEFAULT_MAX_TRANSACTION_RETRY = 3;
+  // Upserts written per transaction by ingestProposals and ingestEntities
+  private static final int INGEST_PROPOSALS_CHUNK_SIZE = 100;
 
   protected final AspectDao _aspectDao;
   private final EventProducer _producer;
   private final EntityRegistry _entityRegistry;
   private final Map<String, Set<String>> _entityToValidAspects;
   private RetentionService _retentionService;
+  private LastObservedWriteBuffer _lastObservedWriteBuffer;
+  private final List<MetadataChangeLogListener> _changeLogListeners = new CopyOnWriteArrayList<>();
   private final Boolean _alwaysEmitAuditEvent = false;
   public static final String DEFAULT_RUN_ID = "no-run-id-provided";
   public static final String BROWSE_PATHS = "browsePaths";
   public static final String DATA_PLATFORM_INSTANCE = "dataPlatformInstance";
   protected static final int MAX_KEYS_PER_QUERY = 500;
+  private int _restoreIndicesParallelism = 1;
+  private ExecutorService _restoreIndicesExecutor;
 
   public EntityService(
       @Nonnull final AspectDao aspectDao,
@@ -896,6 +945,164 @@ private Map<Urn, List<EnvelopedAspect>> getCorrespondingAspects(Set<EntityAspect
     return new IngestProposalResult(entityUrn, didUpdate);
   }
 
+  /**
+   * Ingests a batch of {@link MetadataChangeProposal}s, which may span many urns, with the same outcome as calling
+   * {@link #ingestProposal(MetadataChangeProposal, AuditStamp, boolean)} on each of them in order.
+   *
+   * Upserts of versioned aspects are written in chunks, each in a single transaction which reads the latest values and
+   * next versions of all of its aspects at once, then issues its writes as a JDBC batch. Change logs are produced once
+   * the chunk has been committed. A chunk never holds two upserts of the same aspect of the same urn. Patches, timeseries
+   * aspects and asynchronous proposals are ingested one by one.
+   *
+   * As when ingesting one by one, an invalid proposal fails the call once all the proposals before it were written. A
+   * chunk which fails to be written is retried one proposal at a time, so that only the failing proposal and the ones
+   * after it are not written.
+   *
+   * @param mcps the proposals to ingest
+   * @param auditStamp an audit stamp representing the time and actor proposing the changes
+   * @param async a flag to control whether we commit to primary store or just write to proposal log before returning
+   * @return the {@link IngestProposalResult} of each proposal, in order
+   */
+  @Nonnull
+  public List<IngestProposalResult> ingestProposals(@Nonnull final List<MetadataChangeProposal> mcps,
+      @Nonnull final AuditStamp auditStamp, final boolean async) {
+    final IngestProposalResult[] results = new IngestProposalResult[mcps.size()];
+    final List<PendingUpsert> pendingUpserts = new ArrayList<>();
+    final Set<EntityAspectIdentifier> pendingKeys = new HashSet<>();
+
+    for (int index = 0; index < mcps.size(); index++) {
+      final MetadataChangeProposal mcp = mcps.get(index);
+      final PendingUpsert pendingUpsert;
+      try {
+        pendingUpsert = toPendingUpsert(index, mcp, async);
+      } catch (RuntimeException e) {
+        // Proposals accepted before the invalid one are written, as they would have been one by one
+        ingestUpserts(pendingUpserts, pendingKeys, auditStamp, results);
+        throw e;
+      }
+      if (pendingUpsert == null) {
+        // Keep the order of writes, and of change logs, of the whole batch
+        ingestUpserts(pendingUpserts, pendingKeys, auditStamp, results);
+        results[index] = ingestProposal(mcp, auditStamp, async);
+        continue;
+      }
+
+      final EntityAspectIdentifier key = new EntityAspectIdentifier(pendingUpsert.getUpsert().getUrn().toString(),
+          pendingUpsert.getAspectSpec().getName(), ASPECT_LATEST_VERSION);
+      if (pendingKeys.contains(key) || pendingUpserts.size() >= INGEST_PROPOSALS_CHUNK_SIZE) {
+        ingestUpserts(pendingUpserts, pendingKeys, auditStamp, results);
+      }
+      pendingUpserts.add(pendingUpsert);
+      pendingKeys.add(key);
+    }
+    ingestUpserts(pendingUpserts, pendingKeys, auditStamp, results);
+    return Arrays.asList(results);
+  }
+
+  /**
+   * Validates the proposal and converts it into an upsert to be written along with others, or returns null if it must
+   * be ingested on its own.
+   */
+  @Nullable
+  private PendingUpsert toPendingUpsert(final int index, @Nonnull final MetadataChangeProposal mcp,
+      final boolean async) {
+    final EntitySpec entitySpec = getEntityRegistry().getEntitySpec(mcp.getEntityType());
+    final AspectSpec aspectSpec = validateAspect(mcp, entitySpec);
+    if (async || aspectSpec.isTimeseries() || !ChangeType.UPSERT.equals(mcp.getChangeType())) {
+      return null;
+    }
+
+    final Urn entityUrn = EntityKeyUtils.getUrnFromProposal(mcp, entitySpec.getKeyAspectSpec());
+    final SystemMetadata systemMetadata = generateSystemMetadataIfEmpty(mcp.getSystemMetadata());
+    systemMetadata.setRegistryName(aspectSpec.getRegistryName());
+    systemMetadata.setRegistryVersion(aspectSpec.getRegistryVersion().toString());
+    final RecordTemplate aspect = convertToRecordTemplate(mcp, aspectSpec);
+    validateUrn(entityUrn);
+    validateAspect(entityUrn, aspect);
+    return new PendingUpsert(index, mcp, aspectSpec,
+        new AspectUpsert(entityUrn, aspectSpec.getName(), aspect, systemMetadata));
+  }
+
+  /**
+   * Writes the pending upserts in a single transaction, then produces their change logs and clears them. If the
+   * transaction fails, the upserts are ingested one by one instead.
+   */
+  private void ingestUpserts(@Nonnull final List<PendingUpsert> pendingUpserts,
+      @Nonnull final Set<EntityAspectIdentifier> pendingKeys, @Nonnull final AuditStamp auditStamp,
+      @Nonnull final IngestProposalResult[] results) {
+    if (pendingUpserts.isEmpty()) {
+      return;
+    }
+    final List<PendingUpsert> upserts = new ArrayList<>(pendingUpserts);
+    pendingUpserts.clear();
+    pendingKeys.clear();
+    MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "ingestProposalsChunkSize"))
+        .update(upserts.size());
+
+    final List<UpdateAspectResult> updateResults;
+    Timer.Context ingestToLocalDBTimer = MetricUtils.timer(this.getClass(), "ingestProposalsToLocalDB").time();
+    try {
+      updateResults = ingestAspectsToLocalDB(
+          upserts.stream().map(PendingUpsert::getUpsert).collect(Collectors.toList()), auditStamp);
+    } catch (RuntimeException e) {
+      log.warn("Failed to write a chunk of {} upserts at once, writing them one by one", upserts.size(), e);
+      MetricUtils.counter(this.getClass(), "ingestProposalsChunkFailure").inc();
+      for (PendingUpsert pending : upserts) {
+        results[pending.getIndex()] = ingestProposal(pending.getMcp(), auditStamp, false);
+      }
+      return;
+    } finally {
+      ingestToLocalDBTimer.stop();
+    }
+
+    for (int i = 0; i < upserts.size(); i++) {
+      final PendingUpsert pending = upserts.get(i);
+      final Urn urn = pending.getUpsert().getUrn();
+      final UpdateAspectResult result = updateResults.get(i);
+      // Apply retention policies asynchronously if there was an update to existing aspect value
+      if (result.getOldValue() != result.getNewValue() && result.getOldValue() != null && _retentionService != null) {
+        _retentionService.applyRetention(urn, pending.getAspectSpec().getName(),
+            Optional.of(new RetentionService.RetentionContext(Optional.of(result.maxVersion))));
+      }
+      final boolean didUpdate = emitChangeLog(result.getOldValue(), result.getOldSystemMetadata(),
+          result.getNewValue(), result.getNewSystemMetadata(), pending.getMcp(), urn, auditStamp,
+          pending.getAspectSpec());
+      results[pending.getIndex()] = new IngestProposalResult(urn, didUpdate);
+    }
+  }
+
+  /**
+   * Writes upserts of aspects of any number of urns in a single transaction. The latest values and next versions of all
+   * of the aspects are read at once. No two upserts may target the same aspect of the same urn.
+   *
+   * @return the {@link UpdateAspectResult} of each upsert, in order
+   */
+  @Nonnull
+  protected List<UpdateAspectResult> ingestAspectsToLocalDB(@Nonnull final List<AspectUpsert> upserts,
+      @Nonnull final AuditStamp auditStamp) {
+    final Set<EntityAspectIdentifier> keys = new HashSet<>();
+    final Map<String, Set<String>> urnAspects = new HashMap<>();
+    for (AspectUpsert upsert : upserts) {
+      keys.add(new EntityAspectIdentifier(upsert.getUrn().toString(), upsert.getAspectName(), ASPECT_LATEST_VERSION));
+      urnAspects.computeIfAbsent(upsert.getUrn().toString(), urn -> new HashSet<>()).add(upsert.getAspectName());
+    }
+
+    return _aspectDao.runInTransactionWithRetry(() -> {
+      final Map<EntityAspectIdentifier, EntityAspect> latestAspects = _aspectDao.batchGet(keys);
+      final Map<String, Map<String, Long>> nextVersions = _aspectDao.getNextVersions(urnAspects);
+
+      final List<UpdateAspectResult> results = new ArrayList<>(upserts.size());
+      for (AspectUpsert upsert : upserts) {
+        final String urnStr = upsert.getUrn().toString();
+        results.add(ingestAspectToLocalDBNoTransaction(upsert.getUrn(), upsert.getAspectName(),
+            ignored -> upsert.getAspect(), auditStamp, upsert.getSystemMetadata(),
+            latestAspects.get(new EntityAspectIdentifier(urnStr, upsert.getAspectName(), ASPECT_LATEST_VERSION)),
+            nextVersions.get(urnStr).get(upsert.getAspectName())));
+      }
+      return results;
+    }, DEFAULT_MAX_TRANSACTION_RETRY);
+  }
+
   private AspectSpec validateAspect(MetadataChangeProposal mcp, EntitySpec entitySpec) {
     if (!mcp.hasAspectName() || !mcp.hasAspect()) {
       throw new UnsupportedOperationException("Aspect and aspect name is required for create and update operations");
@@ -1061,92 +1268,203 @@ private Map<Urn, List<EnvelopedAspect>> getCorrespondingAspects(Set<EntityAspect
     return _aspectDao.countAspect(aspectName, urnLike);
   }
 
+  /**
+   * Restates a single batch of latest aspects. When {@link RestoreIndicesArgs#start} is set without a keyset cursor the
+   * batch is read by offset, for compatibility with existing callers; otherwise it is read after
+   * ({@link RestoreIndicesArgs#lastUrn}, {@link RestoreIndicesArgs#lastAspect}), and the returned result carries the
+   * cursor to resume from.
+   */
   @Nonnull
   public RestoreIndicesResult restoreIndices(@Nonnull RestoreIndicesArgs args, @Nonnull Consumer<String> logger) {
-    RestoreIndicesResult result = new RestoreIndicesResult();
-    int ignored = 0;
-    int rowsMigrated = 0;
     logger.accept(String.format("Args are %s", args));
-    logger.accept(String.format(
-            "Reading rows %s through %s from the aspects table started.", args.start, args.start + args.batchSize));
+    final List<EbeanAspectV2> rows;
     long startTime = System.currentTimeMillis();
-    PagedList<EbeanAspectV2> rows = _aspectDao.getPagedAspects(args);
-    result.timeSqlQueryMs = System.currentTimeMillis() - startTime;
-    startTime = System.currentTimeMillis();
-    logger.accept(String.format(
-            "Reading rows %s through %s from the aspects table completed.", args.start, args.start + args.batchSize));
-
-    for (EbeanAspectV2 aspect : rows.getList()) {
-      // 1. Extract an Entity type from the entity Urn
-      result.timeGetRowMs = System.currentTimeMillis() - startTime;
-      startTime = System.currentTimeMillis();
-      Urn urn;
-      try {
-        urn = Urn.createFromString(aspect.getKey().getUrn());
-      } catch (Exception e) {
-        logger.accept(String.format("Failed to bind Urn with value %s into Urn object: %s. Ignoring row.",
-                aspect.getKey().getUrn(), e));
-        ignored = ignored + 1;
-        continue;
+    if (args.start > 0 && args.lastUrn == null) {
+      logger.accept(String.format(
+              "Reading rows %s through %s from the aspects table started.", args.start, args.start + args.batchSize));
+      rows = _aspectDao.getPagedAspects(args).getList();
+    } else {
+      logger.accept(String.format("Reading %s rows after (%s, %s) from the aspects table started.", args.batchSize,
+              args.lastUrn, args.lastAspect));
+      try (Stream<EbeanAspectV2> stream = _aspectDao.streamAspects(args)) {
+        rows = stream.limit(args.batchSize).collect(Collectors.toList());
       }
-      result.timeUrnMs += System.currentTimeMillis() - startTime;
-      startTime = System.currentTimeMillis();
+    }
+    final long timeSqlQueryMs = System.currentTimeMillis() - startTime;
+    logger.accept(String.format("Reading %s rows from the aspects table completed.", rows.size()));
 
-      // 2. Verify that the entity associated with the aspect is found in the registry.
-      final String entityName = urn.getEntityType();
-      final EntitySpec entitySpec;
-      try {
-        entitySpec = _entityRegistry.getEntitySpec(entityName);
-      } catch (Exception e) {
-        logger.accept(String.format("Failed to find entity with name %s in Entity Registry: %s. Ignoring row.",
-                entityName, e));
-        ignored = ignored + 1;
-        continue;
-      }
-      result.timeEntityRegistryCheckMs += System.currentTimeMillis() - startTime;
-      startTime = System.currentTimeMillis();
-      final String aspectName = aspect.getKey().getAspect();
+    RestoreIndicesResult result = restoreIndices(rows, logger);
+    result.timeSqlQueryMs = timeSqlQueryMs;
+    startTime = System.currentTimeMillis();
+    flushChangeLogs();
+    result.timeSendMessageMs += System.currentTimeMillis() - startTime;
+    return result;
+  }
 
-      // 3. Verify that the aspect is a valid aspect associated with the entity
-      AspectSpec aspectSpec = entitySpec.getAspectSpec(aspectName);
-      if (aspectSpec == null) {
-        logger.accept(String.format("Failed to find aspect with name %s associated with entity named %s", aspectName,
-                entityName));
-        ignored = ignored + 1;
-        continue;
-      }
-      result.aspectCheckMs += System.currentTimeMillis() - startTime;
-      startTime = System.currentTimeMillis();
+  /**
+   * Lazily streams the latest aspects matching the given args, in a stable order. See
+   * {@link AspectDao#streamAspects(RestoreIndicesArgs)}.
+   */
+  @Nonnull
+  public Stream<EbeanAspectV2> streamAspects(@Nonnull RestoreIndicesArgs args) {
+    return _aspectDao.streamAspects(args);
+  }
 
-      // 4. Create record from json aspect
-      final RecordTemplate aspectRecord;
-      try {
-        aspectRecord = EntityUtils.toAspectRecord(entityName, aspectName, aspect.getMetadata(), _entityRegistry);
-      } catch (Exception e) {
-        logger.accept(String.format("Failed to deserialize row %s for entity %s, aspect %s: %s. Ignoring row.",
-                aspect.getMetadata(), entityName, aspectName, e));
-        ignored = ignored + 1;
+  /**
+   * Produces RESTATE change logs for the given rows, which are usually read through
+   * {@link #streamAspects(RestoreIndicesArgs)}.
+   *
+   * Rows are restored in two stages. First they are parsed and deserialized, in parallel when
+   * {@link #setRestoreIndicesParallelism(int)} allows it. Then all of their change logs are handed to the producer
+   * without waiting on each send. Callers restoring several batches wait for delivery once, through
+   * {@link #flushChangeLogs()}, after the last batch.
+   */
+  @Nonnull
+  public RestoreIndicesResult restoreIndices(@Nonnull List<EbeanAspectV2> rows, @Nonnull Consumer<String> logger) {
+    RestoreIndicesResult result = new RestoreIndicesResult();
+    result.rowsRead = rows.size();
+    if (rows.isEmpty()) {
+      return result;
+    }
+    final EbeanAspectV2.PrimaryKey lastKey = rows.get(rows.size() - 1).getKey();
+    result.lastUrn = lastKey.getUrn();
+    result.lastAspect = lastKey.getAspect();
+
+    // 1. Parse urns, check them against the registry and deserialize the aspects
+    long startTime = System.currentTimeMillis();
+    final List<RestoreIndicesRow> parsedRows = parseRestoreIndicesRows(rows);
+    result.timeDeserializeMs = System.currentTimeMillis() - startTime;
+
+    // 2. Produce MCL events for the aspect records without waiting for their delivery
+    startTime = System.currentTimeMillis();
+    final AuditStamp auditStamp =
+        new AuditStamp().setActor(UrnUtils.getUrn(SYSTEM_ACTOR)).setTime(System.currentTimeMillis());
+    for (RestoreIndicesRow row : parsedRows) {
+      if (row.getError() != null) {
+        logger.accept(row.getError());
+        result.ignored++;
         continue;
       }
-      result.createRecordMs += System.currentTimeMillis() - startTime;
-      startTime = System.currentTimeMillis();
+      result.rowsDeserialized++;
+      produceMetadataChangeLog(row.getUrn(), row.getUrn().getEntityType(), row.getAspectSpec().getName(),
+          row.getAspectSpec(), null, row.getAspectRecord(), null, row.getSystemMetadata(), auditStamp,
+          ChangeType.RESTATE);
+      result.rowsSent++;
+    }
+    result.timeSendMessageMs = System.currentTimeMillis() - startTime;
+    result.rowsMigrated = (int) result.rowsSent;
+    return result;
+  }
 
-      SystemMetadata latestSystemMetadata = EntityUtils.parseSystemMetadata(aspect.getSystemMetadata());
+  /**
+   * Blocks until every change log produced so far has been sent.
+   */
+  public void flushChangeLogs() {
+    _producer.flush();
+  }
 
-      // 5. Produce MAE events for the aspect record
-      produceMetadataChangeLog(urn, entityName, aspectName, aspectSpec, null, aspectRecord, null,
-              latestSystemMetadata,
-              new AuditStamp().setActor(UrnUtils.getUrn(SYSTEM_ACTOR)).setTime(System.currentTimeMillis()),
-              ChangeType.RESTATE);
-      result.sendMessageMs += System.currentTimeMillis() - startTime;
+  /**
+   * Controls how many threads deserialize rows during {@link #restoreIndices(List, Consumer)}. A value of 1 or less
+   * keeps deserialization on the calling thread.
+   */
+  public void setRestoreIndicesParallelism(int parallelism) {
+    if (_restoreIndicesExecutor != null) {
+      _restoreIndicesExecutor.shutdown();
+    }
+    _restoreIndicesParallelism = parallelism;
+    _restoreIndicesExecutor = parallelism > 1
+        ? Executors.newFixedThreadPool(parallelism,
+            new ThreadFactoryBuilder().setNameFormat("restore-indices-%d").setDaemon(true).build())
+        : null;
+  }
+
+  @Nonnull
+  private List<RestoreIndicesRow> parseRestoreIndicesRows(@Nonnull List<EbeanAspectV2> rows) {
+    final ExecutorService executor = _restoreIndicesExecutor;
+    if (executor == null || rows.size() < 2) {
+      return rows.stream().map(this::parseRestoreIndicesRow).collect(Collectors.toList());
+    }
 
-      rowsMigrated++;
+    // Split into one contiguous chunk per thread so that results can simply be concatenated in row order
+    final int chunkSize = (rows.size() + _restoreIndicesParallelism - 1) / _restoreIndicesParallelism;
+    final List<Future<List<RestoreIndicesRow>>> futures = new ArrayList<>();
+    for (List<EbeanAspectV2> chunk : Lists.partition(rows, chunkSize)) {
+      futures.add(executor.submit(() -> chunk.stream().map(this::parseRestoreIndicesRow).collect(Collectors.toList())));
+    }
+    final List<RestoreIndicesRow> result = new ArrayList<>(rows.size());
+    try {
+      for (Future<List<RestoreIndicesRow>> future : futures) {
+        result.addAll(future.get());
+      }
+    } catch (InterruptedException e) {
+      futures.forEach(future -> future.cancel(true));
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while deserializing rows to restore", e);
+    } catch (ExecutionException e) {
+      throw new RuntimeException("Failed to deserialize rows to restore", e.getCause());
     }
-    result.ignored = ignored;
-    result.rowsMigrated = rowsMigrated;
     return result;
   }
 
+  @Nonnull
+  private RestoreIndicesRow parseRestoreIndicesRow(@Nonnull EbeanAspectV2 aspect) {
+    // 1. Extract an Entity type from the entity Urn
+    final Urn urn;
+    try {
+      urn = Urn.createFromString(aspect.getKey().getUrn());
+    } catch (Exception e) {
+      return RestoreIndicesRow.ignored(String.format("Failed to bind Urn with value %s into Urn object: %s. Ignoring row.",
+          aspect.getKey().getUrn(), e));
+    }
+
+    // 2. Verify that the entity associated with the aspect is found in the registry.
+    final String entityName = urn.getEntityType();
+    final EntitySpec entitySpec;
+    try {
+      entitySpec = _entityRegistry.getEntitySpec(entityName);
+    } catch (Exception e) {
+      return RestoreIndicesRow.ignored(String.format(
+          "Failed to find entity with name %s in Entity Registry: %s. Ignoring row.", entityName, e));
+    }
+    final String aspectName = aspect.getKey().getAspect();
+
+    // 3. Verify that the aspect is a valid aspect associated with the entity
+    final AspectSpec aspectSpec = entitySpec.getAspectSpec(aspectName);
+    if (aspectSpec == null) {
+      return RestoreIndicesRow.ignored(String.format(
+          "Failed to find aspect with name %s associated with entity named %s", aspectName, entityName));
+    }
+
+    // 4. Create record from json aspect
+    final RecordTemplate aspectRecord;
+    try {
+      aspectRecord = EntityUtils.toAspectRecord(entityName, aspectName, aspect.getMetadata(), _entityRegistry);
+    } catch (Exception e) {
+      return RestoreIndicesRow.ignored(String.format(
+          "Failed to deserialize row %s for entity %s, aspect %s: %s. Ignoring row.", aspect.getMetadata(),
+          entityName, aspectName, e));
+    }
+
+    return new RestoreIndicesRow(urn, aspectSpec, aspectRecord,
+        EntityUtils.parseSystemMetadata(aspect.getSystemMetadata()), null);
+  }
+
+  /**
+   * A row read for {@link #restoreIndices(List, Consumer)}, either deserialized or carrying the reason it is ignored.
+   */
+  @Value
+  private static class RestoreIndicesRow {
+    Urn urn;
+    AspectSpec aspectSpec;
+    RecordTemplate aspectRecord;
+    SystemMetadata systemMetadata;
+    String error;
+
+    static RestoreIndicesRow ignored(@Nonnull String error) {
+      return new RestoreIndicesRow(null, null, null, null, error);
+    }
+  }
+
   /**
    * Updates a particular version of an aspect & optionally emits a {@link com.linkedin.mxe.MetadataAuditEvent}.
    *
@@ -1282,6 +1600,15 @@ private Map<Urn, List<EnvelopedAspect>> getCorrespondingAspects(Set<EntityAspect
   public void produceMetadataChangeLog(@Nonnull final Urn urn, AspectSpec aspectSpec,
       @Nonnull final MetadataChangeLog metadataChangeLog) {
     _producer.produceMetadataChangeLog(urn, aspectSpec, metadataChangeLog);
+    for (MetadataChangeLogListener listener : _changeLogListeners) {
+      try {
+        listener.onChangeLog(metadataChangeLog);
+      } catch (Exception e) {
+        // The change is committed already, listeners must not fail it
+        log.error("Listener {} failed to process the change of urn {}, aspect {}", listener.getClass().getSimpleName(),
+            urn, metadataChangeLog.getAspectName(), e);
+      }
+    }
   }
 
   public void produceMetadataChangeLog(@Nonnull final Urn urn, @Nonnull String entityName, @Nonnull String aspectName,
@@ -1314,11 +1641,110 @@ private Map<Urn, List<EnvelopedAspect>> getCorrespondingAspects(Set<EntityAspect
     return getAspect(urn, aspectName, ASPECT_LATEST_VERSION);
   }
 
+  /**
+   * Ingests entities with the same outcome as calling {@link #ingestEntity(Entity, AuditStamp, SystemMetadata)} on each
+   * of them in order.
+   *
+   * The aspects of consecutive entities are written in chunks, each in a single transaction, as done by
+   * {@link #ingestProposals(List, AuditStamp, boolean)}. All the aspects of an entity are always written in the same
+   * chunk, and a chunk never holds two entities with the same urn. An invalid entity fails the call once all the
+   * entities before it were written, and a chunk which fails to be written is retried one entity at a time.
+   */
   public void ingestEntities(@Nonnull final List<Entity> entities, @Nonnull final AuditStamp auditStamp,
       @Nonnull final List<SystemMetadata> systemMetadata) {
     log.debug("Invoked ingestEntities with entities {}, audit stamp {}", entities, auditStamp);
-    Streams.zip(entities.stream(), systemMetadata.stream(), (a, b) -> new Pair<Entity, SystemMetadata>(a, b))
-        .forEach(pair -> ingestEntity(pair.getFirst(), auditStamp, pair.getSecond()));
+    final List<PendingEntity> pendingEntities = new ArrayList<>();
+    final Set<Urn> pendingUrns = new HashSet<>();
+    int pendingAspectCount = 0;
+
+    for (Pair<Entity, SystemMetadata> pair : Streams.zip(entities.stream(), systemMetadata.stream(), Pair::new)
+        .collect(Collectors.toList())) {
+      final RecordTemplate snapshotRecord = RecordUtils.getSelectedRecordTemplateFromUnion(pair.getFirst().getValue());
+      final Urn urn = com.datahub.util.ModelUtils.getUrnFromSnapshot(snapshotRecord);
+      if (pendingUrns.contains(urn)) {
+        // Default aspects of the entity are generated from the aspects written before it
+        ingestPendingEntities(pendingEntities, pendingUrns, auditStamp);
+        pendingAspectCount = 0;
+      }
+
+      final PendingEntity pendingEntity;
+      try {
+        pendingEntity = toPendingEntity(urn, snapshotRecord, pair.getSecond());
+      } catch (RuntimeException e) {
+        // Entities accepted before the invalid one are written, as they would have been one by one
+        ingestPendingEntities(pendingEntities, pendingUrns, auditStamp);
+        throw e;
+      }
+      if (pendingAspectCount > 0
+          && pendingAspectCount + pendingEntity.getAspects().size() > INGEST_PROPOSALS_CHUNK_SIZE) {
+        ingestPendingEntities(pendingEntities, pendingUrns, auditStamp);
+        pendingAspectCount = 0;
+      }
+      pendingEntities.add(pendingEntity);
+      pendingUrns.add(urn);
+      pendingAspectCount += pendingEntity.getAspects().size();
+    }
+    ingestPendingEntities(pendingEntities, pendingUrns, auditStamp);
+  }
+
+  /**
+   * Validates the aspects of the snapshot, along with the default aspects it is missing, to be written along with the
+   * aspects of other entities.
+   */
+  @Nonnull
+  private PendingEntity toPendingEntity(@Nonnull final Urn urn, @Nonnull final RecordTemplate snapshotRecord,
+      @Nullable final SystemMetadata systemMetadata) {
+    final SystemMetadata internalSystemMetadata = generateSystemMetadataIfEmpty(systemMetadata);
+    final List<Pair<String, RecordTemplate>> aspectRecordsToIngest =
+        NewModelUtils.getAspectsFromSnapshot(snapshotRecord);
+
+    log.info("INGEST urn {} with system metadata {}", urn.toString(), internalSystemMetadata.toString());
+    aspectRecordsToIngest.addAll(generateDefaultAspectsIfMissing(urn,
+        aspectRecordsToIngest.stream().map(pair -> pair.getFirst()).collect(Collectors.toSet())));
+
+    validateUrn(urn);
+    aspectRecordsToIngest.forEach(pair -> validateAspect(urn, pair.getSecond()));
+    return new PendingEntity(urn, aspectRecordsToIngest, internalSystemMetadata);
+  }
+
+  /**
+   * Writes the aspects of the pending entities in a single transaction, then produces their events and clears them. If
+   * the transaction fails, the entities are written one by one instead.
+   */
+  private void ingestPendingEntities(@Nonnull final List<PendingEntity> pendingEntities,
+      @Nonnull final Set<Urn> pendingUrns, @Nonnull final AuditStamp auditStamp) {
+    if (pendingEntities.isEmpty()) {
+      return;
+    }
+    final List<PendingEntity> chunk = new ArrayList<>(pendingEntities);
+    pendingEntities.clear();
+    pendingUrns.clear();
+
+    final List<AspectUpsert> upserts = chunk.stream()
+        .flatMap(pending -> pending.getAspects().stream().map(aspect -> new AspectUpsert(pending.getUrn(),
+            aspect.getFirst(), aspect.getSecond(), pending.getSystemMetadata())))
+        .collect(Collectors.toList());
+    MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "ingestEntitiesChunkSize"))
+        .update(upserts.size());
+
+    final List<UpdateAspectResult> updateResults;
+    Timer.Context ingestToLocalDBTimer = MetricUtils.timer(this.getClass(), "ingestEntitiesToLocalDB").time();
+    try {
+      updateResults = ingestAspectsToLocalDB(upserts, auditStamp);
+    } catch (RuntimeException e) {
+      log.warn("Failed to write a chunk of {} entities at once, writing them one by one", chunk.size(), e);
+      MetricUtils.counter(this.getClass(), "ingestEntitiesChunkFailure").inc();
+      for (PendingEntity pending : chunk) {
+        ingestAspects(pending.getUrn(), pending.getAspects(), auditStamp, pending.getSystemMetadata());
+      }
+      return;
+    } finally {
+      ingestToLocalDBTimer.stop();
+    }
+
+    for (int i = 0; i < upserts.size(); i++) {
+      sendEventForUpdateAspectResult(upserts.get(i).getUrn(), upserts.get(i).getAspectName(), updateResults.get(i));
+    }
   }
 
   public void ingestEntity(Entity entity, AuditStamp auditStamp) {
@@ -1534,6 +1960,23 @@ private Map<Urn, List<EnvelopedAspect>> getCorrespondingAspects(Set<EntityAspect
     _retentionService = retentionService;
   }
 
+  /**
+   * Defers writing the lastObserved timestamp of aspects ingested without change to the given buffer, rather than
+   * rewriting their latest row right away. When not set, the row is rewritten within the ingestion transaction.
+   */
+  public void setLastObservedWriteBuffer(@Nullable LastObservedWriteBuffer lastObservedWriteBuffer) {
+    _lastObservedWriteBuffer = lastObservedWriteBuffer;
+  }
+
+  /**
+   * Notifies the given listener of every {@link MetadataChangeLog} produced by this service, right after producing it.
+   * Change logs are only produced once their change is committed, so this lets in-memory state of this instance, such as
+   * caches, follow its own writes without waiting for the change log to be consumed.
+   */
+  public void addChangeLogListener(@Nonnull MetadataChangeLogListener listener) {
+    _changeLogListeners.add(listener);
+  }
+
   protected Set<String> getEntityAspectNames(final Urn entityUrn) {
     return getEntityAspectNames(urnToEntityName(entityUrn));
   }
@@ -1899,7 +2342,12 @@ private Map<Urn, List<EnvelopedAspect>> getCorrespondingAspects(Set<EntityAspect
 
       latest.setSystemMetadata(RecordUtils.toJsonString(latestSystemMetadata));
 
-      _aspectDao.saveAspect(latest, false);
+      if (_lastObservedWriteBuffer != null && providedSystemMetadata.hasLastObserved()) {
+        // Nothing but the timestamp changed, so coalesce it with other observations rather than rewriting the row
+        _lastObservedWriteBuffer.add(urn.toString(), aspectName, providedSystemMetadata.getLastObserved());
+      } else {
+        _aspectDao.saveAspect(latest, false);
+      }
 
       return new UpdateAspectResult(urn, oldValue, oldValue,
           EntityUtils.parseSystemMetadata(latest.getSystemMetadata()), latestSystemMetadata,
@@ -0,0 +1,166 @@
+package com.linkedin.metadata.entity;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.datahub.util.RecordUtils;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.SystemMetadata;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.linkedin.metadata.Constants.*;
+
+
+/**
+ * Write-behind buffer of the lastObserved timestamps of latest aspects whose value did not change on ingestion.
+ *
+ * Rather than rewriting the latest row every time an unchanged aspect is ingested, {@link EntityService} hands the new
+ * timestamp to this buffer, which keeps the most recent one per urn and aspect. Pending timestamps are written on a
+ * fixed interval, or as soon as too many are pending, in transactions of up to {@link #MAX_KEYS_PER_FLUSH} rows. Stored
+ * timestamps are therefore stale by at most about the flush interval, and never moved backwards. The remaining
+ * timestamps are written on {@link #close()}.
+ *
+ * Only the system metadata of rows is written, and only if the row was not rewritten after it was read, so a value
+ * ingested concurrently is never overwritten with the previous one.
+ */
+@Slf4j
+public class LastObservedWriteBuffer implements AutoCloseable {
+
+  private static final int DEFAULT_MAX_TRANSACTION_RETRY = 3;
+  private static final int MAX_KEYS_PER_FLUSH = 500;
+
+  private final AspectDao _aspectDao;
+  private final int _maxPendingUpdates;
+  private final Map<EntityAspectIdentifier, Long> _pendingUpdates = new ConcurrentHashMap<>();
+  private final AtomicBoolean _flushRequested = new AtomicBoolean(false);
+  private final Object _flushLock = new Object();
+  private final ScheduledExecutorService _flushExecutor;
+
+  public LastObservedWriteBuffer(@Nonnull final AspectDao aspectDao, final long flushIntervalMillis,
+      final int maxPendingUpdates) {
+    _aspectDao = aspectDao;
+    _maxPendingUpdates = maxPendingUpdates;
+    _flushExecutor = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("last-observed-flush-%d").setDaemon(true).build());
+    _flushExecutor.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Records that the latest value of an aspect was observed at the given time.
+   */
+  public void add(@Nonnull final String urn, @Nonnull final String aspectName, final long lastObserved) {
+    final EntityAspectIdentifier key = new EntityAspectIdentifier(urn, aspectName, ASPECT_LATEST_VERSION);
+    if (_pendingUpdates.containsKey(key)) {
+      MetricUtils.counter(this.getClass(), "coalesced").inc();
+    }
+    _pendingUpdates.merge(key, lastObserved, Math::max);
+    if (_pendingUpdates.size() >= _maxPendingUpdates && !_flushExecutor.isShutdown()
+        && _flushRequested.compareAndSet(false, true)) {
+      _flushExecutor.execute(this::flushQuietly);
+    }
+  }
+
+  public int getPendingCount() {
+    return _pendingUpdates.size();
+  }
+
+  /**
+   * Writes all pending timestamps. Timestamps which could not be written are kept pending.
+   *
+   * @return the number of latest rows which were updated
+   */
+  public int flush() {
+    synchronized (_flushLock) {
+      _flushRequested.set(false);
+      final Map<EntityAspectIdentifier, Long> updates = new HashMap<>();
+      for (EntityAspectIdentifier key : new ArrayList<>(_pendingUpdates.keySet())) {
+        final Long lastObserved = _pendingUpdates.remove(key);
+        if (lastObserved != null) {
+          updates.put(key, lastObserved);
+        }
+      }
+      if (updates.isEmpty()) {
+        return 0;
+      }
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "flushSize")).update(updates.size());
+
+      int updated = 0;
+      final List<EntityAspectIdentifier> keys = new ArrayList<>(updates.keySet());
+      for (List<EntityAspectIdentifier> batch : Lists.partition(keys, MAX_KEYS_PER_FLUSH)) {
+        try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "flush").time()) {
+          updated += _aspectDao.runInTransactionWithRetry(() -> writeLastObserved(batch, updates),
+              DEFAULT_MAX_TRANSACTION_RETRY);
+          batch.forEach(updates::remove);
+        } catch (RuntimeException e) {
+          MetricUtils.counter(this.getClass(), "flushFailed").inc();
+          // Keep what could not be written for the next flush, unless a more recent timestamp came in meanwhile
+          updates.forEach((key, lastObserved) -> _pendingUpdates.merge(key, lastObserved, Math::max));
+          throw e;
+        }
+      }
+      return updated;
+    }
+  }
+
+  /**
+   * Stops flushing on schedule and writes the remaining timestamps.
+   */
+  @Override
+  public void close() {
+    _flushExecutor.shutdown();
+    try {
+      if (!_flushExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+        log.warn("Timed out waiting for the scheduled lastObserved flush to finish");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    final int updated = flush();
+    log.info("Flushed {} pending lastObserved updates on close", updated);
+  }
+
+  private int writeLastObserved(@Nonnull final List<EntityAspectIdentifier> keys,
+      @Nonnull final Map<EntityAspectIdentifier, Long> updates) {
+    final Map<EntityAspectIdentifier, EntityAspect> latestAspects = _aspectDao.batchGet(new HashSet<>(keys));
+    final List<EntityAspect> toUpdate = new ArrayList<>(latestAspects.size());
+    for (EntityAspectIdentifier key : keys) {
+      // The aspect may have been deleted since it was observed
+      final EntityAspect latest = latestAspects.get(key);
+      if (latest == null) {
+        continue;
+      }
+      final long lastObserved = updates.get(key);
+      final SystemMetadata systemMetadata = EntityUtils.parseSystemMetadata(latest.getSystemMetadata());
+      // A newer value of the aspect may have been written since, along with a more recent timestamp
+      if (systemMetadata.hasLastObserved() && systemMetadata.getLastObserved() >= lastObserved) {
+        continue;
+      }
+      systemMetadata.setLastObserved(lastObserved);
+      latest.setSystemMetadata(RecordUtils.toJsonString(systemMetadata));
+      toUpdate.add(latest);
+    }
+    // Rows rewritten since they were read are left alone, the new value comes with its own, more recent timestamp
+    return toUpdate.isEmpty() ? 0 : _aspectDao.updateSystemMetadata(toUpdate);
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (Exception e) {
+      log.error("Failed to flush pending lastObserved updates, retrying on the next flush", e);
+    }
+  }
+}
@@ -4,6 +4,7 @@ import com.datahub.util.exception.ModelConversionException;
 import com.datahub.util.exception.RetryLimitReached;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.DriverException;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
@@ -11,12 +12,14 @@ import com.datastax.oss.driver.api.core.paging.OffsetPager;
 import com.datastax.oss.driver.api.core.paging.OffsetPager.Page;
 import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
 import com.datastax.oss.driver.api.querybuilder.insert.Insert;
+import com.datastax.oss.driver.api.querybuilder.select.Select;
 import com.datastax.oss.driver.api.querybuilder.select.Selector;
 import com.datastax.oss.driver.api.querybuilder.term.Term;
 import com.datastax.oss.driver.api.querybuilder.update.Update;
 import com.datastax.oss.driver.api.querybuilder.update.UpdateWithAssignments;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterators;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.entity.AspectDao;
@@ -29,15 +32,27 @@ import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
 import com.linkedin.metadata.query.ExtraInfo;
 import com.linkedin.metadata.query.ExtraInfoArray;
 import com.linkedin.metadata.query.ListResultMetadata;
+import com.linkedin.util.Pair;
 import java.net.URISyntaxException;
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -50,6 +65,9 @@ import static com.linkedin.metadata.Constants.*;
 @Slf4j
 public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
 
+  // Bounds the number of concurrent queries a single batchGet issues, so large batches do not flood the cluster.
+  private static final int MAX_CONCURRENT_BATCH_GET_QUERIES = 32;
+
   private final CqlSession _cqlSession;
   private boolean _canWrite = true;
   private boolean _connectionValidated = false;
@@ -185,16 +203,71 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
     }
   }
 
-  // TODO: can further improve by running the sub queries in parallel
-  // TODO: look into supporting pagination
+  /**
+   * Reads all requested aspects with one query per (urn, version) pair, using an IN restriction on the aspect
+   * clustering column so that every query stays within a single partition. Queries are issued asynchronously with
+   * at most {@link #MAX_CONCURRENT_BATCH_GET_QUERIES} in flight.
+   */
   @Override
   @Nonnull
   public Map<EntityAspectIdentifier, EntityAspect> batchGet(@Nonnull final Set<EntityAspectIdentifier> keys) {
     validateConnection();
-    return keys.stream()
-        .map(this::getAspect)
-        .filter(Objects::nonNull)
-        .collect(Collectors.toMap(EntityAspect::toAspectIdentifier, aspect -> aspect));
+    if (keys.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    final Map<Pair<String, Long>, Set<String>> aspectsByPartition = keys.stream()
+        .collect(Collectors.groupingBy(key -> Pair.of(key.getUrn(), key.getVersion()),
+            Collectors.mapping(EntityAspectIdentifier::getAspect, Collectors.toSet())));
+
+    final Semaphore inFlight = new Semaphore(MAX_CONCURRENT_BATCH_GET_QUERIES);
+    final List<CompletableFuture<List<EntityAspect>>> futures = new ArrayList<>(aspectsByPartition.size());
+    try {
+      for (Map.Entry<Pair<String, Long>, Set<String>> entry : aspectsByPartition.entrySet()) {
+        SimpleStatement ss = selectFrom(CassandraAspect.TABLE_NAME)
+            .all()
+            .whereColumn(CassandraAspect.URN_COLUMN).isEqualTo(literal(entry.getKey().getFirst()))
+            .whereColumn(CassandraAspect.ASPECT_COLUMN).in(aspectNamesToLiterals(entry.getValue()))
+            .whereColumn(CassandraAspect.VERSION_COLUMN).isEqualTo(literal(entry.getKey().getSecond()))
+            .build();
+
+        inFlight.acquire();
+        final CompletableFuture<List<EntityAspect>> future = _cqlSession.executeAsync(ss)
+            .thenCompose(rs -> fetchAllPages(rs, new ArrayList<>()))
+            .toCompletableFuture();
+        future.whenComplete((result, throwable) -> inFlight.release());
+        futures.add(future);
+      }
+
+      final Map<EntityAspectIdentifier, EntityAspect> result = new HashMap<>();
+      for (CompletableFuture<List<EntityAspect>> future : futures) {
+        for (EntityAspect aspect : future.join()) {
+          result.put(aspect.toAspectIdentifier(), aspect);
+        }
+      }
+      return result;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting to issue batch get queries", e);
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  @Nonnull
+  private CompletionStage<List<EntityAspect>> fetchAllPages(
+      @Nonnull final AsyncResultSet rs,
+      @Nonnull final List<EntityAspect> aspects) {
+    for (Row row : rs.currentPage()) {
+      aspects.add(CassandraAspect.rowToEntityAspect(row));
+    }
+    if (rs.hasMorePages()) {
+      return rs.fetchNextPage().thenCompose(nextPage -> fetchAllPages(nextPage, aspects));
+    }
+    return CompletableFuture.completedFuture(aspects);
   }
 
   @Override
@@ -348,6 +421,29 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
     return auditStamp;
   }
 
+  @Override
+  public int updateSystemMetadata(@Nonnull final List<EntityAspect> aspects) {
+    validateConnection();
+    if (!_canWrite) {
+      return 0;
+    }
+    int updated = 0;
+    // Conditional updates of different partitions cannot share a batch
+    for (EntityAspect aspect : aspects) {
+      SimpleStatement ss = update(CassandraAspect.TABLE_NAME)
+          .setColumn(CassandraAspect.SYSTEM_METADATA_COLUMN, literal(aspect.getSystemMetadata()))
+          .whereColumn(CassandraAspect.URN_COLUMN).isEqualTo(literal(aspect.getUrn()))
+          .whereColumn(CassandraAspect.ASPECT_COLUMN).isEqualTo(literal(aspect.getAspect()))
+          .whereColumn(CassandraAspect.VERSION_COLUMN).isEqualTo(literal(aspect.getVersion()))
+          .ifColumn(CassandraAspect.CREATED_ON_COLUMN).isEqualTo(literal(aspect.getCreatedOn().getTime()))
+          .build();
+      if (_cqlSession.execute(ss).wasApplied()) {
+        updated++;
+      }
+    }
+    return updated;
+  }
+
   @Override
   public void deleteAspect(@Nonnull final EntityAspect aspect) {
     validateConnection();
@@ -460,6 +556,83 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
     return null;
   }
 
+  /**
+   * Streams latest aspects ordered by the token of their urn, then by aspect, starting after the cursor held by
+   * {@link RestoreIndicesArgs#lastUrn} and {@link RestoreIndicesArgs#lastAspect} when it is set.
+   *
+   * The table is scanned in token order, which is the only order in which partitions can be paged through. Rows are
+   * fetched lazily in pages of {@link RestoreIndicesArgs#batchSize}. Resuming reads the remaining aspects of the
+   * cursor's urn, then the urns whose token follows it.
+   */
+  @Nonnull
+  @Override
+  public Stream<EbeanAspectV2> streamAspects(final RestoreIndicesArgs args) {
+    validateConnection();
+    final List<SimpleStatement> statements = new ArrayList<>();
+    if (args.lastUrn == null) {
+      statements.add(selectLatestAspects(args).build());
+    } else {
+      // An aspect cannot be restricted by both an equality and a range, and only the cursor matched the aspect name
+      if (args.aspectName == null) {
+        Select remaining = selectLatestAspects(args);
+        if (args.urn == null) {
+          remaining = remaining.whereColumn(CassandraAspect.URN_COLUMN).isEqualTo(literal(args.lastUrn));
+        }
+        statements.add(remaining
+            .whereColumn(CassandraAspect.ASPECT_COLUMN).isGreaterThan(literal(args.lastAspect))
+            .build());
+      }
+      // A single urn has no other partition to resume with
+      if (args.urn == null) {
+        statements.add(selectLatestAspects(args)
+            .whereToken(CassandraAspect.URN_COLUMN).isGreaterThan(function("token", literal(args.lastUrn)))
+            .build());
+      }
+    }
+
+    // Each query only runs once the previous one is exhausted, so limiting the stream saves the following queries
+    final Iterator<Row> rows = Iterators.concat(Iterators.transform(statements.iterator(),
+        ss -> _cqlSession.execute(ss.setPageSize(args.batchSize)).iterator()));
+    final Pattern urnPattern = args.urnLike == null ? null : likeToPattern(args.urnLike);
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED), false)
+        .map(CassandraAspect::rowToEntityAspect)
+        // Cassandra only supports LIKE on indexed columns
+        .filter(aspect -> urnPattern == null || urnPattern.matcher(aspect.getUrn()).matches())
+        .map(EbeanAspectV2::fromEntityAspect);
+  }
+
+  @Nonnull
+  private Select selectLatestAspects(@Nonnull final RestoreIndicesArgs args) {
+    Select select = selectFrom(CassandraAspect.TABLE_NAME)
+        .all()
+        .whereColumn(CassandraAspect.VERSION_COLUMN).isEqualTo(literal(ASPECT_LATEST_VERSION));
+    if (args.aspectName != null) {
+      select = select.whereColumn(CassandraAspect.ASPECT_COLUMN).isEqualTo(literal(args.aspectName));
+    }
+    if (args.urn != null) {
+      select = select.whereColumn(CassandraAspect.URN_COLUMN).isEqualTo(literal(args.urn));
+    }
+    return select.allowFiltering();
+  }
+
+  /**
+   * Translates a SQL LIKE pattern, where % matches any sequence of characters and _ any single character.
+   */
+  @Nonnull
+  private static Pattern likeToPattern(@Nonnull final String like) {
+    final StringBuilder regex = new StringBuilder();
+    for (char c : like.toCharArray()) {
+      if (c == '%') {
+        regex.append(".*");
+      } else if (c == '_') {
+        regex.append('.');
+      } else {
+        regex.append(Pattern.quote(String.valueOf(c)));
+      }
+    }
+    return Pattern.compile(regex.toString(), Pattern.DOTALL);
+  }
+
 
   @Override
   @Nonnull
@@ -2,6 +2,7 @@ package com.linkedin.metadata.entity.ebean;
 
 import com.datahub.util.exception.ModelConversionException;
 import com.datahub.util.exception.RetryLimitReached;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.entity.AspectDao;
@@ -22,20 +23,36 @@ import io.ebean.PagedList;
 import io.ebean.Query;
 import io.ebean.RawSql;
 import io.ebean.RawSqlBuilder;
+import io.ebean.SqlQuery;
+import io.ebean.SqlRow;
 import io.ebean.Transaction;
 import io.ebean.TxScope;
 import io.ebean.annotation.TxIsolation;
 import java.net.URISyntaxException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Timestamp;
 import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.persistence.RollbackException;
@@ -60,10 +77,32 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
   // more testing.
   private int _queryKeysCount = 375; // 0 means no pagination on keys
 
+  // Executor used to run batchGet sub queries concurrently. Null means sub queries run serially.
+  private ExecutorService _batchGetExecutor = null;
+
   public EbeanAspectDao(@Nonnull final EbeanServer server) {
     _server = server;
   }
 
+  /**
+   * Enables running the paginated sub queries of {@link #batchGet(Set)} concurrently.
+   *
+   * Each sub query holds a connection while it runs, so the parallelism should stay well below the size of the
+   * connection pool backing the {@link EbeanServer}.
+   *
+   * @param parallelism max number of sub queries in flight for this dao. 1 or less keeps sub queries serial.
+   */
+  public void setBatchGetParallelism(final int parallelism) {
+    if (_batchGetExecutor != null) {
+      _batchGetExecutor.shutdown();
+      _batchGetExecutor = null;
+    }
+    if (parallelism > 1) {
+      _batchGetExecutor = Executors.newFixedThreadPool(parallelism,
+          new ThreadFactoryBuilder().setNameFormat("ebean-batch-get-%d").setDaemon(true).build());
+    }
+  }
+
   @Override
   public void setWritable(boolean canWrite) {
     _canWrite = canWrite;
@@ -232,6 +271,43 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     return ebeanAspect == null ? null : ebeanAspect.toEntityAspect();
   }
 
+  @Override
+  public int updateSystemMetadata(@Nonnull final List<EntityAspect> aspects) {
+    validateConnection();
+    if (!_canWrite || aspects.isEmpty()) {
+      return 0;
+    }
+    final String sql = String.format("UPDATE %s SET systemMetadata = ? "
+            + "WHERE urn = ? AND aspect = ? AND version = ? AND createdOn = ?",
+        EbeanAspectV2.class.getAnnotation(Table.class).name());
+
+    // Runs within the current transaction, if any. The statement goes through JDBC, as Ebean does not report the count
+    // of rows updated by each statement of a batch
+    try (Transaction transaction = _server.beginTransaction(TxScope.required());
+        PreparedStatement statement = transaction.getConnection().prepareStatement(sql)) {
+      for (EntityAspect aspect : aspects) {
+        statement.setString(1, aspect.getSystemMetadata());
+        statement.setString(2, aspect.getUrn());
+        statement.setString(3, aspect.getAspect());
+        statement.setLong(4, aspect.getVersion());
+        statement.setTimestamp(5, aspect.getCreatedOn());
+        statement.addBatch();
+      }
+      int updated = 0;
+      for (int count : statement.executeBatch()) {
+        // Some drivers do not report counts of batched statements
+        if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+          updated++;
+        }
+      }
+      transaction.commit();
+      return updated;
+    } catch (SQLException e) {
+      throw new RuntimeException(String.format("Failed to update the system metadata of %d aspects", aspects.size()),
+          e);
+    }
+  }
+
   @Override
   public void deleteAspect(@Nonnull final EntityAspect aspect) {
     validateConnection();
@@ -265,7 +341,10 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
 
   /**
    * BatchGet that allows pagination on keys to avoid large queries.
-   * TODO: can further improve by running the sub queries in parallel
+   *
+   * When a batch get executor is configured and the call is not part of a transaction, the sub queries are run
+   * concurrently and their results merged as they complete. Inside a transaction they are always run serially on the
+   * calling thread, so that they observe the same transactional state.
    *
    * @param keys a set of keys with urn, aspect and version
    * @param keysCount the max number of keys for each sub query
@@ -274,17 +353,51 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
   private List<EbeanAspectV2> batchGet(@Nonnull final Set<EbeanAspectV2.PrimaryKey> keys, final int keysCount) {
     validateConnection();
 
-    int position = 0;
+    final List<EbeanAspectV2.PrimaryKey> keyList = new ArrayList<>(keys);
+    final int totalPageCount = QueryUtils.getTotalPageCount(keyList.size(), keysCount);
 
-    final int totalPageCount = QueryUtils.getTotalPageCount(keys.size(), keysCount);
-    final List<EbeanAspectV2> finalResult = batchGetUnion(new ArrayList<>(keys), keysCount, position);
+    if (_batchGetExecutor == null || totalPageCount <= 1 || _server.currentTransaction() != null) {
+      int position = 0;
+      final List<EbeanAspectV2> finalResult = batchGetUnion(keyList, keysCount, position);
 
-    while (QueryUtils.hasMore(position, keysCount, totalPageCount)) {
-      position += keysCount;
-      final List<EbeanAspectV2> oneStatementResult = batchGetUnion(new ArrayList<>(keys), keysCount, position);
-      finalResult.addAll(oneStatementResult);
+      while (QueryUtils.hasMore(position, keysCount, totalPageCount)) {
+        position += keysCount;
+        final List<EbeanAspectV2> oneStatementResult = batchGetUnion(keyList, keysCount, position);
+        finalResult.addAll(oneStatementResult);
+      }
+
+      return finalResult;
+    }
+
+    return batchGetParallel(keyList, keysCount, totalPageCount);
+  }
+
+  @Nonnull
+  private List<EbeanAspectV2> batchGetParallel(
+      @Nonnull final List<EbeanAspectV2.PrimaryKey> keys,
+      final int keysCount,
+      final int totalPageCount) {
+    final CompletionService<List<EbeanAspectV2>> completionService =
+        new ExecutorCompletionService<>(_batchGetExecutor);
+    for (int page = 0; page < totalPageCount; page++) {
+      final int position = page * keysCount;
+      completionService.submit(() -> batchGetUnion(keys, keysCount, position));
     }
 
+    final List<EbeanAspectV2> finalResult = new ArrayList<>(keys.size());
+    try {
+      for (int page = 0; page < totalPageCount; page++) {
+        finalResult.addAll(completionService.take().get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for batch get sub queries", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new RuntimeException("Failed to run batch get sub query", e.getCause());
+    }
     return finalResult;
   }
 
@@ -432,6 +545,83 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
             .findPagedList();
   }
 
+  /**
+   * Streams latest aspects ordered by (urn, aspect), starting after the cursor held by
+   * {@link RestoreIndicesArgs#lastUrn} and {@link RestoreIndicesArgs#lastAspect} when it is set.
+   *
+   * Rows are fetched lazily in pages of {@link RestoreIndicesArgs#batchSize}, each page seeking to the last key of the
+   * previous one instead of skipping an offset, so every page costs the same regardless of its position in the table.
+   */
+  @Nonnull
+  @Override
+  public Stream<EbeanAspectV2> streamAspects(final RestoreIndicesArgs args) {
+    validateConnection();
+    final Iterator<EbeanAspectV2> iterator = new Iterator<EbeanAspectV2>() {
+      private String _lastUrn = args.lastUrn;
+      private String _lastAspect = args.lastAspect;
+      private Iterator<EbeanAspectV2> _page = Collections.emptyIterator();
+      private boolean _exhausted = false;
+
+      @Override
+      public boolean hasNext() {
+        if (!_page.hasNext() && !_exhausted) {
+          final List<EbeanAspectV2> rows = getAspectsAfter(args, _lastUrn, _lastAspect);
+          _exhausted = rows.size() < args.batchSize;
+          if (!rows.isEmpty()) {
+            final EbeanAspectV2 last = rows.get(rows.size() - 1);
+            _lastUrn = last.getKey().getUrn();
+            _lastAspect = last.getKey().getAspect();
+          }
+          _page = rows.iterator();
+        }
+        return _page.hasNext();
+      }
+
+      @Override
+      public EbeanAspectV2 next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return _page.next();
+      }
+    };
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+  }
+
+  @Nonnull
+  private List<EbeanAspectV2> getAspectsAfter(
+      @Nonnull final RestoreIndicesArgs args,
+      @Nullable final String lastUrn,
+      @Nullable final String lastAspect) {
+    ExpressionList<EbeanAspectV2> exp = _server.find(EbeanAspectV2.class)
+        .select(EbeanAspectV2.ALL_COLUMNS)
+        .where()
+        .eq(EbeanAspectV2.VERSION_COLUMN, ASPECT_LATEST_VERSION);
+    if (args.aspectName != null) {
+      exp = exp.eq(EbeanAspectV2.ASPECT_COLUMN, args.aspectName);
+    }
+    if (args.urn != null) {
+      exp = exp.eq(EbeanAspectV2.URN_COLUMN, args.urn);
+    }
+    if (args.urnLike != null) {
+      exp = exp.like(EbeanAspectV2.URN_COLUMN, args.urnLike);
+    }
+    if (lastUrn != null && lastAspect != null) {
+      // urn >= :lastUrn AND (urn > :lastUrn OR aspect > :lastAspect), which lets the primary key index seek directly
+      exp = exp.ge(EbeanAspectV2.URN_COLUMN, lastUrn)
+          .or()
+          .gt(EbeanAspectV2.URN_COLUMN, lastUrn)
+          .gt(EbeanAspectV2.ASPECT_COLUMN, lastAspect)
+          .endOr();
+    }
+    return exp.orderBy()
+        .asc(EbeanAspectV2.URN_COLUMN)
+        .orderBy()
+        .asc(EbeanAspectV2.ASPECT_COLUMN)
+        .setMaxRows(args.batchSize)
+        .findList();
+  }
+
   @Override
   @Nonnull
   public Iterable<String> listAllUrns(int start, int pageSize) {
@@ -570,6 +760,52 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     return result;
   }
 
+  @Override
+  @Nonnull
+  public Map<String, Map<String, Long>> getNextVersions(@Nonnull final Map<String, Set<String>> urnAspects) {
+    validateConnection();
+    final Map<String, Map<String, Long>> result = new HashMap<>();
+    final Set<String> aspectNames = urnAspects.values().stream().flatMap(Set::stream).collect(Collectors.toSet());
+    if (!aspectNames.isEmpty()) {
+      // A single grouped query for every urn. Aspects only requested for other urns are dropped below.
+      final Map<String, Object> params = new HashMap<>();
+      final String urnArgs = toArgs("urn", urnAspects.keySet(), params);
+      final String aspectArgs = toArgs("aspect", aspectNames, params);
+      final SqlQuery query = _server.createSqlQuery(String.format("SELECT urn, aspect, MAX(version) AS max_version "
+              + "FROM %s WHERE urn IN (%s) AND aspect IN (%s) GROUP BY urn, aspect",
+          EbeanAspectV2.class.getAnnotation(Table.class).name(), urnArgs, aspectArgs));
+      params.forEach(query::setParameter);
+      for (SqlRow row : query.findList()) {
+        result.computeIfAbsent(row.getString(EbeanAspectV2.URN_COLUMN), urn -> new HashMap<>())
+            .put(row.getString(EbeanAspectV2.ASPECT_COLUMN), row.getLong("max_version") + 1L);
+      }
+    }
+
+    urnAspects.forEach((urn, urnAspectNames) -> {
+      final Map<String, Long> maxVersions = result.getOrDefault(urn, Collections.emptyMap());
+      final Map<String, Long> nextVersions = new HashMap<>();
+      urnAspectNames.forEach(aspectName -> nextVersions.put(aspectName,
+          maxVersions.getOrDefault(aspectName, ASPECT_LATEST_VERSION)));
+      result.put(urn, nextVersions);
+    });
+    return result;
+  }
+
+  /**
+   * Registers one named parameter per value, e.g. ":urn0, :urn1", for use in an IN clause.
+   */
+  @Nonnull
+  private static String toArgs(@Nonnull final String prefix, @Nonnull final Set<String> values,
+      @Nonnull final Map<String, Object> outputParamsToValues) {
+    final List<String> args = new ArrayList<>(values.size());
+    for (String value : values) {
+      final String arg = prefix + args.size();
+      outputParamsToValues.put(arg, value);
+      args.add(":" + arg);
+    }
+    return String.join(", ", args);
+  }
+
   @Nonnull
   private <T> ListResult<T> toListResult(
       @Nonnull final List<T> values,
@@ -11,6 +11,9 @@ public class RestoreIndicesArgs implements Cloneable {
     public String aspectName;
     public String urn;
     public String urnLike;
+    // Keyset cursor: when set, rows are read starting after (lastUrn, lastAspect) instead of at offset start
+    public String lastUrn;
+    public String lastAspect;
 
     @Override
     public RestoreIndicesArgs clone() {
@@ -38,6 +41,16 @@ public class RestoreIndicesArgs implements Cloneable {
         return this;
     }
 
+    public RestoreIndicesArgs setLastUrn(String lastUrn) {
+        this.lastUrn = lastUrn;
+        return this;
+    }
+
+    public RestoreIndicesArgs setLastAspect(String lastAspect) {
+        this.lastAspect = lastAspect;
+        return this;
+    }
+
     public RestoreIndicesArgs setStart(Integer start) {
         if (start != null) {
             this.start = start;
@@ -6,11 +6,42 @@ import lombok.Data;
 public class RestoreIndicesResult {
     public int ignored = 0;
     public int rowsMigrated = 0;
+    // Per stage counters: rows that went through each stage and the time spent in it
+    public long rowsRead = 0;
     public long timeSqlQueryMs = 0;
-    public long timeGetRowMs = 0;
-    public long timeUrnMs = 0;
-    public long timeEntityRegistryCheckMs = 0;
-    public long aspectCheckMs = 0;
-    public long createRecordMs = 0;
-    public long sendMessageMs = 0;
+    public long rowsDeserialized = 0;
+    public long timeDeserializeMs = 0;
+    public long rowsSent = 0;
+    public long timeSendMessageMs = 0;
+    // Key of the last row read, to be passed back as RestoreIndicesArgs.lastUrn / lastAspect to resume
+    public String lastUrn;
+    public String lastAspect;
+
+    /**
+     * Adds the counters of another result into this one.
+     */
+    public void add(RestoreIndicesResult other) {
+        this.ignored += other.ignored;
+        this.rowsMigrated += other.rowsMigrated;
+        this.rowsRead += other.rowsRead;
+        this.timeSqlQueryMs += other.timeSqlQueryMs;
+        this.rowsDeserialized += other.rowsDeserialized;
+        this.timeDeserializeMs += other.timeDeserializeMs;
+        this.rowsSent += other.rowsSent;
+        this.timeSendMessageMs += other.timeSendMessageMs;
+    }
+
+    /**
+     * Describes the throughput of each stage in rows per second, which points at the stage holding the restore back.
+     */
+    public String throughputSummary() {
+        return String.format("read: %.1f rows/s, deserialize: %.1f rows/s, send: %.1f rows/s",
+            rowsPerSecond(rowsRead, timeSqlQueryMs),
+            rowsPerSecond(rowsDeserialized, timeDeserializeMs),
+            rowsPerSecond(rowsSent, timeSendMessageMs));
+    }
+
+    private static double rowsPerSecond(long rows, long timeMs) {
+        return timeMs > 0 ? rows * 1000.0 / timeMs : 0.0;
+    }
 }
@@ -54,6 +54,13 @@ public interface EventProducer {
       @Nonnull final MetadataChangeLog metadataChangeLog
   );
 
+  /**
+   * Blocks until every event produced so far has been sent. Lets callers producing many events at once wait for
+   * delivery a single time rather than per event.
+   */
+  default void flush() {
+  }
+
   /**
    * Produces a {@link com.linkedin.mxe.MetadataChangeProposal}
    * as an async update to an entity
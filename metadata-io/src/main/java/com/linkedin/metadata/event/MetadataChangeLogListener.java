@@ -0,0 +1,16 @@
+package com.linkedin.metadata.event;
+
+import com.linkedin.mxe.MetadataChangeLog;
+import javax.annotation.Nonnull;
+
+
+/**
+ * Interface implemented by in-memory state which must follow the changes described by {@link MetadataChangeLog}s, such
+ * as caches of entities. Listeners are notified of the changes committed by this instance through
+ * {@link com.linkedin.metadata.entity.EntityService}, and of those of all instances through a
+ * {@link MetadataChangeLogTailer}, so they must accept seeing a change twice.
+ */
+public interface MetadataChangeLogListener {
+
+  void onChangeLog(@Nonnull MetadataChangeLog changeLog);
+}
@@ -0,0 +1,140 @@
+package com.linkedin.metadata.event;
+
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+
+
+/**
+ * Reads the metadata change log from its end and hands every change to the given listeners, so that in-memory state of
+ * this instance follows the changes committed by any instance.
+ *
+ * Every instance needs to see all changes, so rather than joining a consumer group the tailer assigns itself all
+ * partitions of the topic, as found on start, and never commits offsets. Changes made while the instance was down are
+ * not read back, which is fine for state that is lost on restart anyway.
+ */
+@Slf4j
+public class MetadataChangeLogTailer implements AutoCloseable {
+
+  private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+  private static final long RETRY_BACKOFF_MILLIS = 5000;
+
+  private final Supplier<Consumer<String, GenericRecord>> _consumerSupplier;
+  private final String _topic;
+  private final List<MetadataChangeLogListener> _listeners;
+  private final Thread _thread;
+  private Consumer<String, GenericRecord> _consumer;
+  private volatile boolean _closed = false;
+
+  public MetadataChangeLogTailer(@Nonnull final Supplier<Consumer<String, GenericRecord>> consumerSupplier,
+      @Nonnull final String topic, @Nonnull final List<MetadataChangeLogListener> listeners) {
+    _consumerSupplier = consumerSupplier;
+    _topic = topic;
+    _listeners = listeners;
+    _thread = new Thread(this::run, "metadata-change-log-tailer");
+    _thread.setDaemon(true);
+  }
+
+  /**
+   * Starts reading the change log in the background, unless there is no listener to notify.
+   */
+  public synchronized void start() {
+    if (_listeners.isEmpty() || _closed) {
+      return;
+    }
+    _consumer = _consumerSupplier.get();
+    _thread.start();
+  }
+
+  @Override
+  public synchronized void close() {
+    _closed = true;
+    if (_consumer == null) {
+      return;
+    }
+    _consumer.wakeup();
+    _thread.interrupt();
+    try {
+      _thread.join(TimeUnit.SECONDS.toMillis(10));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void run() {
+    try {
+      while (!_closed) {
+        try {
+          if (_consumer.assignment().isEmpty()) {
+            assignPartitions();
+          }
+          poll();
+        } catch (WakeupException e) {
+          // Closing
+        } catch (Exception e) {
+          MetricUtils.counter(this.getClass(), "poll_failure").inc();
+          log.error("Failed to read the metadata change log from topic {}, retrying", _topic, e);
+          sleepBeforeRetry();
+        }
+      }
+    } finally {
+      _consumer.close();
+    }
+  }
+
+  private void assignPartitions() {
+    final List<TopicPartition> partitions = _consumer.partitionsFor(_topic)
+        .stream()
+        .map(partitionInfo -> new TopicPartition(partitionInfo.topic(), partitionInfo.partition()))
+        .collect(Collectors.toList());
+    _consumer.assign(partitions);
+    _consumer.seekToEnd(partitions);
+    log.info("Reading the metadata change log from the end of {} partitions of topic {}", partitions.size(), _topic);
+  }
+
+  private void poll() {
+    for (ConsumerRecord<String, GenericRecord> consumerRecord : _consumer.poll(POLL_TIMEOUT)) {
+      process(consumerRecord);
+    }
+  }
+
+  private void process(@Nonnull final ConsumerRecord<String, GenericRecord> consumerRecord) {
+    final MetadataChangeLog event;
+    try {
+      event = EventUtils.avroToPegasusMCL(consumerRecord.value());
+    } catch (Exception e) {
+      MetricUtils.counter(this.getClass(), "avro_to_pegasus_conversion_failure").inc();
+      log.error("Error deserializing message due to: ", e);
+      return;
+    }
+    for (MetadataChangeLogListener listener : _listeners) {
+      try {
+        listener.onChangeLog(event);
+      } catch (Exception e) {
+        MetricUtils.counter(this.getClass(), "listener_failure").inc();
+        log.error("Listener {} failed to process the change of urn {}, aspect {}", listener.getClass().getSimpleName(),
+            event.getEntityUrn(), event.getAspectName(), e);
+      }
+    }
+  }
+
+  private void sleepBeforeRetry() {
+    try {
+      Thread.sleep(RETRY_BACKOFF_MILLIS);
+    } catch (InterruptedException e) {
+      // Closing
+    }
+  }
+}
@@ -32,6 +32,13 @@ public interface GraphService {
    */
   void addEdge(final Edge edge);
 
+  /**
+   * Adds edges to the graph, as {@link #addEdge(Edge)} does for each of them. Implementations may write them in bulk.
+   */
+  default void addEdges(@Nonnull final List<Edge> edges) {
+    edges.forEach(this::addEdge);
+  }
+
   /**
    * Find related entities (nodes) connected to a source entity via edges of given relationship types. Related entities
    * can be filtered by source and destination type (use `null` for any type), by source and destination entity filter
@@ -182,6 +189,11 @@ public interface GraphService {
     return result;
   }
 
+  /**
+   * Removes a single edge (if it exists). The source and destination nodes are kept.
+   */
+  void removeEdge(final Edge edge);
+
   /**
    * Removes the given node (if it exists) as well as all edges (incoming and outgoing) of the node.
    */
@@ -222,6 +222,53 @@ public class DgraphGraphService implements GraphService {
         _dgraph.executeFunction(client -> client.newTransaction().doRequest(request));
     }
 
+    @Override
+    public void removeEdge(Edge edge) {
+        log.debug(String.format("Removing Edge source: %s, destination: %s, type: %s",
+                edge.getSource(),
+                edge.getDestination(),
+                edge.getRelationshipType()));
+
+        // a relationship type that is not in the schema has never been added, so there is no edge to remove
+        if (!get_schema().hasField(edge.getRelationshipType())) {
+            return;
+        }
+
+        // lookup the source and destination nodes
+        String query = String.format("query {\n"
+                + " src as var(func: eq(urn, \"%s\"))\n"
+                + " dst as var(func: eq(urn, \"%s\"))\n"
+                + "}",
+                escapeStringValue(edge.getSource().toString()),
+                escapeStringValue(edge.getDestination().toString()));
+
+        // the predicate is set on the nquad rather than written into rdf, so it needs no escaping
+        NQuad deletion = NQuad.newBuilder()
+                .setSubject("uid(src)")
+                .setPredicate(edge.getRelationshipType())
+                .setObjectId("uid(dst)")
+                .build();
+
+        log.debug("Query: " + query);
+        log.debug("Deletion: " + deletion);
+
+        Mutation mutation = Mutation.newBuilder()
+                .addDel(deletion)
+                .build();
+        Request request = Request.newBuilder()
+                .setQuery(query)
+                .addMutations(mutation)
+                .setCommitNow(true)
+                .build();
+
+        _dgraph.executeConsumer(client -> client.newTransaction().doRequest(request));
+    }
+
+    // Escapes a value to be used inside a double-quoted string of a DQL query
+    private static @Nonnull String escapeStringValue(@Nonnull String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
     private static @Nonnull String getDgraphType(@Nonnull Urn urn) {
         return urn.getNamespace() + ":" + urn.getEntityType();
     }
@@ -2,6 +2,7 @@ package com.linkedin.metadata.graph.elastic;
 
 import com.codahale.metrics.Timer;
 import com.datahub.util.exception.ESQueryException;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.linkedin.common.urn.Urn;
@@ -18,18 +19,18 @@ import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.RelationshipDirection;
 import com.linkedin.metadata.query.filter.RelationshipFilter;
 import com.linkedin.metadata.utils.ConcurrencyUtils;
+import com.linkedin.metadata.utils.NamedExecutors;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -48,6 +49,7 @@ import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
 import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.sort.SortOrder;
 
 import static com.linkedin.metadata.graph.elastic.ElasticSearchGraphService.INDEX_NAME;
 
@@ -63,13 +65,15 @@ public class ESGraphQueryDAO {
   private final LineageRegistry lineageRegistry;
   private final IndexConvention indexConvention;
 
-  private static final int MAX_ELASTIC_RESULT = 10000;
+  static final int MAX_ELASTIC_RESULT = 10000;
   private static final int BATCH_SIZE = 1000;
   private static final int TIMEOUT_SECS = 10;
   private static final String SOURCE = "source";
   private static final String DESTINATION = "destination";
   private static final String RELATIONSHIP_TYPE = "relationshipType";
 
+  private int lineagePageSize = MAX_ELASTIC_RESULT;
+
   @Nonnull
   public static void addFilterToQueryBuilder(@Nonnull Filter filter, String node, BoolQueryBuilder rootQuery) {
     BoolQueryBuilder orQuery = new BoolQueryBuilder();
@@ -159,8 +163,8 @@ public class ESGraphQueryDAO {
     long timeoutTime = currentTime + remainingTime;
 
     // Do a Level-order BFS
-    Set<Urn> visitedEntities = ConcurrentHashMap.newKeySet();
-    visitedEntities.add(entityUrn);
+    Set<String> visitedEntities = new HashSet<>();
+    visitedEntities.add(entityUrn.toString());
     List<Urn> currentLevel = ImmutableList.of(entityUrn);
 
     for (int i = 0; i < maxHops; i++) {
@@ -197,21 +201,34 @@ public class ESGraphQueryDAO {
   // Get 1-hop lineage relationships asynchronously in batches with timeout
   @WithSpan
   public List<LineageRelationship> getLineageRelationshipsInBatches(@Nonnull List<Urn> entityUrns,
-      @Nonnull LineageDirection direction, GraphFilters graphFilters, Set<Urn> visitedEntities, int numHops, long remainingTime) {
+      @Nonnull LineageDirection direction, GraphFilters graphFilters, Set<String> visitedEntities, int numHops, long remainingTime) {
     List<List<Urn>> batches = Lists.partition(entityUrns, BATCH_SIZE);
-    return ConcurrencyUtils.getAllCompleted(batches.stream()
+    long deadline = System.currentTimeMillis() + remainingTime;
+    List<List<LineageEdge>> edgesPerBatch = ConcurrencyUtils.getAllCompleted(batches.stream()
         .map(batchUrns -> CompletableFuture.supplyAsync(
-            () -> getLineageRelationships(batchUrns, direction, graphFilters, visitedEntities, numHops)))
-        .collect(Collectors.toList()), remainingTime, TimeUnit.MILLISECONDS)
-        .stream()
-        .flatMap(List::stream)
-        .collect(Collectors.toList());
+            () -> getLineageEdges(batchUrns, direction, graphFilters, deadline),
+            NamedExecutors.get(NamedExecutors.LINEAGE)))
+        .collect(Collectors.toList()), remainingTime, TimeUnit.MILLISECONDS);
+
+    // Edges are deduplicated on the calling thread, hence the visited set does not need to be thread safe. Only the
+    // urns of newly visited entities are parsed.
+    List<LineageRelationship> result = new ArrayList<>();
+    for (List<LineageEdge> edges : edgesPerBatch) {
+      for (LineageEdge edge : edges) {
+        if (visitedEntities.add(edge.getUrn())) {
+          result.add(new LineageRelationship().setType(edge.getType())
+              .setEntity(UrnUtils.getUrn(edge.getUrn()))
+              .setDegree(numHops));
+        }
+      }
+    }
+    return result;
   }
 
-  // Get 1-hop lineage relationships
+  // Get all 1-hop lineage edges, paging through the matching documents with search_after
   @WithSpan
-  private List<LineageRelationship> getLineageRelationships(@Nonnull List<Urn> entityUrns,
-      @Nonnull LineageDirection direction, GraphFilters graphFilters, Set<Urn> visitedEntities, int numHops) {
+  private List<LineageEdge> getLineageEdges(@Nonnull List<Urn> entityUrns, @Nonnull LineageDirection direction,
+      GraphFilters graphFilters, long deadline) {
     Map<String, List<Urn>> urnsPerEntityType = entityUrns.stream().collect(Collectors.groupingBy(Urn::getEntityType));
     Map<String, List<EdgeInfo>> edgesPerEntityType = urnsPerEntityType.keySet()
         .stream()
@@ -221,52 +238,97 @@ public class ESGraphQueryDAO {
     // Get all relation types relevant to the set of urns to hop from
     urnsPerEntityType.forEach((entityType, urns) -> finalQuery.should(
         getQueryForLineage(urns, edgesPerEntityType.getOrDefault(entityType, Collections.emptyList()), graphFilters)));
-    SearchResponse response = executeSearchQuery(finalQuery, 0, MAX_ELASTIC_RESULT);
-    Set<Urn> entityUrnSet = new HashSet<>(entityUrns);
+    Map<String, String> entityTypePerUrn = new HashMap<>();
+    entityUrns.forEach(urn -> entityTypePerUrn.put(urn.toString(), urn.getEntityType()));
     // Get all valid edges given the set of urns to hop from
     Set<Pair<String, EdgeInfo>> validEdges = edgesPerEntityType.entrySet()
         .stream()
         .flatMap(entry -> entry.getValue().stream().map(edgeInfo -> Pair.of(entry.getKey(), edgeInfo)))
         .collect(Collectors.toSet());
-    return extractRelationships(entityUrnSet, response, validEdges, visitedEntities, numHops);
+
+    List<LineageEdge> result = new ArrayList<>();
+    Object[] searchAfter = null;
+    do {
+      SearchHit[] hits = executeLineageSearchQuery(finalQuery, searchAfter).getHits().getHits();
+      extractEdges(entityTypePerUrn, hits, validEdges, result);
+      searchAfter = hits.length < lineagePageSize ? null : hits[hits.length - 1].getSortValues();
+      if (searchAfter != null && System.currentTimeMillis() > deadline) {
+        log.info("Timed out while paging through lineage edges of {} entities. Returning edges so far",
+            entityUrns.size());
+        break;
+      }
+    } while (searchAfter != null);
+    return result;
   }
 
-  // Given set of edges and the search response, extract all valid edges that originate from the input entityUrns
-  @WithSpan
-  private List<LineageRelationship> extractRelationships(@Nonnull Set<Urn> entityUrns,
-      @Nonnull SearchResponse searchResponse, Set<Pair<String, EdgeInfo>> validEdges, Set<Urn> visitedEntities,
-      int numHops) {
-    List<LineageRelationship> result = new LinkedList<>();
-    for (SearchHit hit : searchResponse.getHits().getHits()) {
-      Map<String, Object> document = hit.getSourceAsMap();
-      Urn sourceUrn = UrnUtils.getUrn(((Map<String, Object>) document.get(SOURCE)).get("urn").toString());
-      Urn destinationUrn =
-          UrnUtils.getUrn(((Map<String, Object>) document.get(DESTINATION)).get("urn").toString());
-      String type = document.get(RELATIONSHIP_TYPE).toString();
+  // Runs a lineage query sorted on the fields identifying an edge, which are returned as sort values instead of
+  // fetching and parsing the _source of every hit
+  private SearchResponse executeLineageSearchQuery(@Nonnull final QueryBuilder query,
+      @Nullable final Object[] searchAfter) {
+    SearchRequest searchRequest = new SearchRequest();
+
+    SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+
+    searchSourceBuilder.size(lineagePageSize);
+    searchSourceBuilder.fetchSource(false);
+    searchSourceBuilder.sort(SOURCE + ".urn", SortOrder.ASC);
+    searchSourceBuilder.sort(DESTINATION + ".urn", SortOrder.ASC);
+    searchSourceBuilder.sort(RELATIONSHIP_TYPE, SortOrder.ASC);
+    if (searchAfter != null) {
+      searchSourceBuilder.searchAfter(searchAfter);
+    }
+
+    searchSourceBuilder.query(query);
+
+    searchRequest.source(searchSourceBuilder);
+
+    searchRequest.indices(indexConvention.getIndexName(INDEX_NAME));
+
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "esLineageQuery").time()) {
+      return client.search(searchRequest, RequestOptions.DEFAULT);
+    } catch (Exception e) {
+      log.error("Search query failed", e);
+      throw new ESQueryException("Search query failed:", e);
+    }
+  }
+
+  // Given set of edges and the search hits, extract all valid edges that originate from the input entityUrns
+  private static void extractEdges(@Nonnull Map<String, String> entityTypePerUrn, @Nonnull SearchHit[] hits,
+      Set<Pair<String, EdgeInfo>> validEdges, List<LineageEdge> result) {
+    for (SearchHit hit : hits) {
+      Object[] sortValues = hit.getSortValues();
+      String sourceUrn = sortValues[0].toString();
+      String destinationUrn = sortValues[1].toString();
+      String type = sortValues[2].toString();
 
       // Potential outgoing edge
-      if (entityUrns.contains(sourceUrn)) {
-        // Skip if already visited
-        // Skip if edge is not a valid outgoing edge
-        if (!visitedEntities.contains(destinationUrn) && validEdges.contains(
-            Pair.of(sourceUrn.getEntityType(), new EdgeInfo(type, RelationshipDirection.OUTGOING, destinationUrn.getEntityType().toLowerCase())))) {
-          visitedEntities.add(destinationUrn);
-          result.add(new LineageRelationship().setType(type).setEntity(destinationUrn).setDegree(numHops));
-        }
+      String sourceType = entityTypePerUrn.get(sourceUrn);
+      // Skip if edge is not a valid outgoing edge
+      if (sourceType != null && validEdges.contains(Pair.of(sourceType,
+          new EdgeInfo(type, RelationshipDirection.OUTGOING, getEntityType(destinationUrn).toLowerCase())))) {
+        result.add(new LineageEdge(type, destinationUrn));
       }
 
       // Potential incoming edge
-      if (entityUrns.contains(destinationUrn)) {
-        // Skip if already visited
-        // Skip if edge is not a valid outgoing edge
-        if (!visitedEntities.contains(sourceUrn) && validEdges.contains(
-            Pair.of(destinationUrn.getEntityType(), new EdgeInfo(type, RelationshipDirection.INCOMING, sourceUrn.getEntityType().toLowerCase())))) {
-          visitedEntities.add(sourceUrn);
-          result.add(new LineageRelationship().setType(type).setEntity(sourceUrn).setDegree(numHops));
-        }
+      String destinationType = entityTypePerUrn.get(destinationUrn);
+      // Skip if edge is not a valid incoming edge
+      if (destinationType != null && validEdges.contains(Pair.of(destinationType,
+          new EdgeInfo(type, RelationshipDirection.INCOMING, getEntityType(sourceUrn).toLowerCase())))) {
+        result.add(new LineageEdge(type, sourceUrn));
       }
     }
-    return result;
+  }
+
+  // Equivalent to Urn#getEntityType without parsing the whole urn, i.e. the segment following "urn:li:"
+  private static String getEntityType(@Nonnull String urn) {
+    int start = urn.indexOf(':', urn.indexOf(':') + 1) + 1;
+    int end = urn.indexOf(':', start);
+    return end < 0 ? urn.substring(start) : urn.substring(start, end);
+  }
+
+  @VisibleForTesting
+  void setLineagePageSize(int lineagePageSize) {
+    this.lineagePageSize = lineagePageSize;
   }
 
   BoolQueryBuilder getOutGoingEdgeQuery(List<Urn> urns, List<EdgeInfo> outgoingEdges, GraphFilters graphFilters) {
@@ -328,4 +390,10 @@ public class ESGraphQueryDAO {
     int total;
     List<LineageRelationship> lineageRelationships;
   }
+
+  @Value
+  private static class LineageEdge {
+    String type;
+    String urn;
+  }
 }
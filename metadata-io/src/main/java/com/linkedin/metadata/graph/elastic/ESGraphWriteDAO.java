@@ -11,6 +11,7 @@ import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.elasticsearch.action.bulk.BulkProcessor;
+import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.action.index.IndexRequest;
 import org.elasticsearch.action.update.UpdateRequest;
 import org.elasticsearch.client.RequestOptions;
@@ -47,6 +48,15 @@ public class ESGraphWriteDAO {
     bulkProcessor.add(updateRequest);
   }
 
+  /**
+   * Deletes the search document with the given id, if it exists.
+   *
+   * @param docId the ID of the document to delete
+   */
+  public void deleteDocument(@Nonnull String docId) {
+    bulkProcessor.add(new DeleteRequest(indexConvention.getIndexName(INDEX_NAME), docId));
+  }
+
   public BulkByScrollResponse deleteByQuery(@Nullable final String sourceType, @Nonnull final Filter sourceEntityFilter,
       @Nullable final String destinationType, @Nonnull final Filter destinationEntityFilter,
       @Nonnull final List<String> relationshipTypes, @Nonnull final RelationshipFilter relationshipFilter) {
@@ -107,6 +107,10 @@ public class ElasticSearchGraphService implements GraphService {
     _graphWriteDAO.upsertDocument(docId, edgeDocument);
   }
 
+  public void removeEdge(@Nonnull final Edge edge) {
+    _graphWriteDAO.deleteDocument(toDocId(edge));
+  }
+
   @Nonnull
   public RelatedEntitiesResult findRelatedEntities(
       @Nullable final List<String> sourceTypes,
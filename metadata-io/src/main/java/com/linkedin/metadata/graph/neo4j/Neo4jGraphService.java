@@ -1,9 +1,12 @@
 package com.linkedin.metadata.graph.neo4j;
 
+import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
 import com.datahub.util.Statement;
 import com.datahub.util.exception.RetryLimitReached;
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.graph.Edge;
 import com.linkedin.metadata.graph.GraphService;
@@ -20,6 +23,7 @@ import com.linkedin.metadata.utils.metrics.MetricUtils;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.StringJoiner;
@@ -37,23 +41,41 @@ import org.neo4j.driver.Result;
 import org.neo4j.driver.Session;
 import org.neo4j.driver.SessionConfig;
 import org.neo4j.driver.exceptions.Neo4jException;
+import org.neo4j.driver.summary.ResultSummary;
 
 @Slf4j
 public class Neo4jGraphService implements GraphService {
 
   private static final int MAX_TRANSACTION_RETRY = 3;
+  public static final int DEFAULT_EDGE_BATCH_SIZE = 1000;
+
+  // Labels and relationship types cannot be parameters, so there is one statement per source type, destination type
+  // and relationship type, merging all rows of edges of these types
+  private static final String MERGE_EDGES_TEMPLATE = "UNWIND $rows AS row "
+      + "MERGE (source:%s {urn: row.sourceUrn}) "
+      + "MERGE (destination:%s {urn: row.destinationUrn}) "
+      + "MERGE (source)-[r:%s]->(destination) SET r = row.properties";
+
   private final LineageRegistry _lineageRegistry;
   private final Driver _driver;
   private SessionConfig _sessionConfig;
+  private final int _edgeBatchSize;
 
   public Neo4jGraphService(@Nonnull LineageRegistry lineageRegistry, @Nonnull Driver driver) {
     this(lineageRegistry, driver, SessionConfig.defaultConfig());
   }
 
   public Neo4jGraphService(@Nonnull LineageRegistry lineageRegistry, @Nonnull Driver driver, @Nonnull SessionConfig sessionConfig) {
+    this(lineageRegistry, driver, sessionConfig, DEFAULT_EDGE_BATCH_SIZE);
+  }
+
+  public Neo4jGraphService(@Nonnull LineageRegistry lineageRegistry, @Nonnull Driver driver,
+      @Nonnull SessionConfig sessionConfig, int edgeBatchSize) {
+    Preconditions.checkArgument(edgeBatchSize > 0, "Edge batch size must be positive, got %s", edgeBatchSize);
     this._lineageRegistry = lineageRegistry;
     this._driver = driver;
     this._sessionConfig = sessionConfig;
+    this._edgeBatchSize = edgeBatchSize;
   }
 
   @Override
@@ -68,29 +90,57 @@ public class Neo4jGraphService implements GraphService {
         edge.getDestination(),
         edge.getRelationshipType()));
 
-    final String sourceType = edge.getSource().getEntityType();
-    final String destinationType = edge.getDestination().getEntityType();
+    addEdges(Collections.singletonList(edge));
+  }
 
-    final List<Statement> statements = new ArrayList<>();
+  /**
+   * Merges the edges and their source and destination nodes with UNWIND statements, writing at most the configured
+   * number of edges per transaction. All transactions run in the same session.
+   */
+  @Override
+  public void addEdges(@Nonnull final List<Edge> edges) {
+    if (edges.isEmpty()) {
+      return;
+    }
+    log.debug(String.format("Adding %d Edges", edges.size()));
 
-    // Add/Update source & destination node first
-    statements.add(getOrInsertNode(edge.getSource()));
-    statements.add(getOrInsertNode(edge.getDestination()));
+    final Map<String, List<Map<String, Object>>> rowsByStatement = new LinkedHashMap<>();
+    for (Edge edge : edges) {
+      final String statement = String.format(MERGE_EDGES_TEMPLATE, edge.getSource().getEntityType(),
+          edge.getDestination().getEntityType(), edge.getRelationshipType());
 
-    // Add/Update relationship
-    final String mergeRelationshipTemplate =
-        "MATCH (source:%s {urn: $sourceUrn}),(destination:%s {urn: $destinationUrn}) MERGE (source)-[r:%s]->(destination) SET r = $properties";
-    final String statement =
-        String.format(mergeRelationshipTemplate, sourceType, destinationType, edge.getRelationshipType());
+      final Map<String, Object> row = new HashMap<>();
+      row.put("sourceUrn", edge.getSource().toString());
+      row.put("destinationUrn", edge.getDestination().toString());
+      row.put("properties", new HashMap<>());
 
-    final Map<String, Object> paramsMerge = new HashMap<>();
-    paramsMerge.put("sourceUrn", edge.getSource().toString());
-    paramsMerge.put("destinationUrn", edge.getDestination().toString());
-    paramsMerge.put("properties", new HashMap<>());
+      rowsByStatement.computeIfAbsent(statement, k -> new ArrayList<>()).add(row);
+    }
 
-    statements.add(buildStatement(statement, paramsMerge));
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "addEdges").time();
+        Session session = _driver.session(_sessionConfig)) {
+      final List<Statement> statements = new ArrayList<>();
+      int batchSize = 0;
+      for (Map.Entry<String, List<Map<String, Object>>> entry : rowsByStatement.entrySet()) {
+        for (List<Map<String, Object>> rows : Lists.partition(entry.getValue(), _edgeBatchSize)) {
+          if (batchSize + rows.size() > _edgeBatchSize) {
+            executeEdgeBatch(session, statements, batchSize);
+            statements.clear();
+            batchSize = 0;
+          }
+          final Map<String, Object> params = new HashMap<>();
+          params.put("rows", rows);
+          statements.add(buildStatement(entry.getKey(), params));
+          batchSize += rows.size();
+        }
+      }
+      executeEdgeBatch(session, statements, batchSize);
+    }
+  }
 
-    executeStatements(statements);
+  private void executeEdgeBatch(@Nonnull Session session, @Nonnull List<Statement> statements, int batchSize) {
+    MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "addEdgesBatchSize")).update(batchSize);
+    executeStatements(session, statements);
   }
 
   @Nonnull
@@ -156,12 +206,14 @@ public class Neo4jGraphService implements GraphService {
     final Statement countStatement =  new Statement(countStatementString, Collections.emptyMap());
 
     // Execute Queries
-    final List<RelatedEntity> relatedEntities = runQuery(resultStatement).list(record ->
-        new RelatedEntity(
-            record.values().get(1).asString(), // Relationship Type
-            record.values().get(0).asNode().get("urn").asString())); // Urn TODO: Validate this works against Neo4j.
-    final int totalCount = runQuery(countStatement).single().get(0).asInt();
-    return new RelatedEntitiesResult(offset, relatedEntities.size(), totalCount, relatedEntities);
+    try (Session session = _driver.session(_sessionConfig)) {
+      final List<RelatedEntity> relatedEntities = runQuery(session, resultStatement).list(record ->
+          new RelatedEntity(
+              record.values().get(1).asString(), // Relationship Type
+              record.values().get(0).asNode().get("urn").asString())); // Urn TODO: Validate this works against Neo4j.
+      final int totalCount = runQuery(session, countStatement).single().get(0).asInt();
+      return new RelatedEntitiesResult(offset, relatedEntities.size(), totalCount, relatedEntities);
+    }
   }
 
   private String computeEntityTypeWhereClause(@Nonnull final List<String> sourceTypes,
@@ -198,7 +250,7 @@ public class Neo4jGraphService implements GraphService {
     final Map<String, Object> params = new HashMap<>();
     params.put("urn", urn.toString());
 
-    runQuery(buildStatement(statement, params)).consume();
+    runQuery(buildStatement(statement, params));
   }
 
   public void removeEdgesFromNode(
@@ -230,7 +282,26 @@ public class Neo4jGraphService implements GraphService {
     final Map<String, Object> params = new HashMap<>();
     params.put("urn", urn.toString());
 
-    runQuery(buildStatement(statement, params)).consume();
+    runQuery(buildStatement(statement, params));
+  }
+
+  public void removeEdge(@Nonnull final Edge edge) {
+
+    log.debug(String.format("Removing Edge source: %s, destination: %s, type: %s",
+        edge.getSource(),
+        edge.getDestination(),
+        edge.getRelationshipType()));
+
+    final String matchTemplate =
+        "MATCH (source:%s {urn: $sourceUrn})-[r:%s]->(destination:%s {urn: $destinationUrn}) DELETE r";
+    final String statement = String.format(matchTemplate, edge.getSource().getEntityType(),
+        edge.getRelationshipType(), edge.getDestination().getEntityType());
+
+    final Map<String, Object> params = new HashMap<>();
+    params.put("sourceUrn", edge.getSource().toString());
+    params.put("destinationUrn", edge.getDestination().toString());
+
+    runQuery(buildStatement(statement, params));
   }
 
   public void removeNodesMatchingLabel(@Nonnull String labelPattern) {
@@ -241,7 +312,7 @@ public class Neo4jGraphService implements GraphService {
 
     final Map<String, Object> params = new HashMap<>();
 
-    runQuery(buildStatement(statement, params)).consume();
+    runQuery(buildStatement(statement, params));
   }
 
   @Override
@@ -281,31 +352,30 @@ public class Neo4jGraphService implements GraphService {
   }
 
   /**
-   * Executes a list of statements with parameters in one transaction.
+   * Executes a list of statements with parameters in one transaction of the given session.
    *
+   * @param session Session to run the transaction in
    * @param statements List of statements with parameters to be executed in order
    */
-  private synchronized ExecutionResult executeStatements(@Nonnull List<Statement> statements) {
+  private synchronized ExecutionResult executeStatements(@Nonnull Session session, @Nonnull List<Statement> statements) {
     int retry = 0;
     final StopWatch stopWatch = new StopWatch();
     stopWatch.start();
     Exception lastException;
-    try (final Session session = _driver.session(_sessionConfig)) {
-      do {
-        try {
-          session.writeTransaction(tx -> {
-            for (Statement statement : statements) {
-              tx.run(statement.getCommandText(), statement.getParams());
-            }
-            return 0;
-          });
-          lastException = null;
-          break;
-        } catch (Neo4jException e) {
-          lastException = e;
-        }
-      } while (++retry <= MAX_TRANSACTION_RETRY);
-    }
+    do {
+      try {
+        session.writeTransaction(tx -> {
+          for (Statement statement : statements) {
+            tx.run(statement.getCommandText(), statement.getParams());
+          }
+          return 0;
+        });
+        lastException = null;
+        break;
+      } catch (Neo4jException e) {
+        lastException = e;
+      }
+    } while (++retry <= MAX_TRANSACTION_RETRY);
 
     if (lastException != null) {
       throw new RetryLimitReached(
@@ -317,16 +387,31 @@ public class Neo4jGraphService implements GraphService {
   }
 
   /**
-   * Runs a query statement with parameters and return StatementResult.
+   * Runs a query statement with parameters in its own session and consumes the result.
+   *
+   * @param statement a statement with parameters to be executed
+   * @return summary of the query result
+   */
+  @Nonnull
+  private ResultSummary runQuery(@Nonnull Statement statement) {
+    try (Session session = _driver.session(_sessionConfig)) {
+      return runQuery(session, statement).consume();
+    }
+  }
+
+  /**
+   * Runs a query statement with parameters in the given session and return StatementResult. The result must be consumed
+   * before the session is closed.
    *
+   * @param session session to run the query in
    * @param statement a statement with parameters to be executed
    * @return list of elements in the query result
    */
   @Nonnull
-  private Result runQuery(@Nonnull Statement statement) {
+  private Result runQuery(@Nonnull Session session, @Nonnull Statement statement) {
     log.debug(String.format("Running Neo4j query %s", statement.toString()));
     try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "runQuery").time()) {
-      return _driver.session(_sessionConfig).run(statement.getCommandText(), statement.getParams());
+      return session.run(statement.getCommandText(), statement.getParams());
     }
   }
 
@@ -398,20 +483,4 @@ public class Neo4jGraphService implements GraphService {
 
     return joiner.length() <= 2 ? "" : joiner.toString();
   }
-
-  /**
-   * Gets Node based on Urn, if not exist, creates placeholder node.
-   */
-  @Nonnull
-  private Statement getOrInsertNode(@Nonnull Urn urn) {
-    final String nodeType = urn.getEntityType();
-
-    final String mergeTemplate = "MERGE (node:%s {urn: $urn}) RETURN node";
-    final String statement = String.format(mergeTemplate, nodeType);
-
-    final Map<String, Object> params = new HashMap<>();
-    params.put("urn", urn.toString());
-
-    return buildStatement(statement, params);
-  }
 }
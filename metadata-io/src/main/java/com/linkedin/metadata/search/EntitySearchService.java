@@ -5,6 +5,7 @@ import com.linkedin.metadata.browse.BrowseResult;
 import com.linkedin.metadata.query.AutoCompleteResult;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.SortCriterion;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import javax.annotation.Nonnull;
@@ -70,6 +71,29 @@ public interface EntitySearchService {
   SearchResult search(@Nonnull String entityName, @Nonnull String input, @Nullable Filter postFilters,
       @Nullable SortCriterion sortCriterion, int from, int size);
 
+  /**
+   * Runs {@link #search(String, String, Filter, SortCriterion, int, int)} against several entities at once.
+   * Implementations should send the per entity queries to the backend in a single round trip when possible; the
+   * default simply searches each entity in turn.
+   *
+   * @param entityNames names of the entities to search
+   * @param input the search input text
+   * @param postFilters the request map with fields and values as filters to be applied to search hits
+   * @param sortCriterion {@link SortCriterion} to be applied to search results
+   * @param from index to start the search from, within each entity
+   * @param size the number of search hits to return per entity
+   * @return the {@link SearchResult} of each entity, keyed by entity name
+   */
+  @Nonnull
+  default Map<String, SearchResult> multiSearch(@Nonnull List<String> entityNames, @Nonnull String input,
+      @Nullable Filter postFilters, @Nullable SortCriterion sortCriterion, int from, int size) {
+    final Map<String, SearchResult> results = new HashMap<>();
+    for (String entityName : entityNames) {
+      results.put(entityName, search(entityName, input, postFilters, sortCriterion, from, size));
+    }
+    return results;
+  }
+
   /**
    * Gets a list of documents after applying the input filters.
    *
@@ -1,5 +1,6 @@
 package com.linkedin.metadata.search;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.linkedin.common.urn.Urn;
@@ -13,15 +14,20 @@ import com.linkedin.metadata.query.filter.ConjunctiveCriterion;
 import com.linkedin.metadata.query.filter.Criterion;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.SortCriterion;
-import com.linkedin.metadata.search.cache.CachedEntityLineageResult;
+import com.linkedin.metadata.search.cache.LineageClosureStore;
 import com.linkedin.metadata.search.utils.FilterUtils;
 import com.linkedin.metadata.search.utils.QueryUtils;
 import com.linkedin.metadata.search.utils.SearchUtils;
+import com.linkedin.metadata.utils.ConcurrencyUtils;
 import io.opentelemetry.extension.annotations.WithSpan;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -33,8 +39,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
-import org.apache.commons.lang3.tuple.Pair;
-import org.springframework.cache.Cache;
 
 
 @RequiredArgsConstructor
@@ -43,8 +47,7 @@ public class LineageSearchService {
   private final SearchService _searchService;
   private final GraphService _graphService;
   @Nullable
-  private final Cache cache;
-  private final boolean cacheEnabled;
+  private final LineageClosureStore _lineageClosureStore;
 
   private static final String DEGREE_FILTER = "degree";
   private static final String DEGREE_FILTER_INPUT = "degree.keyword";
@@ -55,7 +58,6 @@ public class LineageSearchService {
   private static final int MAX_RELATIONSHIPS = 1000000;
   private static final int MAX_TERMS = 50000;
   private static final SearchFlags SKIP_CACHE = new SearchFlags().setSkipCache(true);
-  private static final long DAY_IN_MS = 24 * 60 * 60 * 1000;
 
   /**
    * Gets a list of documents that match given search request that is related to the input entity
@@ -76,20 +78,15 @@ public class LineageSearchService {
   public LineageSearchResult searchAcrossLineage(@Nonnull Urn sourceUrn, @Nonnull LineageDirection direction,
       @Nonnull List<String> entities, @Nullable String input, @Nullable Integer maxHops, @Nullable Filter inputFilters,
       @Nullable SortCriterion sortCriterion, int from, int size) {
-    // Cache multihop result for faster performance
-    CachedEntityLineageResult cachedLineageResult = cacheEnabled
-        ? cache.get(Pair.of(sourceUrn, direction), CachedEntityLineageResult.class) : null;
-    EntityLineageResult lineageResult;
-    if (cachedLineageResult == null) {
+    // Reuse the multihop result for as long as it is up to date
+    EntityLineageResult lineageResult =
+        _lineageClosureStore != null ? _lineageClosureStore.get(sourceUrn, direction) : null;
+    if (lineageResult == null) {
       maxHops = maxHops != null ? maxHops : 1000;
+      long computedAt = System.currentTimeMillis();
       lineageResult = _graphService.getLineage(sourceUrn, direction, 0, MAX_RELATIONSHIPS, maxHops);
-      if (cacheEnabled) {
-        cache.put(Pair.of(sourceUrn, direction), new CachedEntityLineageResult(lineageResult, System.currentTimeMillis()));
-      }
-    } else {
-      lineageResult = cachedLineageResult.getEntityLineageResult();
-      if (System.currentTimeMillis() - cachedLineageResult.getTimestamp() > DAY_IN_MS) {
-        log.warn("Cached lineage entry for: {} is older than one day.", sourceUrn);
+      if (_lineageClosureStore != null) {
+        _lineageClosureStore.put(sourceUrn, direction, lineageResult, computedAt);
       }
     }
 
@@ -104,33 +101,95 @@ public class LineageSearchService {
   // Search service can only take up to 50K term filter, so query search service in batches
   private LineageSearchResult getSearchResultInBatches(List<LineageRelationship> lineageRelationships,
       @Nonnull String input, @Nullable Filter inputFilters, @Nullable SortCriterion sortCriterion, int from, int size) {
-    LineageSearchResult finalResult =
-        new LineageSearchResult().setEntities(new LineageSearchEntityArray(Collections.emptyList()))
-            .setMetadata(new SearchResultMetadata().setAggregations(new AggregationMetadataArray()))
-            .setFrom(from)
-            .setPageSize(size)
-            .setNumEntities(0);
     List<List<LineageRelationship>> batchedRelationships = Lists.partition(lineageRelationships, MAX_TERMS);
+    // Results are merged by score, which does not hold when sorting by a field
+    LineageSearchResult finalResult = batchedRelationships.size() > 1 && sortCriterion == null
+        ? getSearchResultConcurrently(batchedRelationships, input, inputFilters, from, size)
+        : getSearchResultSequentially(batchedRelationships, input, inputFilters, sortCriterion, from, size);
+
+    finalResult.getMetadata().getAggregations().add(0, DEGREE_FILTER_GROUP);
+    return finalResult.setFrom(from).setPageSize(size);
+  }
+
+  private LineageSearchResult getSearchResultSequentially(List<List<LineageRelationship>> batchedRelationships,
+      @Nonnull String input, @Nullable Filter inputFilters, @Nullable SortCriterion sortCriterion, int from, int size) {
+    LineageSearchResult finalResult = emptyResult(from, size);
     int queryFrom = from;
     int querySize = size;
     for (List<LineageRelationship> batch : batchedRelationships) {
-      List<String> entitiesToQuery = batch.stream()
-          .map(relationship -> relationship.getEntity().getEntityType())
-          .distinct()
-          .collect(Collectors.toList());
-      Map<Urn, LineageRelationship> urnToRelationship =
-          batch.stream().collect(Collectors.toMap(LineageRelationship::getEntity, Function.identity()));
-      Filter finalFilter = buildFilter(urnToRelationship.keySet(), inputFilters);
-      LineageSearchResult resultForBatch = buildLineageSearchResult(
-          _searchService.searchAcrossEntities(entitiesToQuery, input, finalFilter, sortCriterion, queryFrom, querySize,
-              SKIP_CACHE), urnToRelationship);
+      LineageSearchResult resultForBatch = searchBatch(batch, input, inputFilters, sortCriterion, queryFrom, querySize);
       queryFrom = Math.max(0, from - resultForBatch.getNumEntities());
       querySize = Math.max(0, size - resultForBatch.getEntities().size());
       finalResult = merge(finalResult, resultForBatch);
     }
+    return finalResult;
+  }
 
-    finalResult.getMetadata().getAggregations().add(0, DEGREE_FILTER_GROUP);
-    return finalResult.setFrom(from).setPageSize(size);
+  // Any batch may hold any of the requested results, so every batch is searched for the top from + size results, all
+  // at once, and the per batch results are then merged by score
+  private LineageSearchResult getSearchResultConcurrently(List<List<LineageRelationship>> batchedRelationships,
+      @Nonnull String input, @Nullable Filter inputFilters, int from, int size) {
+    List<LineageSearchResult> resultsPerBatch = ConcurrencyUtils.transformAndCollectAsync(batchedRelationships,
+        batch -> searchBatch(batch, input, inputFilters, null, 0, from + size));
+    LineageSearchResult finalResult = emptyResult(from, size);
+    for (LineageSearchResult resultForBatch : resultsPerBatch) {
+      finalResult = merge(finalResult, resultForBatch);
+    }
+    return finalResult.setEntities(new LineageSearchEntityArray(mergeByScore(resultsPerBatch, from, size)));
+  }
+
+  private LineageSearchResult searchBatch(List<LineageRelationship> batch, @Nonnull String input,
+      @Nullable Filter inputFilters, @Nullable SortCriterion sortCriterion, int from, int size) {
+    List<String> entitiesToQuery = batch.stream()
+        .map(relationship -> relationship.getEntity().getEntityType())
+        .distinct()
+        .collect(Collectors.toList());
+    Map<Urn, LineageRelationship> urnToRelationship =
+        batch.stream().collect(Collectors.toMap(LineageRelationship::getEntity, Function.identity()));
+    Filter finalFilter = buildFilter(urnToRelationship.keySet(), inputFilters);
+    return buildLineageSearchResult(
+        _searchService.searchAcrossEntities(entitiesToQuery, input, finalFilter, sortCriterion, from, size,
+            SKIP_CACHE), urnToRelationship);
+  }
+
+  private static LineageSearchResult emptyResult(int from, int size) {
+    return new LineageSearchResult().setEntities(new LineageSearchEntityArray(Collections.emptyList()))
+        .setMetadata(new SearchResultMetadata().setAggregations(new AggregationMetadataArray()))
+        .setFrom(from)
+        .setPageSize(size)
+        .setNumEntities(0);
+  }
+
+  // K-way merge of results sorted by decreasing score, ties are broken by batch order
+  @VisibleForTesting
+  static List<LineageSearchEntity> mergeByScore(List<LineageSearchResult> resultsPerBatch, int from,
+      int size) {
+    List<LineageSearchEntityArray> entitiesPerBatch =
+        resultsPerBatch.stream().map(LineageSearchResult::getEntities).collect(Collectors.toList());
+    // Heads are {batch index, position in batch}
+    PriorityQueue<int[]> heads = new PriorityQueue<>(
+        Comparator.<int[]>comparingDouble(head -> -getScore(entitiesPerBatch.get(head[0]).get(head[1])))
+            .thenComparingInt(head -> head[0]));
+    for (int i = 0; i < entitiesPerBatch.size(); i++) {
+      if (!entitiesPerBatch.get(i).isEmpty()) {
+        heads.add(new int[]{i, 0});
+      }
+    }
+    List<LineageSearchEntity> result = new ArrayList<>(size);
+    for (int position = 0; position < from + size && !heads.isEmpty(); position++) {
+      int[] head = heads.poll();
+      if (position >= from) {
+        result.add(entitiesPerBatch.get(head[0]).get(head[1]));
+      }
+      if (head[1] + 1 < entitiesPerBatch.get(head[0]).size()) {
+        heads.add(new int[]{head[0], head[1] + 1});
+      }
+    }
+    return result;
+  }
+
+  private static double getScore(@Nonnull LineageSearchEntity entity) {
+    return Optional.ofNullable(entity.getScore()).orElse(0.0);
   }
 
   @SneakyThrows
@@ -47,17 +47,29 @@ public class AllEntitiesSearchAggregator {
   private final EntityDocCountCache _entityDocCountCache;
   private final CachingEntitySearchService _cachingEntitySearchService;
   private final int _maxAggregationValueCount;
+  // Whether all entities are searched with a single multi search request rather than one request per entity
+  private final boolean _multiSearchEnabled;
 
   public AllEntitiesSearchAggregator(
       EntityRegistry entityRegistry,
       EntitySearchService entitySearchService,
       CachingEntitySearchService cachingEntitySearchService,
       SearchRanker searchRanker) {
+    this(entityRegistry, entitySearchService, cachingEntitySearchService, searchRanker, false);
+  }
+
+  public AllEntitiesSearchAggregator(
+      EntityRegistry entityRegistry,
+      EntitySearchService entitySearchService,
+      CachingEntitySearchService cachingEntitySearchService,
+      SearchRanker searchRanker,
+      boolean multiSearchEnabled) {
     _entitySearchService = Objects.requireNonNull(entitySearchService);
     _searchRanker = Objects.requireNonNull(searchRanker);
     _cachingEntitySearchService = Objects.requireNonNull(cachingEntitySearchService);
     _entityDocCountCache = new EntityDocCountCache(entityRegistry, entitySearchService);
     _maxAggregationValueCount = DEFAULT_MAX_AGGREGATION_VALUES; // TODO: Make this externally configurable
+    _multiSearchEnabled = multiSearchEnabled;
   }
 
   @Nonnull
@@ -153,6 +165,14 @@ public class AllEntitiesSearchAggregator {
       @Nullable Filter postFilters, @Nullable SortCriterion sortCriterion, int queryFrom, int querySize,
       @Nullable SearchFlags searchFlags) {
     Map<String, SearchResult> searchResults;
+    if (_multiSearchEnabled) {
+      // Query the entity search service for all entities in a single round trip
+      try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "multiSearchEntities").time()) {
+        searchResults = _cachingEntitySearchService.multiSearch(entities, input, postFilters, sortCriterion, queryFrom,
+            querySize, searchFlags);
+      }
+      return searchResults;
+    }
     // Query the entity search service for all entities asynchronously
     try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "searchEntities").time()) {
       searchResults = ConcurrencyUtils.transformAndCollectAsync(entities, entity -> new Pair<>(entity,
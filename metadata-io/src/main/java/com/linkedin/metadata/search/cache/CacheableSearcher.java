@@ -6,19 +6,30 @@ import com.linkedin.metadata.search.SearchEntityArray;
 import com.linkedin.metadata.search.SearchResult;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
+import org.javatuples.Pair;
 import org.springframework.cache.Cache;
 
 
 /**
  * Wrapper class to allow searching in batches and caching the results.
+ *
+ * To serve deep pages without going through every batch before them, the searcher starts from the batch holding "from"
+ * when batches are known to be full, and otherwise from the closest batch whose start offset was seen by an earlier
+ * search. These offsets are cached along with the batches. An offset only holds as long as the results it was computed
+ * from: it is ignored once its batch is no longer cached, and dropped once an earlier batch is searched again.
  */
 @RequiredArgsConstructor
 public class CacheableSearcher<K> {
+  private static final String BATCH_OFFSETS_KEY = "batchOffsets";
+
   @Nonnull
   private final Cache cache;
   private final int batchSize;
@@ -29,6 +40,13 @@ public class CacheableSearcher<K> {
   @Nullable
   private final SearchFlags searchFlags;
   private final boolean enableCache;
+  // Whether every batch but the last holds exactly batchSize results, as with from / size queries on a single index
+  private final boolean fullBatches;
+
+  public CacheableSearcher(@Nonnull Cache cache, int batchSize, Function<QueryPagination, SearchResult> searcher,
+      Function<QueryPagination, K> cacheKeyGenerator, @Nullable SearchFlags searchFlags, boolean enableCache) {
+    this(cache, batchSize, searcher, cacheKeyGenerator, searchFlags, enableCache, false);
+  }
 
   @Value
   public static class QueryPagination {
@@ -38,18 +56,34 @@ public class CacheableSearcher<K> {
 
   /**
    * Get search results corresponding to the input "from" and "size"
-   * It goes through batches, starting from the beginning, until we get enough results to return
+   * It goes through batches, starting from the last batch known to start at or before "from", until we get enough
+   * results to return
    * This let's us have batches that return a variable number of results (we have no idea which batch the "from" "size" page corresponds to)
    */
   public SearchResult getSearchResults(int from, int size) {
+    final NavigableMap<Integer, Integer> batchOffsets = getBatchOffsets();
     int resultsSoFar = 0;
     int batchId = 0;
+    if (fullBatches) {
+      batchId = from / batchSize;
+      resultsSoFar = batchId * batchSize;
+    } else if (batchOffsets != null) {
+      Map.Entry<Integer, Integer> closestBatch = batchOffsets.floorEntry(from);
+      while (closestBatch != null && !isCached(closestBatch.getValue())) {
+        batchOffsets.remove(closestBatch.getKey());
+        closestBatch = batchOffsets.lowerEntry(closestBatch.getKey());
+      }
+      if (closestBatch != null) {
+        resultsSoFar = closestBatch.getKey();
+        batchId = closestBatch.getValue();
+      }
+    }
     boolean foundStart = false;
     List<SearchEntity> resultEntities = new ArrayList<>();
     SearchResult batchedResult;
     // Use do-while to make sure we run at least one batch to fetch metadata
     do {
-      batchedResult = getBatch(batchId);
+      batchedResult = getBatch(batchId, batchOffsets);
       int currentBatchSize = batchedResult.getEntities().size();
       // If the number of results in this batch is 0, no need to continue
       if (currentBatchSize == 0) {
@@ -67,7 +101,13 @@ public class CacheableSearcher<K> {
       }
       resultsSoFar += currentBatchSize;
       batchId++;
+      if (batchOffsets != null) {
+        batchOffsets.put(resultsSoFar, batchId);
+      }
     } while (resultsSoFar < from + size);
+    if (batchOffsets != null) {
+      cache.put(getBatchOffsetsKey(), batchOffsets);
+    }
     return new SearchResult().setEntities(new SearchEntityArray(resultEntities))
         .setMetadata(batchedResult.getMetadata())
         .setFrom(from)
@@ -75,11 +115,32 @@ public class CacheableSearcher<K> {
         .setNumEntities(batchedResult.getNumEntities());
   }
 
+  /**
+   * Returns the start offsets of the batches seen so far, mapped to their batch ids, or null when they are not tracked.
+   */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  private NavigableMap<Integer, Integer> getBatchOffsets() {
+    if (fullBatches || !enableCache()) {
+      return null;
+    }
+    final NavigableMap<Integer, Integer> batchOffsets = cache.get(getBatchOffsetsKey(), NavigableMap.class);
+    return batchOffsets == null ? new ConcurrentSkipListMap<>() : batchOffsets;
+  }
+
+  private Object getBatchOffsetsKey() {
+    return Pair.with(BATCH_OFFSETS_KEY, cacheKeyGenerator.apply(getBatchQuerySize(0)));
+  }
+
   private QueryPagination getBatchQuerySize(int batchId) {
     return new QueryPagination(batchId * batchSize, batchSize);
   }
 
-  private SearchResult getBatch(int batchId) {
+  private boolean isCached(int batchId) {
+    return SerializedRecordCache.isCached(cache, cacheKeyGenerator.apply(getBatchQuerySize(batchId)));
+  }
+
+  private SearchResult getBatch(int batchId, @Nullable NavigableMap<Integer, Integer> batchOffsets) {
     QueryPagination batch = getBatchQuerySize(batchId);
     SearchResult result;
     if (enableCache()) {
@@ -88,6 +149,10 @@ public class CacheableSearcher<K> {
       if (result == null) {
         result = searcher.apply(batch);
         cache.put(cacheKey, result);
+        // Offsets of the following batches were computed from the previous results of this one
+        if (batchOffsets != null) {
+          batchOffsets.values().removeIf(id -> id > batchId);
+        }
       }
     } else {
       result = searcher.apply(batch);
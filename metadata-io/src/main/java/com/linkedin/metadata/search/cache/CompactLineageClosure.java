@@ -0,0 +1,79 @@
+package com.linkedin.metadata.search.cache;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.graph.EntityLineageResult;
+import com.linkedin.metadata.graph.LineageRelationship;
+import com.linkedin.metadata.graph.LineageRelationshipArray;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+
+
+/**
+ * Multi-hop lineage of an entity stored as parallel arrays, one slot per related entity, instead of the
+ * {@link EntityLineageResult} record it was computed as. Relationship type names are shared between slots.
+ *
+ * Paths are not kept, as no graph service populates them on multi-hop lineage.
+ */
+public class CompactLineageClosure {
+
+  private final Urn[] _entities;
+  private final String[] _types;
+  private final int[] _degrees;
+  private final long _computedAt;
+
+  private CompactLineageClosure(@Nonnull Urn[] entities, @Nonnull String[] types, @Nonnull int[] degrees,
+      long computedAt) {
+    _entities = entities;
+    _types = types;
+    _degrees = degrees;
+    _computedAt = computedAt;
+  }
+
+  @Nonnull
+  public static CompactLineageClosure of(@Nonnull EntityLineageResult lineageResult, long computedAt) {
+    final List<LineageRelationship> relationships = lineageResult.getRelationships();
+    final int size = relationships.size();
+    final Urn[] entities = new Urn[size];
+    final String[] types = new String[size];
+    final int[] degrees = new int[size];
+    final Map<String, String> typeNames = new HashMap<>();
+    for (int i = 0; i < size; i++) {
+      final LineageRelationship relationship = relationships.get(i);
+      entities[i] = relationship.getEntity();
+      types[i] = typeNames.computeIfAbsent(relationship.getType(), type -> type);
+      degrees[i] = relationship.getDegree();
+    }
+    return new CompactLineageClosure(entities, types, degrees, computedAt);
+  }
+
+  public int size() {
+    return _entities.length;
+  }
+
+  @Nonnull
+  public Urn getEntity(int index) {
+    return _entities[index];
+  }
+
+  /**
+   * Time at which the lineage started being computed, i.e. it reflects all lineage changes made before then.
+   */
+  public long getComputedAt() {
+    return _computedAt;
+  }
+
+  @Nonnull
+  public EntityLineageResult toEntityLineageResult() {
+    final List<LineageRelationship> relationships = new ArrayList<>(_entities.length);
+    for (int i = 0; i < _entities.length; i++) {
+      relationships.add(new LineageRelationship().setEntity(_entities[i]).setType(_types[i]).setDegree(_degrees[i]));
+    }
+    return new EntityLineageResult().setStart(0)
+        .setCount(relationships.size())
+        .setTotal(relationships.size())
+        .setRelationships(new LineageRelationshipArray(relationships));
+  }
+}
@@ -0,0 +1,105 @@
+package com.linkedin.metadata.search.cache;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.event.MetadataChangeLogListener;
+import com.linkedin.metadata.graph.LineageDirection;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.RelationshipFieldSpec;
+import com.linkedin.metadata.models.extractor.FieldExtractor;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.models.registry.LineageRegistry;
+import com.linkedin.metadata.utils.EntityKeyUtils;
+import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import java.net.URISyntaxException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Keeps a {@link LineageClosureStore} up to date by reporting every entity whose lineage edges change.
+ */
+@Slf4j
+public class LineageClosureInvalidator implements MetadataChangeLogListener {
+
+  private final LineageClosureStore _lineageClosureStore;
+  private final EntityRegistry _entityRegistry;
+  private final Set<String> _lineageRelationshipTypes;
+
+  public LineageClosureInvalidator(@Nonnull final LineageClosureStore lineageClosureStore,
+      @Nonnull final EntityRegistry entityRegistry) {
+    _lineageClosureStore = lineageClosureStore;
+    _entityRegistry = entityRegistry;
+    final LineageRegistry lineageRegistry = new LineageRegistry(entityRegistry);
+    _lineageRelationshipTypes = entityRegistry.getEntitySpecs()
+        .keySet()
+        .stream()
+        .flatMap(entityName -> Stream.of(LineageDirection.UPSTREAM, LineageDirection.DOWNSTREAM)
+            .flatMap(direction -> lineageRegistry.getLineageRelationships(entityName, direction).stream()))
+        .map(edgeInfo -> edgeInfo.getType().toLowerCase())
+        .collect(Collectors.toSet());
+  }
+
+  @Override
+  public void onChangeLog(@Nonnull final MetadataChangeLog changeLog) {
+    final Set<Urn> changedUrns = getLineageChangedUrns(changeLog);
+    if (!changedUrns.isEmpty()) {
+      log.debug("Lineage of {} changed", changedUrns);
+      _lineageClosureStore.invalidate(changedUrns);
+    }
+  }
+
+  /**
+   * Returns the entities whose lineage may have changed with the event: the entity itself and, unless the aspect is
+   * deleted, the targets of its lineage edges. Targets of removed edges need not be reported, as any lineage which went
+   * through a removed edge contains the entity itself.
+   */
+  @Nonnull
+  private Set<Urn> getLineageChangedUrns(@Nonnull final MetadataChangeLog event) {
+    final Set<Urn> result = new HashSet<>();
+    if (!event.hasAspectName()) {
+      return result;
+    }
+    final EntitySpec entitySpec = _entityRegistry.getEntitySpec(event.getEntityType());
+    final AspectSpec aspectSpec = entitySpec.getAspectSpec(event.getAspectName());
+    if (aspectSpec == null || aspectSpec.isTimeseries()) {
+      return result;
+    }
+    final List<RelationshipFieldSpec> lineageFieldSpecs = aspectSpec.getRelationshipFieldSpecs()
+        .stream()
+        .filter(spec -> _lineageRelationshipTypes.contains(spec.getRelationshipName().toLowerCase()))
+        .collect(Collectors.toList());
+    final boolean isKeyAspect = event.getAspectName().equals(entitySpec.getKeyAspectName());
+    if (lineageFieldSpecs.isEmpty() && !isKeyAspect) {
+      return result;
+    }
+
+    result.add(EntityKeyUtils.getUrnFromLog(event, entitySpec.getKeyAspectSpec()));
+    if (event.getChangeType() == ChangeType.DELETE || !event.hasAspect()) {
+      return result;
+    }
+    final RecordTemplate aspect =
+        GenericRecordUtils.deserializeAspect(event.getAspect().getValue(), event.getAspect().getContentType(),
+            aspectSpec);
+    for (Map.Entry<RelationshipFieldSpec, List<Object>> entry : FieldExtractor.extractFields(aspect, lineageFieldSpecs)
+        .entrySet()) {
+      for (Object fieldValue : entry.getValue()) {
+        try {
+          result.add(Urn.createFromString(fieldValue.toString()));
+        } catch (URISyntaxException e) {
+          log.error("Invalid destination urn: {}", fieldValue.toString(), e);
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,112 @@
+package com.linkedin.metadata.search.cache;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.graph.EntityLineageResult;
+import com.linkedin.metadata.graph.LineageDirection;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.cache.Cache;
+
+
+/**
+ * Keeps the multi-hop lineage of entities, in the compact form of {@link CompactLineageClosure}, for as long as it is
+ * up to date rather than for a fixed time.
+ *
+ * Callers report every entity whose lineage edges changed through {@link #invalidate(Collection)}: the entity owning
+ * the changed aspect and the entities its new edges point to. Any lineage which traversed a changed edge contains one
+ * of its ends, or is rooted at it, so a stored lineage is discarded on read as soon as its root or one of its entities
+ * changed after it was computed. Changes are only trusted once the configured settle delay has elapsed, to leave
+ * time for the graph index to reflect them.
+ *
+ * The last change time of at most maxTrackedChanges entities is remembered. Beyond that, all stored lineage computed
+ * until then is discarded at once and tracking starts over.
+ */
+@Slf4j
+public class LineageClosureStore {
+
+  private final Cache _cache;
+  private final int _maxTrackedChanges;
+  private final long _settleMillis;
+
+  private final Map<Urn, Long> _changedUntil = new ConcurrentHashMap<>();
+  private volatile long _allChangedUntil = 0;
+
+  public LineageClosureStore(@Nonnull final Cache cache, final int maxTrackedChanges, final long settleMillis) {
+    _cache = cache;
+    _maxTrackedChanges = maxTrackedChanges;
+    _settleMillis = settleMillis;
+  }
+
+  /**
+   * Returns the stored lineage of the entity in the given direction, or null if there is none or it is out of date.
+   */
+  @Nullable
+  public EntityLineageResult get(@Nonnull final Urn urn, @Nonnull final LineageDirection direction) {
+    final Pair<Urn, LineageDirection> key = Pair.of(urn, direction);
+    final CompactLineageClosure closure = _cache.get(key, CompactLineageClosure.class);
+    if (closure == null) {
+      MetricUtils.counter(this.getClass(), "cache_miss_count").inc();
+      return null;
+    }
+    if (!isUpToDate(urn, closure)) {
+      MetricUtils.counter(this.getClass(), "stale_count").inc();
+      _cache.evict(key);
+      return null;
+    }
+    MetricUtils.counter(this.getClass(), "cache_hit_count").inc();
+    return closure.toEntityLineageResult();
+  }
+
+  /**
+   * Stores the lineage of the entity.
+   *
+   * @param computedAt time at which the computation of the lineage started
+   */
+  public void put(@Nonnull final Urn urn, @Nonnull final LineageDirection direction,
+      @Nonnull final EntityLineageResult lineageResult, final long computedAt) {
+    _cache.put(Pair.of(urn, direction), CompactLineageClosure.of(lineageResult, computedAt));
+  }
+
+  /**
+   * Marks the lineage of the given entities as changed now.
+   */
+  public synchronized void invalidate(@Nonnull final Collection<Urn> urns) {
+    final long changedUntil = System.currentTimeMillis() + _settleMillis;
+    if (_changedUntil.size() + urns.size() > _maxTrackedChanges) {
+      log.info("Tracking lineage changes of more than {} entities, discarding all stored lineage", _maxTrackedChanges);
+      MetricUtils.counter(this.getClass(), "invalidate_all_count").inc();
+      // Must happen before the per entity changes are forgotten, see isUpToDate
+      _allChangedUntil = changedUntil;
+      _changedUntil.clear();
+    }
+    urns.forEach(urn -> _changedUntil.put(urn, changedUntil));
+    MetricUtils.counter(this.getClass(), "invalidation_count").inc(urns.size());
+  }
+
+  private boolean isUpToDate(@Nonnull final Urn urn, @Nonnull final CompactLineageClosure closure) {
+    final long computedAt = closure.getComputedAt();
+    if (!_changedUntil.isEmpty()) {
+      if (changedAfter(urn, computedAt)) {
+        return false;
+      }
+      for (int i = 0; i < closure.size(); i++) {
+        if (changedAfter(closure.getEntity(i), computedAt)) {
+          return false;
+        }
+      }
+    }
+    // Checked last, so that changes forgotten in the meantime are accounted for
+    return computedAt >= _allChangedUntil;
+  }
+
+  private boolean changedAfter(@Nonnull final Urn urn, final long computedAt) {
+    final Long changedUntil = _changedUntil.get(urn);
+    return changedUntil != null && changedUntil > computedAt;
+  }
+}
@@ -0,0 +1,168 @@
+package com.linkedin.metadata.search.cache;
+
+import com.datahub.util.RecordUtils;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.PsonDataCodec;
+import com.linkedin.data.template.RecordTemplate;
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+
+/**
+ * Cache storing {@link RecordTemplate} values, such as search, autocomplete and browse results, in their serialized
+ * form rather than as {@link DataMap} object graphs, which take several times as much heap. Records are decoded again
+ * on every read, so callers never share mutable instances. Other values are stored as they are.
+ *
+ * The serialized size of each record is known, so that the underlying cache can be bounded by bytes using
+ * {@link #weigh(Object, Object)} rather than by number of entries.
+ */
+@Slf4j
+public class SerializedRecordCache implements Cache {
+
+  // Rough heap footprint of an entry besides the serialized record: key, wrapper and cache node
+  private static final int ENTRY_OVERHEAD_BYTES = 256;
+  // Assumed footprint of values stored as they are, whose size is not known
+  private static final int UNSERIALIZED_ENTRY_BYTES = 1024;
+  // Binary encoding, which is decoded without parsing text and keeps the exact types of numbers and bytes
+  private static final PsonDataCodec CODEC = new PsonDataCodec();
+
+  private final Cache _delegate;
+
+  public SerializedRecordCache(@Nonnull final Cache delegate) {
+    _delegate = delegate;
+  }
+
+  /**
+   * Approximate number of bytes taken by a value stored through a {@link SerializedRecordCache}, to be used as the
+   * weigher of the underlying cache.
+   */
+  public static int weigh(@Nonnull final Object key, @Nonnull final Object value) {
+    if (value instanceof SerializedRecord) {
+      return ((SerializedRecord) value).size() + ENTRY_OVERHEAD_BYTES;
+    }
+    return UNSERIALIZED_ENTRY_BYTES;
+  }
+
+  /**
+   * Whether a value is cached for the key. Unlike {@code cache.get(key) != null}, this does not decode the value when
+   * the cache is a {@link SerializedRecordCache}.
+   */
+  public static boolean isCached(@Nonnull final Cache cache, @Nonnull final Object key) {
+    if (cache instanceof SerializedRecordCache) {
+      return ((SerializedRecordCache) cache)._delegate.get(key) != null;
+    }
+    return cache.get(key) != null;
+  }
+
+  @Override
+  @Nonnull
+  public String getName() {
+    return _delegate.getName();
+  }
+
+  @Override
+  @Nonnull
+  public Object getNativeCache() {
+    return _delegate.getNativeCache();
+  }
+
+  @Override
+  @Nullable
+  public ValueWrapper get(@Nonnull final Object key) {
+    final ValueWrapper wrapper = _delegate.get(key);
+    return wrapper == null ? null : new SimpleValueWrapper(fromStored(wrapper.get()));
+  }
+
+  @Override
+  @Nullable
+  @SuppressWarnings("unchecked")
+  public <T> T get(@Nonnull final Object key, @Nullable final Class<T> type) {
+    final ValueWrapper wrapper = _delegate.get(key);
+    if (wrapper == null) {
+      return null;
+    }
+    final Object value = fromStored(wrapper.get());
+    if (value != null && type != null && !type.isInstance(value)) {
+      throw new IllegalStateException(
+          String.format("Cached value is not of required type [%s]: %s", type.getName(), value));
+    }
+    return (T) value;
+  }
+
+  @Override
+  @Nullable
+  @SuppressWarnings("unchecked")
+  public <T> T get(@Nonnull final Object key, @Nonnull final Callable<T> valueLoader) {
+    return (T) fromStored(_delegate.get(key, () -> toStored(valueLoader.call())));
+  }
+
+  @Override
+  public void put(@Nonnull final Object key, @Nullable final Object value) {
+    _delegate.put(key, toStored(value));
+  }
+
+  @Override
+  @Nullable
+  public ValueWrapper putIfAbsent(@Nonnull final Object key, @Nullable final Object value) {
+    final ValueWrapper existing = _delegate.putIfAbsent(key, toStored(value));
+    return existing == null ? null : new SimpleValueWrapper(fromStored(existing.get()));
+  }
+
+  @Override
+  public void evict(@Nonnull final Object key) {
+    _delegate.evict(key);
+  }
+
+  @Override
+  public void clear() {
+    _delegate.clear();
+  }
+
+  @Nullable
+  private static Object toStored(@Nullable final Object value) {
+    if (!(value instanceof RecordTemplate)) {
+      return value;
+    }
+    try {
+      return new SerializedRecord(((RecordTemplate) value).getClass(), CODEC.mapToBytes(((RecordTemplate) value).data()));
+    } catch (IOException e) {
+      log.warn("Failed to serialize {}, caching it as is", value.getClass().getSimpleName(), e);
+      return value;
+    }
+  }
+
+  @Nullable
+  private static Object fromStored(@Nullable final Object value) {
+    if (!(value instanceof SerializedRecord)) {
+      return value;
+    }
+    final SerializedRecord record = (SerializedRecord) value;
+    try {
+      return RecordUtils.toRecordTemplate(record._type, CODEC.bytesToMap(record._bytes));
+    } catch (IOException e) {
+      throw new IllegalStateException(String.format("Failed to deserialize cached %s", record._type.getSimpleName()), e);
+    }
+  }
+
+  /**
+   * A record along with its type, as held by the underlying cache.
+   */
+  public static final class SerializedRecord {
+    private final Class<? extends RecordTemplate> _type;
+    private final byte[] _bytes;
+
+    private SerializedRecord(@Nonnull final Class<? extends RecordTemplate> type, @Nonnull final byte[] bytes) {
+      _type = type;
+      _bytes = bytes;
+    }
+
+    public int size() {
+      return _bytes.length;
+    }
+  }
+}
@@ -8,6 +8,11 @@ import com.linkedin.metadata.query.filter.SortCriterion;
 import com.linkedin.metadata.search.EntitySearchService;
 import com.linkedin.metadata.search.SearchResult;
 import com.linkedin.metadata.search.cache.CacheableSearcher;
+import com.linkedin.metadata.search.cache.SerializedRecordCache;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
@@ -52,6 +57,53 @@ public class CachingEntitySearchService {
     return getCachedSearchResults(entityName, query, filters, sortCriterion, from, size, flags);
   }
 
+  /**
+   * Retrieves cached search results for several entities at once. The first batch of every entity which is not cached
+   * yet is fetched with a single {@link EntitySearchService#multiSearch} call, any further batch needed for deeper
+   * pages is fetched per entity as in {@link #search}.
+   *
+   * @param entityNames the names of the entities to search
+   * @param query the search query
+   * @param filters the filters to include
+   * @param sortCriterion the sort criterion
+   * @param from the start offset, within each entity
+   * @param size the count, per entity
+   * @param flags additional search flags
+   *
+   * @return the {@link SearchResult} of each entity, keyed by entity name
+   */
+  public Map<String, SearchResult> multiSearch(
+      @Nonnull List<String> entityNames,
+      @Nonnull String query,
+      @Nullable Filter filters,
+      @Nullable SortCriterion sortCriterion,
+      int from,
+      int size,
+      @Nullable SearchFlags flags) {
+    if (!enableCache(flags)) {
+      return entitySearchService.multiSearch(entityNames, query, filters, sortCriterion, from, size);
+    }
+
+    final Cache cache = cacheManager.getCache(ENTITY_SEARCH_SERVICE_SEARCH_CACHE_NAME);
+    final CacheableSearcher.QueryPagination firstBatch = new CacheableSearcher.QueryPagination(0, batchSize);
+    final List<String> uncachedEntityNames = entityNames.stream()
+        .filter(entityName -> !SerializedRecordCache.isCached(cache,
+            getSearchCacheKey(entityName, query, filters, sortCriterion, firstBatch)))
+        .collect(Collectors.toList());
+    if (!uncachedEntityNames.isEmpty()) {
+      entitySearchService.multiSearch(uncachedEntityNames, query, filters, sortCriterion, firstBatch.getFrom(),
+          firstBatch.getSize())
+          .forEach((entityName, result) ->
+              cache.put(getSearchCacheKey(entityName, query, filters, sortCriterion, firstBatch), result));
+    }
+
+    final Map<String, SearchResult> results = new HashMap<>();
+    for (String entityName : entityNames) {
+      results.put(entityName, getCachedSearchResults(entityName, query, filters, sortCriterion, from, size, flags));
+    }
+    return results;
+  }
+
   /**
    * Retrieves cached auto complete results
    *
@@ -98,8 +150,8 @@ public class CachingEntitySearchService {
 
   /**
    * Get search results corresponding to the input "from" and "size"
-   * It goes through batches, starting from the beginning, until we get enough results to return
-   * This let's us have batches that return a variable number of results (we have no idea which batch the "from" "size" page corresponds to)
+   * Every batch but the last is full, so it goes through batches starting from the one holding "from" until we get
+   * enough results to return
    */
   public SearchResult getCachedSearchResults(
       @Nonnull String entityName,
@@ -113,7 +165,18 @@ public class CachingEntitySearchService {
         cacheManager.getCache(ENTITY_SEARCH_SERVICE_SEARCH_CACHE_NAME),
         batchSize,
         querySize -> getRawSearchResults(entityName, query, filters, sortCriterion, querySize.getFrom(), querySize.getSize()),
-        querySize -> Quintet.with(entityName, query, filters, sortCriterion, querySize), flags, enableCache).getSearchResults(from, size);
+        querySize -> getSearchCacheKey(entityName, query, filters, sortCriterion, querySize), flags, enableCache,
+        true)
+        .getSearchResults(from, size);
+  }
+
+  private static Object getSearchCacheKey(
+      @Nonnull String entityName,
+      @Nonnull String query,
+      @Nullable Filter filters,
+      @Nullable SortCriterion sortCriterion,
+      @Nonnull CacheableSearcher.QueryPagination querySize) {
+    return Quintet.with(entityName, query, filters, sortCriterion, querySize);
   }
 
 
@@ -14,12 +14,17 @@ import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.elasticsearch.ElasticsearchStatusException;
+import org.elasticsearch.action.search.MultiSearchRequest;
+import org.elasticsearch.action.search.MultiSearchResponse;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.client.RequestOptions;
@@ -100,6 +105,65 @@ public class ESSearchDAO {
     return executeAndExtract(entitySpec, searchRequest, postFilters, from, size);
   }
 
+  /**
+   * Runs {@link #search(String, String, Filter, SortCriterion, int, int)} for several entities in a single multi search
+   * request. Each entity keeps its own query, since boosts and searchable fields differ between entities, but all of
+   * them share one round trip to Elasticsearch.
+   *
+   * @return the {@link SearchResult} of each entity, keyed by entity name
+   */
+  @Nonnull
+  @WithSpan
+  public Map<String, SearchResult> multiSearch(@Nonnull List<String> entityNames, @Nonnull String input,
+      @Nullable Filter postFilters, @Nullable SortCriterion sortCriterion, int from, int size) {
+    final Map<String, SearchResult> results = new HashMap<>();
+    if (entityNames.isEmpty()) {
+      return results;
+    }
+    final String finalInput = input.isEmpty() ? "*" : input;
+    Timer.Context searchRequestTimer = MetricUtils.timer(this.getClass(), "multiSearchRequest").time();
+    final List<EntitySpec> entitySpecs = new ArrayList<>(entityNames.size());
+    final MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+    for (String entityName : entityNames) {
+      final EntitySpec entitySpec = entityRegistry.getEntitySpec(entityName);
+      final SearchRequest searchRequest = SearchRequestHandler.getBuilder(entitySpec)
+          .getSearchRequest(finalInput, postFilters, sortCriterion, from, size);
+      searchRequest.indices(indexConvention.getIndexName(entitySpec));
+      entitySpecs.add(entitySpec);
+      multiSearchRequest.add(searchRequest);
+    }
+    searchRequestTimer.stop();
+
+    final MultiSearchResponse multiSearchResponse;
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "esMultiSearch").time()) {
+      multiSearchResponse = client.msearch(multiSearchRequest, RequestOptions.DEFAULT);
+    } catch (Exception e) {
+      log.error("Multi search query failed", e);
+      throw new ESQueryException("Multi search query failed:", e);
+    }
+
+    // Responses come back in request order
+    final MultiSearchResponse.Item[] items = multiSearchResponse.getResponses();
+    for (int i = 0; i < items.length; i++) {
+      final EntitySpec entitySpec = entitySpecs.get(i);
+      final MultiSearchResponse.Item item = items[i];
+      if (item.isFailure()) {
+        if (item.getFailure() instanceof ElasticsearchStatusException
+            && ((ElasticsearchStatusException) item.getFailure()).status().getStatus() == 400) {
+          // Malformed query -- Could indicate bad search syntax. Return empty response.
+          log.warn("Received 400 from Elasticsearch. Returning empty search response", item.getFailure());
+          results.put(entityNames.get(i), EMPTY_SEARCH_RESULT);
+          continue;
+        }
+        log.error("Search query failed", item.getFailure());
+        throw new ESQueryException("Search query failed:", item.getFailure());
+      }
+      results.put(entityNames.get(i),
+          SearchRequestHandler.getBuilder(entitySpec).extractResult(item.getResponse(), postFilters, from, size));
+    }
+    return results;
+  }
+
   /**
    * Gets a list of documents after applying the input filters.
    *
@@ -8,6 +8,7 @@ import com.github.fge.jsonpatch.diff.JsonDiff;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.entity.AspectDao;
 import com.linkedin.metadata.entity.EntityAspect;
+import com.linkedin.metadata.entity.EntityAspectIdentifier;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
 import com.linkedin.metadata.models.registry.EntityRegistry;
@@ -25,9 +26,13 @@ import com.linkedin.metadata.timeline.differ.GlossaryTermsDiffer;
 import com.linkedin.metadata.timeline.differ.InstitutionalMemoryDiffer;
 import com.linkedin.metadata.timeline.differ.OwnershipDiffer;
 import com.linkedin.metadata.timeline.differ.SchemaMetadataDiffer;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import lombok.Value;
 import org.apache.commons.collections.CollectionUtils;
+import org.springframework.cache.Cache;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -44,6 +49,7 @@ import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import static com.linkedin.common.urn.VersionedUrnUtils.constructVersionStamp;
+import static com.linkedin.metadata.Constants.ASPECT_LATEST_VERSION;
 import static com.linkedin.metadata.Constants.DATASET_ENTITY_NAME;
 import static com.linkedin.metadata.Constants.DATASET_PROPERTIES_ASPECT_NAME;
 import static com.linkedin.metadata.Constants.EDITABLE_DATASET_PROPERTIES_ASPECT_NAME;
@@ -64,11 +70,21 @@ public class TimelineServiceImpl implements TimelineService {
   private final AspectDao _aspectDao;
   private final AspectDifferFactory _diffFactory;
   private final EntityRegistry _entityRegistry;
+  private final Cache _diffCache;
   private final HashMap<String, HashMap<ChangeCategory, Set<String>>> entityTypeElementAspectRegistry = new HashMap<>();
 
   public TimelineServiceImpl(@Nonnull AspectDao aspectDao, @Nonnull EntityRegistry entityRegistry) {
+    this(aspectDao, entityRegistry, null);
+  }
+
+  /**
+   * @param diffCache optional cache of the change transactions computed between two stored versions of an aspect
+   */
+  public TimelineServiceImpl(@Nonnull AspectDao aspectDao, @Nonnull EntityRegistry entityRegistry,
+      @Nullable Cache diffCache) {
     this._aspectDao = aspectDao;
     _entityRegistry = entityRegistry;
+    _diffCache = diffCache;
 
     // TODO: Simplify this structure.
     // TODO: Load up from yaml file
@@ -186,7 +202,7 @@ public class TimelineServiceImpl implements TimelineService {
         .stream()
         .filter(entry -> aspectNames.contains(entry.getKey()))
         .map(Map.Entry::getValue)
-        .map(value -> computeDiffs(value, urn.getEntityType(), elementNames, rawDiffRequested))
+        .map(value -> computeDiffs(urn, value, elementNames, rawDiffRequested))
         .collect(TreeMap::new, this::combineComputedDiffsPerTransactionId, this::combineComputedDiffsPerTransactionId);
     // TODO:Move this down
     assignSemanticVersions(semanticDiffs);
@@ -223,6 +239,7 @@ public class TimelineServiceImpl implements TimelineService {
     // we need to pull previous versions of these aspects that are currently at a 0
     Map<String, Long> nextVersions = _aspectDao.getNextVersions(urn.toString(), fullAspectNames);
 
+    Set<EntityAspectIdentifier> previousVersionKeys = new HashSet<>();
     for (Map.Entry<String, TreeSet<EntityAspect>> aspectMinVersion : aspectRowSetMap.entrySet()) {
       TreeSet<EntityAspect> aspectSet = aspectMinVersion.getValue();
 
@@ -241,12 +258,19 @@ public class TimelineServiceImpl implements TimelineService {
         if (oldestAspect != null) {
           versionToGet = (oldestAspect.getVersion() == 0L) ? nextVersion - 1 : oldestAspect.getVersion() - 1;
         }
-        EntityAspect row = _aspectDao.getAspect(urn.toString(), aspectMinVersion.getKey(), versionToGet);
-        if (row != null) {
-          aspectRowSetMap.get(row.getAspect()).add(row);
-        } else {
-          aspectMinVersion.getValue().add(createSentinel(aspectMinVersion.getKey()));
-        }
+        previousVersionKeys.add(new EntityAspectIdentifier(urn.toString(), aspectMinVersion.getKey(), versionToGet));
+      }
+    }
+
+    // fetch the versions preceding the time range of all aspects at once
+    Map<EntityAspectIdentifier, EntityAspect> previousVersions =
+        previousVersionKeys.isEmpty() ? Collections.emptyMap() : _aspectDao.batchGet(previousVersionKeys);
+    for (EntityAspectIdentifier key : previousVersionKeys) {
+      EntityAspect row = previousVersions.get(key);
+      if (row != null) {
+        aspectRowSetMap.get(key.getAspect()).add(row);
+      } else {
+        aspectRowSetMap.get(key.getAspect()).add(createSentinel(key.getAspect()));
       }
     }
     return aspectRowSetMap;
@@ -313,8 +337,8 @@ public class TimelineServiceImpl implements TimelineService {
     return timestampVersionCache;
   }
 
-  private SortedMap<Long, List<ChangeTransaction>> computeDiffs(TreeSet<EntityAspect> aspectTimeline,
-      String entityType, Set<ChangeCategory> elementNames, boolean rawDiffsRequested) {
+  private SortedMap<Long, List<ChangeTransaction>> computeDiffs(Urn urn, TreeSet<EntityAspect> aspectTimeline,
+      Set<ChangeCategory> elementNames, boolean rawDiffsRequested) {
     EntityAspect previousValue = null;
     SortedMap<Long, List<ChangeTransaction>> changeTransactionsMap = new TreeMap<>();
     long transactionId;
@@ -323,28 +347,49 @@ public class TimelineServiceImpl implements TimelineService {
       if (previousValue != null) {
         // we skip the first element and only compare once we have two in hand
         changeTransactionsMap.put(transactionId,
-            computeDiff(previousValue, currentValue, entityType, elementNames, rawDiffsRequested));
+            computeDiff(urn, previousValue, currentValue, elementNames, rawDiffsRequested));
       }
       previousValue = currentValue;
     }
     return changeTransactionsMap;
   }
 
-  private List<ChangeTransaction> computeDiff(@Nonnull EntityAspect previousValue, @Nonnull EntityAspect currentValue,
-      String entityType, Set<ChangeCategory> elementNames, boolean rawDiffsRequested) {
+  @SuppressWarnings("unchecked")
+  private List<ChangeTransaction> computeDiff(@Nonnull Urn urn, @Nonnull EntityAspect previousValue,
+      @Nonnull EntityAspect currentValue, Set<ChangeCategory> elementNames, boolean rawDiffsRequested) {
+    String entityType = urn.getEntityType();
     String aspectName = currentValue.getAspect();
 
     List<ChangeTransaction> semanticChangeTransactions = new ArrayList<>();
-    JsonPatch rawDiff = getRawDiff(previousValue, currentValue);
+    JsonPatch rawDiff = null;
     for (ChangeCategory element : elementNames) {
       AspectDiffer differ = _diffFactory.getDiffer(entityType, element, aspectName);
       if (differ != null) {
+        DiffCacheKey cacheKey = getDiffCacheKey(urn, previousValue, currentValue, element, rawDiffsRequested);
+        if (cacheKey != null) {
+          Cache.ValueWrapper cached = _diffCache.get(cacheKey);
+          if (cached != null) {
+            MetricUtils.counter(this.getClass(), "diff_cache_hit_count").inc();
+            ((List<ChangeTransaction>) cached.get()).forEach(
+                changeTransaction -> semanticChangeTransactions.add(copy(changeTransaction)));
+            continue;
+          }
+          MetricUtils.counter(this.getClass(), "diff_cache_miss_count").inc();
+        }
+        if (rawDiff == null) {
+          rawDiff = getRawDiff(previousValue, currentValue);
+        }
         try {
           ChangeTransaction changeTransaction = differ.getSemanticDiff(previousValue, currentValue, element,
               rawDiff, rawDiffsRequested);
           if (CollectionUtils.isNotEmpty(changeTransaction.getChangeEvents())) {
             semanticChangeTransactions.add(changeTransaction);
           }
+          if (cacheKey != null) {
+            // the returned transaction gets versioned and merged with others, so the cache keeps its own copy
+            _diffCache.put(cacheKey, CollectionUtils.isNotEmpty(changeTransaction.getChangeEvents())
+                ? Collections.singletonList(copy(changeTransaction)) : Collections.emptyList());
+          }
         } catch (Exception e) {
           semanticChangeTransactions.add(ChangeTransaction.builder()
               .semVerChange(SemanticChangeType.EXCEPTIONAL)
@@ -358,6 +403,72 @@ public class TimelineServiceImpl implements TimelineService {
     return semanticChangeTransactions;
   }
 
+  /**
+   * Returns the key of the diff between two versions of an aspect, or null if the diff cannot be cached. Only diffs
+   * between stored previous versions are cached, since the latest version (0) is overwritten by every update. The
+   * creation times are part of the key as version numbers can be reused after a rollback.
+   */
+  @Nullable
+  private DiffCacheKey getDiffCacheKey(@Nonnull Urn urn, @Nonnull EntityAspect previousValue,
+      @Nonnull EntityAspect currentValue, @Nonnull ChangeCategory element, boolean rawDiffsRequested) {
+    if (_diffCache == null || previousValue.getVersion() == ASPECT_LATEST_VERSION
+        || currentValue.getVersion() == ASPECT_LATEST_VERSION) {
+      return null;
+    }
+    return new DiffCacheKey(urn.toString(), currentValue.getAspect(), previousValue.getVersion(),
+        previousValue.getCreatedOn().getTime(), currentValue.getVersion(), currentValue.getCreatedOn().getTime(),
+        element, rawDiffsRequested);
+  }
+
+  /**
+   * Weight of a value stored in the diff cache: one per cached entry plus one per change event and raw diff operation it
+   * holds, to be used as the weigher of the cache since a single diff of a large schema can carry thousands of events.
+   */
+  @SuppressWarnings("unchecked")
+  public static int weighDiff(@Nonnull Object key, @Nonnull Object value) {
+    int weight = 1;
+    for (ChangeTransaction changeTransaction : (List<ChangeTransaction>) value) {
+      weight += changeTransaction.getChangeEvents().size();
+      if (changeTransaction.getRawDiff() != null) {
+        weight += getOperationCount(changeTransaction.getRawDiff());
+      }
+    }
+    return weight;
+  }
+
+  /**
+   * Number of operations of a JSON patch, which does not expose them other than through its JSON form.
+   */
+  public static int getOperationCount(@Nonnull JsonPatch jsonPatch) {
+    return OBJECT_MAPPER.valueToTree(jsonPatch).size();
+  }
+
+  private static ChangeTransaction copy(@Nonnull ChangeTransaction changeTransaction) {
+    return ChangeTransaction.builder()
+        .timestamp(changeTransaction.getTimestamp())
+        .actor(changeTransaction.getActor())
+        .proxy(changeTransaction.getProxy())
+        .reporter(changeTransaction.getReporter())
+        .semVer(changeTransaction.getSemVer())
+        .semVerChange(changeTransaction.getSemVerChange())
+        .changeEvents(new ArrayList<>(changeTransaction.getChangeEvents()))
+        .rawDiff(changeTransaction.getRawDiff())
+        .versionStamp(changeTransaction.getVersionStamp())
+        .build();
+  }
+
+  @Value
+  private static class DiffCacheKey {
+    String urn;
+    String aspect;
+    long previousVersion;
+    long previousCreatedOn;
+    long version;
+    long createdOn;
+    ChangeCategory category;
+    boolean rawDiffRequested;
+  }
+
   private JsonPatch getRawDiff(EntityAspect previousValue, EntityAspect currentValue) {
     JsonNode prevNode = OBJECT_MAPPER.nullNode();
     try {
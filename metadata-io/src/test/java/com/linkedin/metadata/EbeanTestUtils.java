@@ -14,15 +14,25 @@ public class EbeanTestUtils {
 
   @Nonnull
   public static EbeanServer createTestServer() {
-    return EbeanServerFactory.create(createTestingH2ServerConfig());
+    return EbeanServerFactory.create(createTestingH2ServerConfig("jdbc:h2:mem:;IGNORECASE=TRUE;"));
   }
 
+  /**
+   * Creates a server whose pooled connections all share the named in-memory database, for tests querying it from
+   * several threads at once. Each connection to an unnamed in-memory database sees a database of its own.
+   */
   @Nonnull
-  private static ServerConfig createTestingH2ServerConfig() {
+  public static EbeanServer createSharedTestServer(@Nonnull String databaseName) {
+    return EbeanServerFactory.create(
+        createTestingH2ServerConfig("jdbc:h2:mem:" + databaseName + ";IGNORECASE=TRUE;DB_CLOSE_DELAY=-1;"));
+  }
+
+  @Nonnull
+  private static ServerConfig createTestingH2ServerConfig(@Nonnull String url) {
     DataSourceConfig dataSourceConfig = new DataSourceConfig();
     dataSourceConfig.setUsername("tester");
     dataSourceConfig.setPassword("");
-    dataSourceConfig.setUrl("jdbc:h2:mem:;IGNORECASE=TRUE;");
+    dataSourceConfig.setUrl(url);
     dataSourceConfig.setDriver("org.h2.Driver");
 
     ServerConfig serverConfig = new ServerConfig();
@@ -0,0 +1,123 @@
+package com.linkedin.metadata.client;
+
+import com.datahub.authentication.Authentication;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.entity.EntityResponse;
+import com.linkedin.entity.EnvelopedAspectMap;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.mxe.MetadataChangeProposal;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class CachingEntityClientTest {
+
+  private static final String ENTITY_NAME = "corpuser";
+  private static final Urn URN = UrnUtils.getUrn("urn:li:corpuser:test");
+  private static final Urn MISSING_URN = UrnUtils.getUrn("urn:li:corpuser:missing");
+  private static final Set<String> ASPECTS = ImmutableSet.of("corpUserKey", "corpUserInfo");
+
+  private EntityClient _mockEntityClient;
+  private Authentication _authentication;
+  private CachingEntityClient _cachingEntityClient;
+
+  @BeforeMethod
+  public void setup() throws Exception {
+    _mockEntityClient = mock(EntityClient.class);
+    _authentication = mock(Authentication.class);
+    _cachingEntityClient = new CachingEntityClient(_mockEntityClient, new ConcurrentMapCache("test"), 100);
+    when(_mockEntityClient.batchGetV2(eq(ENTITY_NAME), anySet(), any(), any())).thenReturn(ImmutableMap.of(URN,
+        new EntityResponse().setEntityName(ENTITY_NAME).setUrn(URN).setAspects(new EnvelopedAspectMap())));
+  }
+
+  @Test
+  public void testBatchGetIsCached() throws Exception {
+    Map<Urn, EntityResponse> first =
+        _cachingEntityClient.batchGetV2(ENTITY_NAME, ImmutableSet.of(URN, MISSING_URN), ASPECTS, _authentication);
+    Map<Urn, EntityResponse> second =
+        _cachingEntityClient.batchGetV2(ENTITY_NAME, ImmutableSet.of(URN, MISSING_URN), ASPECTS, _authentication);
+
+    assertEquals(first, second);
+    assertEquals(second.keySet(), Collections.singleton(URN));
+    assertNotSame(first.get(URN), second.get(URN));
+    assertEquals(_cachingEntityClient.getV2(ENTITY_NAME, URN, ASPECTS, _authentication), first.get(URN));
+    verify(_mockEntityClient, times(1)).batchGetV2(any(), anySet(), any(), any());
+  }
+
+  @Test
+  public void testAspectSetsAreCachedSeparately() throws Exception {
+    _cachingEntityClient.batchGetV2(ENTITY_NAME, ImmutableSet.of(URN), ASPECTS, _authentication);
+    _cachingEntityClient.batchGetV2(ENTITY_NAME, ImmutableSet.of(URN), null, _authentication);
+
+    verify(_mockEntityClient, times(1)).batchGetV2(ENTITY_NAME, ImmutableSet.of(URN), ASPECTS, _authentication);
+    verify(_mockEntityClient, times(1)).batchGetV2(ENTITY_NAME, ImmutableSet.of(URN), null, _authentication);
+  }
+
+  @Test
+  public void testInvalidate() throws Exception {
+    _cachingEntityClient.batchGetV2(ENTITY_NAME, ImmutableSet.of(URN), ASPECTS, _authentication);
+    _cachingEntityClient.invalidate(Collections.singleton(URN));
+    _cachingEntityClient.batchGetV2(ENTITY_NAME, ImmutableSet.of(URN), ASPECTS, _authentication);
+
+    verify(_mockEntityClient, times(2)).batchGetV2(any(), anySet(), any(), any());
+  }
+
+  @Test
+  public void testIngestProposalInvalidates() throws Exception {
+    _cachingEntityClient.batchGetV2(ENTITY_NAME, ImmutableSet.of(URN), ASPECTS, _authentication);
+    _cachingEntityClient.ingestProposal(new MetadataChangeProposal().setEntityUrn(URN), _authentication, false);
+    _cachingEntityClient.batchGetV2(ENTITY_NAME, ImmutableSet.of(URN), ASPECTS, _authentication);
+
+    verify(_mockEntityClient, times(1)).ingestProposal(any(), eq(_authentication), eq(false));
+    verify(_mockEntityClient, times(2)).batchGetV2(any(), anySet(), any(), any());
+  }
+
+  @Test
+  public void testTooManyChangesInvalidateAll() throws Exception {
+    CachingEntityClient cachingEntityClient =
+        new CachingEntityClient(_mockEntityClient, new ConcurrentMapCache("test"), 1);
+    cachingEntityClient.batchGetV2(ENTITY_NAME, ImmutableSet.of(URN), ASPECTS, _authentication);
+    cachingEntityClient.invalidate(ImmutableSet.of(UrnUtils.getUrn("urn:li:corpuser:other1"),
+        UrnUtils.getUrn("urn:li:corpuser:other2")));
+    cachingEntityClient.batchGetV2(ENTITY_NAME, ImmutableSet.of(URN), ASPECTS, _authentication);
+
+    verify(_mockEntityClient, times(2)).batchGetV2(any(), anySet(), any(), any());
+  }
+
+  @Test
+  public void testRestrictedToCachedAspects() throws Exception {
+    CachingEntityClient cachingEntityClient =
+        new CachingEntityClient(_mockEntityClient, new ConcurrentMapCache("test"), 100, ASPECTS);
+    cachingEntityClient.batchGetV2(ENTITY_NAME, ImmutableSet.of(URN), ImmutableSet.of("corpUserInfo"), _authentication);
+    cachingEntityClient.batchGetV2(ENTITY_NAME, ImmutableSet.of(URN), ImmutableSet.of("corpUserInfo"), _authentication);
+    cachingEntityClient.batchGetV2(ENTITY_NAME, ImmutableSet.of(URN), null, _authentication);
+    cachingEntityClient.batchGetV2(ENTITY_NAME, ImmutableSet.of(URN), null, _authentication);
+    verify(_mockEntityClient, times(1)).batchGetV2(ENTITY_NAME, ImmutableSet.of(URN),
+        ImmutableSet.of("corpUserInfo"), _authentication);
+    verify(_mockEntityClient, times(2)).batchGetV2(ENTITY_NAME, ImmutableSet.of(URN), null, _authentication);
+
+    // Changes to aspects which are not cached are ignored
+    cachingEntityClient.invalidate(URN, "corpUserEditableInfo");
+    cachingEntityClient.batchGetV2(ENTITY_NAME, ImmutableSet.of(URN), ImmutableSet.of("corpUserInfo"), _authentication);
+    verify(_mockEntityClient, times(1)).batchGetV2(ENTITY_NAME, ImmutableSet.of(URN),
+        ImmutableSet.of("corpUserInfo"), _authentication);
+
+    cachingEntityClient.invalidate(URN, "corpUserInfo");
+    cachingEntityClient.batchGetV2(ENTITY_NAME, ImmutableSet.of(URN), ImmutableSet.of("corpUserInfo"), _authentication);
+    verify(_mockEntityClient, times(2)).batchGetV2(ENTITY_NAME, ImmutableSet.of(URN),
+        ImmutableSet.of("corpUserInfo"), _authentication);
+  }
+}
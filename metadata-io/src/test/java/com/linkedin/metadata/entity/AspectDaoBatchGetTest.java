@@ -0,0 +1,141 @@
+package com.linkedin.metadata.entity;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.identity.CorpUserInfo;
+import com.linkedin.metadata.AspectGenerationUtils;
+import com.linkedin.metadata.AspectIngestionUtils;
+import com.linkedin.metadata.CassandraTestUtils;
+import com.linkedin.metadata.EbeanTestUtils;
+import com.linkedin.metadata.entity.cassandra.CassandraAspectDao;
+import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
+import com.linkedin.metadata.event.EventProducer;
+import com.linkedin.metadata.key.CorpUserKey;
+import com.linkedin.metadata.models.registry.ConfigEntityRegistry;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.models.registry.EntityRegistryException;
+import com.linkedin.metadata.models.registry.MergedEntityRegistry;
+import com.linkedin.metadata.snapshot.Snapshot;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.containers.CassandraContainer;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static com.linkedin.metadata.Constants.*;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+/**
+ * Checks that {@link AspectDao#batchGet(Set)} of the Ebean and Cassandra implementations return identical rows for
+ * the same key set, large enough to be split into several queries.
+ */
+@Slf4j
+public class AspectDaoBatchGetTest {
+
+  private static final int URN_COUNT = 500;
+  private static final int BENCHMARK_ITERATIONS = 5;
+
+  private final EntityRegistry _testEntityRegistry;
+  private CassandraContainer _cassandraContainer;
+  private EbeanAspectDao _ebeanAspectDao;
+  private CassandraAspectDao _cassandraAspectDao;
+  private Set<EntityAspectIdentifier> _keys;
+
+  public AspectDaoBatchGetTest() throws EntityRegistryException {
+    _testEntityRegistry = new MergedEntityRegistry(new TestEntityRegistry()).apply(
+        new ConfigEntityRegistry(Snapshot.class.getClassLoader().getResourceAsStream("entity-registry.yml")));
+  }
+
+  @BeforeClass
+  public void setup() {
+    _cassandraContainer = CassandraTestUtils.setupContainer();
+    CqlSession session = CassandraTestUtils.createTestSession(_cassandraContainer);
+    _cassandraAspectDao = new CassandraAspectDao(session);
+    _cassandraAspectDao.setConnectionValidated(true);
+
+    _ebeanAspectDao = new EbeanAspectDao(EbeanTestUtils.createTestServer());
+    _ebeanAspectDao.setConnectionValidated(true);
+
+    Set<Urn> urns = null;
+    for (AspectDao aspectDao : new AspectDao[]{_ebeanAspectDao, _cassandraAspectDao}) {
+      EntityService entityService = new EntityService(aspectDao, mock(EventProducer.class), _testEntityRegistry);
+      urns = AspectIngestionUtils.ingestCorpUserKeyAspects(entityService, URN_COUNT).keySet();
+      AspectIngestionUtils.ingestCorpUserInfoAspects(entityService, URN_COUNT / 2);
+    }
+
+    final String keyAspectName = AspectGenerationUtils.getAspectName(new CorpUserKey());
+    final String infoAspectName = AspectGenerationUtils.getAspectName(new CorpUserInfo());
+    _keys = urns.stream()
+        .flatMap(urn -> Stream.of(
+            new EntityAspectIdentifier(urn.toString(), keyAspectName, ASPECT_LATEST_VERSION),
+            new EntityAspectIdentifier(urn.toString(), infoAspectName, ASPECT_LATEST_VERSION),
+            new EntityAspectIdentifier(urn.toString(), STATUS_ASPECT_NAME, ASPECT_LATEST_VERSION)))
+        .collect(Collectors.toSet());
+  }
+
+  @AfterClass
+  public void tearDown() {
+    _cassandraContainer.stop();
+  }
+
+  @Test
+  public void testBatchGetSameOnEveryBackend() {
+    Map<EntityAspectIdentifier, EntityAspect> ebeanResult = _ebeanAspectDao.batchGet(_keys);
+    Map<EntityAspectIdentifier, EntityAspect> cassandraResult = _cassandraAspectDao.batchGet(_keys);
+
+    assertEquals(ebeanResult.size(), URN_COUNT + URN_COUNT / 2);
+    assertEquals(cassandraResult.keySet(), ebeanResult.keySet());
+    for (Map.Entry<EntityAspectIdentifier, EntityAspect> entry : ebeanResult.entrySet()) {
+      assertEquals(cassandraResult.get(entry.getKey()).getMetadata(), entry.getValue().getMetadata());
+    }
+  }
+
+  /**
+   * Times batchGet against reading the same keys one by one, as batchGet of Cassandra used to, on both backends. Only
+   * runs when the benchmark group is requested, with -PrunBenchmarks.
+   */
+  @Test(groups = "benchmark")
+  public void benchmarkBatchGet() {
+    for (AspectDao aspectDao : new AspectDao[]{_ebeanAspectDao, _cassandraAspectDao}) {
+      long batchNanos = 0;
+      long perKeyNanos = 0;
+      // The first iteration warms up the client and is excluded from the timings
+      for (int i = 0; i <= BENCHMARK_ITERATIONS; i++) {
+        long start = System.nanoTime();
+        Map<EntityAspectIdentifier, EntityAspect> batchResult = aspectDao.batchGet(_keys);
+        long batchElapsed = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        Map<EntityAspectIdentifier, EntityAspect> perKeyResult = getOneByOne(aspectDao);
+        long perKeyElapsed = System.nanoTime() - start;
+
+        assertEquals(batchResult.keySet(), perKeyResult.keySet());
+        if (i > 0) {
+          batchNanos += batchElapsed;
+          perKeyNanos += perKeyElapsed;
+        }
+      }
+      log.info("Reading {} keys from {} took {} ms with batchGet and {} ms one by one", _keys.size(),
+          aspectDao.getClass().getSimpleName(), batchNanos / BENCHMARK_ITERATIONS / 1_000_000,
+          perKeyNanos / BENCHMARK_ITERATIONS / 1_000_000);
+    }
+  }
+
+  private Map<EntityAspectIdentifier, EntityAspect> getOneByOne(AspectDao aspectDao) {
+    Map<EntityAspectIdentifier, EntityAspect> result = new HashMap<>();
+    for (EntityAspectIdentifier key : _keys) {
+      EntityAspect aspect = aspectDao.getAspect(key);
+      if (aspect != null) {
+        result.put(key, aspect);
+      }
+    }
+    return result;
+  }
+}
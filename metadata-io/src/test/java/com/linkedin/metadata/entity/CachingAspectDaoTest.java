@@ -0,0 +1,81 @@
+package com.linkedin.metadata.entity;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class CachingAspectDaoTest {
+
+  private static final String URN = "urn:li:corpuser:test";
+  private static final String ASPECT = "corpUserInfo";
+  private static final EntityAspectIdentifier LATEST_KEY = new EntityAspectIdentifier(URN, ASPECT, 0);
+  private static final EntityAspectIdentifier MISSING_KEY = new EntityAspectIdentifier(URN, "status", 0);
+
+  private AspectDao _mockAspectDao;
+  private CachingAspectDao _cachingAspectDao;
+
+  @BeforeMethod
+  public void setup() {
+    _mockAspectDao = mock(AspectDao.class);
+    _cachingAspectDao = new CachingAspectDao(_mockAspectDao, new ConcurrentMapCache("test"));
+    when(_mockAspectDao.batchGet(any())).thenReturn(ImmutableMap.of(LATEST_KEY, createAspect("{}")));
+  }
+
+  @Test
+  public void testBatchGetIsCached() {
+    Map<EntityAspectIdentifier, EntityAspect> first =
+        _cachingAspectDao.batchGet(ImmutableSet.of(LATEST_KEY, MISSING_KEY));
+    Map<EntityAspectIdentifier, EntityAspect> second =
+        _cachingAspectDao.batchGet(ImmutableSet.of(LATEST_KEY, MISSING_KEY));
+
+    assertEquals(first, second);
+    assertEquals(second.size(), 1);
+    assertNotSame(first.get(LATEST_KEY), second.get(LATEST_KEY));
+    verify(_mockAspectDao, times(1)).batchGet(any());
+  }
+
+  @Test
+  public void testWriteInvalidates() {
+    _cachingAspectDao.batchGet(ImmutableSet.of(LATEST_KEY));
+    _cachingAspectDao.saveLatestAspect(URN, ASPECT, null, null, null, null, null, "{}", "urn:li:corpuser:actor",
+        null, new Timestamp(0), null, 0L);
+    _cachingAspectDao.batchGet(ImmutableSet.of(LATEST_KEY));
+
+    verify(_mockAspectDao, times(2)).batchGet(any());
+  }
+
+  @Test
+  public void testTransactionBypassesCache() {
+    when(_mockAspectDao.runInTransactionWithRetry(any(), anyInt()))
+        .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+
+    _cachingAspectDao.batchGet(ImmutableSet.of(LATEST_KEY));
+    _cachingAspectDao.runInTransactionWithRetry(() -> _cachingAspectDao.batchGet(ImmutableSet.of(LATEST_KEY)), 0);
+
+    verify(_mockAspectDao, times(2)).batchGet(any());
+  }
+
+  @Test
+  public void testDeleteUrnClearsCache() {
+    _cachingAspectDao.batchGet(ImmutableSet.of(LATEST_KEY));
+    _cachingAspectDao.deleteUrn(URN);
+    _cachingAspectDao.batchGet(Collections.singleton(LATEST_KEY));
+
+    verify(_mockAspectDao, times(2)).batchGet(any());
+  }
+
+  private static EntityAspect createAspect(String metadata) {
+    return new EntityAspect(URN, ASPECT, 0, metadata, null, new Timestamp(0), "urn:li:corpuser:actor", null);
+  }
+}
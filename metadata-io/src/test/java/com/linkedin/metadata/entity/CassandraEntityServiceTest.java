@@ -9,12 +9,15 @@ import com.linkedin.metadata.AspectIngestionUtils;
 import com.linkedin.metadata.CassandraTestUtils;
 import com.linkedin.metadata.entity.cassandra.CassandraAspectDao;
 import com.linkedin.metadata.entity.cassandra.CassandraRetentionService;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
 import com.linkedin.metadata.event.EventProducer;
 import com.linkedin.metadata.key.CorpUserKey;
 import com.linkedin.metadata.models.registry.EntityRegistryException;
 import com.linkedin.metadata.query.ExtraInfo;
 import com.linkedin.metadata.query.ListUrnsResult;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -171,6 +174,36 @@ public class CassandraEntityServiceTest extends EntityServiceTest<CassandraAspec
     }
   }
 
+  @Test
+  public void testStreamAspects() throws AssertionError {
+    AspectIngestionUtils.ingestCorpUserKeyAspects(_entityService, 5);
+    AspectIngestionUtils.ingestCorpUserInfoAspects(_entityService, 3);
+
+    RestoreIndicesArgs args = new RestoreIndicesArgs().setBatchSize(3);
+    List<EbeanAspectV2.PrimaryKey> streamed = _entityService.streamAspects(args)
+        .map(EbeanAspectV2::getKey)
+        .collect(Collectors.toList());
+    assertEquals(streamed.size(), 8);
+    assertEquals(new HashSet<>(streamed).size(), 8);
+
+    // Resuming from a cursor reads the rows which follow it in the same order
+    RestoreIndicesArgs resumed = args.clone()
+        .setBatchSize(2)
+        .setLastUrn(streamed.get(4).getUrn())
+        .setLastAspect(streamed.get(4).getAspect());
+    List<EbeanAspectV2.PrimaryKey> remaining = _entityService.streamAspects(resumed)
+        .map(EbeanAspectV2::getKey)
+        .collect(Collectors.toList());
+    assertEquals(remaining, streamed.subList(5, 8));
+
+    List<EbeanAspectV2.PrimaryKey> filtered = _entityService.streamAspects(args.clone()
+            .setAspectName(AspectGenerationUtils.getAspectName(new CorpUserInfo()))
+            .setUrnLike("urn:li:corpuser:%"))
+        .map(EbeanAspectV2::getKey)
+        .collect(Collectors.toList());
+    assertEquals(filtered.size(), 3);
+  }
+
   @Override
   @Test
   public void testNestedTransactions() {
@@ -6,9 +6,13 @@ import com.linkedin.data.template.DataTemplateUtil;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.identity.CorpUserInfo;
 import com.linkedin.metadata.AspectGenerationUtils;
+import com.linkedin.metadata.AspectIngestionUtils;
 import com.linkedin.metadata.EbeanTestUtils;
 import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
 import com.linkedin.metadata.entity.ebean.EbeanRetentionService;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesResult;
 import com.linkedin.metadata.event.EventProducer;
 import com.linkedin.metadata.key.CorpUserKey;
 import com.linkedin.metadata.models.registry.EntityRegistryException;
@@ -19,11 +23,23 @@ import io.ebean.EbeanServer;
 import io.ebean.Transaction;
 import io.ebean.TxScope;
 import io.ebean.annotation.TxIsolation;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import static com.linkedin.metadata.Constants.ASPECT_LATEST_VERSION;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
@@ -154,6 +170,128 @@ public class EbeanEntityServiceTest extends EntityServiceTest<EbeanAspectDao, Eb
     assertEquals(entityUrn3.toString(), batch2.getEntities().get(0).toString());
   }
 
+  @Test
+  public void testStreamAspects() throws AssertionError {
+    AspectIngestionUtils.ingestCorpUserKeyAspects(_entityService, 5);
+    AspectIngestionUtils.ingestCorpUserInfoAspects(_entityService, 3);
+
+    RestoreIndicesArgs args = new RestoreIndicesArgs().setStart(0).setBatchSize(100);
+    List<EbeanAspectV2.PrimaryKey> expected = _aspectDao.getPagedAspects(args).getList().stream()
+        .map(EbeanAspectV2::getKey)
+        .collect(Collectors.toList());
+    assertEquals(expected.size(), 8);
+
+    // Pages smaller than the result set must seek past each other without skipping or repeating rows
+    List<EbeanAspectV2.PrimaryKey> streamed = _entityService.streamAspects(args.clone().setBatchSize(3))
+        .map(EbeanAspectV2::getKey)
+        .collect(Collectors.toList());
+    assertEquals(streamed, expected);
+
+    RestoreIndicesArgs resumed = args.clone()
+        .setBatchSize(2)
+        .setLastUrn(expected.get(4).getUrn())
+        .setLastAspect(expected.get(4).getAspect());
+    List<EbeanAspectV2.PrimaryKey> remaining = _entityService.streamAspects(resumed)
+        .map(EbeanAspectV2::getKey)
+        .collect(Collectors.toList());
+    assertEquals(remaining, expected.subList(5, 8));
+  }
+
+  @Test
+  public void testRestoreIndicesInParallel() throws AssertionError {
+    AspectIngestionUtils.ingestCorpUserKeyAspects(_entityService, 5);
+    AspectIngestionUtils.ingestCorpUserInfoAspects(_entityService, 3);
+    clearInvocations(_mockProducer);
+
+    _entityService.setRestoreIndicesParallelism(3);
+    RestoreIndicesResult result = _entityService.restoreIndices(new RestoreIndicesArgs().setBatchSize(100), s -> { });
+
+    assertEquals(result.rowsRead, 8);
+    assertEquals(result.rowsDeserialized, 8);
+    assertEquals(result.rowsSent, 8);
+    assertEquals(result.rowsMigrated, 8);
+    assertEquals(result.ignored, 0);
+    verify(_mockProducer, times(8)).produceMetadataChangeLog(any(), any(), any());
+    verify(_mockProducer, times(1)).flush();
+  }
+
+  @Test
+  public void testBatchGetInParallel() throws AssertionError {
+    // Sub queries run on several connections, which must all see the same database
+    final EbeanAspectDao aspectDao =
+        new EbeanAspectDao(EbeanTestUtils.createSharedTestServer("testBatchGetInParallel"));
+    aspectDao.setConnectionValidated(true);
+    final EntityService entityService = new EntityService(aspectDao, _mockProducer, _testEntityRegistry);
+
+    // More keys than a single sub query holds (375), so that batchGet runs several sub queries concurrently
+    final int urnCount = 400;
+    final Set<Urn> urns = AspectIngestionUtils.ingestCorpUserKeyAspects(entityService, urnCount).keySet();
+    AspectIngestionUtils.ingestCorpUserInfoAspects(entityService, urnCount / 2);
+
+    final String keyAspectName = AspectGenerationUtils.getAspectName(new CorpUserKey());
+    final String infoAspectName = AspectGenerationUtils.getAspectName(new CorpUserInfo());
+    final Set<EntityAspectIdentifier> keys = urns.stream()
+        .flatMap(urn -> Stream.of(
+            new EntityAspectIdentifier(urn.toString(), keyAspectName, ASPECT_LATEST_VERSION),
+            new EntityAspectIdentifier(urn.toString(), infoAspectName, ASPECT_LATEST_VERSION)))
+        .collect(Collectors.toSet());
+
+    final Map<EntityAspectIdentifier, EntityAspect> serialResult = aspectDao.batchGet(keys);
+    aspectDao.setBatchGetParallelism(3);
+    final Map<EntityAspectIdentifier, EntityAspect> parallelResult = aspectDao.batchGet(keys);
+    aspectDao.setBatchGetParallelism(1);
+
+    // batchGet collects rows into a map, which fails on a row returned twice
+    assertEquals(parallelResult.size(), urnCount + urnCount / 2);
+    assertEquals(parallelResult.keySet(), serialResult.keySet());
+    for (Map.Entry<EntityAspectIdentifier, EntityAspect> entry : parallelResult.entrySet()) {
+      assertEquals(entry.getValue().getMetadata(), serialResult.get(entry.getKey()).getMetadata());
+    }
+  }
+
+  @Test
+  public void testRestoreIndicesBatchDoesNotFlush() throws AssertionError {
+    AspectIngestionUtils.ingestCorpUserKeyAspects(_entityService, 3);
+    clearInvocations(_mockProducer);
+
+    final List<EbeanAspectV2> rows;
+    try (Stream<EbeanAspectV2> stream = _entityService.streamAspects(new RestoreIndicesArgs())) {
+      rows = stream.collect(Collectors.toList());
+    }
+    RestoreIndicesResult result = _entityService.restoreIndices(rows, s -> { });
+
+    assertEquals(result.rowsSent, 3);
+    verify(_mockProducer, times(3)).produceMetadataChangeLog(any(), any(), any());
+    // Delivery is awaited once by the caller, after its last batch
+    verify(_mockProducer, never()).flush();
+    _entityService.flushChangeLogs();
+    verify(_mockProducer, times(1)).flush();
+  }
+
+  @Test
+  public void testUpdateSystemMetadata() throws AssertionError {
+    String aspectName = AspectGenerationUtils.getAspectName(new CorpUserInfo());
+    List<EntityAspect> latest = AspectIngestionUtils.ingestCorpUserInfoAspects(_entityService, 2).keySet().stream()
+        .map(urn -> _aspectDao.getLatestAspect(urn.toString(), aspectName))
+        .collect(Collectors.toList());
+    String systemMetadata = EntityUtils.toJsonAspect(new SystemMetadata().setRunId("run-id").setLastObserved(1234L));
+    EntityAspect unchanged = latest.get(0);
+    unchanged.setSystemMetadata(systemMetadata);
+    // As if the row had been rewritten since it was read
+    EntityAspect rewritten = latest.get(1);
+    String rewrittenSystemMetadata = rewritten.getSystemMetadata();
+    rewritten.setSystemMetadata(systemMetadata);
+    rewritten.setCreatedOn(new Timestamp(rewritten.getCreatedOn().getTime() - 1000));
+
+    int updated = _aspectDao.runInTransactionWithRetry(() -> _aspectDao.updateSystemMetadata(latest), 1);
+
+    assertEquals(updated, 1);
+    EntityAspect updatedAspect = _aspectDao.getAspect(unchanged.toAspectIdentifier());
+    assertEquals(updatedAspect.getSystemMetadata(), systemMetadata);
+    assertEquals(updatedAspect.getMetadata(), unchanged.getMetadata());
+    assertEquals(_aspectDao.getAspect(rewritten.toAspectIdentifier()).getSystemMetadata(), rewrittenSystemMetadata);
+  }
+
   @Override
   @Test
   public void testNestedTransactions() throws AssertionError {
@@ -27,7 +27,9 @@ import com.linkedin.metadata.aspect.Aspect;
 import com.linkedin.metadata.aspect.CorpUserAspect;
 import com.linkedin.metadata.aspect.CorpUserAspectArray;
 import com.linkedin.metadata.aspect.VersionedAspect;
+import com.linkedin.metadata.entity.EntityService.IngestProposalResult;
 import com.linkedin.metadata.event.EventProducer;
+import com.linkedin.metadata.event.MetadataChangeLogListener;
 import com.linkedin.metadata.key.CorpUserKey;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.registry.ConfigEntityRegistry;
@@ -142,6 +144,29 @@ abstract public class EntityServiceTest<T_AD extends AspectDao, T_RS extends Ret
         verifyNoMoreInteractions(_mockProducer);
     }
 
+    @Test
+    public void testChangeLogListeners() throws Exception {
+        Urn entityUrn = UrnUtils.getUrn("urn:li:corpuser:test");
+        com.linkedin.entity.Entity writeEntity = createCorpUserEntity(entityUrn, "tester@test.com");
+
+        MetadataChangeLogListener failingListener = mock(MetadataChangeLogListener.class);
+        doThrow(new RuntimeException("test")).when(failingListener).onChangeLog(Mockito.any());
+        MetadataChangeLogListener listener = mock(MetadataChangeLogListener.class);
+        _entityService.addChangeLogListener(failingListener);
+        _entityService.addChangeLogListener(listener);
+
+        // A failing listener must neither fail the write nor starve the other listeners
+        _entityService.ingestEntity(writeEntity, TEST_AUDIT_STAMP, AspectGenerationUtils.createSystemMetadata());
+
+        ArgumentCaptor<MetadataChangeLog> mclCaptor = ArgumentCaptor.forClass(MetadataChangeLog.class);
+        verify(_mockProducer, times(2)).produceMetadataChangeLog(Mockito.eq(entityUrn), Mockito.any(), mclCaptor.capture());
+        verify(failingListener, times(2)).onChangeLog(Mockito.any());
+        for (MetadataChangeLog mcl : mclCaptor.getAllValues()) {
+            verify(listener).onChangeLog(mcl);
+        }
+        verifyNoMoreInteractions(listener);
+    }
+
     @Test
     public void testAddKey() throws Exception {
         // Test Writing a CorpUser Key
@@ -387,6 +412,32 @@ abstract public class EntityServiceTest<T_AD extends AspectDao, T_RS extends Ret
         verifyNoMoreInteractions(_mockProducer);
     }
 
+    @Test
+    public void testIngestEntitiesWithRepeatedUrn() throws Exception {
+        Urn entityUrn1 = UrnUtils.getUrn("urn:li:corpuser:tester1");
+        Urn entityUrn2 = UrnUtils.getUrn("urn:li:corpuser:tester2");
+        com.linkedin.entity.Entity writeEntity1 = createCorpUserEntity(entityUrn1, "tester@test.com");
+        com.linkedin.entity.Entity updatedEntity1 = createCorpUserEntity(entityUrn1, "tester-updated@test.com");
+        com.linkedin.entity.Entity writeEntity2 = createCorpUserEntity(entityUrn2, "tester2@test.com");
+
+        // The second write of an urn sees the first one, as when ingesting entities one by one
+        _entityService.ingestEntities(ImmutableList.of(writeEntity1, writeEntity2, updatedEntity1), TEST_AUDIT_STAMP,
+            ImmutableList.of(AspectGenerationUtils.createSystemMetadata(), AspectGenerationUtils.createSystemMetadata(),
+                AspectGenerationUtils.createSystemMetadata()));
+
+        String aspectName = AspectGenerationUtils.getAspectName(new CorpUserInfo());
+        assertTrue(DataTemplateUtil.areEqual(AspectGenerationUtils.createCorpUserInfo("tester-updated@test.com"),
+            _entityService.getLatestAspect(entityUrn1, aspectName)));
+        assertTrue(DataTemplateUtil.areEqual(AspectGenerationUtils.createCorpUserInfo("tester@test.com"),
+            _entityService.getAspect(entityUrn1, aspectName, 1)));
+        assertTrue(DataTemplateUtil.areEqual(AspectGenerationUtils.createCorpUserInfo("tester2@test.com"),
+            _entityService.getLatestAspect(entityUrn2, aspectName)));
+
+        // Key + Info aspect for each urn, and the updated Info aspect
+        verify(_mockProducer, times(3)).produceMetadataChangeLog(Mockito.eq(entityUrn1), Mockito.any(), Mockito.any());
+        verify(_mockProducer, times(2)).produceMetadataChangeLog(Mockito.eq(entityUrn2), Mockito.any(), Mockito.any());
+    }
+
     @Test
     public void testIngestAspectsGetLatestAspects() throws Exception {
 
@@ -489,6 +540,63 @@ abstract public class EntityServiceTest<T_AD extends AspectDao, T_RS extends Ret
         verify(_mockProducer, times(0)).produceMetadataChangeProposal(Mockito.eq(gmce));
     }
 
+    @Test
+    public void testIngestProposals() throws Exception {
+        Urn entityUrn1 = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:foo,bar,PROD)");
+        Urn entityUrn2 = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:foo,baz,PROD)");
+        DatasetProperties datasetProperties1 = new DatasetProperties().setName("Foo Bar");
+        DatasetProperties datasetProperties2 = new DatasetProperties().setName("Foo Baz");
+        DatasetProperties datasetProperties3 = new DatasetProperties().setName("Foo Bar 2");
+
+        // The third proposal updates the aspect written by the first one within the same batch
+        List<IngestProposalResult> results = _entityService.ingestProposals(ImmutableList.of(
+            createDatasetPropertiesProposal(entityUrn1, datasetProperties1),
+            createDatasetPropertiesProposal(entityUrn2, datasetProperties2),
+            createDatasetPropertiesProposal(entityUrn1, datasetProperties3)), TEST_AUDIT_STAMP, false);
+
+        assertEquals(results.size(), 3);
+        assertEquals(results.get(0).getUrn(), entityUrn1);
+        assertEquals(results.get(1).getUrn(), entityUrn2);
+        assertEquals(results.get(2).getUrn(), entityUrn1);
+        assertTrue(results.stream().allMatch(IngestProposalResult::isDidUpdate));
+
+        assertTrue(DataTemplateUtil.areEqual(datasetProperties3,
+            _entityService.getLatestAspect(entityUrn1, "datasetProperties")));
+        assertTrue(DataTemplateUtil.areEqual(datasetProperties1,
+            _entityService.getAspect(entityUrn1, "datasetProperties", 1)));
+        assertTrue(DataTemplateUtil.areEqual(datasetProperties2,
+            _entityService.getLatestAspect(entityUrn2, "datasetProperties")));
+
+        verify(_mockProducer, times(2)).produceMetadataChangeLog(Mockito.eq(entityUrn1),
+            Mockito.any(), Mockito.any());
+        verify(_mockProducer, times(1)).produceMetadataChangeLog(Mockito.eq(entityUrn2),
+            Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testIngestProposalsWithInvalidProposal() throws Exception {
+        Urn entityUrn1 = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:foo,bar,PROD)");
+        Urn entityUrn2 = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:foo,baz,PROD)");
+        DatasetProperties datasetProperties1 = new DatasetProperties().setName("Foo Bar");
+        DatasetProperties datasetProperties2 = new DatasetProperties().setName("Foo Baz");
+        MetadataChangeProposal invalidProposal =
+            createDatasetPropertiesProposal(entityUrn2, datasetProperties2).setAspectName("unknownAspect");
+
+        // As when ingesting one by one, proposals before the invalid one are written and the ones after it are not
+        assertThrows(RuntimeException.class, () -> _entityService.ingestProposals(ImmutableList.of(
+            createDatasetPropertiesProposal(entityUrn1, datasetProperties1),
+            invalidProposal,
+            createDatasetPropertiesProposal(entityUrn2, datasetProperties2)), TEST_AUDIT_STAMP, false));
+
+        assertTrue(DataTemplateUtil.areEqual(datasetProperties1,
+            _entityService.getLatestAspect(entityUrn1, "datasetProperties")));
+        assertNull(_entityService.getLatestAspect(entityUrn2, "datasetProperties"));
+        verify(_mockProducer, times(1)).produceMetadataChangeLog(Mockito.eq(entityUrn1),
+            Mockito.any(), Mockito.any());
+        verify(_mockProducer, never()).produceMetadataChangeLog(Mockito.eq(entityUrn2),
+            Mockito.any(), Mockito.any());
+    }
+
     @Test
     public void testUpdateGetAspect() throws AssertionError {
         // Test Writing a CorpUser Entity
@@ -959,6 +1067,22 @@ abstract public class EntityServiceTest<T_AD extends AspectDao, T_RS extends Ret
         return entity;
     }
 
+    @Nonnull
+    private static MetadataChangeProposal createDatasetPropertiesProposal(Urn entityUrn,
+        DatasetProperties datasetProperties) throws Exception {
+        MetadataChangeProposal gmce = new MetadataChangeProposal();
+        gmce.setEntityUrn(entityUrn);
+        gmce.setChangeType(ChangeType.UPSERT);
+        gmce.setEntityType("dataset");
+        gmce.setAspectName("datasetProperties");
+        JacksonDataTemplateCodec dataTemplateCodec = new JacksonDataTemplateCodec();
+        GenericAspect genericAspect = new GenericAspect();
+        genericAspect.setValue(ByteString.unsafeWrap(dataTemplateCodec.dataTemplateToBytes(datasetProperties)));
+        genericAspect.setContentType("application/json");
+        gmce.setAspect(genericAspect);
+        return gmce;
+    }
+
     protected <T extends RecordTemplate> Pair<String, RecordTemplate> getAspectRecordPair(T aspect, Class<T> clazz)
         throws Exception {
         final ObjectMapper objectMapper = new ObjectMapper();
@@ -0,0 +1,120 @@
+package com.linkedin.metadata.entity;
+
+import com.google.common.collect.ImmutableMap;
+import com.linkedin.mxe.SystemMetadata;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class LastObservedWriteBufferTest {
+
+  private static final String URN = "urn:li:corpuser:test";
+  private static final String ASPECT = "corpUserInfo";
+  private static final EntityAspectIdentifier LATEST_KEY = new EntityAspectIdentifier(URN, ASPECT, 0);
+
+  private AspectDao _mockAspectDao;
+  private LastObservedWriteBuffer _buffer;
+
+  @BeforeMethod
+  public void setup() {
+    _mockAspectDao = mock(AspectDao.class);
+    when(_mockAspectDao.runInTransactionWithRetry(any(), anyInt()))
+        .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+    // Only flush when asked to
+    _buffer = new LastObservedWriteBuffer(_mockAspectDao, 3600000, 1000);
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    _buffer.close();
+  }
+
+  @Test
+  public void testUpdatesAreCoalesced() {
+    when(_mockAspectDao.batchGet(any())).thenReturn(ImmutableMap.of(LATEST_KEY, createAspect(100L)));
+    when(_mockAspectDao.updateSystemMetadata(any())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+    _buffer.add(URN, ASPECT, 300L);
+    _buffer.add(URN, ASPECT, 200L);
+    assertEquals(_buffer.getPendingCount(), 1);
+    verifyZeroInteractions(_mockAspectDao);
+
+    assertEquals(_buffer.flush(), 1);
+    assertEquals(_buffer.getPendingCount(), 0);
+    ArgumentCaptor<List<EntityAspect>> aspectsCaptor = ArgumentCaptor.forClass(List.class);
+    verify(_mockAspectDao, times(1)).updateSystemMetadata(aspectsCaptor.capture());
+    assertEquals(aspectsCaptor.getValue().size(), 1);
+    EntityAspect aspect = aspectsCaptor.getValue().get(0);
+    assertEquals(aspect.getCreatedOn(), new Timestamp(0));
+    SystemMetadata systemMetadata = EntityUtils.parseSystemMetadata(aspect.getSystemMetadata());
+    assertEquals(systemMetadata.getLastObserved().longValue(), 300L);
+    assertEquals(systemMetadata.getRunId(), "run-id");
+
+    // Nothing left to write
+    assertEquals(_buffer.flush(), 0);
+    verify(_mockAspectDao, times(1)).batchGet(any());
+  }
+
+  @Test
+  public void testNewerTimestampIsKept() {
+    when(_mockAspectDao.batchGet(any())).thenReturn(ImmutableMap.of(LATEST_KEY, createAspect(500L)));
+
+    _buffer.add(URN, ASPECT, 300L);
+    assertEquals(_buffer.flush(), 0);
+    verify(_mockAspectDao, never()).updateSystemMetadata(any());
+  }
+
+  @Test
+  public void testRewrittenAspectIsSkipped() {
+    when(_mockAspectDao.batchGet(any())).thenReturn(ImmutableMap.of(LATEST_KEY, createAspect(100L)));
+    // The row was rewritten between the read and the update
+    when(_mockAspectDao.updateSystemMetadata(any())).thenReturn(0);
+
+    _buffer.add(URN, ASPECT, 300L);
+    assertEquals(_buffer.flush(), 0);
+    verify(_mockAspectDao, never()).saveAspect(any(EntityAspect.class), anyBoolean());
+    assertEquals(_buffer.getPendingCount(), 0);
+  }
+
+  @Test
+  public void testDeletedAspectIsSkipped() {
+    when(_mockAspectDao.batchGet(any())).thenReturn(Collections.emptyMap());
+
+    _buffer.add(URN, ASPECT, 300L);
+    assertEquals(_buffer.flush(), 0);
+    verify(_mockAspectDao, never()).updateSystemMetadata(any());
+  }
+
+  @Test
+  public void testFailedFlushKeepsUpdates() {
+    when(_mockAspectDao.batchGet(any())).thenThrow(new IllegalStateException("unavailable"));
+
+    _buffer.add(URN, ASPECT, 300L);
+    assertThrows(IllegalStateException.class, () -> _buffer.flush());
+    assertEquals(_buffer.getPendingCount(), 1);
+
+    reset(_mockAspectDao);
+    when(_mockAspectDao.runInTransactionWithRetry(any(), anyInt()))
+        .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+    when(_mockAspectDao.batchGet(any())).thenReturn(ImmutableMap.of(LATEST_KEY, createAspect(100L)));
+    // Closing writes what is still pending
+    _buffer.close();
+    verify(_mockAspectDao, times(1)).updateSystemMetadata(any());
+  }
+
+  private static EntityAspect createAspect(long lastObserved) {
+    SystemMetadata systemMetadata = new SystemMetadata().setRunId("run-id").setLastObserved(lastObserved);
+    return new EntityAspect(URN, ASPECT, 0, "{}", EntityUtils.toJsonAspect(systemMetadata), new Timestamp(0),
+        "urn:li:corpuser:actor", null);
+  }
+}
@@ -0,0 +1,80 @@
+package com.linkedin.metadata.event;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import java.util.Collections;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class MetadataChangeLogTailerTest {
+
+  private static final String TOPIC = "MetadataChangeLog_Versioned_v1";
+  private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+  private static final long TIMEOUT_MILLIS = 10000;
+
+  private MockConsumer<String, GenericRecord> _consumer;
+
+  @BeforeMethod
+  public void setup() {
+    _consumer = new MockConsumer<>(OffsetResetStrategy.LATEST);
+    _consumer.updatePartitions(TOPIC,
+        Collections.singletonList(new PartitionInfo(TOPIC, 0, null, null, null)));
+    _consumer.updateEndOffsets(ImmutableMap.of(PARTITION, 0L));
+  }
+
+  @Test
+  public void testListenersReceiveChanges() throws Exception {
+    MetadataChangeLogListener failingListener = mock(MetadataChangeLogListener.class);
+    doThrow(new RuntimeException("test")).when(failingListener).onChangeLog(any());
+    MetadataChangeLogListener listener = mock(MetadataChangeLogListener.class);
+
+    MetadataChangeLog changeLog = new MetadataChangeLog().setEntityType("corpuser")
+        .setEntityUrn(UrnUtils.getUrn("urn:li:corpuser:test"))
+        .setChangeType(ChangeType.UPSERT)
+        .setAspectName("corpUserInfo");
+
+    try (MetadataChangeLogTailer tailer =
+        new MetadataChangeLogTailer(() -> _consumer, TOPIC, ImmutableList.of(failingListener, listener))) {
+      tailer.start();
+      waitForAssignment();
+      _consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, 0L, "key", EventUtils.pegasusToAvroMCL(changeLog)));
+
+      verify(listener, timeout(TIMEOUT_MILLIS)).onChangeLog(changeLog);
+      verify(failingListener).onChangeLog(changeLog);
+    }
+    assertTrue(_consumer.closed());
+  }
+
+  @Test
+  public void testNoConsumerWithoutListeners() {
+    try (MetadataChangeLogTailer tailer =
+        new MetadataChangeLogTailer(() -> _consumer, TOPIC, Collections.emptyList())) {
+      tailer.start();
+    }
+    assertTrue(_consumer.assignment().isEmpty());
+    assertFalse(_consumer.closed());
+  }
+
+  private void waitForAssignment() throws InterruptedException {
+    final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+    while (!_consumer.assignment().contains(PARTITION)) {
+      assertTrue(System.currentTimeMillis() < deadline, "Partitions were never assigned");
+      Thread.sleep(10);
+    }
+  }
+}
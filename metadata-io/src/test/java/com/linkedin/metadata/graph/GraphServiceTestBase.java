@@ -1372,6 +1372,79 @@ abstract public class GraphServiceTestBase {
     assertEqualsAnyOrder(entitiesBeforeRemove, entitiesAfterRemove);
   }
 
+  @Test
+  public void testRemoveEdge() throws Exception {
+    GraphService service = getPopulatedGraphService();
+
+    service.removeEdge(new Edge(datasetTwoUrn, datasetOneUrn, downstreamOf));
+    service.removeEdge(new Edge(userOneUrn, userTwoUrn, knowsUser));
+    syncAfterWrite();
+
+    // only the given edges are removed, other edges of the same nodes and the reverse edge are kept
+    assertEqualsAnyOrder(
+            service.findRelatedEntities(
+                    anyType, newFilter("urn", datasetTwoUrnString),
+                    anyType, EMPTY_FILTER,
+                    Arrays.asList(downstreamOf, hasOwner, knowsUser), outgoingRelationships,
+                    0, 100
+            ),
+            Arrays.asList(hasOwnerUserOneRelatedEntity)
+    );
+    assertEqualsAnyOrder(
+            service.findRelatedEntities(
+                    anyType, newFilter("urn", datasetOneUrnString),
+                    anyType, EMPTY_FILTER,
+                    Arrays.asList(downstreamOf, hasOwner, knowsUser), undirectedRelationships,
+                    0, 100
+            ),
+            Arrays.asList(hasOwnerUserOneRelatedEntity)
+    );
+    assertEqualsAnyOrder(
+            service.findRelatedEntities(
+                    anyType, newFilter("urn", userOneUrnString),
+                    anyType, EMPTY_FILTER,
+                    Arrays.asList(knowsUser), outgoingRelationships,
+                    0, 100
+            ),
+            Collections.emptyList()
+    );
+    assertEqualsAnyOrder(
+            service.findRelatedEntities(
+                    anyType, newFilter("urn", userTwoUrnString),
+                    anyType, EMPTY_FILTER,
+                    Arrays.asList(knowsUser), outgoingRelationships,
+                    0, 100
+            ),
+            Arrays.asList(knowsUserOneRelatedEntity)
+    );
+  }
+
+  @Test
+  public void testRemoveUnknownEdge() throws Exception {
+    GraphService service = getPopulatedGraphService();
+
+    // populated graph asserted in testPopulatedGraphService
+    RelatedEntitiesResult entitiesBeforeRemove = service.findRelatedEntities(
+            anyType, EMPTY_FILTER,
+            anyType, EMPTY_FILTER,
+            Arrays.asList(downstreamOf, hasOwner, knowsUser), outgoingRelationships,
+            0, 100);
+
+    // reversed edge, edge of another relationship type, edge to an unknown node and unknown relationship type
+    service.removeEdge(new Edge(datasetOneUrn, datasetTwoUrn, downstreamOf));
+    service.removeEdge(new Edge(datasetTwoUrn, datasetOneUrn, hasOwner));
+    service.removeEdge(new Edge(datasetTwoUrn, unknownUrn, downstreamOf));
+    service.removeEdge(new Edge(datasetTwoUrn, datasetOneUrn, "unknownRelationship"));
+    syncAfterWrite();
+
+    RelatedEntitiesResult entitiesAfterRemove = service.findRelatedEntities(
+            anyType, EMPTY_FILTER,
+            anyType, EMPTY_FILTER,
+            Arrays.asList(downstreamOf, hasOwner, knowsUser), outgoingRelationships,
+            0, 100);
+    assertEqualsAnyOrder(entitiesBeforeRemove, entitiesAfterRemove);
+  }
+
   @Test
   public void testClear() throws Exception {
     GraphService service = getPopulatedGraphService();
@@ -46,6 +46,7 @@ public class ElasticSearchGraphServiceTest extends GraphServiceTestBase {
   private RestHighLevelClient _searchClient;
   private final IndexConvention _indexConvention = new IndexConventionImpl(null);
   private final String _indexName = _indexConvention.getIndexName(INDEX_NAME);
+  private ESGraphQueryDAO _readDAO;
   private ElasticSearchGraphService _client;
 
   @BeforeClass
@@ -67,10 +68,10 @@ public class ElasticSearchGraphServiceTest extends GraphServiceTestBase {
   @Nonnull
   private ElasticSearchGraphService buildService() {
     LineageRegistry lineageRegistry = new LineageRegistry(SnapshotEntityRegistry.getInstance());
-    ESGraphQueryDAO readDAO = new ESGraphQueryDAO(_searchClient, lineageRegistry, _indexConvention);
+    _readDAO = new ESGraphQueryDAO(_searchClient, lineageRegistry, _indexConvention);
     ESGraphWriteDAO writeDAO =
         new ESGraphWriteDAO(_searchClient, _indexConvention, ElasticSearchServiceTest.getBulkProcessor(_searchClient));
-    return new ElasticSearchGraphService(lineageRegistry, _searchClient, _indexConvention, writeDAO, readDAO,
+    return new ElasticSearchGraphService(lineageRegistry, _searchClient, _indexConvention, writeDAO, _readDAO,
         ElasticSearchServiceTest.getIndexBuilder(_searchClient));
   }
 
@@ -249,4 +250,25 @@ public class ElasticSearchGraphServiceTest extends GraphServiceTestBase {
     assertEquals(downstreamLineage.getTotal().intValue(), 0);
     assertEquals(downstreamLineage.getRelationships().size(), 0);
   }
+
+  @Test
+  public void testPopulatedGraphServiceGetLineageAcrossPages() throws Exception {
+    GraphService service = getLineagePopulatedGraphService();
+    // Every hop needs several search_after pages to fetch all its edges
+    _readDAO.setLineagePageSize(2);
+    try {
+      EntityLineageResult downstreamLineage =
+          service.getLineage(datasetOneUrn, LineageDirection.DOWNSTREAM, 0, 1000, 2);
+      assertEquals(downstreamLineage.getTotal().intValue(), 5);
+      Map<Urn, LineageRelationship> relationships = downstreamLineage.getRelationships().stream()
+          .collect(Collectors.toMap(LineageRelationship::getEntity, Function.identity()));
+      assertEquals(relationships.get(datasetTwoUrn).getDegree().intValue(), 1);
+      assertEquals(relationships.get(datasetThreeUrn).getDegree().intValue(), 2);
+      assertEquals(relationships.get(datasetFourUrn).getDegree().intValue(), 2);
+      assertEquals(relationships.get(dataJobOneUrn).getDegree().intValue(), 1);
+      assertEquals(relationships.get(dataJobTwoUrn).getDegree().intValue(), 1);
+    } finally {
+      _readDAO.setLineagePageSize(ESGraphQueryDAO.MAX_ELASTIC_RESULT);
+    }
+  }
 }
@@ -1,5 +1,7 @@
 package com.linkedin.metadata.graph.neo4j;
 
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.graph.Edge;
 import com.linkedin.metadata.graph.GraphService;
 import com.linkedin.metadata.graph.GraphServiceTestBase;
 import com.linkedin.metadata.models.registry.LineageRegistry;
@@ -9,17 +11,22 @@ import com.linkedin.metadata.models.registry.SnapshotEntityRegistry;
 import com.linkedin.metadata.query.filter.RelationshipFilter;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.SessionConfig;
 import org.testng.SkipException;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 
+import static com.linkedin.metadata.search.utils.QueryUtils.EMPTY_FILTER;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
 
 
 public class Neo4jGraphServiceTest extends GraphServiceTestBase {
@@ -104,6 +111,52 @@ public class Neo4jGraphServiceTest extends GraphServiceTestBase {
     super.testFindRelatedEntitiesDestinationType(datasetType, relationshipTypes, relationships, expectedRelatedEntities);
   }
 
+  @Test
+  public void testInvalidEdgeBatchSize() {
+    final LineageRegistry lineageRegistry = new LineageRegistry(SnapshotEntityRegistry.getInstance());
+    assertThrows(IllegalArgumentException.class,
+        () -> new Neo4jGraphService(lineageRegistry, _driver, SessionConfig.defaultConfig(), 0));
+    assertThrows(IllegalArgumentException.class,
+        () -> new Neo4jGraphService(lineageRegistry, _driver, SessionConfig.defaultConfig(), -1));
+  }
+
+  @Test
+  public void testAddEdgesInBatches() throws Exception {
+    final int upstreamCount = 25;
+    // Batches span edges of different types, and edges of the same types are split across batches
+    final Neo4jGraphService client = new Neo4jGraphService(new LineageRegistry(SnapshotEntityRegistry.getInstance()),
+        _driver, SessionConfig.defaultConfig(), 10);
+
+    final List<Edge> edges = new ArrayList<>();
+    final List<RelatedEntity> expectedUpstreams = new ArrayList<>();
+    for (int i = 0; i < upstreamCount; i++) {
+      final Urn upstreamUrn =
+          Urn.createFromString("urn:li:" + datasetType + ":(urn:li:dataPlatform:type,Upstream" + i + ",PROD)");
+      edges.add(new Edge(datasetOneUrn, upstreamUrn, downstreamOf));
+      expectedUpstreams.add(new RelatedEntity(downstreamOf, upstreamUrn.toString()));
+    }
+    edges.add(new Edge(datasetOneUrn, userOneUrn, hasOwner));
+    edges.add(new Edge(datasetOneUrn, userTwoUrn, hasOwner));
+
+    client.addEdges(edges);
+    // Edges are merged, so adding them again does not duplicate them
+    client.addEdges(edges);
+
+    final RelatedEntitiesResult upstreams = client.findRelatedEntities(Collections.singletonList(datasetType),
+        EMPTY_FILTER, Collections.singletonList(datasetType), EMPTY_FILTER, Collections.singletonList(downstreamOf),
+        outgoingRelationships, 0, 100);
+    assertEquals(upstreams.getTotal(), upstreamCount);
+    assertEqualsAnyOrder(upstreams.getEntities(), expectedUpstreams, RELATED_ENTITY_COMPARATOR);
+
+    final RelatedEntitiesResult owners = client.findRelatedEntities(Collections.singletonList(userType),
+        EMPTY_FILTER, Collections.singletonList(datasetType), EMPTY_FILTER, Collections.singletonList(hasOwner),
+        incomingRelationships, 0, 100);
+    // Both owners find the dataset
+    assertEquals(owners.getTotal(), 2);
+    assertEqualsAnyOrder(owners.getEntities(), Collections.singletonList(hasOwnerDatasetOneRelatedEntity),
+        RELATED_ENTITY_COMPARATOR);
+  }
+
   @Test
   @Override
   public void testFindRelatedEntitiesNullSourceType() throws Exception {
@@ -19,6 +19,7 @@ import com.linkedin.metadata.models.registry.SnapshotEntityRegistry;
 import com.linkedin.metadata.search.aggregator.AllEntitiesSearchAggregator;
 import com.linkedin.metadata.search.cache.CachingAllEntitiesSearchAggregator;
 import com.linkedin.metadata.search.cache.EntityDocCountCache;
+import com.linkedin.metadata.search.cache.LineageClosureStore;
 import com.linkedin.metadata.search.client.CachingEntitySearchService;
 import com.linkedin.metadata.search.elasticsearch.ElasticSearchService;
 import com.linkedin.metadata.search.elasticsearch.ElasticSearchServiceTest;
@@ -43,6 +44,7 @@ import org.testng.annotations.Test;
 import javax.annotation.Nonnull;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static com.linkedin.metadata.DockerTestUtils.checkContainerEngine;
 import static com.linkedin.metadata.ElasticSearchTestUtils.syncAfterWrite;
@@ -102,7 +104,7 @@ public class LineageSearchServiceTest {
                 100,
                 true),
             new SimpleRanker()),
-        _graphService, _cacheManager.getCache("test"), withCache);
+        _graphService, withCache ? new LineageClosureStore(_cacheManager.getCache("test"), 100, 0) : null);
   }
 
   @BeforeMethod
@@ -248,4 +250,24 @@ public class LineageSearchServiceTest {
             null, null, null, 0, 10);
     assertEquals(searchResult.getNumEntities().intValue(), 0);
   }
+
+  @Test
+  public void testMergeByScore() {
+    List<LineageSearchResult> resultsPerBatch = ImmutableList.of(
+        lineageSearchResult(new TestEntityUrn("test", "a", "VALUE_1"), 3.0, new TestEntityUrn("test", "b", "VALUE_1"), 1.0),
+        lineageSearchResult(new TestEntityUrn("test", "c", "VALUE_1"), 2.0, new TestEntityUrn("test", "d", "VALUE_1"), 1.0));
+
+    List<String> merged = LineageSearchService.mergeByScore(resultsPerBatch, 1, 2)
+        .stream()
+        .map(entity -> entity.getEntity().getEntityKey().get(1))
+        .collect(Collectors.toList());
+    assertEquals(merged, ImmutableList.of("c", "b"));
+    assertEquals(LineageSearchService.mergeByScore(resultsPerBatch, 3, 10).size(), 1);
+  }
+
+  private LineageSearchResult lineageSearchResult(Urn first, double firstScore, Urn second, double secondScore) {
+    return new LineageSearchResult().setEntities(new LineageSearchEntityArray(ImmutableList.of(
+        new LineageSearchEntity().setEntity(first).setScore(firstScore),
+        new LineageSearchEntity().setEntity(second).setScore(secondScore))));
+  }
 }
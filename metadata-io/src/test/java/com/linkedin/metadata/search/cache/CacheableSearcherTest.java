@@ -1,5 +1,6 @@
 package com.linkedin.metadata.search.cache;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Streams;
 import com.linkedin.common.urn.TestEntityUrn;
 import com.linkedin.common.urn.Urn;
@@ -8,9 +9,11 @@ import com.linkedin.metadata.search.SearchEntity;
 import com.linkedin.metadata.search.SearchEntityArray;
 import com.linkedin.metadata.search.SearchResult;
 import com.linkedin.metadata.search.SearchResultMetadata;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.testng.annotations.Test;
@@ -86,6 +89,68 @@ public class CacheableSearcherTest {
             getUrns(0, 40).stream(), getUrns(0, 5).stream()).collect(Collectors.toList()));
   }
 
+  @Test
+  public void testCacheableSearcherWithFullBatchesJumpsToBatch() {
+    List<Integer> queriedOffsets = new ArrayList<>();
+    CacheableSearcher<Integer> fullBatchSearcher =
+        new CacheableSearcher<>(cacheManager.getCache("fullBatchSearcher"), 10, qs -> {
+          queriedOffsets.add(qs.getFrom());
+          return getSearchResult(qs, 10);
+        }, CacheableSearcher.QueryPagination::getFrom, null, true, true);
+
+    SearchResult result = fullBatchSearcher.getSearchResults(495, 10);
+    assertEquals(result.getNumEntities().intValue(), 1000);
+    assertEquals(result.getEntities().stream().map(SearchEntity::getEntity).collect(Collectors.toList()),
+        Streams.concat(getUrns(5, 10).stream(), getUrns(0, 5).stream()).collect(Collectors.toList()));
+    // Only the two batches holding the page were queried
+    assertEquals(queriedOffsets, ImmutableList.of(490, 500));
+  }
+
+  @Test
+  public void testCacheableSearcherRemembersBatchOffsets() {
+    List<Integer> queriedOffsets = new ArrayList<>();
+    CacheableSearcher<Integer> variableBatchSearcher =
+        new CacheableSearcher<>(cacheManager.getCache("rememberingSearcher"), 10, qs -> {
+          queriedOffsets.add(qs.getFrom());
+          return getSearchResult(qs, qs.getFrom() + qs.getSize());
+        }, CacheableSearcher.QueryPagination::getFrom, null, true);
+
+    // Batches hold 10, 20, 30, 40 and 50 results, so results 95 to 104 span the fourth and fifth batches
+    SearchResult result = variableBatchSearcher.getSearchResults(95, 10);
+    assertEquals(result.getEntities().stream().map(SearchEntity::getEntity).collect(Collectors.toList()),
+        Streams.concat(getUrns(35, 40).stream(), getUrns(0, 5).stream()).collect(Collectors.toList()));
+    assertEquals(queriedOffsets, ImmutableList.of(0, 10, 20, 30, 40));
+
+    // Later pages start from the closest batch seen before, whose results are cached
+    queriedOffsets.clear();
+    result = variableBatchSearcher.getSearchResults(105, 10);
+    assertEquals(result.getEntities().stream().map(SearchEntity::getEntity).collect(Collectors.toList()),
+        getUrns(5, 15));
+    assertTrue(queriedOffsets.isEmpty());
+  }
+
+  @Test
+  public void testCacheableSearcherIgnoresOffsetsOfEvictedBatches() {
+    List<Integer> queriedOffsets = new ArrayList<>();
+    Cache cache = cacheManager.getCache("evictingSearcher");
+    CacheableSearcher<Integer> variableBatchSearcher =
+        new CacheableSearcher<>(cache, 10, qs -> {
+          queriedOffsets.add(qs.getFrom());
+          return getSearchResult(qs, qs.getFrom() + qs.getSize());
+        }, CacheableSearcher.QueryPagination::getFrom, null, true);
+
+    variableBatchSearcher.getSearchResults(95, 10);
+    // The fifth batch, starting at result 100, is evicted
+    cache.evict(40);
+
+    // Its offset is ignored, and the search starts from the fourth batch, at result 60
+    queriedOffsets.clear();
+    SearchResult result = variableBatchSearcher.getSearchResults(105, 10);
+    assertEquals(result.getEntities().stream().map(SearchEntity::getEntity).collect(Collectors.toList()),
+        getUrns(5, 15));
+    assertEquals(queriedOffsets, ImmutableList.of(40));
+  }
+
   private SearchResult getEmptySearchResult(CacheableSearcher.QueryPagination queryPagination) {
     return new SearchResult().setEntities(new SearchEntityArray())
         .setNumEntities(0)
@@ -0,0 +1,78 @@
+package com.linkedin.metadata.search.cache;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.graph.EntityLineageResult;
+import com.linkedin.metadata.graph.LineageDirection;
+import com.linkedin.metadata.graph.LineageRelationship;
+import com.linkedin.metadata.graph.LineageRelationshipArray;
+import java.util.Collections;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class LineageClosureStoreTest {
+
+  private static final Urn ROOT = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,root,PROD)");
+  private static final Urn CHILD = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,child,PROD)");
+  private static final Urn GRAND_CHILD = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,grandChild,PROD)");
+  private static final Urn OTHER = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,other,PROD)");
+
+  private static final EntityLineageResult LINEAGE = new EntityLineageResult().setStart(0)
+      .setCount(2)
+      .setTotal(2)
+      .setRelationships(new LineageRelationshipArray(ImmutableList.of(
+          new LineageRelationship().setEntity(CHILD).setType("DownstreamOf").setDegree(1),
+          new LineageRelationship().setEntity(GRAND_CHILD).setType("DownstreamOf").setDegree(2))));
+
+  private LineageClosureStore _store;
+
+  @BeforeMethod
+  public void setup() {
+    _store = new LineageClosureStore(new ConcurrentMapCache("test"), 2, 0);
+  }
+
+  @Test
+  public void testGet() {
+    assertNull(_store.get(ROOT, LineageDirection.DOWNSTREAM));
+    _store.put(ROOT, LineageDirection.DOWNSTREAM, LINEAGE, System.currentTimeMillis());
+
+    assertEquals(_store.get(ROOT, LineageDirection.DOWNSTREAM), LINEAGE);
+    assertNull(_store.get(ROOT, LineageDirection.UPSTREAM));
+  }
+
+  @Test
+  public void testChangeOfUnrelatedEntity() {
+    _store.put(ROOT, LineageDirection.DOWNSTREAM, LINEAGE, System.currentTimeMillis() - 1);
+    _store.invalidate(Collections.singleton(OTHER));
+
+    assertEquals(_store.get(ROOT, LineageDirection.DOWNSTREAM), LINEAGE);
+  }
+
+  @Test
+  public void testChangeOfRootOrMember() {
+    _store.put(ROOT, LineageDirection.DOWNSTREAM, LINEAGE, System.currentTimeMillis() - 1);
+    _store.put(ROOT, LineageDirection.UPSTREAM, LINEAGE, System.currentTimeMillis() - 1);
+    _store.invalidate(Collections.singleton(ROOT));
+    _store.invalidate(Collections.singleton(GRAND_CHILD));
+
+    assertNull(_store.get(ROOT, LineageDirection.DOWNSTREAM));
+    assertNull(_store.get(ROOT, LineageDirection.UPSTREAM));
+
+    // Lineage computed after the change is kept
+    _store.put(ROOT, LineageDirection.DOWNSTREAM, LINEAGE, System.currentTimeMillis() + 1);
+    assertEquals(_store.get(ROOT, LineageDirection.DOWNSTREAM), LINEAGE);
+  }
+
+  @Test
+  public void testTooManyTrackedChanges() {
+    _store.put(ROOT, LineageDirection.DOWNSTREAM, LINEAGE, System.currentTimeMillis() - 1);
+    _store.invalidate(ImmutableList.of(OTHER, UrnUtils.getUrn("urn:li:corpuser:a"), UrnUtils.getUrn("urn:li:corpuser:b")));
+
+    assertNull(_store.get(ROOT, LineageDirection.DOWNSTREAM));
+  }
+}
@@ -0,0 +1,93 @@
+package com.linkedin.metadata.search.cache;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.common.urn.TestEntityUrn;
+import com.linkedin.metadata.search.AggregationMetadataArray;
+import com.linkedin.metadata.search.SearchEntity;
+import com.linkedin.metadata.search.SearchEntityArray;
+import com.linkedin.metadata.search.SearchResult;
+import com.linkedin.metadata.search.SearchResultMetadata;
+import java.util.Collections;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class SerializedRecordCacheTest {
+
+  private ConcurrentMapCache _delegate;
+  private SerializedRecordCache _cache;
+
+  @BeforeMethod
+  public void setupTest() {
+    _delegate = new ConcurrentMapCache("test");
+    _cache = new SerializedRecordCache(_delegate);
+  }
+
+  @Test
+  public void testRecordsAreStoredSerialized() {
+    final SearchResult result = getSearchResult();
+    _cache.put("key", result);
+
+    final Object stored = _delegate.get("key").get();
+    assertTrue(stored instanceof SerializedRecordCache.SerializedRecord);
+    assertTrue(SerializedRecordCache.weigh("key", stored) > ((SerializedRecordCache.SerializedRecord) stored).size());
+
+    final SearchResult cached = _cache.get("key", SearchResult.class);
+    assertEquals(cached, result);
+    // Every read decodes a fresh copy
+    assertNotSame(cached, _cache.get("key", SearchResult.class));
+    assertEquals(_cache.get("key").get(), result);
+    assertNull(_cache.get("missing", SearchResult.class));
+  }
+
+  @Test
+  public void testIsCached() {
+    _cache.put("key", getSearchResult());
+    assertTrue(SerializedRecordCache.isCached(_cache, "key"));
+    assertFalse(SerializedRecordCache.isCached(_cache, "missing"));
+    // Caches which do not serialize records are supported as well
+    assertTrue(SerializedRecordCache.isCached(_delegate, "key"));
+    assertFalse(SerializedRecordCache.isCached(_delegate, "missing"));
+  }
+
+  @Test
+  public void testOtherValuesAreStoredAsIs() {
+    _cache.put("key", Collections.singletonList(1));
+    assertEquals(_delegate.get("key").get(), Collections.singletonList(1));
+    assertEquals(_cache.get("key").get(), Collections.singletonList(1));
+  }
+
+  @Test
+  public void testValueLoader() {
+    final SearchResult result = getSearchResult();
+    assertEquals(_cache.get("key", () -> result), result);
+    assertTrue(_delegate.get("key").get() instanceof SerializedRecordCache.SerializedRecord);
+    // The loader is not called again once the value is cached
+    assertEquals(_cache.get("key", () -> {
+      throw new IllegalStateException();
+    }), result);
+  }
+
+  @Test
+  public void testPutIfAbsent() {
+    final SearchResult result = getSearchResult();
+    assertNull(_cache.putIfAbsent("key", result));
+    final Cache.ValueWrapper existing = _cache.putIfAbsent("key", new SearchResult());
+    assertNotNull(existing);
+    assertEquals(existing.get(), result);
+  }
+
+  private static SearchResult getSearchResult() {
+    return new SearchResult().setEntities(new SearchEntityArray(ImmutableList.of(
+            new SearchEntity().setEntity(new TestEntityUrn("urn:li:platform:test", "a", "PROD")),
+            new SearchEntity().setEntity(new TestEntityUrn("urn:li:platform:test", "b", "PROD")))))
+        .setNumEntities(2)
+        .setFrom(0)
+        .setPageSize(10)
+        .setMetadata(new SearchResultMetadata().setAggregations(new AggregationMetadataArray()));
+  }
+}
@@ -25,7 +25,9 @@ import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.common.unit.TimeValue;
 import org.testcontainers.elasticsearch.ElasticsearchContainer;
+import org.testcontainers.shaded.com.google.common.collect.ImmutableList;
 import org.testcontainers.shaded.com.google.common.collect.ImmutableMap;
+import org.testcontainers.shaded.com.google.common.collect.ImmutableSet;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
@@ -33,6 +35,7 @@ import org.testng.annotations.Test;
 
 import javax.annotation.Nonnull;
 import java.util.Collections;
+import java.util.Map;
 
 import static com.linkedin.metadata.DockerTestUtils.checkContainerEngine;
 import static com.linkedin.metadata.ElasticSearchTestUtils.syncAfterWrite;
@@ -124,6 +127,11 @@ public class ElasticSearchServiceTest {
     searchResult = _elasticSearchService.search(ENTITY_NAME, "foreignKey:Node", null, null, 0, 10);
     assertEquals(searchResult.getNumEntities().intValue(), 1);
     assertEquals(searchResult.getEntities().get(0).getEntity(), urn);
+    Map<String, SearchResult> multiSearchResult =
+        _elasticSearchService.multiSearch(ImmutableList.of(ENTITY_NAME), "test", null, null, 0, 10);
+    assertEquals(multiSearchResult.keySet(), ImmutableSet.of(ENTITY_NAME));
+    assertEquals(multiSearchResult.get(ENTITY_NAME).getNumEntities().intValue(), 1);
+    assertEquals(multiSearchResult.get(ENTITY_NAME).getEntities().get(0).getEntity(), urn);
     browseResult = _elasticSearchService.browse(ENTITY_NAME, "", null, 0, 10);
     assertEquals(browseResult.getMetadata().getTotalNumEntities().longValue(), 1);
     assertEquals(browseResult.getGroups().get(0).getName(), "a");
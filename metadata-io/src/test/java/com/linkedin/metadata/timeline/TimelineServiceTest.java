@@ -25,6 +25,8 @@ import com.linkedin.schema.SchemaFieldDataType;
 import com.linkedin.schema.SchemaMetadata;
 import com.linkedin.schema.StringType;
 import com.linkedin.util.Pair;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
@@ -106,6 +108,68 @@ abstract public class TimelineServiceTest<T_AD extends AspectDao> {
     //Assert.assertEquals(changes.get(1).getTimestamp(), timestamps.get(5).getTime().longValue());
   }
 
+  @Test
+  public void testGetTimelineWithDiffCache() throws Exception {
+    Urn entityUrn = Urn.createFromString(
+        "urn:li:dataset:(urn:li:dataPlatform:hive,fooDb.fooTable" + System.currentTimeMillis() + ",PROD)");
+    String aspectName = "schemaMetadata";
+
+    for (int i = 5; i > 0; i--) {
+      SchemaMetadata schemaMetadata = getSchemaMetadata("This is the new description for day " + i);
+      AuditStamp daysAgo = createTestAuditStamp(i);
+      _entityService.ingestAspects(entityUrn, Collections.singletonList(new Pair<>(aspectName, schemaMetadata)),
+          daysAgo, getSystemMetadata(daysAgo, "run-" + i));
+    }
+
+    ConcurrentMapCache diffCache = new ConcurrentMapCache("test");
+    TimelineServiceImpl cachingTimelineService = new TimelineServiceImpl(_aspectDao, _testEntityRegistry, diffCache);
+    Set<ChangeCategory> elements = Collections.singleton(ChangeCategory.TECHNICAL_SCHEMA);
+    long startTimeMillis = createTestAuditStamp(10).getTime();
+
+    List<ChangeTransaction> expected =
+        _entityTimelineService.getTimeline(entityUrn, elements, startTimeMillis, 0, null, null, false);
+    List<ChangeTransaction> firstChanges =
+        cachingTimelineService.getTimeline(entityUrn, elements, startTimeMillis, 0, null, null, false);
+    // Diffs involving the latest version are not cached
+    Assert.assertEquals(diffCache.getNativeCache().size(), 4);
+    List<ChangeTransaction> cachedChanges =
+        cachingTimelineService.getTimeline(entityUrn, elements, startTimeMillis, 0, null, null, false);
+    Assert.assertEquals(diffCache.getNativeCache().size(), 4);
+
+    for (List<ChangeTransaction> changes : Arrays.asList(firstChanges, cachedChanges)) {
+      Assert.assertEquals(changes.size(), expected.size());
+      for (int i = 0; i < expected.size(); i++) {
+        Assert.assertEquals(changes.get(i).getTimestamp(), expected.get(i).getTimestamp());
+        Assert.assertEquals(changes.get(i).getSemVer(), expected.get(i).getSemVer());
+        Assert.assertEquals(changes.get(i).getVersionStamp(), expected.get(i).getVersionStamp());
+        Assert.assertEquals(changes.get(i).getChangeEvents(), expected.get(i).getChangeEvents());
+      }
+    }
+
+    // Each cached diff weighs one plus the number of change events it holds
+    for (Object cached : diffCache.getNativeCache().values()) {
+      int changeEvents = ((List<ChangeTransaction>) cached).stream()
+          .mapToInt(changeTransaction -> changeTransaction.getChangeEvents().size())
+          .sum();
+      Assert.assertEquals(TimelineServiceImpl.weighDiff(entityUrn, cached), changeEvents + 1);
+    }
+
+    // Diffs holding their raw JSON patch also weigh one per patch operation
+    diffCache.clear();
+    cachingTimelineService.getTimeline(entityUrn, elements, startTimeMillis, 0, null, null, true);
+    Assert.assertEquals(diffCache.getNativeCache().size(), 4);
+    for (Object cached : diffCache.getNativeCache().values()) {
+      int expectedWeight = 1;
+      for (ChangeTransaction changeTransaction : (List<ChangeTransaction>) cached) {
+        Assert.assertNotNull(changeTransaction.getRawDiff());
+        int operations = TimelineServiceImpl.getOperationCount(changeTransaction.getRawDiff());
+        Assert.assertTrue(operations > 0);
+        expectedWeight += changeTransaction.getChangeEvents().size() + operations;
+      }
+      Assert.assertEquals(TimelineServiceImpl.weighDiff(entityUrn, cached), expectedWeight);
+    }
+  }
+
   private static AuditStamp createTestAuditStamp(int daysAgo) {
     try {
       Long timestamp = System.currentTimeMillis() - (daysAgo * 24 * 60 * 60 * 1000L);
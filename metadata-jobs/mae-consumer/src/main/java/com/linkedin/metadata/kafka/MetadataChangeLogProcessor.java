@@ -15,8 +15,10 @@ import com.linkedin.metadata.kafka.hook.siblings.SiblingAssociationHook;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.MetadataChangeLog;
 import com.linkedin.mxe.Topics;
+import java.util.ArrayList;
 import java.util.List;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -58,22 +60,10 @@ public class MetadataChangeLogProcessor {
   @KafkaListener(id = "${METADATA_CHANGE_LOG_KAFKA_CONSUMER_GROUP_ID:generic-mae-consumer-job-client}", topics = {
       "${METADATA_CHANGE_LOG_VERSIONED_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_VERSIONED + "}",
       "${METADATA_CHANGE_LOG_TIMESERIES_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_TIMESERIES
-          + "}"}, containerFactory = "kafkaEventConsumer")
+          + "}"}, containerFactory = "kafkaEventConsumer", autoStartup = "#{!${kafka.listener.batch.enabled:false}}")
   public void consume(final ConsumerRecord<String, GenericRecord> consumerRecord) {
-    kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
-    final GenericRecord record = consumerRecord.value();
-    log.debug("Got Generic MCL on topic: {}, partition: {}, offset: {}", consumerRecord.topic(), consumerRecord.partition(), consumerRecord.offset());
-    MetricUtils.counter(this.getClass(), "received_mcl_count").inc();
-
-    MetadataChangeLog event;
-    try {
-      event = EventUtils.avroToPegasusMCL(record);
-      log.debug("Successfully converted Avro MCL to Pegasus MCL. urn: {}, key: {}", event.getEntityUrn(),
-          event.getEntityKeyAspect());
-    } catch (Exception e) {
-      MetricUtils.counter(this.getClass(), "avro_to_pegasus_conversion_failure").inc();
-      log.error("Error deserializing message due to: ", e);
-      log.error("Message: {}", record.toString());
+    final MetadataChangeLog event = toMetadataChangeLog(consumerRecord);
+    if (event == null) {
       return;
     }
 
@@ -98,4 +88,67 @@ public class MetadataChangeLogProcessor {
     log.debug("Successfully completed MCL hooks for urn: {}, key: {}", event.getEntityUrn(),
         event.getEntityKeyAspect());
   }
+
+  /**
+   * Batch variant of {@link #consume(ConsumerRecord)}, started instead of it when kafka.listener.batch.enabled is set.
+   * Every hook receives the whole poll at once through {@link MetadataChangeLogHook#invokeBatch(List)}, which lets
+   * hooks coalesce events and write in bulk rather than paying a per event overhead.
+   */
+  @KafkaListener(id = "${METADATA_CHANGE_LOG_KAFKA_CONSUMER_GROUP_ID:generic-mae-consumer-job-client}-batch",
+      groupId = "${METADATA_CHANGE_LOG_KAFKA_CONSUMER_GROUP_ID:generic-mae-consumer-job-client}", topics = {
+      "${METADATA_CHANGE_LOG_VERSIONED_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_VERSIONED + "}",
+      "${METADATA_CHANGE_LOG_TIMESERIES_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_TIMESERIES
+          + "}"}, containerFactory = "kafkaBatchEventConsumer", autoStartup = "${kafka.listener.batch.enabled:false}")
+  public void consumeBatch(final List<ConsumerRecord<String, GenericRecord>> consumerRecords) {
+    final List<MetadataChangeLog> events = new ArrayList<>(consumerRecords.size());
+    for (ConsumerRecord<String, GenericRecord> consumerRecord : consumerRecords) {
+      final MetadataChangeLog event = toMetadataChangeLog(consumerRecord);
+      if (event != null) {
+        events.add(event);
+      }
+    }
+    if (events.isEmpty()) {
+      return;
+    }
+    MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "batchSize")).update(events.size());
+
+    log.debug("Invoking MCL hooks for a batch of {} events", events.size());
+
+    for (MetadataChangeLogHook hook : this.hooks) {
+      if (!hook.isEnabled()) {
+        continue;
+      }
+      try (Timer.Context ignored = MetricUtils.timer(this.getClass(),
+          hook.getClass().getSimpleName() + "_batch_latency").time()) {
+        hook.invokeBatch(events);
+      } catch (Exception e) {
+        // Just skip this hook and continue. - Note that this represents "at most once" processing.
+        MetricUtils.counter(this.getClass(), hook.getClass().getSimpleName() + "_failure").inc();
+        log.error("Failed to execute MCL hook with name {} on a batch", hook.getClass().getCanonicalName(), e);
+      }
+    }
+    MetricUtils.counter(this.getClass(), "consumed_mcl_count").inc(events.size());
+    log.debug("Successfully completed MCL hooks for a batch of {} events", events.size());
+  }
+
+  @Nullable
+  private MetadataChangeLog toMetadataChangeLog(final ConsumerRecord<String, GenericRecord> consumerRecord) {
+    kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
+    final GenericRecord record = consumerRecord.value();
+    log.debug("Got Generic MCL on topic: {}, partition: {}, offset: {}", consumerRecord.topic(), consumerRecord.partition(), consumerRecord.offset());
+    MetricUtils.counter(this.getClass(), "received_mcl_count").inc();
+
+    MetadataChangeLog event;
+    try {
+      event = EventUtils.avroToPegasusMCL(record);
+      log.debug("Successfully converted Avro MCL to Pegasus MCL. urn: {}, key: {}", event.getEntityUrn(),
+          event.getEntityKeyAspect());
+    } catch (Exception e) {
+      MetricUtils.counter(this.getClass(), "avro_to_pegasus_conversion_failure").inc();
+      log.error("Error deserializing message due to: ", e);
+      log.error("Message: {}", record.toString());
+      return null;
+    }
+    return event;
+  }
 }
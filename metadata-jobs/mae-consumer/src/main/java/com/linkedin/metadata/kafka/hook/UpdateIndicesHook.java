@@ -31,6 +31,7 @@ import com.linkedin.metadata.timeseries.TimeseriesAspectService;
 import com.linkedin.metadata.timeseries.transformer.TimeseriesAspectTransformer;
 import com.linkedin.metadata.utils.EntityKeyUtils;
 import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.MetadataChangeLog;
 import com.linkedin.mxe.SystemMetadata;
 import com.linkedin.util.Pair;
@@ -39,6 +40,7 @@ import java.net.URISyntaxException;
 import java.net.URLEncoder;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -120,12 +122,16 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
       RecordTemplate aspect =
           GenericRecordUtils.deserializeAspect(event.getAspect().getValue(), event.getAspect().getContentType(),
               aspectSpec);
+      RecordTemplate previousAspect = event.hasPreviousAspectValue()
+          ? GenericRecordUtils.deserializeAspect(event.getPreviousAspectValue().getValue(),
+              event.getPreviousAspectValue().getContentType(), aspectSpec)
+          : null;
       if (aspectSpec.isTimeseries()) {
         updateTimeseriesFields(event.getEntityType(), event.getAspectName(), urn, aspect, aspectSpec,
             event.getSystemMetadata());
       } else {
         updateSearchService(entitySpec.getName(), urn, aspectSpec, aspect, event.hasSystemMetadata() ? event.getSystemMetadata().getRunId() : null);
-        updateGraphService(urn, aspectSpec, aspect);
+        updateGraphService(urn, aspectSpec, aspect, previousAspect);
         updateSystemMetadata(event.getSystemMetadata(), urn, aspectSpec, aspect);
       }
     } else if (event.getChangeType() == ChangeType.DELETE) {
@@ -152,6 +158,80 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
     }
   }
 
+  /**
+   * Coalesces upserts of the same urn and aspect within the batch before updating the indices. Only the latest value
+   * of each aspect is indexed, and its graph edges are diffed against the value preceding the first upsert, so an
+   * aspect updated many times in a row costs a single set of writes. Search and graph writes go through the
+   * Elasticsearch bulk processors, so the remaining updates of the batch are sent in bulk.
+   *
+   * Deletes act as a barrier: pending upserts are applied before them, preserving the order of events per aspect.
+   * Timeseries events are appended as they come since they are not overwritten by later events.
+   */
+  @Override
+  public void invokeBatch(@Nonnull List<MetadataChangeLog> events) throws Exception {
+    final Map<Pair<Urn, String>, MetadataChangeLog> pendingUpserts = new LinkedHashMap<>();
+    for (MetadataChangeLog event : events) {
+      if (!isCoalescable(event)) {
+        if (event.getChangeType() == ChangeType.DELETE) {
+          flushPendingUpserts(pendingUpserts);
+        }
+        invokeInBatch(event);
+        continue;
+      }
+      final Pair<Urn, String> key = Pair.of(event.getEntityUrn(), event.getAspectName());
+      final MetadataChangeLog pending = pendingUpserts.remove(key);
+      // Re-inserting keeps the map ordered by the latest update of each aspect
+      pendingUpserts.put(key, pending == null ? event : coalesce(pending, event));
+    }
+    flushPendingUpserts(pendingUpserts);
+  }
+
+  private boolean isCoalescable(@Nonnull MetadataChangeLog event) {
+    if (!VALID_CHANGE_TYPES.contains(event.getChangeType()) || !event.hasEntityUrn() || !event.hasAspectName()) {
+      return false;
+    }
+    try {
+      final AspectSpec aspectSpec =
+          _entityRegistry.getEntitySpec(event.getEntityType()).getAspectSpec(event.getAspectName());
+      return aspectSpec != null && !aspectSpec.isTimeseries();
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Merges two consecutive updates of the same aspect into one carrying the latest value, and the previous value of
+   * the earliest update. The previous value is dropped if either update lacks one, e.g. on RESTATE, so that the graph
+   * is fully rewritten as it would have been without coalescing.
+   */
+  @Nonnull
+  private MetadataChangeLog coalesce(@Nonnull MetadataChangeLog earlier, @Nonnull MetadataChangeLog later)
+      throws CloneNotSupportedException {
+    MetricUtils.counter(this.getClass(), "coalesced_mcl_count").inc();
+    final MetadataChangeLog coalesced = later.copy();
+    if (earlier.hasPreviousAspectValue() && later.hasPreviousAspectValue()) {
+      coalesced.setPreviousAspectValue(earlier.getPreviousAspectValue());
+    } else {
+      coalesced.removePreviousAspectValue();
+    }
+    return coalesced;
+  }
+
+  private void flushPendingUpserts(@Nonnull Map<Pair<Urn, String>, MetadataChangeLog> pendingUpserts) {
+    pendingUpserts.values().forEach(this::invokeInBatch);
+    pendingUpserts.clear();
+  }
+
+  private void invokeInBatch(@Nonnull MetadataChangeLog event) {
+    try {
+      invoke(event);
+    } catch (Exception e) {
+      // Keep going with the rest of the batch, as the single event consumer would
+      MetricUtils.counter(this.getClass(), "batch_event_failure").inc();
+      log.error("Failed to update indices for urn {}, aspect {}", event.getEntityUrn(), event.getAspectName(), e);
+    }
+  }
+
   private Pair<List<Edge>, Set<String>> getEdgesAndRelationshipTypesFromAspect(Urn urn, AspectSpec aspectSpec, RecordTemplate aspect) {
     final Set<String> relationshipTypesBeingAdded = new HashSet<>();
     final List<Edge> edgesToAdd = new ArrayList<>();
@@ -175,8 +255,12 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
 
   /**
    * Process snapshot and update graph index
+   *
+   * When the previous value of the aspect is known, only the edges that differ between the two values are removed or
+   * added. Otherwise, e.g. on RESTATE, all outgoing edges of the extracted relationship types are rewritten.
    */
-  private void updateGraphService(Urn urn, AspectSpec aspectSpec, RecordTemplate aspect) {
+  private void updateGraphService(Urn urn, AspectSpec aspectSpec, RecordTemplate aspect,
+      @Nullable RecordTemplate previousAspect) {
     Pair<List<Edge>, Set<String>> edgeAndRelationTypes =
         getEdgesAndRelationshipTypesFromAspect(urn, aspectSpec, aspect);
 
@@ -184,13 +268,34 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
     final Set<String> relationshipTypesBeingAdded = edgeAndRelationTypes.getSecond();
 
     log.debug("Here's the relationship types found {}", relationshipTypesBeingAdded);
+    if (previousAspect != null) {
+      updateGraphServiceIncrementally(urn, aspectSpec, previousAspect, edgesToAdd);
+      return;
+    }
     if (relationshipTypesBeingAdded.size() > 0) {
       _graphService.removeEdgesFromNode(urn, new ArrayList<>(relationshipTypesBeingAdded),
           newRelationshipFilter(new Filter().setOr(new ConjunctiveCriterionArray()), RelationshipDirection.OUTGOING));
-      edgesToAdd.forEach(edge -> _graphService.addEdge(edge));
+      _graphService.addEdges(edgesToAdd);
     }
   }
 
+  private void updateGraphServiceIncrementally(Urn urn, AspectSpec aspectSpec, RecordTemplate previousAspect,
+      List<Edge> newEdges) {
+    final Set<Edge> previousEdgeSet =
+        new HashSet<>(getEdgesAndRelationshipTypesFromAspect(urn, aspectSpec, previousAspect).getFirst());
+    final Set<Edge> newEdgeSet = new HashSet<>(newEdges);
+
+    final List<Edge> edgesToRemove =
+        previousEdgeSet.stream().filter(edge -> !newEdgeSet.contains(edge)).collect(Collectors.toList());
+    final List<Edge> edgesToAdd =
+        newEdgeSet.stream().filter(edge -> !previousEdgeSet.contains(edge)).collect(Collectors.toList());
+
+    log.debug("Removing {} and adding {} edges for urn {}, aspect {}", edgesToRemove.size(), edgesToAdd.size(), urn,
+        aspectSpec.getName());
+    edgesToRemove.forEach(edge -> _graphService.removeEdge(edge));
+    _graphService.addEdges(edgesToAdd);
+  }
+
   /**
    * Process snapshot and update search index
    */
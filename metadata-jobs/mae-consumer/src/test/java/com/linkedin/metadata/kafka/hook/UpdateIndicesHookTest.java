@@ -0,0 +1,123 @@
+package com.linkedin.metadata.kafka.hook;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.common.urn.DatasetUrn;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.dataset.DatasetLineageType;
+import com.linkedin.dataset.Upstream;
+import com.linkedin.dataset.UpstreamArray;
+import com.linkedin.dataset.UpstreamLineage;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.graph.Edge;
+import com.linkedin.metadata.graph.GraphService;
+import com.linkedin.metadata.models.registry.ConfigEntityRegistry;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.search.EntitySearchService;
+import com.linkedin.metadata.search.transformer.SearchDocumentTransformer;
+import com.linkedin.metadata.systemmetadata.SystemMetadataService;
+import com.linkedin.metadata.timeseries.TimeseriesAspectService;
+import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import java.util.Optional;
+import org.mockito.Mockito;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static com.linkedin.metadata.Constants.*;
+
+
+public class UpdateIndicesHookTest {
+
+  private static final String DOWNSTREAM_URN = "urn:li:dataset:(urn:li:dataPlatform:hive,downstream,PROD)";
+  private static final String KEPT_UPSTREAM_URN = "urn:li:dataset:(urn:li:dataPlatform:hive,kept,PROD)";
+  private static final String REMOVED_UPSTREAM_URN = "urn:li:dataset:(urn:li:dataPlatform:hive,removed,PROD)";
+  private static final String ADDED_UPSTREAM_URN = "urn:li:dataset:(urn:li:dataPlatform:hive,added,PROD)";
+  private static final String DOWNSTREAM_OF = "DownstreamOf";
+
+  private GraphService _mockGraphService;
+  private UpdateIndicesHook _updateIndicesHook;
+
+  @BeforeMethod
+  public void setupTest() throws Exception {
+    EntityRegistry registry = new ConfigEntityRegistry(
+        UpdateIndicesHookTest.class.getClassLoader().getResourceAsStream("test-entity-registry-lineage.yml"));
+    _mockGraphService = Mockito.mock(GraphService.class);
+    // Edges added in bulk are verified one by one
+    Mockito.doCallRealMethod().when(_mockGraphService).addEdges(Mockito.any());
+    SearchDocumentTransformer mockTransformer = Mockito.mock(SearchDocumentTransformer.class);
+    Mockito.when(mockTransformer.transformAspect(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean()))
+        .thenReturn(Optional.empty());
+    _updateIndicesHook = new UpdateIndicesHook(
+        _mockGraphService,
+        Mockito.mock(EntitySearchService.class),
+        Mockito.mock(TimeseriesAspectService.class),
+        Mockito.mock(SystemMetadataService.class),
+        registry,
+        mockTransformer);
+  }
+
+  @Test
+  public void testUpsertOnlyWritesChangedEdges() throws Exception {
+    MetadataChangeLog event = createEvent(ChangeType.UPSERT, upstreamLineage(KEPT_UPSTREAM_URN, ADDED_UPSTREAM_URN));
+    event.setPreviousAspectValue(
+        GenericRecordUtils.serializeAspect(upstreamLineage(KEPT_UPSTREAM_URN, REMOVED_UPSTREAM_URN)));
+    _updateIndicesHook.invoke(event);
+
+    Mockito.verify(_mockGraphService, Mockito.times(1)).removeEdge(createEdge(REMOVED_UPSTREAM_URN));
+    Mockito.verify(_mockGraphService, Mockito.times(1)).addEdge(createEdge(ADDED_UPSTREAM_URN));
+    Mockito.verify(_mockGraphService, Mockito.never()).addEdge(createEdge(KEPT_UPSTREAM_URN));
+    Mockito.verify(_mockGraphService, Mockito.never())
+        .removeEdgesFromNode(Mockito.any(), Mockito.any(), Mockito.any());
+  }
+
+  @Test
+  public void testRestateRewritesAllEdges() throws Exception {
+    _updateIndicesHook.invoke(createEvent(ChangeType.RESTATE, upstreamLineage(KEPT_UPSTREAM_URN, ADDED_UPSTREAM_URN)));
+
+    Mockito.verify(_mockGraphService, Mockito.times(1))
+        .removeEdgesFromNode(Mockito.eq(Urn.createFromString(DOWNSTREAM_URN)), Mockito.any(), Mockito.any());
+    Mockito.verify(_mockGraphService, Mockito.times(1)).addEdge(createEdge(KEPT_UPSTREAM_URN));
+    Mockito.verify(_mockGraphService, Mockito.times(1)).addEdge(createEdge(ADDED_UPSTREAM_URN));
+    Mockito.verify(_mockGraphService, Mockito.never()).removeEdge(Mockito.any());
+  }
+
+  @Test
+  public void testInvokeBatchCoalescesUpdatesOfTheSameAspect() throws Exception {
+    MetadataChangeLog first = createEvent(ChangeType.UPSERT, upstreamLineage(KEPT_UPSTREAM_URN));
+    first.setPreviousAspectValue(
+        GenericRecordUtils.serializeAspect(upstreamLineage(KEPT_UPSTREAM_URN, REMOVED_UPSTREAM_URN)));
+    MetadataChangeLog second = createEvent(ChangeType.UPSERT, upstreamLineage(KEPT_UPSTREAM_URN, ADDED_UPSTREAM_URN));
+    second.setPreviousAspectValue(GenericRecordUtils.serializeAspect(upstreamLineage(KEPT_UPSTREAM_URN)));
+    _updateIndicesHook.invokeBatch(ImmutableList.of(first, second));
+
+    // Net effect of both updates, diffed against the value preceding the first one
+    Mockito.verify(_mockGraphService, Mockito.times(1)).removeEdge(Mockito.any());
+    Mockito.verify(_mockGraphService, Mockito.times(1)).removeEdge(createEdge(REMOVED_UPSTREAM_URN));
+    Mockito.verify(_mockGraphService, Mockito.times(1)).addEdge(Mockito.any());
+    Mockito.verify(_mockGraphService, Mockito.times(1)).addEdge(createEdge(ADDED_UPSTREAM_URN));
+  }
+
+  private static MetadataChangeLog createEvent(ChangeType changeType, UpstreamLineage aspect) throws Exception {
+    MetadataChangeLog event = new MetadataChangeLog();
+    event.setEntityType(DATASET_ENTITY_NAME);
+    event.setAspectName(UPSTREAM_LINEAGE_ASPECT_NAME);
+    event.setChangeType(changeType);
+    event.setEntityUrn(Urn.createFromString(DOWNSTREAM_URN));
+    event.setAspect(GenericRecordUtils.serializeAspect(aspect));
+    return event;
+  }
+
+  private static UpstreamLineage upstreamLineage(String... upstreamUrns) throws Exception {
+    UpstreamArray upstreams = new UpstreamArray();
+    for (String upstreamUrn : upstreamUrns) {
+      upstreams.add(new Upstream()
+          .setType(DatasetLineageType.TRANSFORMED)
+          .setDataset(DatasetUrn.createFromString(upstreamUrn)));
+    }
+    return new UpstreamLineage().setUpstreams(upstreams);
+  }
+
+  private static Edge createEdge(String upstreamUrn) throws Exception {
+    return new Edge(Urn.createFromString(DOWNSTREAM_URN), Urn.createFromString(upstreamUrn), DOWNSTREAM_OF);
+  }
+}
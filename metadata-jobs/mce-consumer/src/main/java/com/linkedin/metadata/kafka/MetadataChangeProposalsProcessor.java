@@ -2,7 +2,9 @@ package com.linkedin.metadata.kafka;
 
 import com.codahale.metrics.Histogram;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.datahub.authentication.Authentication;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.linkedin.entity.client.RestliEntityClient;
 import com.linkedin.gms.factory.auth.SystemAuthenticationFactory;
 import com.linkedin.gms.factory.entity.RestliEntityClientFactory;
@@ -15,8 +17,16 @@ import com.linkedin.mxe.FailedMetadataChangeProposal;
 import com.linkedin.mxe.MetadataChangeProposal;
 import com.linkedin.mxe.Topics;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
 import javax.annotation.Nonnull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.generic.IndexedRecord;
@@ -24,6 +34,7 @@ import org.apache.commons.lang.exception.ExceptionUtils;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Import;
@@ -38,21 +49,36 @@ import org.springframework.stereotype.Component;
     DataHubKafkaProducerFactory.class})
 @Conditional(MetadataChangeProposalProcessorCondition.class)
 @EnableKafka
-@RequiredArgsConstructor
 public class MetadataChangeProposalsProcessor {
 
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
   private final Authentication systemAuthentication;
   private final RestliEntityClient entityClient;
   private final Producer<String, IndexedRecord> kafkaProducer;
+  private final ExecutorService executorService;
 
   private final Histogram kafkaLagStats = MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "kafkaLag"));
 
   @Value("${FAILED_METADATA_CHANGE_PROPOSAL_TOPIC_NAME:" + Topics.FAILED_METADATA_CHANGE_PROPOSAL + "}")
   private String fmcpTopicName;
 
+  @Autowired
+  public MetadataChangeProposalsProcessor(
+      @Nonnull final Authentication systemAuthentication,
+      @Nonnull final RestliEntityClient entityClient,
+      @Nonnull final Producer<String, IndexedRecord> kafkaProducer,
+      @Value("${mcp.consumer.parallelism:1}") final int parallelism) {
+    this.systemAuthentication = systemAuthentication;
+    this.entityClient = entityClient;
+    this.kafkaProducer = kafkaProducer;
+    this.executorService = parallelism > 1 ? Executors.newFixedThreadPool(parallelism,
+        new ThreadFactoryBuilder().setNameFormat("mcp-consumer-%d").setDaemon(true).build()) : null;
+  }
+
   @KafkaListener(id = "${METADATA_CHANGE_PROPOSAL_KAFKA_CONSUMER_GROUP_ID:generic-mce-consumer-job-client}", topics =
       "${METADATA_CHANGE_PROPOSAL_TOPIC_NAME:" + Topics.METADATA_CHANGE_PROPOSAL
-          + "}", containerFactory = "kafkaEventConsumer")
+          + "}", containerFactory = "kafkaEventConsumer", autoStartup = "#{${mcp.consumer.parallelism:1} <= 1}")
   public void consume(final ConsumerRecord<String, GenericRecord> consumerRecord) {
     kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
     final GenericRecord record = consumerRecord.value();
@@ -71,6 +97,51 @@ public class MetadataChangeProposalsProcessor {
     }
   }
 
+  /**
+   * Batch variant of {@link #consume(ConsumerRecord)}, started instead of it when mcp.consumer.parallelism is above 1.
+   *
+   * Records of a poll are grouped by their key, which is the entity urn, and each group is ingested in offset order on
+   * the bounded executor, so that proposals for the same urn stay serialized while different urns run concurrently.
+   * The listener only returns once every record of the poll has been processed, hence offsets committed on the next
+   * poll never get ahead of completed work.
+   */
+  @KafkaListener(id = "${METADATA_CHANGE_PROPOSAL_KAFKA_CONSUMER_GROUP_ID:generic-mce-consumer-job-client}-batch",
+      groupId = "${METADATA_CHANGE_PROPOSAL_KAFKA_CONSUMER_GROUP_ID:generic-mce-consumer-job-client}", topics =
+      "${METADATA_CHANGE_PROPOSAL_TOPIC_NAME:" + Topics.METADATA_CHANGE_PROPOSAL
+          + "}", containerFactory = "kafkaBatchEventConsumer", autoStartup = "#{${mcp.consumer.parallelism:1} > 1}")
+  public void consumeBatch(final List<ConsumerRecord<String, GenericRecord>> consumerRecords) {
+    final Map<String, List<ConsumerRecord<String, GenericRecord>>> recordsByKey = new LinkedHashMap<>();
+    for (ConsumerRecord<String, GenericRecord> consumerRecord : consumerRecords) {
+      recordsByKey.computeIfAbsent(consumerRecord.key(), key -> new ArrayList<>()).add(consumerRecord);
+    }
+    MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "batchSize")).update(consumerRecords.size());
+    MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "batchKeyCount")).update(recordsByKey.size());
+
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "batch_latency").time()) {
+      final List<CompletableFuture<Void>> futures = new ArrayList<>(recordsByKey.size());
+      for (List<ConsumerRecord<String, GenericRecord>> records : recordsByKey.values()) {
+        futures.add(CompletableFuture.runAsync(() -> records.forEach(this::consume), executorService));
+      }
+      // consume never throws, failed proposals are routed to the failed MCP topic
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    }
+  }
+
+  /**
+   * Stops the batch executor once the listener containers are stopped, letting in-flight proposals finish.
+   */
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    if (executorService == null) {
+      return;
+    }
+    executorService.shutdown();
+    if (!executorService.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+      log.warn("MCP consumer executor did not terminate within {} seconds", SHUTDOWN_TIMEOUT_SECONDS);
+      executorService.shutdownNow();
+    }
+  }
+
   private void sendFailedMCP(@Nonnull MetadataChangeProposal event, @Nonnull Throwable throwable) {
     final FailedMetadataChangeProposal failedMetadataChangeProposal = createFailedMCPEvent(event, throwable);
     try {
@@ -0,0 +1,119 @@
+package com.linkedin.metadata.kafka;
+
+import com.datahub.authentication.Authentication;
+import com.google.common.collect.ImmutableList;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.entity.client.RestliEntityClient;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.mxe.MetadataChangeProposal;
+import com.linkedin.mxe.Topics;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.Producer;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class MetadataChangeProposalsProcessorTest {
+
+  private static final String TOPIC = "MetadataChangeProposal_v1";
+  private static final String URN_1 = "urn:li:corpuser:test1";
+  private static final String URN_2 = "urn:li:corpuser:test2";
+
+  private RestliEntityClient _entityClient;
+  private Producer<String, IndexedRecord> _producer;
+  private MetadataChangeProposalsProcessor _processor;
+
+  @BeforeMethod
+  @SuppressWarnings("unchecked")
+  public void setup() throws Exception {
+    _entityClient = mock(RestliEntityClient.class);
+    _producer = mock(Producer.class);
+    _processor = new MetadataChangeProposalsProcessor(mock(Authentication.class), _entityClient, _producer, 4);
+    final Field fmcpTopicName = MetadataChangeProposalsProcessor.class.getDeclaredField("fmcpTopicName");
+    fmcpTopicName.setAccessible(true);
+    fmcpTopicName.set(_processor, Topics.FAILED_METADATA_CHANGE_PROPOSAL);
+  }
+
+  @AfterMethod
+  public void teardown() throws InterruptedException {
+    _processor.shutdown();
+  }
+
+  @Test
+  public void testConsumeBatchKeepsOrderWithinUrn() throws Exception {
+    final CountDownLatch secondUrnIngested = new CountDownLatch(1);
+    final List<String> ingested = Collections.synchronizedList(new ArrayList<>());
+    doAnswer(invocation -> {
+      final MetadataChangeProposal proposal = invocation.getArgument(0);
+      if (proposal.getEntityUrn().toString().equals(URN_1) && proposal.getAspectName().equals("aspect0")) {
+        // holds the first proposal of the urn until the other urn has been ingested concurrently
+        assertTrue(secondUrnIngested.await(10, TimeUnit.SECONDS));
+      }
+      if (proposal.getEntityUrn().toString().equals(URN_2)) {
+        secondUrnIngested.countDown();
+      }
+      ingested.add(proposal.getEntityUrn() + "/" + proposal.getAspectName());
+      return null;
+    }).when(_entityClient).ingestProposal(any(), any(), anyBoolean());
+
+    _processor.consumeBatch(ImmutableList.of(
+        record(0, URN_1, "aspect0"),
+        record(1, URN_2, "aspect1"),
+        record(2, URN_1, "aspect2"),
+        record(3, URN_1, "aspect3")));
+
+    assertEquals(ingested.size(), 4);
+    assertEquals(ingested.get(0), URN_2 + "/aspect1");
+    assertEquals(ingested.subList(1, 4),
+        ImmutableList.of(URN_1 + "/aspect0", URN_1 + "/aspect2", URN_1 + "/aspect3"));
+    verifyZeroInteractions(_producer);
+  }
+
+  @Test
+  public void testConsumeBatchIsolatesFailures() throws Exception {
+    final List<String> ingested = Collections.synchronizedList(new ArrayList<>());
+    doAnswer(invocation -> {
+      final MetadataChangeProposal proposal = invocation.getArgument(0);
+      if (proposal.getAspectName().equals("aspect0")) {
+        throw new RuntimeException("test");
+      }
+      ingested.add(proposal.getEntityUrn() + "/" + proposal.getAspectName());
+      return null;
+    }).when(_entityClient).ingestProposal(any(), any(), anyBoolean());
+
+    _processor.consumeBatch(ImmutableList.of(
+        record(0, URN_1, "aspect0"),
+        record(1, URN_2, "aspect1"),
+        record(2, URN_1, "aspect2")));
+
+    // the failed proposal neither stops later proposals of its urn nor those of other urns
+    assertEquals(ingested.size(), 2);
+    assertTrue(ingested.contains(URN_1 + "/aspect2"));
+    assertTrue(ingested.contains(URN_2 + "/aspect1"));
+    verify(_entityClient, times(3)).ingestProposal(any(), any(), anyBoolean());
+    verify(_producer, times(1)).send(any());
+  }
+
+  private static ConsumerRecord<String, GenericRecord> record(long offset, String urn, String aspectName)
+      throws Exception {
+    final MetadataChangeProposal proposal = new MetadataChangeProposal().setEntityType("corpuser")
+        .setEntityUrn(UrnUtils.getUrn(urn))
+        .setChangeType(ChangeType.UPSERT)
+        .setAspectName(aspectName);
+    return new ConsumerRecord<>(TOPIC, 0, offset, urn, EventUtils.pegasusToAvroMCP(proposal));
+  }
+}
@@ -1,7 +1,9 @@
 package com.datahub.authorization;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
 
@@ -22,6 +24,23 @@ public interface Authorizer {
    */
   AuthorizationResult authorize(@Nonnull final AuthorizationRequest request);
 
+  /**
+   * Authorizes an action based on the actor & required privilege against each of the given resources.
+   *
+   * Implementations should override this to share the work common to all resources, such as resolving the actor or
+   * fetching the resources. By default, each resource is authorized on its own.
+   *
+   * @return the result for each resource, in the order of the resources
+   */
+  default List<AuthorizationResult> authorizeBatch(
+      @Nonnull final String privilege,
+      @Nonnull final String actorUrn,
+      @Nonnull final List<ResourceSpec> resourceSpecs) {
+    return resourceSpecs.stream()
+        .map(resourceSpec -> authorize(new AuthorizationRequest(actorUrn, privilege, Optional.of(resourceSpec))))
+        .collect(Collectors.toList());
+  }
+
   /**
    * Retrieves the current list of actors authorized to for a particular privilege against
    * an optional resource
@@ -1,5 +1,9 @@
 package com.datahub.authorization;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+
 /**
  * A Resource Spec Resolver is responsible for resolving a {@link ResourceSpec} to a {@link ResolvedResourceSpec}.
  */
@@ -8,4 +12,11 @@ public interface ResourceSpecResolver {
    Resolve a {@link ResourceSpec} to a resolved resource spec.
    **/
   ResolvedResourceSpec resolve(ResourceSpec resourceSpec);
+
+  /**
+   Resolve many {@link ResourceSpec}s at once, in the order they were given. By default, each one is resolved on its own.
+   **/
+  default List<ResolvedResourceSpec> resolveBatch(List<ResourceSpec> resourceSpecs) {
+    return resourceSpecs.stream().map(this::resolve).collect(Collectors.toList());
+  }
 }
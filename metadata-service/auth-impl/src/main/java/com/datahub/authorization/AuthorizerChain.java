@@ -2,6 +2,7 @@ package com.datahub.authorization;
 
 import com.linkedin.common.urn.Urn;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -9,6 +10,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
@@ -65,6 +68,51 @@ public class AuthorizerChain implements Authorizer {
     return new AuthorizationResult(request, AuthorizationResult.Type.DENY, null);
   }
 
+  /**
+   * Executes a set of {@link Authorizer}s against a batch of resources. Each {@link Authorizer} is only asked about
+   * the resources denied by the previous ones.
+   *
+   * Returns an instance of {@link AuthorizationResult} for each resource, in the order of the resources.
+   */
+  @Override
+  public List<AuthorizationResult> authorizeBatch(@Nonnull final String privilege, @Nonnull final String actorUrn,
+      @Nonnull final List<ResourceSpec> resourceSpecs) {
+    final AuthorizationResult[] results = new AuthorizationResult[resourceSpecs.size()];
+    List<Integer> pending = IntStream.range(0, resourceSpecs.size()).boxed().collect(Collectors.toList());
+    for (final Authorizer authorizer : this.authorizers) {
+      if (pending.isEmpty()) {
+        break;
+      }
+      try {
+        log.debug("Executing Authorizer with class name {}", authorizer.getClass().getCanonicalName());
+        final List<AuthorizationResult> batchResults = authorizer.authorizeBatch(privilege, actorUrn,
+            pending.stream().map(resourceSpecs::get).collect(Collectors.toList()));
+        final List<Integer> denied = new ArrayList<>();
+        for (int i = 0; i < pending.size(); i++) {
+          final AuthorizationResult result = batchResults.get(i);
+          if (AuthorizationResult.Type.ALLOW.equals(result.type)) {
+            results[pending.get(i)] = result;
+          } else {
+            denied.add(pending.get(i));
+          }
+        }
+        log.debug("Received DENY result for {} resources from Authorizer with class name {}", denied.size(),
+            authorizer.getClass().getCanonicalName());
+        pending = denied;
+      } catch (Exception e) {
+        log.error("Caught exception while attempting to authorize batch using Authorizer {}. Skipping authorizer.",
+            authorizer.getClass().getCanonicalName(), e);
+      }
+    }
+    // Return failed Authorization results for the resources no authorizer allowed.
+    for (int index : pending) {
+      results[index] = new AuthorizationResult(
+          new AuthorizationRequest(actorUrn, privilege, Optional.of(resourceSpecs.get(index))),
+          AuthorizationResult.Type.DENY, null);
+    }
+    return Arrays.asList(results);
+  }
+
   @Override
   public AuthorizedActors authorizedActors(String privilege, Optional<ResourceSpec> resourceSpec) {
     if (this.authorizers.isEmpty()) {
@@ -1,14 +1,16 @@
 package com.datahub.authorization;
 
+import com.codahale.metrics.Timer;
 import com.datahub.authentication.Authentication;
 import com.google.common.annotations.VisibleForTesting;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.entity.client.EntityClient;
 import com.linkedin.metadata.authorization.PoliciesConfig;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.policy.DataHubPolicyInfo;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -16,7 +18,10 @@ import java.util.Optional;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -47,9 +52,8 @@ public class DataHubAuthorizer implements Authorizer {
   // Credentials used to make / authorize requests as the internal system actor.
   private final Authentication _systemAuthentication;
 
-  // Maps privilege name to the associated set of policies for fast access.
-  // Not concurrent data structure because writes are always against the entire thing.
-  private final Map<String, List<DataHubPolicyInfo>> _policyCache = new HashMap<>(); // Shared Policy Cache.
+  // Policies compiled for fast access, replaced as a whole on every refresh.
+  private final AtomicReference<PolicyIndex> _policyIndex = new AtomicReference<>(PolicyIndex.EMPTY); // Shared Policy Cache.
 
   private final ScheduledExecutorService _refreshExecutorService = Executors.newScheduledThreadPool(1);
   private final PolicyRefreshRunnable _policyRefreshRunnable;
@@ -68,7 +72,7 @@ public class DataHubAuthorizer implements Authorizer {
     _systemAuthentication = Objects.requireNonNull(systemAuthentication);
     _mode = Objects.requireNonNull(mode);
     _policyEngine = new PolicyEngine(systemAuthentication, Objects.requireNonNull(entityClient));
-    _policyRefreshRunnable = new PolicyRefreshRunnable(systemAuthentication, new PolicyFetcher(entityClient), _policyCache);
+    _policyRefreshRunnable = new PolicyRefreshRunnable(systemAuthentication, new PolicyFetcher(entityClient), _policyIndex);
     _refreshExecutorService.scheduleAtFixedRate(_policyRefreshRunnable, delayIntervalSeconds, refreshIntervalSeconds, TimeUnit.SECONDS);
   }
 
@@ -85,30 +89,64 @@ public class DataHubAuthorizer implements Authorizer {
       return new AuthorizationResult(request, AuthorizationResult.Type.ALLOW, null);
     }
 
-    Optional<ResolvedResourceSpec> resolvedResourceSpec = request.getResourceSpec().map(_resourceSpecResolver::resolve);
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "authorize").time()) {
+      Optional<ResolvedResourceSpec> resolvedResourceSpec =
+          request.getResourceSpec().map(_resourceSpecResolver::resolve);
 
-    // 1. Fetch the policies relevant to the requested privilege.
-    final List<DataHubPolicyInfo> policiesToEvaluate = _policyCache.getOrDefault(request.getPrivilege(), new ArrayList<>());
+      // 1. Find a policy granting the requested privilege, resolving the groups and roles of the actor at most once.
+      final DataHubPolicyInfo policy = findGrantingPolicy(_policyIndex.get(), toActorUrn(request.getActorUrn()),
+          request.getPrivilege(), resolvedResourceSpec, new PolicyEngine.PolicyEvaluationContext());
+      return toAuthorizationResult(request, policy);
+    }
+  }
 
-    // 2. Evaluate each policy.
-    for (DataHubPolicyInfo policy : policiesToEvaluate) {
-      if (isRequestGranted(policy, request, resolvedResourceSpec)) {
-        // Short circuit if policy has granted privileges to this actor.
-        return new AuthorizationResult(request, AuthorizationResult.Type.ALLOW,
-            String.format("Granted by policy with type: %s", policy.getType()));
+  /**
+   * Authorizes the actor against all resources at once: the resources are resolved together, and the groups and roles
+   * of the actor are resolved once for the whole batch.
+   */
+  @Override
+  public List<AuthorizationResult> authorizeBatch(
+      @Nonnull final String privilege,
+      @Nonnull final String actorUrn,
+      @Nonnull final List<ResourceSpec> resourceSpecs) {
+    final List<AuthorizationRequest> requests = resourceSpecs.stream()
+        .map(resourceSpec -> new AuthorizationRequest(actorUrn, privilege, Optional.of(resourceSpec)))
+        .collect(Collectors.toList());
+
+    // 0. Short circuit: If the action is being performed by the system (root), always allow it.
+    if (!requests.isEmpty() && isSystemRequest(requests.get(0), this._systemAuthentication)) {
+      return requests.stream()
+          .map(request -> new AuthorizationResult(request, AuthorizationResult.Type.ALLOW, null))
+          .collect(Collectors.toList());
+    }
+
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "authorizeBatch").time()) {
+      final List<ResolvedResourceSpec> resolvedResourceSpecs = _resourceSpecResolver.resolveBatch(resourceSpecs);
+      final PolicyIndex policyIndex = _policyIndex.get();
+      final PolicyEngine.PolicyEvaluationContext context = new PolicyEngine.PolicyEvaluationContext();
+      final Urn actor = toActorUrn(actorUrn);
+
+      final List<AuthorizationResult> results = new ArrayList<>(requests.size());
+      for (int i = 0; i < requests.size(); i++) {
+        final AuthorizationRequest request = requests.get(i);
+        final DataHubPolicyInfo policy = findGrantingPolicy(policyIndex, actor, privilege,
+            Optional.of(resolvedResourceSpecs.get(i)), context);
+        results.add(toAuthorizationResult(request, policy));
       }
+      return results;
     }
-    return new AuthorizationResult(request, AuthorizationResult.Type.DENY,  null);
   }
 
   public List<String> getGrantedPrivileges(final String actorUrn, final Optional<ResourceSpec> resourceSpec) {
 
-    // 1. Fetch all policies
-    final List<DataHubPolicyInfo> policiesToEvaluate = _policyCache.getOrDefault(ALL, new ArrayList<>());
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "getGrantedPrivileges").time()) {
+      // 1. Fetch all policies
+      final List<DataHubPolicyInfo> policiesToEvaluate = _policyIndex.get().getPolicies(ALL);
 
-    Optional<ResolvedResourceSpec> resolvedResourceSpec = resourceSpec.map(_resourceSpecResolver::resolve);
+      Optional<ResolvedResourceSpec> resolvedResourceSpec = resourceSpec.map(_resourceSpecResolver::resolve);
 
-    return _policyEngine.getGrantedPrivileges(policiesToEvaluate, UrnUtils.getUrn(actorUrn), resolvedResourceSpec);
+      return _policyEngine.getGrantedPrivileges(policiesToEvaluate, UrnUtils.getUrn(actorUrn), resolvedResourceSpec);
+    }
   }
 
   /**
@@ -119,7 +157,7 @@ public class DataHubAuthorizer implements Authorizer {
       final String privilege,
       final Optional<ResourceSpec> resourceSpec) {
     // Step 1: Find policies granting the privilege.
-    final List<DataHubPolicyInfo> policiesToEvaluate = _policyCache.getOrDefault(privilege, new ArrayList<>());
+    final List<DataHubPolicyInfo> policiesToEvaluate = _policyIndex.get().getPolicies(privilege);
 
     Optional<ResolvedResourceSpec> resolvedResourceSpec = resourceSpec.map(_resourceSpecResolver::resolve);
 
@@ -177,26 +215,54 @@ public class DataHubAuthorizer implements Authorizer {
   }
 
   /**
-   * Returns true if a policy grants the requested privilege for a given actor and resource.
+   * Returns the urn of the requesting actor, or null if it is not a valid urn, in which case no policy grants it
+   * anything.
    */
-  private boolean isRequestGranted(final DataHubPolicyInfo policy, final AuthorizationRequest request, final Optional<ResolvedResourceSpec> resourceSpec) {
+  @Nullable
+  private Urn toActorUrn(final String actorUrn) {
+    try {
+      return Urn.createFromString(actorUrn);
+    } catch (URISyntaxException e) {
+      log.warn("Actor {} of the authorization request is not a valid urn", actorUrn);
+      return null;
+    }
+  }
+
+  /**
+   * Returns a policy granting the requested privilege for a given actor and resource, or null if there is none.
+   */
+  @Nullable
+  private DataHubPolicyInfo findGrantingPolicy(final PolicyIndex policyIndex, @Nullable final Urn actor,
+      final String privilege, final Optional<ResolvedResourceSpec> resourceSpec,
+      final PolicyEngine.PolicyEvaluationContext context) {
     if (AuthorizationMode.ALLOW_ALL.equals(mode())) {
-      return true;
+      // Any policy including the privilege, even inactive, grants it.
+      final List<DataHubPolicyInfo> policies = policyIndex.getPolicies(privilege);
+      return policies.isEmpty() ? null : policies.get(0);
+    }
+    if (actor == null) {
+      return null;
+    }
+    return policyIndex.findGrantingPolicy(_policyEngine, actor, privilege, resourceSpec, context);
+  }
+
+  private AuthorizationResult toAuthorizationResult(final AuthorizationRequest request,
+      @Nullable final DataHubPolicyInfo grantingPolicy) {
+    if (grantingPolicy != null) {
+      MetricUtils.counter(this.getClass(), "authorize_allow_count").inc();
+      return new AuthorizationResult(request, AuthorizationResult.Type.ALLOW,
+          String.format("Granted by policy with type: %s", grantingPolicy.getType()));
     }
-    final PolicyEngine.PolicyEvaluationResult result = _policyEngine.evaluatePolicy(
-        policy,
-        request.getActorUrn(),
-        request.getPrivilege(),
-        resourceSpec
-    );
-    return result.isGranted();
+    MetricUtils.counter(this.getClass(), "authorize_deny_count").inc();
+    return new AuthorizationResult(request, AuthorizationResult.Type.DENY,  null);
   }
 
   /**
    * A {@link Runnable} used to periodically fetch a new instance of the policies Cache.
    *
    * Currently, the refresh logic is not very smart. When the cache is invalidated, we simply re-fetch the
-   * entire cache using Policies stored in the backend.
+   * entire cache using Policies stored in the backend. The new policies are only swapped in once all of them were
+   * fetched and compiled.
    */
   @VisibleForTesting
   @RequiredArgsConstructor
@@ -204,13 +270,13 @@ public class DataHubAuthorizer implements Authorizer {
 
     private final Authentication _systemAuthentication;
     private final PolicyFetcher _policyFetcher;
-    private final Map<String, List<DataHubPolicyInfo>> _policyCache;
+    private final AtomicReference<PolicyIndex> _policyIndex;
 
     @Override
     public void run() {
       try {
         // Populate new cache and swap.
-        Map<String, List<DataHubPolicyInfo>> newCache = new HashMap<>();
+        final List<DataHubPolicyInfo> policies = new ArrayList<>();
 
         int start = 0;
         int count = 30;
@@ -221,7 +287,7 @@ public class DataHubAuthorizer implements Authorizer {
             final PolicyFetcher.PolicyFetchResult
                 policyFetchResult = _policyFetcher.fetchPolicies(start, count, _systemAuthentication);
 
-            addPoliciesToCache(newCache, policyFetchResult.getPolicies());
+            policyFetchResult.getPolicies().forEach(policy -> policies.add(policy.getPolicyInfo()));
 
             total = policyFetchResult.getTotal();
             start = start + count;
@@ -230,32 +296,12 @@ public class DataHubAuthorizer implements Authorizer {
                 "Failed to retrieve policy urns! Skipping updating policy cache until next refresh. start: {}, count: {}", start, count, e);
             return;
           }
-          synchronized (_policyCache) {
-            _policyCache.clear();
-            _policyCache.putAll(newCache);
-          }
         }
+        _policyIndex.set(new PolicyIndex(policies));
         log.debug(String.format("Successfully fetched %s policies.", total));
       } catch (Exception e) {
         log.error("Caught exception while loading Policy cache. Will retry on next scheduled attempt.", e);
       }
     }
-
-    private void addPoliciesToCache(final Map<String, List<DataHubPolicyInfo>> cache,
-        final List<PolicyFetcher.Policy> policies) {
-      policies.forEach(policy -> addPolicyToCache(cache, policy.getPolicyInfo()));
-    }
-
-    private void addPolicyToCache(final Map<String, List<DataHubPolicyInfo>> cache, final DataHubPolicyInfo policy) {
-      final List<String> privileges = policy.getPrivileges();
-      for (String privilege : privileges) {
-        List<DataHubPolicyInfo> existingPolicies = cache.getOrDefault(privilege, new ArrayList<>());
-        existingPolicies.add(policy);
-        cache.put(privilege, existingPolicies);
-      }
-      List<DataHubPolicyInfo> existingPolicies = cache.getOrDefault(ALL, new ArrayList<>());
-      existingPolicies.add(policy);
-      cache.put(ALL, existingPolicies);
-    }
   }
 }
@@ -62,8 +62,19 @@ public class PolicyEngine {
       final Urn actor,
       final String privilege,
       final Optional<ResolvedResourceSpec> resource) {
+    return evaluatePolicy(policy, actor, privilege, resource, new PolicyEvaluationContext());
+  }
 
-    final PolicyEvaluationContext context = new PolicyEvaluationContext();
+  /**
+   * Evaluates a policy within the given context, which can be shared by the evaluations of several policies for the
+   * same actor, so that the groups and roles of the actor are only resolved once.
+   */
+  PolicyEvaluationResult evaluatePolicy(
+      final DataHubPolicyInfo policy,
+      final Urn actor,
+      final String privilege,
+      final Optional<ResolvedResourceSpec> resource,
+      final PolicyEvaluationContext context) {
 
     // If the privilege is not in scope, deny the request.
     if (!isPrivilegeMatch(privilege, policy.getPrivileges(), context)) {
@@ -203,7 +214,7 @@ public class PolicyEngine {
    * Get filter object from policy resource filter. Make sure it is backward compatible by constructing PolicyMatchFilter object
    * from other fields if the filter field is not set
    */
-  private PolicyMatchFilter getFilter(DataHubResourceFilter policyResourceFilter) {
+  static PolicyMatchFilter getFilter(DataHubResourceFilter policyResourceFilter) {
     if (policyResourceFilter.hasFilter()) {
       return policyResourceFilter.getFilter();
     }
@@ -306,7 +317,7 @@ public class PolicyEngine {
     return isActorOwner(actor, requestResource.get(), context);
   }
 
-  private boolean isActorOwner(Urn actor, ResolvedResourceSpec resourceSpec, PolicyEvaluationContext context) {
+  boolean isActorOwner(Urn actor, ResolvedResourceSpec resourceSpec, PolicyEvaluationContext context) {
     Set<String> owners = resourceSpec.getOwners();
     if (isUserOwner(actor, owners)) {
       return true;
@@ -339,7 +350,7 @@ public class PolicyEngine {
         .anyMatch(actorRoles::contains);
   }
 
-  private Set<Urn> resolveRoles(Urn actor, PolicyEvaluationContext context) {
+  Set<Urn> resolveRoles(Urn actor, PolicyEvaluationContext context) {
     if (context.roles != null) {
       return context.roles;
     }
@@ -351,6 +362,7 @@ public class PolicyEngine {
       final EntityResponse corpUser = _entityClient.batchGetV2(CORP_USER_ENTITY_NAME, Collections.singleton(actor),
           Collections.singleton(ROLE_MEMBERSHIP_ASPECT_NAME), _systemAuthentication).get(actor);
       if (corpUser == null || !corpUser.hasAspects()) {
+        context.setRoles(roles);
         return roles;
       }
       aspectMap = corpUser.getAspects();
@@ -360,18 +372,19 @@ public class PolicyEngine {
     }
 
     if (!aspectMap.containsKey(ROLE_MEMBERSHIP_ASPECT_NAME)) {
+      context.setRoles(roles);
       return roles;
     }
 
     RoleMembership roleMembership = new RoleMembership(aspectMap.get(ROLE_MEMBERSHIP_ASPECT_NAME).getValue().data());
     if (roleMembership.hasRoles()) {
       roles.addAll(roleMembership.getRoles());
-      context.setRoles(roles);
     }
+    context.setRoles(roles); // Cache the roles.
     return roles;
   }
 
-  private Set<Urn> resolveGroups(Urn actor, PolicyEvaluationContext context) {
+  Set<Urn> resolveGroups(Urn actor, PolicyEvaluationContext context) {
     if (context.groups != null) {
       return context.groups;
     }
@@ -384,6 +397,7 @@ public class PolicyEngine {
               ImmutableSet.of(GROUP_MEMBERSHIP_ASPECT_NAME, NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME), _systemAuthentication)
           .get(actor);
       if (corpUser == null || !corpUser.hasAspects()) {
+        context.setGroups(groups);
         return groups;
       }
       aspectMap = corpUser.getAspects();
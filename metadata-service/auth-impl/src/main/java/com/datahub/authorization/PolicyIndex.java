@@ -0,0 +1,289 @@
+package com.datahub.authorization;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.authorization.PoliciesConfig;
+import com.linkedin.policy.DataHubActorFilter;
+import com.linkedin.policy.DataHubPolicyInfo;
+import com.linkedin.policy.PolicyMatchCondition;
+import com.linkedin.policy.PolicyMatchCriterion;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * DataHub policies compiled for authorization. An index is built from scratch on every policy refresh and never
+ * modified afterwards, so that it can be swapped in at once and read without locking.
+ *
+ * For each privilege, active policies are indexed by the actors they apply to (listed users, groups and roles, resource
+ * owners, or anyone), then by the resource types they apply to. Resource filters are compiled into sets of accepted
+ * values per field. Deciding a request therefore only looks at the policies which could grant it, and only resolves
+ * the groups, roles or ownership of the actor when some of those policies depend on them.
+ */
+@Slf4j
+class PolicyIndex {
+
+  static final PolicyIndex EMPTY = new PolicyIndex(Collections.emptyList());
+
+  // All policies, active or not, by privilege and under ALL.
+  private final Map<String, List<DataHubPolicyInfo>> _policiesByPrivilege = new HashMap<>();
+  private final Map<String, PrivilegePolicies> _activePoliciesByPrivilege = new HashMap<>();
+
+  PolicyIndex(@Nonnull final List<DataHubPolicyInfo> policies) {
+    for (DataHubPolicyInfo policy : policies) {
+      for (String privilege : policy.getPrivileges()) {
+        _policiesByPrivilege.computeIfAbsent(privilege, key -> new ArrayList<>()).add(policy);
+      }
+      _policiesByPrivilege.computeIfAbsent(DataHubAuthorizer.ALL, key -> new ArrayList<>()).add(policy);
+
+      if (PoliciesConfig.INACTIVE_POLICY_STATE.equals(policy.getState())) {
+        continue;
+      }
+      final CompiledPolicy compiledPolicy = new CompiledPolicy(policy);
+      for (String privilege : new HashSet<>(policy.getPrivileges())) {
+        _activePoliciesByPrivilege.computeIfAbsent(privilege, key -> new PrivilegePolicies()).add(compiledPolicy);
+      }
+    }
+  }
+
+  /**
+   * Returns the policies including the given privilege, active or not, or all policies for {@link DataHubAuthorizer#ALL}.
+   */
+  @Nonnull
+  List<DataHubPolicyInfo> getPolicies(@Nonnull final String privilege) {
+    return _policiesByPrivilege.getOrDefault(privilege, Collections.emptyList());
+  }
+
+  /**
+   * Returns an active policy granting the privilege to the actor on the resource, or null if there is none.
+   */
+  @Nullable
+  DataHubPolicyInfo findGrantingPolicy(
+      @Nonnull final PolicyEngine policyEngine,
+      @Nonnull final Urn actor,
+      @Nonnull final String privilege,
+      @Nonnull final Optional<ResolvedResourceSpec> resource,
+      @Nonnull final PolicyEngine.PolicyEvaluationContext context) {
+    final PrivilegePolicies policies = _activePoliciesByPrivilege.get(privilege);
+    if (policies == null) {
+      return null;
+    }
+    final CompiledPolicy match = policies.findGrantingPolicy(policyEngine, actor, resource, context);
+    return match == null ? null : match._policy;
+  }
+
+  /**
+   * The active policies including a privilege, by the actors they apply to.
+   */
+  private static class PrivilegePolicies {
+    private final ResourcePolicies _anyActor = new ResourcePolicies();
+    private final Map<Urn, ResourcePolicies> _byUser = new HashMap<>();
+    private final Map<Urn, ResourcePolicies> _byGroup = new HashMap<>();
+    private final Map<Urn, ResourcePolicies> _byRole = new HashMap<>();
+    private final ResourcePolicies _resourceOwners = new ResourcePolicies();
+
+    void add(@Nonnull final CompiledPolicy policy) {
+      final DataHubActorFilter actorFilter = policy._policy.getActors();
+      // A policy applying to all groups applies to any actor, whatever its groups.
+      if (actorFilter.isAllUsers() || actorFilter.isAllGroups()) {
+        _anyActor.add(policy);
+        return;
+      }
+      if (actorFilter.hasUsers()) {
+        actorFilter.getUsers().forEach(user -> _byUser.computeIfAbsent(user, key -> new ResourcePolicies()).add(policy));
+      }
+      if (actorFilter.hasGroups()) {
+        actorFilter.getGroups().forEach(group -> _byGroup.computeIfAbsent(group, key -> new ResourcePolicies()).add(policy));
+      }
+      if (actorFilter.hasRoles()) {
+        actorFilter.getRoles().forEach(role -> _byRole.computeIfAbsent(role, key -> new ResourcePolicies()).add(policy));
+      }
+      if (actorFilter.isResourceOwners()) {
+        _resourceOwners.add(policy);
+      }
+    }
+
+    @Nullable
+    CompiledPolicy findGrantingPolicy(
+        @Nonnull final PolicyEngine policyEngine,
+        @Nonnull final Urn actor,
+        @Nonnull final Optional<ResolvedResourceSpec> resource,
+        @Nonnull final PolicyEngine.PolicyEvaluationContext context) {
+      // 1. Policies which do not depend on who the actor is, or which list the actor directly.
+      CompiledPolicy match = _anyActor.find(resource);
+      if (match == null) {
+        match = find(_byUser.get(actor), resource);
+      }
+
+      // 2. Policies listing a group of the actor.
+      if (match == null && !_byGroup.isEmpty()) {
+        for (Urn group : policyEngine.resolveGroups(actor, context)) {
+          match = find(_byGroup.get(group), resource);
+          if (match != null) {
+            break;
+          }
+        }
+      }
+
+      // 3. Policies applying to the owners of the resource. Ownership does not depend on the policy.
+      if (match == null && resource.isPresent()) {
+        final CompiledPolicy ownersPolicy = _resourceOwners.find(resource);
+        if (ownersPolicy != null && policyEngine.isActorOwner(actor, resource.get(), context)) {
+          match = ownersPolicy;
+        }
+      }
+
+      // 4. Policies listing a role of the actor.
+      if (match == null && !_byRole.isEmpty()) {
+        for (Urn role : policyEngine.resolveRoles(actor, context)) {
+          match = find(_byRole.get(role), resource);
+          if (match != null) {
+            break;
+          }
+        }
+      }
+      return match;
+    }
+
+    @Nullable
+    private static CompiledPolicy find(@Nullable final ResourcePolicies policies,
+        @Nonnull final Optional<ResolvedResourceSpec> resource) {
+      return policies == null ? null : policies.find(resource);
+    }
+  }
+
+  /**
+   * Policies by the resource types they apply to.
+   */
+  private static class ResourcePolicies {
+    private final List<CompiledPolicy> _anyType = new ArrayList<>();
+    private final Map<String, List<CompiledPolicy>> _byType = new HashMap<>();
+
+    void add(@Nonnull final CompiledPolicy policy) {
+      if (policy._resourceTypes == null) {
+        _anyType.add(policy);
+        return;
+      }
+      policy._resourceTypes.forEach(type -> _byType.computeIfAbsent(type, key -> new ArrayList<>()).add(policy));
+    }
+
+    @Nullable
+    CompiledPolicy find(@Nonnull final Optional<ResolvedResourceSpec> resource) {
+      final CompiledPolicy match = firstMatch(_anyType, resource);
+      // Policies restricted to resource types never match requests without a resource.
+      if (match != null || !resource.isPresent() || _byType.isEmpty()) {
+        return match;
+      }
+      for (String type : resource.get().getFieldValues(ResourceFieldType.RESOURCE_TYPE)) {
+        final CompiledPolicy typeMatch = firstMatch(_byType.getOrDefault(type, Collections.emptyList()), resource);
+        if (typeMatch != null) {
+          return typeMatch;
+        }
+      }
+      return null;
+    }
+
+    @Nullable
+    private static CompiledPolicy firstMatch(@Nonnull final List<CompiledPolicy> policies,
+        @Nonnull final Optional<ResolvedResourceSpec> resource) {
+      for (CompiledPolicy policy : policies) {
+        if (policy.matchesResource(resource)) {
+          return policy;
+        }
+      }
+      return null;
+    }
+  }
+
+  /**
+   * A policy along with its resource filter, compiled into the values accepted for each field.
+   */
+  private static class CompiledPolicy {
+    private final DataHubPolicyInfo _policy;
+    // Null when the policy applies to any resource, or to none
+    private final List<CompiledCriterion> _criteria;
+    // Null when the policy is not restricted to resource types
+    private final Set<String> _resourceTypes;
+
+    CompiledPolicy(@Nonnull final DataHubPolicyInfo policy) {
+      _policy = policy;
+      // See PolicyEngine#isResourceMatch
+      if (PoliciesConfig.PLATFORM_POLICY_TYPE.equals(policy.getType()) || policy.getResources() == null) {
+        _criteria = null;
+        _resourceTypes = null;
+        return;
+      }
+      _criteria = new ArrayList<>();
+      Set<String> resourceTypes = null;
+      for (PolicyMatchCriterion criterion : PolicyEngine.getFilter(policy.getResources()).getCriteria()) {
+        final CompiledCriterion compiledCriterion = new CompiledCriterion(criterion);
+        _criteria.add(compiledCriterion);
+        // Every criterion must match, so indexing by the types of any one of them is enough
+        if (resourceTypes == null && compiledCriterion._field == ResourceFieldType.RESOURCE_TYPE) {
+          resourceTypes = compiledCriterion._values;
+        }
+      }
+      _resourceTypes = resourceTypes;
+    }
+
+    boolean matchesResource(@Nonnull final Optional<ResolvedResourceSpec> resource) {
+      if (_criteria == null) {
+        return true;
+      }
+      if (!resource.isPresent()) {
+        // Resource filter present in policy, but no resource spec provided.
+        return false;
+      }
+      for (CompiledCriterion criterion : _criteria) {
+        if (!criterion.matches(resource.get())) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  private static class CompiledCriterion {
+    // Null when the field is not supported, in which case the criterion never matches
+    private final ResourceFieldType _field;
+    private final Set<String> _values;
+
+    CompiledCriterion(@Nonnull final PolicyMatchCriterion criterion) {
+      ResourceFieldType field;
+      try {
+        field = ResourceFieldType.valueOf(criterion.getField().toUpperCase());
+      } catch (IllegalArgumentException e) {
+        log.error("Unsupported field type {}", criterion.getField());
+        field = null;
+      }
+      _field = field;
+      if (criterion.getCondition() == PolicyMatchCondition.EQUALS) {
+        _values = new LinkedHashSet<>(criterion.getValues());
+      } else {
+        log.error("Unsupported condition {}", criterion.getCondition());
+        _values = Collections.emptySet();
+      }
+    }
+
+    boolean matches(@Nonnull final ResolvedResourceSpec resource) {
+      if (_field == null) {
+        return false;
+      }
+      for (String value : resource.getFieldValues(_field)) {
+        if (_values.contains(value)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+}
@@ -12,7 +12,9 @@ import com.linkedin.entity.EnvelopedAspect;
 import com.linkedin.entity.client.EntityClient;
 import com.linkedin.metadata.Constants;
 import java.util.Collections;
+import java.util.Set;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -37,20 +39,34 @@ public class DomainFieldResolverProvider implements ResourceFieldResolverProvide
     return FieldResolver.getResolverFromFunction(resourceSpec, this::getDomains);
   }
 
+  @Override
+  public Set<String> getAspectNames() {
+    return Collections.singleton(Constants.DOMAINS_ASPECT_NAME);
+  }
+
+  @Override
+  public FieldResolver getFieldResolver(ResourceSpec resourceSpec, @Nullable EntityResponse response) {
+    return FieldResolver.getResolverFromValues(getDomainsFromResponse(response).getValues());
+  }
+
   private FieldResolver.FieldValue getDomains(ResourceSpec resourceSpec) {
     Urn entityUrn = UrnUtils.getUrn(resourceSpec.getResource());
-    EnvelopedAspect domainsAspect;
+    EntityResponse response;
     try {
-      EntityResponse response = _entityClient.getV2(entityUrn.getEntityType(), entityUrn,
+      response = _entityClient.getV2(entityUrn.getEntityType(), entityUrn,
           Collections.singleton(Constants.DOMAINS_ASPECT_NAME), _systemAuthentication);
-      if (response == null || !response.getAspects().containsKey(Constants.DOMAINS_ASPECT_NAME)) {
-        return FieldResolver.emptyFieldValue();
-      }
-      domainsAspect = response.getAspects().get(Constants.DOMAINS_ASPECT_NAME);
     } catch (Exception e) {
       log.error("Error while retrieving domains aspect for urn {}", entityUrn, e);
       return FieldResolver.emptyFieldValue();
     }
+    return getDomainsFromResponse(response);
+  }
+
+  private static FieldResolver.FieldValue getDomainsFromResponse(@Nullable EntityResponse response) {
+    if (response == null || !response.getAspects().containsKey(Constants.DOMAINS_ASPECT_NAME)) {
+      return FieldResolver.emptyFieldValue();
+    }
+    EnvelopedAspect domainsAspect = response.getAspects().get(Constants.DOMAINS_ASPECT_NAME);
     Domains domains = new Domains(domainsAspect.getValue().data());
     return FieldResolver.FieldValue.builder()
         .values(domains.getDomains().stream().map(Object::toString).collect(Collectors.toSet()))
@@ -12,7 +12,9 @@ import com.linkedin.entity.EnvelopedAspect;
 import com.linkedin.entity.client.EntityClient;
 import com.linkedin.metadata.Constants;
 import java.util.Collections;
+import java.util.Set;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -37,20 +39,34 @@ public class OwnerFieldResolverProvider implements ResourceFieldResolverProvider
     return FieldResolver.getResolverFromFunction(resourceSpec, this::getOwners);
   }
 
+  @Override
+  public Set<String> getAspectNames() {
+    return Collections.singleton(Constants.OWNERSHIP_ASPECT_NAME);
+  }
+
+  @Override
+  public FieldResolver getFieldResolver(ResourceSpec resourceSpec, @Nullable EntityResponse response) {
+    return FieldResolver.getResolverFromValues(getOwnersFromResponse(response).getValues());
+  }
+
   private FieldResolver.FieldValue getOwners(ResourceSpec resourceSpec) {
     Urn entityUrn = UrnUtils.getUrn(resourceSpec.getResource());
-    EnvelopedAspect ownershipAspect;
+    EntityResponse response;
     try {
-      EntityResponse response = _entityClient.getV2(entityUrn.getEntityType(), entityUrn,
+      response = _entityClient.getV2(entityUrn.getEntityType(), entityUrn,
           Collections.singleton(Constants.OWNERSHIP_ASPECT_NAME), _systemAuthentication);
-      if (response == null || !response.getAspects().containsKey(Constants.OWNERSHIP_ASPECT_NAME)) {
-        return FieldResolver.emptyFieldValue();
-      }
-      ownershipAspect = response.getAspects().get(Constants.OWNERSHIP_ASPECT_NAME);
     } catch (Exception e) {
       log.error("Error while retrieving domains aspect for urn {}", entityUrn, e);
       return FieldResolver.emptyFieldValue();
     }
+    return getOwnersFromResponse(response);
+  }
+
+  private static FieldResolver.FieldValue getOwnersFromResponse(@Nullable EntityResponse response) {
+    if (response == null || !response.getAspects().containsKey(Constants.OWNERSHIP_ASPECT_NAME)) {
+      return FieldResolver.emptyFieldValue();
+    }
+    EnvelopedAspect ownershipAspect = response.getAspects().get(Constants.OWNERSHIP_ASPECT_NAME);
     Ownership ownership = new Ownership(ownershipAspect.getValue().data());
     return FieldResolver.FieldValue.builder()
         .values(ownership.getOwners().stream().map(owner -> owner.getOwner().toString()).collect(Collectors.toSet()))
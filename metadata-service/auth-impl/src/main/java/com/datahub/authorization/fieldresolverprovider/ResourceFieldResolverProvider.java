@@ -3,6 +3,10 @@ package com.datahub.authorization.fieldresolverprovider;
 import com.datahub.authorization.FieldResolver;
 import com.datahub.authorization.ResourceFieldType;
 import com.datahub.authorization.ResourceSpec;
+import com.linkedin.entity.EntityResponse;
+import java.util.Collections;
+import java.util.Set;
+import javax.annotation.Nullable;
 
 
 /**
@@ -19,4 +23,19 @@ public interface ResourceFieldResolverProvider {
    * Return resolver for fetching the field values given the resource
    */
   FieldResolver getFieldResolver(ResourceSpec resourceSpec);
+
+  /**
+   * Aspects of the resource the field values are read from, if any
+   */
+  default Set<String> getAspectNames() {
+    return Collections.emptySet();
+  }
+
+  /**
+   * Return resolver for the field values given the aspects of the resource, fetched beforehand along with those of
+   * other resources. The response is null if the resource does not exist.
+   */
+  default FieldResolver getFieldResolver(ResourceSpec resourceSpec, @Nullable EntityResponse response) {
+    return getFieldResolver(resourceSpec);
+  }
 }
@@ -43,6 +43,8 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
@@ -157,6 +159,49 @@ public class DataHubAuthorizerTest {
     assertEquals(_dataHubAuthorizer.authorize(request).getType(), AuthorizationResult.Type.DENY);
   }
 
+  @Test
+  public void testAuthorizeInvalidActor() throws Exception {
+
+    ResourceSpec resourceSpec = new ResourceSpec("dataset", "urn:li:dataset:test");
+
+    // Policy for this privilege is active, but the actor is not an urn.
+    AuthorizationRequest request = new AuthorizationRequest(
+        "test",
+        "EDIT_ENTITY_TAGS",
+        Optional.of(resourceSpec)
+    );
+
+    assertEquals(_dataHubAuthorizer.authorize(request).getType(), AuthorizationResult.Type.DENY);
+    _dataHubAuthorizer.authorizeBatch("EDIT_ENTITY_TAGS", "test", ImmutableList.of(resourceSpec))
+        .forEach(result -> assertEquals(result.getType(), AuthorizationResult.Type.DENY));
+  }
+
+  @Test
+  public void testAuthorizeBatch() throws Exception {
+
+    final Urn firstUrn = Urn.createFromString("urn:li:dataset:test1");
+    final Urn secondUrn = Urn.createFromString("urn:li:dataset:test2");
+    final List<ResourceSpec> resourceSpecs = ImmutableList.of(
+        new ResourceSpec("dataset", firstUrn.toString()),
+        new ResourceSpec("dataset", secondUrn.toString())
+    );
+
+    final List<AuthorizationResult> granted =
+        _dataHubAuthorizer.authorizeBatch("EDIT_ENTITY_TAGS", "urn:li:corpuser:test", resourceSpecs);
+    assertEquals(granted.size(), 2);
+    granted.forEach(result -> assertEquals(result.getType(), AuthorizationResult.Type.ALLOW));
+    assertEquals(granted.get(1).getRequest().getResourceSpec(), Optional.of(resourceSpecs.get(1)));
+
+    // Policy for this privilege is inactive.
+    final List<AuthorizationResult> denied =
+        _dataHubAuthorizer.authorizeBatch("EDIT_ENTITY_OWNERS", "urn:li:corpuser:test", resourceSpecs);
+    assertEquals(denied.size(), 2);
+    denied.forEach(result -> assertEquals(result.getType(), AuthorizationResult.Type.DENY));
+
+    // Verify the resources were resolved together, once per batch.
+    verify(_entityClient, times(2)).batchGetV2(eq("dataset"), eq(ImmutableSet.of(firstUrn, secondUrn)), any(), any());
+  }
+
   @Test
   public void testAllowAllMode() throws Exception {
 
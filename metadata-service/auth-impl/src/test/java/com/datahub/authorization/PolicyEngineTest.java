@@ -326,6 +326,46 @@ public class PolicyEngineTest {
         eq(Collections.singleton(unauthorizedUserUrn)), any(), any());
   }
 
+  @Test
+  public void testEvaluatePoliciesSharedContextResolvesGroupsOnce() throws Exception {
+
+    final DataHubPolicyInfo dataHubPolicyInfo = new DataHubPolicyInfo();
+    dataHubPolicyInfo.setType(METADATA_POLICY_TYPE);
+    dataHubPolicyInfo.setState(ACTIVE_POLICY_STATE);
+    dataHubPolicyInfo.setPrivileges(new StringArray("EDIT_ENTITY_TAGS"));
+    dataHubPolicyInfo.setDisplayName("My Test Display");
+    dataHubPolicyInfo.setDescription("My test display!");
+    dataHubPolicyInfo.setEditable(true);
+
+    final DataHubActorFilter actorFilter = new DataHubActorFilter();
+    final UrnArray groupsUrnArray = new UrnArray();
+    groupsUrnArray.add(Urn.createFromString(AUTHORIZED_GROUP));
+    actorFilter.setGroups(groupsUrnArray);
+    actorFilter.setResourceOwners(false);
+    actorFilter.setAllUsers(false);
+    actorFilter.setAllGroups(false);
+    dataHubPolicyInfo.setActors(actorFilter);
+
+    final DataHubResourceFilter resourceFilter = new DataHubResourceFilter();
+    resourceFilter.setAllResources(true);
+    resourceFilter.setType("dataset");
+    dataHubPolicyInfo.setResources(resourceFilter);
+
+    ResolvedResourceSpec resourceSpec = buildResourceResolvers("dataset", RESOURCE_URN);
+    final PolicyEngine.PolicyEvaluationContext context = new PolicyEngine.PolicyEvaluationContext();
+    // Assert unauthorized user cannot edit entity tags, whichever policy is evaluated.
+    for (int i = 0; i < 2; i++) {
+      PolicyEngine.PolicyEvaluationResult result =
+          _policyEngine.evaluatePolicy(dataHubPolicyInfo, unauthorizedUserUrn, "EDIT_ENTITY_TAGS",
+              Optional.of(resourceSpec), context);
+      assertFalse(result.isGranted());
+    }
+
+    // Verify the groups of the actor are only fetched once.
+    verify(_entityClient, times(1)).batchGetV2(eq(CORP_USER_ENTITY_NAME),
+        eq(Collections.singleton(unauthorizedUserUrn)), any(), any());
+  }
+
   @Test
   // Write a test to verify that the policy engine is able to evaluate a policy with a role match
   public void testEvaluatePolicyActorFilterRoleMatch() throws Exception {
@@ -0,0 +1,138 @@
+package com.datahub.authorization;
+
+import com.datahub.authentication.Authentication;
+import com.google.common.collect.ImmutableList;
+import com.linkedin.common.UrnArray;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.entity.Aspect;
+import com.linkedin.entity.EntityResponse;
+import com.linkedin.entity.EnvelopedAspect;
+import com.linkedin.entity.EnvelopedAspectMap;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.identity.GroupMembership;
+import com.linkedin.policy.DataHubActorFilter;
+import com.linkedin.policy.DataHubPolicyInfo;
+import com.linkedin.policy.DataHubResourceFilter;
+import java.util.Collections;
+import java.util.Optional;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static com.linkedin.metadata.Constants.*;
+import static com.linkedin.metadata.authorization.PoliciesConfig.*;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class PolicyIndexTest {
+
+  private static final String PRIVILEGE = "EDIT_ENTITY_TAGS";
+  private static final Urn USER = UrnUtils.getUrn("urn:li:corpuser:user");
+  private static final Urn OTHER_USER = UrnUtils.getUrn("urn:li:corpuser:other");
+  private static final Urn GROUP = UrnUtils.getUrn("urn:li:corpGroup:group");
+  private static final String RESOURCE_URN = "urn:li:dataset:test";
+
+  private EntityClient _entityClient;
+  private PolicyEngine _policyEngine;
+
+  @BeforeMethod
+  public void setupTest() throws Exception {
+    _entityClient = mock(EntityClient.class);
+    _policyEngine = new PolicyEngine(mock(Authentication.class), _entityClient);
+
+    final GroupMembership groupMembership = new GroupMembership().setGroups(new UrnArray(ImmutableList.of(GROUP)));
+    final EnvelopedAspectMap aspectMap = new EnvelopedAspectMap();
+    aspectMap.put(GROUP_MEMBERSHIP_ASPECT_NAME, new EnvelopedAspect().setValue(new Aspect(groupMembership.data())));
+    when(_entityClient.batchGetV2(eq(CORP_USER_ENTITY_NAME), eq(Collections.singleton(USER)), any(), any()))
+        .thenReturn(Collections.singletonMap(USER, new EntityResponse().setUrn(USER).setAspects(aspectMap)));
+    when(_entityClient.batchGetV2(eq(CORP_USER_ENTITY_NAME), eq(Collections.singleton(OTHER_USER)), any(), any()))
+        .thenReturn(Collections.emptyMap());
+  }
+
+  @Test
+  public void testUserPolicy() throws Exception {
+    final DataHubActorFilter actorFilter = new DataHubActorFilter().setUsers(new UrnArray(ImmutableList.of(USER)));
+    final PolicyIndex index = new PolicyIndex(ImmutableList.of(createPolicy(ACTIVE_POLICY_STATE, actorFilter, "dataset")));
+
+    assertNotNull(findGrantingPolicy(index, USER, "dataset"));
+    assertNull(findGrantingPolicy(index, OTHER_USER, "dataset"));
+    // The policy is restricted to datasets.
+    assertNull(findGrantingPolicy(index, USER, "chart"));
+
+    // The groups and roles of the actors were never needed.
+    verifyZeroInteractions(_entityClient);
+  }
+
+  @Test
+  public void testGroupPolicy() throws Exception {
+    final DataHubActorFilter actorFilter = new DataHubActorFilter().setGroups(new UrnArray(ImmutableList.of(GROUP)));
+    final PolicyIndex index = new PolicyIndex(ImmutableList.of(createPolicy(ACTIVE_POLICY_STATE, actorFilter, "dataset")));
+
+    assertNotNull(findGrantingPolicy(index, USER, "dataset"));
+    assertNull(findGrantingPolicy(index, OTHER_USER, "dataset"));
+  }
+
+  @Test
+  public void testOwnersPolicy() throws Exception {
+    final DataHubActorFilter actorFilter = new DataHubActorFilter().setResourceOwners(true);
+    final PolicyIndex index = new PolicyIndex(ImmutableList.of(createPolicy(ACTIVE_POLICY_STATE, actorFilter, "dataset")));
+
+    final ResolvedResourceSpec ownedResource = PolicyEngineTest.buildResourceResolvers("dataset", RESOURCE_URN,
+        Collections.singleton(GROUP.toString()), Collections.emptySet());
+    assertNotNull(index.findGrantingPolicy(_policyEngine, USER, PRIVILEGE, Optional.of(ownedResource),
+        new PolicyEngine.PolicyEvaluationContext()));
+    assertNull(index.findGrantingPolicy(_policyEngine, OTHER_USER, PRIVILEGE, Optional.of(ownedResource),
+        new PolicyEngine.PolicyEvaluationContext()));
+    // Without a resource, there is nothing to own.
+    assertNull(index.findGrantingPolicy(_policyEngine, USER, PRIVILEGE, Optional.empty(),
+        new PolicyEngine.PolicyEvaluationContext()));
+  }
+
+  @Test
+  public void testPlatformPolicy() throws Exception {
+    final DataHubActorFilter actorFilter = new DataHubActorFilter().setAllUsers(true);
+    final DataHubPolicyInfo policy = createPolicy(ACTIVE_POLICY_STATE, actorFilter, "dataset").setType(PLATFORM_POLICY_TYPE);
+    final PolicyIndex index = new PolicyIndex(ImmutableList.of(policy));
+
+    assertNotNull(index.findGrantingPolicy(_policyEngine, USER, PRIVILEGE, Optional.empty(),
+        new PolicyEngine.PolicyEvaluationContext()));
+  }
+
+  @Test
+  public void testInactivePolicy() throws Exception {
+    final DataHubActorFilter actorFilter = new DataHubActorFilter().setAllUsers(true);
+    final DataHubPolicyInfo policy = createPolicy(INACTIVE_POLICY_STATE, actorFilter, "dataset");
+    final PolicyIndex index = new PolicyIndex(ImmutableList.of(policy));
+
+    assertNull(findGrantingPolicy(index, USER, "dataset"));
+    assertEquals(index.getPolicies(PRIVILEGE), ImmutableList.of(policy));
+    assertEquals(index.getPolicies(DataHubAuthorizer.ALL), ImmutableList.of(policy));
+    assertTrue(index.getPolicies("EDIT_ENTITY_OWNERS").isEmpty());
+  }
+
+  private DataHubPolicyInfo findGrantingPolicy(final PolicyIndex index, final Urn actor, final String resourceType) {
+    return index.findGrantingPolicy(_policyEngine, actor, PRIVILEGE,
+        Optional.of(PolicyEngineTest.buildResourceResolvers(resourceType, RESOURCE_URN)),
+        new PolicyEngine.PolicyEvaluationContext());
+  }
+
+  private static DataHubPolicyInfo createPolicy(final String state, final DataHubActorFilter actorFilter,
+      final String resourceType) {
+    final DataHubPolicyInfo dataHubPolicyInfo = new DataHubPolicyInfo();
+    dataHubPolicyInfo.setType(METADATA_POLICY_TYPE);
+    dataHubPolicyInfo.setState(state);
+    dataHubPolicyInfo.setPrivileges(new StringArray(PRIVILEGE));
+    dataHubPolicyInfo.setDisplayName("My Test Display");
+    dataHubPolicyInfo.setDescription("My test display!");
+    dataHubPolicyInfo.setEditable(true);
+    dataHubPolicyInfo.setActors(actorFilter);
+
+    final DataHubResourceFilter resourceFilter = new DataHubResourceFilter();
+    resourceFilter.setAllResources(true);
+    resourceFilter.setType(resourceType);
+    dataHubPolicyInfo.setResources(resourceFilter);
+    return dataHubPolicyInfo;
+  }
+}
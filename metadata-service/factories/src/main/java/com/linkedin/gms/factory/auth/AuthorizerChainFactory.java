@@ -8,6 +8,8 @@ import com.datahub.authorization.Authorizer;
 import com.datahub.authorization.AuthorizerChain;
 import com.datahub.authorization.DefaultResourceSpecResolver;
 import com.datahub.authorization.ResourceSpecResolver;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.metadata.client.CachingEntityClient;
 import com.linkedin.metadata.client.JavaEntityClient;
 import com.linkedin.gms.factory.config.ConfigurationProvider;
 import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
@@ -46,6 +48,10 @@ public class AuthorizerChainFactory {
   @Qualifier("javaEntityClient")
   private JavaEntityClient entityClient;
 
+  @Autowired(required = false)
+  @Qualifier("authorizerEntityClient")
+  private CachingEntityClient authorizerEntityClient;
+
   @Bean(name = "authorizerChain")
   @Scope("singleton")
   @Nonnull
@@ -66,7 +72,8 @@ public class AuthorizerChainFactory {
   }
 
   private AuthorizerContext initAuthorizerContext() {
-    final ResourceSpecResolver resolver = new DefaultResourceSpecResolver(systemAuthentication, entityClient);
+    final EntityClient client = authorizerEntityClient != null ? authorizerEntityClient : entityClient;
+    final ResourceSpecResolver resolver = new DefaultResourceSpecResolver(systemAuthentication, client);
     return new AuthorizerContext(resolver);
   }
 
@@ -0,0 +1,76 @@
+package com.linkedin.gms.factory.auth;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.gms.factory.entity.JavaEntityClientFactory;
+import com.linkedin.gms.factory.entityregistry.EntityRegistryFactory;
+import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
+import com.linkedin.metadata.client.CachingEntityClient;
+import com.linkedin.metadata.client.EntityClientCacheInvalidator;
+import com.linkedin.metadata.client.JavaEntityClient;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+
+import static com.linkedin.metadata.Constants.*;
+
+
+@Configuration
+@Import({JavaEntityClientFactory.class, EntityRegistryFactory.class})
+@PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
+public class AuthorizerEntityClientFactory {
+
+  private static final String AUTHORIZER_CACHE_NAME = "authorizerEntityResponse";
+
+  // Aspects read to resolve the groups and roles of actors, and the owners and domains of resources
+  private static final Set<String> CACHED_ASPECTS = ImmutableSet.of(
+      GROUP_MEMBERSHIP_ASPECT_NAME,
+      NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME,
+      ROLE_MEMBERSHIP_ASPECT_NAME,
+      OWNERSHIP_ASPECT_NAME,
+      DOMAINS_ASPECT_NAME);
+
+  @Autowired
+  @Qualifier("javaEntityClient")
+  private JavaEntityClient _entityClient;
+
+  @Value("${authorization.defaultAuthorizer.cache.maxSize:10000}")
+  private Integer maxSize;
+
+  @Value("${authorization.defaultAuthorizer.cache.ttlSeconds:30}")
+  private Integer ttlSeconds;
+
+  @Value("${authorization.defaultAuthorizer.cache.maxTrackedChanges:10000}")
+  private Integer maxTrackedChanges;
+
+  @Bean(name = "authorizerEntityClient")
+  @ConditionalOnProperty(name = "authorization.defaultAuthorizer.cache.enabled", havingValue = "true")
+  @Nonnull
+  protected CachingEntityClient getInstance() {
+    // Kept short, as it bounds how long a membership change missed by the invalidation can grant stale privileges
+    final CaffeineCache cache = new CaffeineCache(AUTHORIZER_CACHE_NAME, Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+        .recordStats()
+        .build());
+    return new CachingEntityClient(_entityClient, cache, maxTrackedChanges, CACHED_ASPECTS);
+  }
+
+  @Bean(name = "authorizerEntityClientInvalidator")
+  @ConditionalOnProperty(name = "authorization.defaultAuthorizer.cache.enabled", havingValue = "true")
+  @Nonnull
+  protected EntityClientCacheInvalidator getInvalidator(
+      @Qualifier("authorizerEntityClient") CachingEntityClient cachingEntityClient, EntityRegistry entityRegistry) {
+    return new EntityClientCacheInvalidator(cachingEntityClient, entityRegistry);
+  }
+}
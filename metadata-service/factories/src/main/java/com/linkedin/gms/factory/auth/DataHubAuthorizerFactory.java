@@ -2,6 +2,8 @@ package com.linkedin.gms.factory.auth;
 
 import com.datahub.authentication.Authentication;
 import com.datahub.authorization.DataHubAuthorizer;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.metadata.client.CachingEntityClient;
 import com.linkedin.metadata.client.JavaEntityClient;
 import com.linkedin.gms.factory.entity.RestliEntityClientFactory;
 import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
@@ -18,7 +20,7 @@ import org.springframework.context.annotation.Scope;
 
 @Configuration
 @PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
-@Import({RestliEntityClientFactory.class})
+@Import({RestliEntityClientFactory.class, AuthorizerEntityClientFactory.class})
 public class DataHubAuthorizerFactory {
 
   @Autowired
@@ -29,6 +31,10 @@ public class DataHubAuthorizerFactory {
   @Qualifier("javaEntityClient")
   private JavaEntityClient entityClient;
 
+  @Autowired(required = false)
+  @Qualifier("authorizerEntityClient")
+  private CachingEntityClient authorizerEntityClient;
+
   @Value("${authorization.defaultAuthorizer.cacheRefreshIntervalSecs}")
   private Integer policyCacheRefreshIntervalSeconds;
 
@@ -43,7 +49,8 @@ public class DataHubAuthorizerFactory {
     final DataHubAuthorizer.AuthorizationMode mode = policiesEnabled ? DataHubAuthorizer.AuthorizationMode.DEFAULT
         : DataHubAuthorizer.AuthorizationMode.ALLOW_ALL;
 
-    return new DataHubAuthorizer(systemAuthentication, entityClient, 10,
+    final EntityClient client = authorizerEntityClient != null ? authorizerEntityClient : entityClient;
+    return new DataHubAuthorizer(systemAuthentication, client, 10,
         policyCacheRefreshIntervalSeconds, mode);
   }
 }
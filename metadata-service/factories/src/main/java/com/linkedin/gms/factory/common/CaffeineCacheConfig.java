@@ -1,8 +1,13 @@
 package com.linkedin.gms.factory.common;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkedin.metadata.search.cache.SerializedRecordCache;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import java.util.concurrent.TimeUnit;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
@@ -18,18 +23,47 @@ public class CaffeineCacheConfig {
   @Value("${CACHE_MAX_SIZE:10000}")
   private int cacheMaxSize;
 
+  // Bound of each cache in bytes of serialized records. When not positive, caches are bounded by CACHE_MAX_SIZE entries
+  @Value("${CACHE_MAX_WEIGHT_BYTES:268435456}")
+  private long cacheMaxWeightBytes;
+
   @Bean
   public CacheManager cacheManager() {
-    CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+      @Override
+      protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        registerStats(name, cache);
+        return new SerializedRecordCache(super.adaptCaffeineCache(name, cache));
+      }
+    };
     cacheManager.setCaffeine(caffeineCacheBuilder());
     return cacheManager;
   }
 
   private Caffeine<Object, Object> caffeineCacheBuilder() {
-    return Caffeine.newBuilder()
+    Caffeine<Object, Object> builder = Caffeine.newBuilder()
         .initialCapacity(100)
-        .maximumSize(cacheMaxSize)
         .expireAfterAccess(cacheTtlSeconds, TimeUnit.SECONDS)
         .recordStats();
+    if (cacheMaxWeightBytes > 0) {
+      // Results vary from a few hundred bytes to megabytes with aggregations, so bound by their serialized size
+      return builder.maximumWeight(cacheMaxWeightBytes).weigher(SerializedRecordCache::weigh);
+    }
+    return builder.maximumSize(cacheMaxSize);
+  }
+
+  /**
+   * Publishes the statistics of a cache under cache.&lt;name&gt;, e.g. cache.entitySearchServiceSearch.hitRate.
+   */
+  private static void registerStats(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+    final MetricRegistry registry = MetricUtils.get();
+    registry.gauge(MetricRegistry.name("cache", name, "hitRate"), () -> (Gauge<Double>) () -> cache.stats().hitRate());
+    registry.gauge(MetricRegistry.name("cache", name, "hitCount"), () -> (Gauge<Long>) () -> cache.stats().hitCount());
+    registry.gauge(MetricRegistry.name("cache", name, "missCount"), () -> (Gauge<Long>) () -> cache.stats().missCount());
+    registry.gauge(MetricRegistry.name("cache", name, "evictionCount"),
+        () -> (Gauge<Long>) () -> cache.stats().evictionCount());
+    registry.gauge(MetricRegistry.name("cache", name, "size"), () -> (Gauge<Long>) cache::estimatedSize);
+    registry.gauge(MetricRegistry.name("cache", name, "weightedSize"), () -> (Gauge<Long>) () ->
+        cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L));
   }
-}
\ No newline at end of file
+}
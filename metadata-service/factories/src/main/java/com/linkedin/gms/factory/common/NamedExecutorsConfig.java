@@ -0,0 +1,33 @@
+package com.linkedin.gms.factory.common;
+
+import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
+import com.linkedin.metadata.utils.NamedExecutors;
+import javax.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+
+/**
+ * Sizes the {@link NamedExecutors} used for blocking fan-outs from the application configuration.
+ */
+@Configuration
+@PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
+public class NamedExecutorsConfig {
+
+  @Value("${executors.graphQLLoader.threads:20}")
+  private int graphQLLoaderThreads;
+
+  @Value("${executors.search.threads:20}")
+  private int searchThreads;
+
+  @Value("${executors.lineage.threads:20}")
+  private int lineageThreads;
+
+  @PostConstruct
+  public void configureExecutors() {
+    NamedExecutors.configure(NamedExecutors.GRAPHQL_LOADER, graphQLLoaderThreads);
+    NamedExecutors.configure(NamedExecutors.SEARCH, searchThreads);
+    NamedExecutors.configure(NamedExecutors.LINEAGE, lineageThreads);
+  }
+}
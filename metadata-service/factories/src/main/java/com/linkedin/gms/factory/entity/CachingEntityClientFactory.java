@@ -0,0 +1,63 @@
+package com.linkedin.gms.factory.entity;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkedin.gms.factory.entityregistry.EntityRegistryFactory;
+import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
+import com.linkedin.metadata.client.CachingEntityClient;
+import com.linkedin.metadata.client.EntityClientCacheInvalidator;
+import com.linkedin.metadata.client.JavaEntityClient;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+
+
+@Configuration
+@Import({JavaEntityClientFactory.class, EntityRegistryFactory.class})
+@PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
+public class CachingEntityClientFactory {
+
+  private static final String ENTITY_RESPONSE_CACHE_NAME = "graphQLEntityResponse";
+
+  @Autowired
+  @Qualifier("javaEntityClient")
+  private JavaEntityClient _entityClient;
+
+  @Value("${graphQL.entityCache.maxSize:100000}")
+  private Integer maxSize;
+
+  @Value("${graphQL.entityCache.ttlSeconds:600}")
+  private Integer ttlSeconds;
+
+  @Value("${graphQL.entityCache.maxTrackedChanges:100000}")
+  private Integer maxTrackedChanges;
+
+  @Bean(name = "cachingEntityClient")
+  @ConditionalOnProperty(name = "graphQL.entityCache.enabled", havingValue = "true")
+  @Nonnull
+  protected CachingEntityClient getInstance() {
+    // Entries are invalidated from the metadata change log, the expiry only bounds the memory held by cold entities
+    final CaffeineCache cache = new CaffeineCache(ENTITY_RESPONSE_CACHE_NAME, Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+        .recordStats()
+        .build());
+    return new CachingEntityClient(_entityClient, cache, maxTrackedChanges);
+  }
+
+  @Bean(name = "cachingEntityClientInvalidator")
+  @ConditionalOnProperty(name = "graphQL.entityCache.enabled", havingValue = "true")
+  @Nonnull
+  protected EntityClientCacheInvalidator getInvalidator(
+      @Qualifier("cachingEntityClient") CachingEntityClient cachingEntityClient, EntityRegistry entityRegistry) {
+    return new EntityClientCacheInvalidator(cachingEntityClient, entityRegistry);
+  }
+}
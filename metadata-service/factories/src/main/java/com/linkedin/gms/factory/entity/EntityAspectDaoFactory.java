@@ -1,26 +1,54 @@
 package com.linkedin.gms.factory.entity;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
 import com.linkedin.metadata.entity.AspectDao;
+import com.linkedin.metadata.entity.CachingAspectDao;
 import com.linkedin.metadata.entity.cassandra.CassandraAspectDao;
 import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
 import io.ebean.EbeanServer;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.PropertySource;
 
 import javax.annotation.Nonnull;
 
 @Configuration
+@PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
 public class EntityAspectDaoFactory {
 
+  private static final String LATEST_ASPECT_CACHE_NAME = "latestAspect";
+
+  @Value("${entityService.latestAspectCache.enabled:false}")
+  private Boolean latestAspectCacheEnabled;
+
+  @Value("${entityService.latestAspectCache.maxSize:100000}")
+  private Integer latestAspectCacheMaxSize;
+
+  @Value("${entityService.latestAspectCache.ttlSeconds:60}")
+  private Integer latestAspectCacheTtlSeconds;
+
+  @Value("${ebean.batchGetParallelism:0}")
+  private Integer ebeanBatchGetParallelism;
+
+  @Value("${ebean.maxConnections:50}")
+  private Integer ebeanMaxConnections;
+
   @Bean(name = "entityAspectDao")
   @DependsOn({"gmsEbeanServiceConfig"})
   @ConditionalOnProperty(name = "entityService.impl", havingValue = "ebean", matchIfMissing = true)
   @Nonnull
   protected AspectDao createEbeanInstance(EbeanServer server) {
-    return new EbeanAspectDao(server);
+    final EbeanAspectDao aspectDao = new EbeanAspectDao(server);
+    // Leave at least half of the connection pool to writes and single aspect reads
+    aspectDao.setBatchGetParallelism(Math.min(ebeanBatchGetParallelism, Math.max(1, ebeanMaxConnections / 2)));
+    return withLatestAspectCache(aspectDao);
   }
 
   @Bean(name = "entityAspectDao")
@@ -28,6 +56,20 @@ public class EntityAspectDaoFactory {
   @ConditionalOnProperty(name = "entityService.impl", havingValue = "cassandra")
   @Nonnull
   protected AspectDao createCassandraInstance(CqlSession session) {
-    return new CassandraAspectDao(session);
+    return withLatestAspectCache(new CassandraAspectDao(session));
+  }
+
+  @Nonnull
+  private AspectDao withLatestAspectCache(@Nonnull final AspectDao aspectDao) {
+    if (!latestAspectCacheEnabled) {
+      return aspectDao;
+    }
+    // Dedicated cache so that its bounds do not depend on the shared search cache configuration
+    final CaffeineCache cache = new CaffeineCache(LATEST_ASPECT_CACHE_NAME, Caffeine.newBuilder()
+        .maximumSize(latestAspectCacheMaxSize)
+        .expireAfterWrite(latestAspectCacheTtlSeconds, TimeUnit.SECONDS)
+        .recordStats()
+        .build());
+    return new CachingAspectDao(aspectDao, cache);
   }
 }
@@ -1,24 +1,37 @@
 package com.linkedin.gms.factory.entity;
 
 import com.linkedin.gms.factory.common.TopicConventionFactory;
+import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
 import com.linkedin.metadata.dao.producer.KafkaEventProducer;
 import com.linkedin.metadata.entity.AspectDao;
 import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.LastObservedWriteBuffer;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.mxe.TopicConvention;
 import org.apache.avro.generic.IndexedRecord;
 import org.apache.kafka.clients.producer.Producer;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.PropertySource;
 
 import javax.annotation.Nonnull;
 
 
 @Configuration
+@PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
 public class EntityServiceFactory {
 
+  @Value("${entityService.restoreIndices.parallelism:1}")
+  private Integer restoreIndicesParallelism;
+
+  @Autowired(required = false)
+  @Qualifier("lastObservedWriteBuffer")
+  private LastObservedWriteBuffer lastObservedWriteBuffer;
+
   @Bean(name = "entityService")
   @DependsOn({"entityAspectDao", "kafkaEventProducer", TopicConventionFactory.TOPIC_CONVENTION_BEAN, "entityRegistry"})
   @Nonnull
@@ -29,6 +42,9 @@ public class EntityServiceFactory {
       EntityRegistry entityRegistry) {
 
     final KafkaEventProducer eventProducer = new KafkaEventProducer(producer, convention);
-    return new EntityService(aspectDao, eventProducer, entityRegistry);
+    final EntityService entityService = new EntityService(aspectDao, eventProducer, entityRegistry);
+    entityService.setRestoreIndicesParallelism(restoreIndicesParallelism);
+    entityService.setLastObservedWriteBuffer(lastObservedWriteBuffer);
+    return entityService;
   }
 }
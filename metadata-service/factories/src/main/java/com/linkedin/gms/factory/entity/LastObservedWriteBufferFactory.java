@@ -0,0 +1,34 @@
+package com.linkedin.gms.factory.entity;
+
+import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
+import com.linkedin.metadata.entity.AspectDao;
+import com.linkedin.metadata.entity.LastObservedWriteBuffer;
+import javax.annotation.Nonnull;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.PropertySource;
+
+
+@Configuration
+@PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
+public class LastObservedWriteBufferFactory {
+
+  @Value("${entityService.lastObservedWriteBehind.flushIntervalMillis:10000}")
+  private Long flushIntervalMillis;
+
+  @Value("${entityService.lastObservedWriteBehind.maxPendingUpdates:100000}")
+  private Integer maxPendingUpdates;
+
+  // Closed, and so flushed, on shutdown before the aspect dao it writes through
+  @Bean(name = "lastObservedWriteBuffer", destroyMethod = "close")
+  @ConditionalOnProperty(name = "entityService.lastObservedWriteBehind.enabled", havingValue = "true")
+  @DependsOn({"entityAspectDao"})
+  @Nonnull
+  protected LastObservedWriteBuffer createInstance(@Qualifier("entityAspectDao") AspectDao aspectDao) {
+    return new LastObservedWriteBuffer(aspectDao, flushIntervalMillis, maxPendingUpdates);
+  }
+}
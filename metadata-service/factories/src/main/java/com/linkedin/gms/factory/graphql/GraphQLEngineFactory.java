@@ -9,6 +9,8 @@ import com.datahub.authorization.role.RoleService;
 import com.linkedin.datahub.graphql.GmsGraphQLEngine;
 import com.linkedin.datahub.graphql.GraphQLEngine;
 import com.linkedin.datahub.graphql.analytics.service.AnalyticsService;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.metadata.client.CachingEntityClient;
 import com.linkedin.metadata.client.JavaEntityClient;
 import com.linkedin.gms.factory.auth.DataHubTokenServiceFactory;
 import com.linkedin.gms.factory.common.GitVersionFactory;
@@ -17,6 +19,7 @@ import com.linkedin.gms.factory.common.RestHighLevelClientFactory;
 import com.linkedin.gms.factory.common.SiblingGraphServiceFactory;
 import com.linkedin.gms.factory.config.ConfigurationProvider;
 import com.linkedin.gms.factory.entityregistry.EntityRegistryFactory;
+import com.linkedin.gms.factory.entity.CachingEntityClientFactory;
 import com.linkedin.gms.factory.entity.RestliEntityClientFactory;
 import com.linkedin.gms.factory.recommendation.RecommendationServiceFactory;
 import com.linkedin.metadata.entity.EntityService;
@@ -44,7 +47,7 @@ import org.springframework.context.annotation.Import;
 @Configuration
 @Import({RestHighLevelClientFactory.class, IndexConventionFactory.class, RestliEntityClientFactory.class,
     RecommendationServiceFactory.class, EntityRegistryFactory.class, DataHubTokenServiceFactory.class,
-    GitVersionFactory.class, SiblingGraphServiceFactory.class})
+    GitVersionFactory.class, SiblingGraphServiceFactory.class, CachingEntityClientFactory.class})
 public class GraphQLEngineFactory {
   @Autowired
   @Qualifier("elasticSearchRestHighLevelClient")
@@ -58,6 +61,11 @@ public class GraphQLEngineFactory {
   @Qualifier("javaEntityClient")
   private JavaEntityClient _entityClient;
 
+  // Only present when the GraphQL entity cache is enabled
+  @Autowired(required = false)
+  @Qualifier("cachingEntityClient")
+  private CachingEntityClient _cachingEntityClient;
+
   @Autowired
   @Qualifier("graphClient")
   private GraphClient _graphClient;
@@ -135,9 +143,10 @@ public class GraphQLEngineFactory {
   @Bean(name = "graphQLEngine")
   @Nonnull
   protected GraphQLEngine getInstance() {
+    final EntityClient entityClient = _cachingEntityClient != null ? _cachingEntityClient : _entityClient;
     if (isAnalyticsEnabled) {
       return new GmsGraphQLEngine(
-          _entityClient,
+          entityClient,
           _graphClient,
           _usageClient,
           new AnalyticsService(elasticClient, indexConvention),
@@ -167,7 +176,7 @@ public class GraphQLEngineFactory {
           ).builder().build();
     }
     return new GmsGraphQLEngine(
-        _entityClient,
+        entityClient,
         _graphClient,
         _usageClient,
         null,
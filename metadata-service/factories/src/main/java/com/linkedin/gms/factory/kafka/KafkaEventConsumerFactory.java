@@ -9,6 +9,7 @@ import java.util.Arrays;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -22,6 +23,7 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.KafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 
 
@@ -41,6 +43,9 @@ public class KafkaEventConsumerFactory {
   @Value("${kafka.listener.concurrency:1}")
   private Integer kafkaListenerConcurrency;
 
+  @Value("${kafka.listener.batch.maxPollRecords:500}")
+  private Integer kafkaListenerBatchMaxPollRecords;
+
   @Autowired
   @Lazy
   @Qualifier("kafkaSchemaRegistry")
@@ -54,6 +59,56 @@ public class KafkaEventConsumerFactory {
   @Bean(name = "kafkaEventConsumer")
   protected KafkaListenerContainerFactory<?> createInstance(KafkaProperties properties) {
 
+    ConcurrentKafkaListenerContainerFactory<String, GenericRecord> factory =
+        new ConcurrentKafkaListenerContainerFactory<>();
+    factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(buildConsumerProperties(properties)));
+    factory.setContainerCustomizer(new ThreadPoolContainerCustomizer());
+    factory.setConcurrency(this.kafkaListenerConcurrency);
+
+    log.info("Event-based KafkaListenerContainerFactory built successfully");
+
+    return factory;
+  }
+
+  /**
+   * Same as the kafkaEventConsumer, except that listeners receive all the records of a poll at once.
+   */
+  @Bean(name = "kafkaBatchEventConsumer")
+  protected KafkaListenerContainerFactory<?> createBatchInstance(KafkaProperties properties) {
+
+    Map<String, Object> props = buildConsumerProperties(properties);
+    props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, this.kafkaListenerBatchMaxPollRecords);
+
+    ConcurrentKafkaListenerContainerFactory<String, GenericRecord> factory =
+        new ConcurrentKafkaListenerContainerFactory<>();
+    factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+    factory.setContainerCustomizer(new ThreadPoolContainerCustomizer());
+    factory.setConcurrency(this.kafkaListenerConcurrency);
+    factory.setBatchListener(true);
+
+    log.info("Event-based batch KafkaListenerContainerFactory built successfully");
+
+    return factory;
+  }
+
+  /**
+   * Consumers for readers that assign themselves all the partitions of a topic instead of joining a consumer group,
+   * e.g. to keep the in-memory state of every instance up to date. They start from the end of the topic and never
+   * commit offsets, so no group is left behind when an instance goes away.
+   */
+  @Bean(name = "kafkaGrouplessConsumerFactory")
+  protected ConsumerFactory<String, GenericRecord> createGrouplessConsumerFactory(KafkaProperties properties) {
+
+    Map<String, Object> props = buildConsumerProperties(properties);
+    props.remove(ConsumerConfig.GROUP_ID_CONFIG);
+    props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+    props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+
+    return new DefaultKafkaConsumerFactory<>(props);
+  }
+
+  private Map<String, Object> buildConsumerProperties(KafkaProperties properties) {
+
     KafkaProperties.Consumer consumerProps = properties.getConsumer();
 
     // Specify (de)serializers for record keys and for record values.
@@ -83,14 +138,6 @@ public class KafkaEventConsumerFactory {
       .filter(entry -> entry.getValue() != null && !entry.getValue().toString().isEmpty())
       .forEach(entry -> props.put(entry.getKey(), entry.getValue())); 
 
-    ConcurrentKafkaListenerContainerFactory<String, GenericRecord> factory =
-        new ConcurrentKafkaListenerContainerFactory<>();
-    factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
-    factory.setContainerCustomizer(new ThreadPoolContainerCustomizer());
-    factory.setConcurrency(this.kafkaListenerConcurrency);
-
-    log.info("Event-based KafkaListenerContainerFactory built successfully");
-
-    return factory;
+    return props;
   }
 }
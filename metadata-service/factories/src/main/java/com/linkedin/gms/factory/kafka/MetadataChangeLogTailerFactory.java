@@ -0,0 +1,53 @@
+package com.linkedin.gms.factory.kafka;
+
+import com.linkedin.gms.factory.entity.EntityServiceFactory;
+import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.event.MetadataChangeLogListener;
+import com.linkedin.metadata.event.MetadataChangeLogTailer;
+import com.linkedin.mxe.Topics;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.generic.GenericRecord;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.kafka.core.ConsumerFactory;
+
+
+/**
+ * Keeps the in-memory state of this GMS instance, such as its caches, in sync with the metadata change log. Listeners
+ * see the writes of this instance as soon as they are committed, and the writes of other instances by tailing the topic.
+ */
+@Slf4j
+@Configuration
+@PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
+@Import({KafkaEventConsumerFactory.class, EntityServiceFactory.class})
+public class MetadataChangeLogTailerFactory {
+
+  @Value("${METADATA_CHANGE_LOG_VERSIONED_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_VERSIONED + "}")
+  private String metadataChangeLogTopic;
+
+  @Bean(name = "metadataChangeLogTailer", destroyMethod = "close")
+  @Nonnull
+  protected MetadataChangeLogTailer createInstance(
+      @Qualifier("kafkaGrouplessConsumerFactory") ConsumerFactory<String, GenericRecord> consumerFactory,
+      @Qualifier("entityService") EntityService entityService,
+      ObjectProvider<MetadataChangeLogListener> listenerProvider) {
+
+    final List<MetadataChangeLogListener> listeners = listenerProvider.orderedStream().collect(Collectors.toList());
+    listeners.forEach(entityService::addChangeLogListener);
+
+    final MetadataChangeLogTailer tailer =
+        new MetadataChangeLogTailer(consumerFactory::createConsumer, metadataChangeLogTopic, listeners);
+    tailer.start();
+    log.info("Tailing {} for {} metadata change log listeners", metadataChangeLogTopic, listeners.size());
+    return tailer;
+  }
+}
@@ -0,0 +1,61 @@
+package com.linkedin.gms.factory.search;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkedin.gms.factory.entityregistry.EntityRegistryFactory;
+import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.search.cache.CompactLineageClosure;
+import com.linkedin.metadata.search.cache.LineageClosureInvalidator;
+import com.linkedin.metadata.search.cache.LineageClosureStore;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+
+
+@Configuration
+@Import({EntityRegistryFactory.class})
+@PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
+public class LineageClosureStoreFactory {
+
+  private static final String LINEAGE_CLOSURE_CACHE_NAME = "lineageClosure";
+
+  @Value("${lineageClosure.maxRelationships:5000000}")
+  private Long maxRelationships;
+
+  @Value("${lineageClosure.maxTrackedChanges:100000}")
+  private Integer maxTrackedChanges;
+
+  @Value("${lineageClosure.settleMillis:5000}")
+  private Long settleMillis;
+
+  @Value("${lineageClosure.ttlSeconds:86400}")
+  private Long ttlSeconds;
+
+  @Bean(name = "lineageClosureStore")
+  @Nonnull
+  protected LineageClosureStore getInstance() {
+    // Bounded by the total number of relationships held rather than by entries, since lineage sizes vary widely
+    final CaffeineCache cache = new CaffeineCache(LINEAGE_CLOSURE_CACHE_NAME, Caffeine.newBuilder()
+        .maximumWeight(maxRelationships)
+        .weigher((Object key, Object value) -> Math.max(1, ((CompactLineageClosure) value).size()))
+        // Backstop for lineage changes which are not seen by the invalidator, such as those made on another replica
+        .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+        .recordStats()
+        .build());
+    return new LineageClosureStore(cache, maxTrackedChanges, settleMillis);
+  }
+
+  @Bean(name = "lineageClosureInvalidator")
+  @ConditionalOnProperty(name = "featureFlags.lineageSearchCacheEnabled", havingValue = "true")
+  @Nonnull
+  protected LineageClosureInvalidator getInvalidator(LineageClosureStore lineageClosureStore,
+      EntityRegistry entityRegistry) {
+    return new LineageClosureInvalidator(lineageClosureStore, entityRegistry);
+  }
+}
@@ -6,8 +6,8 @@ import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
 import com.linkedin.metadata.graph.GraphService;
 import com.linkedin.metadata.search.LineageSearchService;
 import com.linkedin.metadata.search.SearchService;
+import com.linkedin.metadata.search.cache.LineageClosureStore;
 import javax.annotation.Nonnull;
-import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -16,17 +16,16 @@ import org.springframework.context.annotation.PropertySource;
 
 
 @Configuration
-@Import({GraphServiceFactory.class})
+@Import({GraphServiceFactory.class, LineageClosureStoreFactory.class})
 @PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
 public class LineageSearchServiceFactory {
 
   @Bean(name = "relationshipSearchService")
   @Primary
   @Nonnull
-  protected LineageSearchService getInstance(CacheManager cacheManager, GraphService graphService,
+  protected LineageSearchService getInstance(LineageClosureStore lineageClosureStore, GraphService graphService,
        SearchService searchService, ConfigurationProvider configurationProvider) {
     boolean cacheEnabled = configurationProvider.getFeatureFlags().isLineageSearchCacheEnabled();
-    return new LineageSearchService(searchService, graphService,
-        cacheEnabled ? cacheManager.getCache("relationshipSearchService") : null, cacheEnabled);
+    return new LineageSearchService(searchService, graphService, cacheEnabled ? lineageClosureStore : null);
   }
 }
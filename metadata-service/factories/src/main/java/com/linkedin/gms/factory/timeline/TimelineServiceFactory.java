@@ -1,11 +1,14 @@
 package com.linkedin.gms.factory.timeline;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
 import com.linkedin.metadata.entity.AspectDao;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.timeline.TimelineService;
 import com.linkedin.metadata.timeline.TimelineServiceImpl;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
@@ -18,10 +21,27 @@ import javax.annotation.Nonnull;
 @PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
 public class TimelineServiceFactory {
 
+  private static final String TIMELINE_DIFF_CACHE_NAME = "timelineDiff";
+
+  @Value("${timeline.diffCache.enabled:false}")
+  private Boolean diffCacheEnabled;
+
+  @Value("${timeline.diffCache.maxChangeEvents:100000}")
+  private Long diffCacheMaxChangeEvents;
+
   @Bean(name = "timelineService")
   @DependsOn({"entityAspectDao", "entityService", "entityRegistry"})
   @Nonnull
   protected TimelineService timelineService(@Qualifier("entityAspectDao") AspectDao aspectDao, EntityRegistry entityRegistry) {
-    return new TimelineServiceImpl(aspectDao, entityRegistry);
+    if (!diffCacheEnabled) {
+      return new TimelineServiceImpl(aspectDao, entityRegistry);
+    }
+    // Diffs between stored versions never change, so entries are only evicted by the number of change events held
+    final CaffeineCache diffCache = new CaffeineCache(TIMELINE_DIFF_CACHE_NAME, Caffeine.newBuilder()
+        .maximumWeight(diffCacheMaxChangeEvents)
+        .weigher(TimelineServiceImpl::weighDiff)
+        .recordStats()
+        .build());
+    return new TimelineServiceImpl(aspectDao, entityRegistry, diffCache);
   }
 }
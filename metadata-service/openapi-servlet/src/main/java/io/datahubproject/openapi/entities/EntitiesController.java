@@ -109,10 +109,9 @@ public class EntitiesController {
     Authentication authentication = AuthenticationContext.getAuthentication();
     String actorUrnStr = authentication.getActor().toUrnStr();
 
-    List<Pair<String, Boolean>> responses = aspectRequests.stream()
-        .map(MappingUtil::mapToProposal)
-        .map(proposal -> MappingUtil.ingestProposal(proposal, actorUrnStr,  _entityService, _objectMapper))
-        .collect(Collectors.toList());
+    List<Pair<String, Boolean>> responses = MappingUtil.ingestProposals(
+        aspectRequests.stream().map(MappingUtil::mapToProposal).collect(Collectors.toList()), actorUrnStr,
+        _entityService, _objectMapper);
     if (responses.stream().anyMatch(Pair::getSecond)) {
       return ResponseEntity.status(HttpStatus.CREATED)
           .body(responses.stream().filter(Pair::getSecond).map(Pair::getFirst).collect(Collectors.toList()));
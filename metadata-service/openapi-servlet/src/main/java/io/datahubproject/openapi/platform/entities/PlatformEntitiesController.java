@@ -49,9 +49,8 @@ public class PlatformEntitiesController {
     Authentication authentication = AuthenticationContext.getAuthentication();
     String actorUrnStr = authentication.getActor().toUrnStr();
 
-    List<Pair<String, Boolean>> responses = metadataChangeProposals.stream()
-        .map(proposal -> MappingUtil.ingestProposal(proposal, actorUrnStr, _entityService, _objectMapper))
-        .collect(Collectors.toList());
+    List<Pair<String, Boolean>> responses =
+        MappingUtil.ingestProposals(metadataChangeProposals, actorUrnStr, _entityService, _objectMapper);
     if (responses.stream().anyMatch(Pair::getSecond)) {
       return ResponseEntity.status(HttpStatus.CREATED)
           .body(responses.stream().filter(Pair::getSecond).map(Pair::getFirst).collect(Collectors.toList()));
@@ -34,6 +34,7 @@ import io.datahubproject.openapi.generated.MetadataChangeProposal;
 import io.datahubproject.openapi.generated.OneOfEnvelopedAspectValue;
 import io.datahubproject.openapi.generated.OneOfGenericAspectValue;
 import io.datahubproject.openapi.generated.Status;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -240,6 +241,36 @@ public class MappingUtil {
     final com.linkedin.common.AuditStamp auditStamp =
         new com.linkedin.common.AuditStamp().setTime(System.currentTimeMillis())
             .setActor(UrnUtils.getUrn(actorUrn));
+    com.linkedin.mxe.MetadataChangeProposal serviceProposal = mapToServiceProposal(metadataChangeProposal, objectMapper);
+
+    final List<com.linkedin.mxe.MetadataChangeProposal> additionalChanges =
+        AspectUtils.getAdditionalChanges(serviceProposal, entityService);
+
+    log.info("Proposal: {}", serviceProposal);
+    Throwable exceptionally = null;
+    try {
+      EntityService.IngestProposalResult proposalResult = entityService.ingestProposal(serviceProposal, auditStamp, false);
+      Urn urn = proposalResult.getUrn();
+      additionalChanges.forEach(proposal -> entityService.ingestProposal(proposal, auditStamp, false));
+      return new Pair<>(urn.toString(), proposalResult.isDidUpdate());
+    } catch (ValidationException ve) {
+      exceptionally = ve;
+      throw HttpClientErrorException.create(HttpStatus.UNPROCESSABLE_ENTITY, ve.getMessage(), null, null, null);
+    } catch (Exception e) {
+      exceptionally = e;
+      throw e;
+    } finally {
+      if (exceptionally != null) {
+        MetricUtils.counter(MetricRegistry.name("postEntity", "failed")).inc();
+      } else {
+        MetricUtils.counter(MetricRegistry.name("postEntity", "success")).inc();
+      }
+      context.stop();
+    }
+  }
+
+  public static com.linkedin.mxe.MetadataChangeProposal mapToServiceProposal(
+      MetadataChangeProposal metadataChangeProposal, ObjectMapper objectMapper) {
     io.datahubproject.openapi.generated.KafkaAuditHeader auditHeader = metadataChangeProposal.getAuditHeader();
 
     com.linkedin.mxe.MetadataChangeProposal serviceProposal =
@@ -287,17 +318,42 @@ public class MappingUtil {
         ? serviceProposal.setAspect(
         MappingUtil.convertGenericAspect(metadataChangeProposal.getAspect(), objectMapper))
         : serviceProposal;
+    return serviceProposal;
+  }
 
-    final List<com.linkedin.mxe.MetadataChangeProposal> additionalChanges =
-        AspectUtils.getAdditionalChanges(serviceProposal, entityService);
+  /**
+   * Ingests the proposals, along with the changes they imply, with a single call to
+   * {@link EntityService#ingestProposals}, and returns the urn of each proposal along with whether it was updated.
+   */
+  public static List<Pair<String, Boolean>> ingestProposals(List<MetadataChangeProposal> metadataChangeProposals,
+      String actorUrn, EntityService entityService, ObjectMapper objectMapper) {
+    Timer.Context context = MetricUtils.timer("postEntities").time();
+    final com.linkedin.common.AuditStamp auditStamp =
+        new com.linkedin.common.AuditStamp().setTime(System.currentTimeMillis())
+            .setActor(UrnUtils.getUrn(actorUrn));
 
-    log.info("Proposal: {}", serviceProposal);
+    // Each proposal is followed by its additional changes, the position of the proposal itself is kept
+    final List<com.linkedin.mxe.MetadataChangeProposal> serviceProposals = new ArrayList<>();
+    final List<Integer> proposalIndexes = new ArrayList<>(metadataChangeProposals.size());
+    for (MetadataChangeProposal metadataChangeProposal : metadataChangeProposals) {
+      final com.linkedin.mxe.MetadataChangeProposal serviceProposal =
+          mapToServiceProposal(metadataChangeProposal, objectMapper);
+      final List<com.linkedin.mxe.MetadataChangeProposal> additionalChanges =
+          AspectUtils.getAdditionalChanges(serviceProposal, entityService);
+      proposalIndexes.add(serviceProposals.size());
+      serviceProposals.add(serviceProposal);
+      serviceProposals.addAll(additionalChanges);
+    }
+
+    log.info("Proposals: {}", serviceProposals);
     Throwable exceptionally = null;
     try {
-      EntityService.IngestProposalResult proposalResult = entityService.ingestProposal(serviceProposal, auditStamp, false);
-      Urn urn = proposalResult.getUrn();
-      additionalChanges.forEach(proposal -> entityService.ingestProposal(proposal, auditStamp, false));
-      return new Pair<>(urn.toString(), proposalResult.isDidUpdate());
+      final List<EntityService.IngestProposalResult> proposalResults =
+          entityService.ingestProposals(serviceProposals, auditStamp, false);
+      return proposalIndexes.stream()
+          .map(proposalResults::get)
+          .map(proposalResult -> new Pair<>(proposalResult.getUrn().toString(), proposalResult.isDidUpdate()))
+          .collect(Collectors.toList());
     } catch (ValidationException ve) {
       exceptionally = ve;
       throw HttpClientErrorException.create(HttpStatus.UNPROCESSABLE_ENTITY, ve.getMessage(), null, null, null);
@@ -306,9 +362,9 @@ public class MappingUtil {
       throw e;
     } finally {
       if (exceptionally != null) {
-        MetricUtils.counter(MetricRegistry.name("postEntity", "failed")).inc();
+        MetricUtils.counter(MetricRegistry.name("postEntities", "failed")).inc();
       } else {
-        MetricUtils.counter(MetricRegistry.name("postEntity", "success")).inc();
+        MetricUtils.counter(MetricRegistry.name("postEntities", "success")).inc();
       }
       context.stop();
     }
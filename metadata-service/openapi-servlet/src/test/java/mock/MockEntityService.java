@@ -47,6 +47,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -166,6 +167,15 @@ public class MockEntityService extends EntityService {
     return Collections.emptyList();
   }
 
+  @Nonnull
+  @Override
+  protected List<UpdateAspectResult> ingestAspectsToLocalDB(@Nonnull List<AspectUpsert> upserts,
+      @Nonnull AuditStamp auditStamp) {
+    return upserts.stream()
+        .map(upsert -> new UpdateAspectResult(upsert.getUrn(), null, null, null, null, null, null, 0L))
+        .collect(Collectors.toList());
+  }
+
   @Nullable
   @Override
   public RecordTemplate ingestAspectIfNotPresent(@NotNull Urn urn, @NotNull String aspectName,
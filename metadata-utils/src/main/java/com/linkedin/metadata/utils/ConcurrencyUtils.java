@@ -3,6 +3,7 @@ package com.linkedin.metadata.utils;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -17,11 +18,13 @@ public class ConcurrencyUtils {
 
   /**
    * Transforms original list into the final list using the function transformer in an asynchronous fashion
-   * i.e. each element transform is run as a separate CompleteableFuture and then joined at the end
+   * i.e. each element transform is run as a separate CompleteableFuture on the {@link NamedExecutors#SEARCH} executor
+   * and then joined at the end
    */
   public static <O, T> List<T> transformAndCollectAsync(List<O> originalList, Function<O, T> transformer) {
+    final Executor executor = NamedExecutors.get(NamedExecutors.SEARCH);
     return originalList.stream()
-        .map(element -> CompletableFuture.supplyAsync(() -> transformer.apply(element)))
+        .map(element -> CompletableFuture.supplyAsync(() -> transformer.apply(element), executor))
         .collect(Collectors.collectingAndThen(Collectors.toList(),
             completableFutureList -> completableFutureList.stream().map(CompletableFuture::join)))
         .collect(Collectors.toList());
@@ -30,12 +33,14 @@ public class ConcurrencyUtils {
   /**
    * Transforms original list into the final list using the function transformer in an asynchronous fashion
    * with exceptions handled by the input exceptionHandler
-   * i.e. each element transform is run as a separate CompleteableFuture and then joined at the end
+   * i.e. each element transform is run as a separate CompleteableFuture on the {@link NamedExecutors#SEARCH} executor
+   * and then joined at the end
    */
   public static <O, T> List<T> transformAndCollectAsync(List<O> originalList, Function<O, T> transformer,
       BiFunction<O, Throwable, ? extends T> exceptionHandler) {
+    final Executor executor = NamedExecutors.get(NamedExecutors.SEARCH);
     return originalList.stream()
-        .map(element -> CompletableFuture.supplyAsync(() -> transformer.apply(element))
+        .map(element -> CompletableFuture.supplyAsync(() -> transformer.apply(element), executor)
             .exceptionally(e -> exceptionHandler.apply(element, e)))
         .filter(Objects::nonNull)
         .collect(Collectors.collectingAndThen(Collectors.toList(),
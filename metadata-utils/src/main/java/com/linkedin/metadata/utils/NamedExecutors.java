@@ -0,0 +1,129 @@
+package com.linkedin.metadata.utils;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.InstrumentedExecutorService;
+import com.codahale.metrics.MetricRegistry;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Bounded, named thread pools, one per kind of blocking work, used instead of the common fork join pool so that a slow
+ * workload cannot starve the others.
+ *
+ * Each pool publishes, under executor.&lt;name&gt;, the metrics of {@link InstrumentedExecutorService}, including the
+ * time tasks wait in the queue ("idle") and run ("duration"), along with the queue depth ("queue_size"). When the queue
+ * is full, tasks run on the submitting thread. Tasks submitted from a thread of the same pool run inline as well, so
+ * that nested fan-outs cannot deadlock the pool by waiting on work queued behind them.
+ *
+ * Pools are created with default sizes on first use, and can be resized with {@link #configure(String, int)}.
+ */
+@Slf4j
+public class NamedExecutors {
+  private NamedExecutors() {
+  }
+
+  /**
+   * Loads of entities by GraphQL data loaders.
+   */
+  public static final String GRAPHQL_LOADER = "graphql-loader";
+  /**
+   * Fan-out of search requests, across entities, lineage batches and recommendation sources.
+   */
+  public static final String SEARCH = "search";
+  /**
+   * Fan-out of lineage graph queries.
+   */
+  public static final String LINEAGE = "lineage";
+
+  private static final int DEFAULT_THREADS = 20;
+  private static final int QUEUE_CAPACITY = 1000;
+
+  private static final Map<String, NamedExecutor> EXECUTORS = new ConcurrentHashMap<>();
+  private static final ThreadLocal<String> CURRENT_EXECUTOR = new ThreadLocal<>();
+
+  /**
+   * Returns the executor of the given name, creating it if needed.
+   */
+  @Nonnull
+  public static Executor get(@Nonnull final String name) {
+    return EXECUTORS.computeIfAbsent(name, NamedExecutor::new);
+  }
+
+  /**
+   * Sets the number of threads of the executor of the given name.
+   */
+  public static void configure(@Nonnull final String name, final int threads) {
+    EXECUTORS.computeIfAbsent(name, NamedExecutor::new).resize(threads);
+    log.info("Configured executor {} with {} threads", name, threads);
+  }
+
+  private static class NamedExecutor implements Executor {
+
+    private final String _name;
+    private final ThreadPoolExecutor _threadPool;
+    private final ExecutorService _instrumented;
+
+    NamedExecutor(@Nonnull final String name) {
+      _name = name;
+      final LinkedBlockingQueue<Runnable> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+      _threadPool = new ThreadPoolExecutor(DEFAULT_THREADS, DEFAULT_THREADS, 60, TimeUnit.SECONDS, queue,
+          new NamedThreadFactory(name), new ThreadPoolExecutor.CallerRunsPolicy());
+      _threadPool.allowCoreThreadTimeOut(true);
+      final String metricPrefix = MetricRegistry.name("executor", name);
+      _instrumented = new InstrumentedExecutorService(_threadPool, MetricUtils.get(), metricPrefix);
+      MetricUtils.get().register(MetricRegistry.name(metricPrefix, "queue_size"), (Gauge<Integer>) queue::size);
+    }
+
+    @Override
+    public void execute(@Nonnull final Runnable command) {
+      if (_name.equals(CURRENT_EXECUTOR.get())) {
+        MetricUtils.counter(MetricRegistry.name("executor", _name, "inline")).inc();
+        command.run();
+        return;
+      }
+      _instrumented.execute(command);
+    }
+
+    synchronized void resize(final int threads) {
+      // Grow the maximum first, it may never be below the core size
+      if (threads > _threadPool.getMaximumPoolSize()) {
+        _threadPool.setMaximumPoolSize(threads);
+        _threadPool.setCorePoolSize(threads);
+      } else {
+        _threadPool.setCorePoolSize(threads);
+        _threadPool.setMaximumPoolSize(threads);
+      }
+    }
+  }
+
+  private static class NamedThreadFactory implements ThreadFactory {
+
+    private final String _name;
+    private final AtomicInteger _count = new AtomicInteger();
+
+    NamedThreadFactory(@Nonnull final String name) {
+      _name = name;
+    }
+
+    @Override
+    public Thread newThread(@Nonnull final Runnable runnable) {
+      final Thread thread = new Thread(() -> {
+        CURRENT_EXECUTOR.set(_name);
+        runnable.run();
+      }, _name + "-" + _count.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
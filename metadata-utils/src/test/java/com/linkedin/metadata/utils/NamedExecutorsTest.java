@@ -0,0 +1,29 @@
+package com.linkedin.metadata.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class NamedExecutorsTest {
+
+  @Test
+  public void testTasksRunOnNamedThreads() {
+    Executor executor = NamedExecutors.get("test-named");
+    String threadName = CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor).join();
+    assertTrue(threadName.startsWith("test-named-"));
+    assertSame(NamedExecutors.get("test-named"), executor);
+  }
+
+  @Test
+  public void testNestedTasksRunInline() {
+    NamedExecutors.configure("test-nested", 1);
+    Executor executor = NamedExecutors.get("test-nested");
+    // With a single thread, waiting on a nested task queued behind the outer one would never complete
+    String nestedThreadName = CompletableFuture.supplyAsync(
+        () -> CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor).join(), executor).join();
+    assertEquals(nestedThreadName, "test-nested-0");
+  }
+}